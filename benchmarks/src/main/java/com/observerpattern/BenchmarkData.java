@@ -0,0 +1,66 @@
+/**
+ * Shared test data for the NodeNavigator benchmarks.
+ * <p>
+ * Every benchmark navigates the same deterministic node values so results
+ * from different benchmarks and runs can be compared directly.
+ * </p>
+ * 
+ * @author Ramaswamy Krishnan-Chittur
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+
+package com.observerpattern;
+
+/**
+ * Factory for benchmark node values.
+ * 
+ * @author Ramaswamy Krishnan-Chittur
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+final class BenchmarkData {
+    
+    /**
+     * Private constructor to prevent instantiation of utility class.
+     */
+    private BenchmarkData() {
+        // Utility class should not be instantiated
+    }
+    
+    /**
+     * Creates {@code size} pseudo-random node values from a fixed seed.
+     * 
+     * @param size the number of node values
+     * @return the node values
+     */
+    static int[] nodes(final int size) {
+        final int[] numbers = new int[size];
+        int state = 0x9E3779B9;
+        for (int index = 0; index < size; index++) {
+            state ^= state << 13;
+            state ^= state >>> 17;
+            state ^= state << 5;
+            numbers[index] = state;
+        }
+        return numbers;
+    }
+    
+    /**
+     * Creates {@code size} increasing node values with small pseudo-random gaps,
+     * like identifiers allocated in order with some of them deleted.
+     * 
+     * @param size the number of node values
+     * @return the node values
+     */
+    static int[] sortedNodes(final int size) {
+        final int[] gaps = nodes(size);
+        final int[] numbers = new int[size];
+        int value = 0;
+        for (int index = 0; index < size; index++) {
+            value += 1 + (gaps[index] & 15);
+            numbers[index] = value;
+        }
+        return numbers;
+    }
+}
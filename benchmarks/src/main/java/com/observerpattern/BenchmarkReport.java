@@ -0,0 +1,131 @@
+/**
+ * Entry point that runs the NodeNavigator benchmarks and prints a summary report.
+ * <p>
+ * The report lists, for every benchmark scenario, the throughput in
+ * operations per second, the cost per node for scenarios that walk a list,
+ * and the allocation measured by the JMH GC profiler.
+ * </p>
+ * 
+ * @author Ramaswamy Krishnan-Chittur
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+
+package com.observerpattern;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.Result;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Runs the benchmarks with the GC profiler and prints ops/sec, ns/node and allocation per scenario.
+ * <p>
+ * Accepts the standard JMH command line, so for example
+ * {@code java -jar benchmarks.jar Navigate -p size=1000,1000000} runs a subset.
+ * </p>
+ * 
+ * @author Ramaswamy Krishnan-Chittur
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public final class BenchmarkReport {
+    
+    /** Nanoseconds per second, to turn average time into throughput. */
+    private static final double NANOS_PER_SECOND = TimeUnit.SECONDS.toNanos(1);
+    
+    /** Row format of the summary table. */
+    private static final String ROW_FORMAT = "%-60s %16s %12s %14s %14s%n";
+    
+    /**
+     * Private constructor to prevent instantiation of utility class.
+     */
+    private BenchmarkReport() {
+        // Utility class should not be instantiated
+    }
+    
+    /**
+     * Runs the selected benchmarks and prints the summary report.
+     * 
+     * @param args standard JMH command line arguments
+     * @throws CommandLineOptionException if the arguments cannot be parsed
+     * @throws RunnerException if a benchmark fails to run
+     */
+    public static void main(final String[] args) throws CommandLineOptionException, RunnerException {
+        final Options options = new OptionsBuilder()
+            .parent(new CommandLineOptions(args))
+            .addProfiler(GCProfiler.class)
+            .build();
+        final Collection<RunResult> results = new Runner(options).run();
+        
+        System.out.println();
+        System.out.printf(ROW_FORMAT, "Scenario", "ops/sec", "ns/node", "alloc B/op", "alloc MB/sec");
+        for (final RunResult result : results) {
+            printRow(result);
+        }
+    }
+    
+    /**
+     * Prints the summary row of one benchmark scenario.
+     * 
+     * @param result the result of the scenario, measured in nanoseconds per operation
+     */
+    private static void printRow(final RunResult result) {
+        final double nanosPerOp = result.getPrimaryResult().getScore();
+        final String sizeParam = result.getParams().getParam("size");
+        final Map<String, Result> secondary = result.getSecondaryResults();
+        
+        String nanosPerNode = "-";
+        if (sizeParam != null && Integer.parseInt(sizeParam) > 0) {
+            nanosPerNode = String.format("%.3f", nanosPerOp / Integer.parseInt(sizeParam));
+        }
+        
+        System.out.printf(ROW_FORMAT,
+                          scenarioName(result),
+                          String.format("%.1f", NANOS_PER_SECOND / nanosPerOp),
+                          nanosPerNode,
+                          secondaryScore(secondary, "gc.alloc.rate.norm"),
+                          secondaryScore(secondary, "gc.alloc.rate"));
+    }
+    
+    /**
+     * Builds a readable scenario name from the benchmark method and its parameters.
+     * 
+     * @param result the result of the scenario
+     * @return the benchmark's simple name followed by its parameters
+     */
+    private static String scenarioName(final RunResult result) {
+        final String benchmark = result.getParams().getBenchmark();
+        final StringBuilder name = new StringBuilder(
+            benchmark.substring(benchmark.lastIndexOf('.', benchmark.lastIndexOf('.') - 1) + 1));
+        for (final String key : result.getParams().getParamsKeys()) {
+            name.append(' ').append(key).append('=').append(result.getParams().getParam(key));
+        }
+        return name.toString();
+    }
+    
+    /**
+     * Formats a secondary result reported by a profiler.
+     * 
+     * @param secondary the secondary results of a scenario
+     * @param label the result label, matched with or without the profiler prefix
+     * @return the formatted score, or "-" if the profiler did not report it
+     */
+    private static String secondaryScore(final Map<String, Result> secondary, final String label) {
+        for (final Map.Entry<String, Result> entry : secondary.entrySet()) {
+            if (entry.getKey().equals(label) || entry.getKey().endsWith("·" + label)) {
+                return String.format("%.1f", entry.getValue().getScore());
+            }
+        }
+        return "-";
+    }
+}
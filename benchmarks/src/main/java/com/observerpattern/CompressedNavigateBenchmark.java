@@ -0,0 +1,101 @@
+/**
+ * JMH benchmark for navigating delta/varint compressed node storage.
+ * <p>
+ * Compares a full navigation pass over sorted identifiers held in a plain
+ * int[] with the same identifiers held by {@link NodeNavigator#compress(int[])},
+ * for per-node and batch listeners, so the decoding cost can be read off
+ * against the memory saved.
+ * </p>
+ * 
+ * @author Ramaswamy Krishnan-Chittur
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+
+package com.observerpattern;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures one navigation pass per list size, storage and listener kind.
+ * 
+ * @author Ramaswamy Krishnan-Chittur
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms6g", "-Xmx6g"})
+public class CompressedNavigateBenchmark {
+    
+    /** Number of nodes in the list. */
+    @Param({"1000000", "100000000"})
+    private int size;
+    
+    /** Whether the nodes are stored as a plain array or compressed. */
+    @Param({"array", "compressed"})
+    private String storage;
+    
+    /** Navigator with a per-node listener. */
+    private NodeNavigator perNode;
+    
+    /** Navigator with a batch listener. */
+    private NodeNavigator batched;
+    
+    /**
+     * Builds both navigators over the same sorted identifiers once per trial.
+     * 
+     * @param blackhole sink that keeps the JIT from discarding visited values
+     */
+    @Setup
+    public void setUp(final Blackhole blackhole) {
+        final int[] numbers = BenchmarkData.sortedNodes(this.size);
+        if ("compressed".equals(this.storage)) {
+            this.perNode = NodeNavigator.compress(numbers);
+            this.batched = NodeNavigator.compress(numbers);
+        } else {
+            this.perNode = NodeNavigator.wrap(numbers);
+            this.batched = NodeNavigator.wrap(numbers);
+        }
+        this.perNode.subscribe(new NavigateBenchmark.ConsumingListener(blackhole));
+        this.batched.subscribe((INodeBatchListener) (chunk, offset, length) -> {
+            long sum = 0;
+            for (int index = offset; index < offset + length; index++) {
+                sum += chunk[index];
+            }
+            blackhole.consume(sum);
+        });
+    }
+    
+    /**
+     * Navigates every node once, one notification per node.
+     */
+    @Benchmark
+    public void navigatePerNode() {
+        this.perNode.navigate();
+    }
+    
+    /**
+     * Navigates every node once, one notification per chunk.
+     */
+    @Benchmark
+    public void navigateBatched() {
+        this.batched.navigate();
+    }
+}
@@ -0,0 +1,108 @@
+/**
+ * JMH benchmark for summing nodes notified from many threads at once.
+ * <p>
+ * Compares one shared AtomicLong, which every thread updates with the same
+ * compare-and-set, against the striped NodeSumListener, which spreads the
+ * threads over cells of their own and stays exact past the long range. A
+ * LongAdder, which is striped but wraps around, is the reference. Run it
+ * once per thread count to see how each scales, for example with
+ * {@code -t 1}, {@code -t 8} and {@code -t 64}.
+ * </p>
+ * 
+ * @author Ramaswamy Krishnan-Chittur
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+
+package com.observerpattern;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures one node notification per operation on a sum shared by every benchmark thread.
+ * 
+ * @author Ramaswamy Krishnan-Chittur
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ConcurrentSumBenchmark {
+    
+    /** The shared sum every thread notifies. */
+    @Param({"atomic", "adder", "striped"})
+    private String listener;
+    
+    /** The listener under test. */
+    private INodeNavigationListener sum;
+    
+    /**
+     * Creates the shared sum once per trial.
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        switch (this.listener) {
+            case "atomic":
+                final AtomicLong atomic = new AtomicLong();
+                this.sum = atomic::addAndGet;
+                break;
+            case "adder":
+                final LongAdder adder = new LongAdder();
+                this.sum = adder::add;
+                break;
+            case "striped":
+                this.sum = NodeSumListener.striped();
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown listener: " + this.listener);
+        }
+    }
+    
+    /**
+     * The node values one benchmark thread notifies.
+     */
+    @State(Scope.Thread)
+    public static class Producer {
+        
+        /** The next node value. */
+        private int next;
+        
+        /**
+         * Gets the next node value.
+         * 
+         * @return a value that changes with every call
+         */
+        int next() {
+            return this.next++;
+        }
+    }
+    
+    /**
+     * Notifies the shared sum of one node.
+     * 
+     * @param producer the node values of the calling thread
+     */
+    @Benchmark
+    public void add(final Producer producer) {
+        this.sum.onNodeVisited(producer.next());
+    }
+}
@@ -0,0 +1,78 @@
+/**
+ * JMH benchmark for building a NodeNavigator.
+ * <p>
+ * Compares the copying constructor with the zero-copy wrap factory across
+ * list sizes from ten to one hundred million nodes.
+ * </p>
+ * 
+ * @author Ramaswamy Krishnan-Chittur
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+
+package com.observerpattern;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures NodeNavigator construction time per list size.
+ * 
+ * @author Ramaswamy Krishnan-Chittur
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms6g", "-Xmx6g"})
+public class ConstructionBenchmark {
+    
+    /** Number of nodes in the list. */
+    @Param({"10", "1000", "100000", "10000000", "100000000"})
+    private int size;
+    
+    /** The node values to build navigators from. */
+    private int[] numbers;
+    
+    /**
+     * Creates the node values once per trial.
+     */
+    @Setup
+    public void setUp() {
+        this.numbers = BenchmarkData.nodes(this.size);
+    }
+    
+    /**
+     * Builds a navigator that copies the node values.
+     * 
+     * @return the navigator, so the JIT cannot discard it
+     */
+    @Benchmark
+    public NodeNavigator copy() {
+        return new NodeNavigator(this.numbers);
+    }
+    
+    /**
+     * Builds a navigator that wraps the node values without copying.
+     * 
+     * @return the navigator, so the JIT cannot discard it
+     */
+    @Benchmark
+    public NodeNavigator wrap() {
+        return NodeNavigator.wrap(this.numbers);
+    }
+}
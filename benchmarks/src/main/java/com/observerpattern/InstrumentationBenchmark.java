@@ -0,0 +1,97 @@
+/**
+ * JMH benchmark measuring the overhead of per-listener instrumentation.
+ * <p>
+ * Navigates the same list with instrumentation disabled and enabled, once
+ * with a per-node listener and once with a batch listener, so the cost of
+ * the chunk timings and of the sampled per-call timings can be read off
+ * directly.
+ * </p>
+ * 
+ * @author Ramaswamy Krishnan-Chittur
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+
+package com.observerpattern;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures one navigation per listener kind, with and without instrumentation.
+ * 
+ * @author Ramaswamy Krishnan-Chittur
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class InstrumentationBenchmark {
+    
+    /** Number of nodes in the list. */
+    @Param({"1000000"})
+    private int size;
+    
+    /** Whether navigation is instrumented. */
+    @Param({"false", "true"})
+    private boolean instrumented;
+    
+    /** The listener kind: "node" for a per-node listener, "batch" for a batch listener. */
+    @Param({"node", "batch"})
+    private String listener;
+    
+    /** The navigator under test. */
+    private NodeNavigator navigator;
+    
+    /**
+     * Creates the navigator and subscribes a listener that feeds the blackhole.
+     * 
+     * @param blackhole sink that keeps the JIT from discarding visited values
+     */
+    @Setup(Level.Trial)
+    public void setUp(final Blackhole blackhole) {
+        this.navigator = NodeNavigator.wrap(BenchmarkData.nodes(this.size));
+        switch (this.listener) {
+            case "node":
+                this.navigator.subscribe(new NavigateBenchmark.ConsumingListener(blackhole));
+                break;
+            case "batch":
+                this.navigator.subscribe((INodeBatchListener) (chunk, offset, length) -> {
+                    long sum = 0;
+                    for (int index = offset; index < offset + length; index++) {
+                        sum += chunk[index];
+                    }
+                    blackhole.consume(sum);
+                });
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown listener: " + this.listener);
+        }
+        this.navigator.setInstrumented(this.instrumented);
+    }
+    
+    /**
+     * Navigates every node once.
+     */
+    @Benchmark
+    public void navigate() {
+        this.navigator.navigate();
+    }
+}
@@ -0,0 +1,129 @@
+/**
+ * JMH benchmark for logging every visited node.
+ * <p>
+ * Compares the demo's SimpleLoggingListener, which boxes each value and
+ * prints one line per node, against NodeLoggingListener, which formats lines
+ * into reusable buffers and writes them on a background thread. Both write
+ * to a sink that discards the output, so the difference is the cost of
+ * formatting and handing off, not of the device.
+ * </p>
+ * 
+ * @author Ramaswamy Krishnan-Chittur
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+
+package com.observerpattern;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.nio.channels.Channels;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures one logged navigation pass per logging listener.
+ * 
+ * @author Ramaswamy Krishnan-Chittur
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LoggingListenerBenchmark {
+    
+    /** Number of nodes in the list. */
+    @Param({"10000"})
+    private int size;
+    
+    /** The logging listener observing the navigation. */
+    @Param({"simple", "batched"})
+    private String listener;
+    
+    /** The node values to navigate. */
+    private int[] numbers;
+    
+    /** The navigator under test. */
+    private NodeNavigator navigator;
+    
+    /** The batched logger, or null when measuring the demo listener. */
+    private NodeLoggingListener logger;
+    
+    /** The real standard output, restored after the trial. */
+    private PrintStream standardOut;
+    
+    /**
+     * Creates the node values and silences standard output once per trial.
+     */
+    @Setup(Level.Trial)
+    public void setUpTrial() {
+        this.numbers = BenchmarkData.nodes(this.size);
+        this.standardOut = System.out;
+        System.setOut(new PrintStream(OutputStream.nullOutputStream()));
+        if ("batched".equals(this.listener)) {
+            this.logger = new NodeLoggingListener("Benchmark", Channels.newChannel(OutputStream.nullOutputStream()));
+        }
+    }
+    
+    /**
+     * Subscribes a fresh demo listener before every invocation, since it keeps every value it logs.
+     */
+    @Setup(Level.Invocation)
+    public void setUpInvocation() {
+        this.navigator = NodeNavigator.wrap(this.numbers);
+        switch (this.listener) {
+            case "simple":
+                this.navigator.subscribe(new Main.SimpleLoggingListener("Benchmark"));
+                break;
+            case "batched":
+                this.navigator.subscribe(this.logger);
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown listener: " + this.listener);
+        }
+    }
+    
+    /**
+     * Closes the batched logger and restores standard output after the trial.
+     * 
+     * @throws IOException if the logger failed to write
+     */
+    @TearDown(Level.Trial)
+    public void tearDownTrial() throws IOException {
+        if (this.logger != null) {
+            this.logger.close();
+        }
+        System.setOut(this.standardOut);
+    }
+    
+    /**
+     * Navigates every node once and waits until every line is written.
+     * 
+     * @throws IOException if the batched logger failed to write
+     */
+    @Benchmark
+    public void navigate() throws IOException {
+        this.navigator.navigate();
+        if (this.logger != null) {
+            this.logger.flush();
+        }
+    }
+}
@@ -0,0 +1,112 @@
+/**
+ * JMH benchmark for the demonstration listeners in Main.
+ * <p>
+ * Measures a navigation pass observed by each of the listener types the demo
+ * uses, with their console output discarded, to show how listener work
+ * rather than traversal dominates navigate() for realistic observers.
+ * </p>
+ * 
+ * @author Ramaswamy Krishnan-Chittur
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+
+package com.observerpattern;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures one navigation pass per Main listener type.
+ * 
+ * @author Ramaswamy Krishnan-Chittur
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MainListenerBenchmark {
+    
+    /** Number of nodes in the list. */
+    @Param({"10000"})
+    private int size;
+    
+    /** The Main listener type observing the navigation. */
+    @Param({"logging", "sum", "statistics"})
+    private String listener;
+    
+    /** The node values to navigate. */
+    private int[] numbers;
+    
+    /** The navigator under test, rebuilt for every invocation. */
+    private NodeNavigator navigator;
+    
+    /** The real standard output, restored after the trial. */
+    private PrintStream standardOut;
+    
+    /**
+     * Creates the node values and silences standard output once per trial.
+     */
+    @Setup(Level.Trial)
+    public void setUpTrial() {
+        this.numbers = BenchmarkData.nodes(this.size);
+        this.standardOut = System.out;
+        System.setOut(new PrintStream(OutputStream.nullOutputStream()));
+    }
+    
+    /**
+     * Subscribes a fresh listener before every invocation, since some listeners accumulate state.
+     */
+    @Setup(Level.Invocation)
+    public void setUpInvocation() {
+        this.navigator = NodeNavigator.wrap(this.numbers);
+        switch (this.listener) {
+            case "logging":
+                this.navigator.subscribe(new Main.SimpleLoggingListener("Benchmark"));
+                break;
+            case "sum":
+                this.navigator.subscribe(new Main.SumCalculatorListener());
+                break;
+            case "statistics":
+                this.navigator.subscribe(new Main.StatisticsListener());
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown listener: " + this.listener);
+        }
+    }
+    
+    /**
+     * Restores standard output after the trial.
+     */
+    @TearDown(Level.Trial)
+    public void tearDownTrial() {
+        System.setOut(this.standardOut);
+    }
+    
+    /**
+     * Navigates every node once.
+     */
+    @Benchmark
+    public void navigate() {
+        this.navigator.navigate();
+    }
+}
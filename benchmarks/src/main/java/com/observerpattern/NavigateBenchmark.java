@@ -0,0 +1,101 @@
+/**
+ * JMH benchmark for NodeNavigator.navigate().
+ * <p>
+ * Measures a full navigation pass with zero, one and several trivial
+ * listeners across list sizes from ten to one hundred million nodes, so the
+ * cost of the traversal itself and of listener dispatch can be told apart.
+ * </p>
+ * 
+ * @author Ramaswamy Krishnan-Chittur
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+
+package com.observerpattern;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures one navigation pass per list size and listener count.
+ * 
+ * @author Ramaswamy Krishnan-Chittur
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms6g", "-Xmx6g"})
+public class NavigateBenchmark {
+    
+    /** Number of nodes in the list. */
+    @Param({"10", "1000", "100000", "10000000", "100000000"})
+    private int size;
+    
+    /** Number of subscribed listeners. */
+    @Param({"0", "1", "4"})
+    private int listeners;
+    
+    /** The navigator under test. */
+    private NodeNavigator navigator;
+    
+    /**
+     * Builds the navigator and subscribes the listeners once per trial.
+     * 
+     * @param blackhole sink that keeps the JIT from discarding visited values
+     */
+    @Setup
+    public void setUp(final Blackhole blackhole) {
+        this.navigator = new NodeNavigator(BenchmarkData.nodes(this.size));
+        for (int index = 0; index < this.listeners; index++) {
+            // Separate instances, so several listeners really means several subscribers
+            this.navigator.subscribe(new ConsumingListener(blackhole));
+        }
+    }
+    
+    /**
+     * Navigates every node once.
+     */
+    @Benchmark
+    public void navigate() {
+        this.navigator.navigate();
+    }
+    
+    /**
+     * Listener that does nothing but hand each value to the blackhole.
+     */
+    static final class ConsumingListener implements INodeNavigationListener {
+        
+        /** The sink for visited values. */
+        private final Blackhole sink;
+        
+        /**
+         * Creates a listener feeding the given blackhole.
+         * 
+         * @param blackhole the sink for visited values
+         */
+        ConsumingListener(final Blackhole blackhole) {
+            this.sink = blackhole;
+        }
+        
+        @Override
+        public void onNodeVisited(final int data) {
+            this.sink.consume(data);
+        }
+    }
+}
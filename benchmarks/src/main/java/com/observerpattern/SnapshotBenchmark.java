@@ -0,0 +1,128 @@
+/**
+ * JMH benchmark for reloading a NodeNavigator from a snapshot file.
+ * <p>
+ * Compares loading a saved snapshot, in each encoding, with rebuilding the
+ * navigator from an in-memory int[] source, for up to one hundred million nodes.
+ * </p>
+ * 
+ * @author Ramaswamy Krishnan-Chittur
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+
+package com.observerpattern;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures snapshot load time against rebuilding from an int[] per list size.
+ * <p>
+ * The snapshot files are written once per trial, so after the first load they
+ * are served from the operating system's page cache; the results measure
+ * decoding and copying rather than disk speed.
+ * </p>
+ * 
+ * @author Ramaswamy Krishnan-Chittur
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 2, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms6g", "-Xmx6g"})
+public class SnapshotBenchmark {
+    
+    /** Number of nodes in the list. */
+    @Param({"1000000", "100000000"})
+    private int size;
+    
+    /** The node values to rebuild navigators from. */
+    private int[] numbers;
+    
+    /** Directory holding the snapshot files. */
+    private Path directory;
+    
+    /** Snapshot in the raw encoding. */
+    private Path rawSnapshot;
+    
+    /** Snapshot in the delta/varint encoding. */
+    private Path packedSnapshot;
+    
+    /**
+     * Creates the node values and writes both snapshots once per trial.
+     * 
+     * @throws IOException if the snapshots cannot be written
+     */
+    @Setup
+    public void setUp() throws IOException {
+        this.numbers = BenchmarkData.nodes(this.size);
+        this.directory = Files.createTempDirectory("node-snapshots");
+        this.rawSnapshot = this.directory.resolve("raw.snapshot");
+        this.packedSnapshot = this.directory.resolve("packed.snapshot");
+        final NodeNavigator source = NodeNavigator.wrap(this.numbers);
+        source.save(this.rawSnapshot, SnapshotEncoding.RAW);
+        source.save(this.packedSnapshot, SnapshotEncoding.DELTA_VARINT);
+    }
+    
+    /**
+     * Deletes the snapshot files.
+     * 
+     * @throws IOException if the files cannot be deleted
+     */
+    @TearDown
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(this.rawSnapshot);
+        Files.deleteIfExists(this.packedSnapshot);
+        Files.deleteIfExists(this.directory);
+    }
+    
+    /**
+     * Rebuilds a navigator from the in-memory source, copying it.
+     * 
+     * @return the navigator, so the JIT cannot discard it
+     */
+    @Benchmark
+    public NodeNavigator rebuild() {
+        return new NodeNavigator(this.numbers);
+    }
+    
+    /**
+     * Loads a navigator from the raw snapshot.
+     * 
+     * @return the navigator, so the JIT cannot discard it
+     * @throws IOException if the snapshot cannot be read
+     */
+    @Benchmark
+    public NodeNavigator loadRaw() throws IOException {
+        return NodeNavigator.load(this.rawSnapshot);
+    }
+    
+    /**
+     * Loads a navigator from the delta/varint snapshot.
+     * 
+     * @return the navigator, so the JIT cannot discard it
+     * @throws IOException if the snapshot cannot be read
+     */
+    @Benchmark
+    public NodeNavigator loadPacked() throws IOException {
+        return NodeNavigator.load(this.packedSnapshot);
+    }
+}
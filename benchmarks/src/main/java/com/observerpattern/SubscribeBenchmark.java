@@ -0,0 +1,80 @@
+/**
+ * JMH benchmark for NodeNavigator subscription changes.
+ * <p>
+ * Measures a subscribe/unsubscribe round trip against navigators that already
+ * have zero, one or many listeners, which is the cost of publishing a new
+ * copy-on-write listener snapshot.
+ * </p>
+ * 
+ * @author Ramaswamy Krishnan-Chittur
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+
+package com.observerpattern;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures subscribing and unsubscribing one listener.
+ * 
+ * @author Ramaswamy Krishnan-Chittur
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SubscribeBenchmark {
+    
+    /** Number of listeners already subscribed. */
+    @Param({"0", "1", "16"})
+    private int existing;
+    
+    /** The navigator under test. */
+    private NodeNavigator navigator;
+    
+    /** The listener subscribed and unsubscribed by the benchmark. */
+    private INodeNavigationListener listener;
+    
+    /**
+     * Builds the navigator with its existing listeners once per trial.
+     * 
+     * @param blackhole sink handed to the listeners
+     */
+    @Setup
+    public void setUp(final Blackhole blackhole) {
+        this.navigator = new NodeNavigator(BenchmarkData.nodes(1));
+        for (int index = 0; index < this.existing; index++) {
+            this.navigator.subscribe(new NavigateBenchmark.ConsumingListener(blackhole));
+        }
+        this.listener = new NavigateBenchmark.ConsumingListener(blackhole);
+    }
+    
+    /**
+     * Subscribes and then unsubscribes one listener.
+     * 
+     * @return whether the listener was removed, so the JIT cannot discard the work
+     */
+    @Benchmark
+    public boolean subscribeUnsubscribe() {
+        this.navigator.subscribe(this.listener);
+        return this.navigator.unsubscribe(this.listener);
+    }
+}
@@ -0,0 +1,92 @@
+/**
+ * JMH benchmark comparing the scalar and SIMD aggregate kernels.
+ * <p>
+ * Measures NodeAggregateListener computing count, sum, minimum and maximum
+ * over a list with each kernel, to show the gain of the Vector API on the
+ * CPU at hand. The vectorized kernel is only compiled when the benchmarks
+ * are built with the {@code vector} profile.
+ * </p>
+ * 
+ * @author Ramaswamy Krishnan-Chittur
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+
+package com.observerpattern;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures one aggregation pass per kernel and list size.
+ * 
+ * @author Ramaswamy Krishnan-Chittur
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "--add-modules=jdk.incubator.vector")
+public class VectorAggregateBenchmark {
+    
+    /** Number of nodes in the list. */
+    @Param({"1000", "1000000"})
+    private int size;
+    
+    /** The kernel aggregating each chunk. */
+    @Param({"scalar", "vector"})
+    private String kernel;
+    
+    /** Creates a listener using the kernel under test. */
+    private Supplier<NodeAggregateListener> factory;
+    
+    /** The navigator over the node values; wrapped, so its aggregates are never cached. */
+    private NodeNavigator navigator;
+    
+    /**
+     * Creates the node values and selects the kernel.
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        this.navigator = NodeNavigator.wrap(BenchmarkData.nodes(this.size));
+        switch (this.kernel) {
+            case "scalar":
+                this.factory = NodeAggregateListener::scalar;
+                break;
+            case "vector":
+                if (!NodeAggregateListener.isVectorized()) {
+                    throw new IllegalStateException("Build the benchmarks with -Pvector to compare the vector kernel");
+                }
+                this.factory = NodeAggregateListener::new;
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown kernel: " + this.kernel);
+        }
+    }
+    
+    /**
+     * Aggregates every node once.
+     * 
+     * @return the aggregates, consumed by JMH
+     */
+    @Benchmark
+    public NodeAggregates aggregate() {
+        return this.navigator.aggregate(this.factory).toAggregates();
+    }
+}
@@ -0,0 +1,84 @@
+/**
+ * Inner loop that folds a chunk of node values into count, sum, minimum and maximum.
+ * <p>
+ * Aggregating a chunk is the hottest loop of every statistics observer. The
+ * loop is kept behind this small abstraction so a SIMD implementation built
+ * with the optional {@code vector} Maven profile can replace the scalar one
+ * without any change to the observers that use it.
+ * </p>
+ * 
+ * @author Ramaswamy Krishnan-Chittur
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+
+package com.observerpattern;
+
+/**
+ * Strategy for aggregating contiguous chunks of node values.
+ * <p>
+ * {@link #BEST} is the vectorized kernel when it was compiled in and the
+ * {@code jdk.incubator.vector} module is available at run time, and the
+ * scalar kernel otherwise. Both produce exactly the same results.
+ * </p>
+ * 
+ * @author Ramaswamy Krishnan-Chittur
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+abstract class AggregateKernel {
+    
+    /** Kernel that processes one value at a time; always available. */
+    static final AggregateKernel SCALAR = new Scalar();
+    
+    /** Name of the kernel compiled from src/vector/java by the {@code vector} profile. */
+    private static final String VECTOR_KERNEL = "com.observerpattern.VectorAggregateKernel";
+    
+    /** The fastest kernel available in this JVM. */
+    static final AggregateKernel BEST = load();
+    
+    /**
+     * Folds a chunk of values into a listener's running aggregates.
+     * 
+     * @param values the array holding the values
+     * @param offset position of the first value
+     * @param length number of values
+     * @param target the listener to add the chunk's aggregates to
+     */
+    abstract void accumulate(int[] values, int offset, int length, NodeAggregateListener target);
+    
+    /**
+     * Loads the vectorized kernel, falling back to the scalar one.
+     * 
+     * @return the vectorized kernel if it can be used, the scalar kernel otherwise
+     */
+    private static AggregateKernel load() {
+        try {
+            return (AggregateKernel) Class.forName(VECTOR_KERNEL).getDeclaredConstructor().newInstance();
+        } catch (ReflectiveOperationException | LinkageError e) {
+            // Not compiled in, or run without --add-modules jdk.incubator.vector
+            return SCALAR;
+        }
+    }
+    
+    /**
+     * Kernel that aggregates one value per loop iteration.
+     */
+    private static final class Scalar extends AggregateKernel {
+        
+        @Override
+        void accumulate(final int[] values, final int offset, final int length, final NodeAggregateListener target) {
+            long sum = 0;
+            int min = Integer.MAX_VALUE;
+            int max = Integer.MIN_VALUE;
+            final int end = offset + length;
+            for (int index = offset; index < end; index++) {
+                final int value = values[index];
+                sum += value;
+                min = Math.min(min, value);
+                max = Math.max(max, value);
+            }
+            target.add(length, sum, min, max);
+        }
+    }
+}
@@ -0,0 +1,414 @@
+/**
+ * Listener that decouples slow observers from navigation with a ring buffer.
+ * <p>
+ * The dispatcher is subscribed to a NodeNavigator like any other listener.
+ * Navigation only copies node values into a preallocated ring buffer, while
+ * every wrapped listener drains the buffer on its own consumer thread, so a
+ * slow observer no longer stalls navigate() for its full duration.
+ * </p>
+ * 
+ * @author Ramaswamy Krishnan-Chittur
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+
+package com.observerpattern;
+
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Asynchronous, bounded dispatch of visited nodes to listeners on consumer threads.
+ * <p>
+ * Visited nodes are published into a lock-free, single-producer ring buffer
+ * whose capacity is fixed at construction. Each wrapped listener has its own
+ * consumer thread and read cursor; a value's slot is reused only after every
+ * consumer has moved past it, so when the buffer is full the producer waits
+ * for the slowest consumer instead of dropping values or growing memory.
+ * Batch listeners receive contiguous runs of the ring buffer without copying.
+ * </p>
+ * <p>
+ * The dispatcher has a single producer: it must not be notified from more
+ * than one thread at a time, which holds when it is subscribed to one
+ * navigator that is navigated from one thread at a time. Call
+ * {@link #awaitCaughtUp()} to wait until every listener has seen every
+ * published node, and {@link #close()} to stop the consumer threads.
+ * </p>
+ * <p>
+ * A listener that throws anything, including an {@link Error}, is considered
+ * failed: the first failure is kept for {@link #getFailure()}, the failed
+ * listener receives no further nodes, and its consumer keeps draining so the
+ * producer and the other listeners are not held up.
+ * </p>
+ * <p>
+ * <strong>Design Pattern Role:</strong> Observer (forwarding to asynchronous observers)
+ * </p>
+ * 
+ * @author Ramaswamy Krishnan-Chittur
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public final class AsyncNodeDispatcher implements INodeBatchListener, AutoCloseable {
+    
+    /** The default ring buffer capacity, in nodes. */
+    public static final int DEFAULT_CAPACITY = 65536;
+    
+    /** The largest supported ring buffer capacity, in nodes. */
+    public static final int MAX_CAPACITY = 1_073_741_824;
+    
+    /** The ring buffer; slot {@code sequence & mask} holds the value with that sequence. */
+    private final int[] ring;
+    
+    /** Mask mapping a sequence to its slot; the capacity is a power of two. */
+    private final int mask;
+    
+    /** How the producer and consumers wait for the ring buffer to change. */
+    private final WaitStrategy waitStrategy;
+    
+    /** One consumer per wrapped listener. */
+    private final Consumer[] consumers;
+    
+    /** Number of values published so far; written only by the producer. */
+    private final AtomicLong published = new AtomicLong();
+    
+    /** Producer-local copy of the smallest consumer cursor seen, to avoid rescanning consumers. */
+    private long gatingCursor;
+    
+    /** First failure thrown by a listener, if any. */
+    private final AtomicReference<Throwable> failure = new AtomicReference<>();
+    
+    /** Whether the dispatcher has been closed. */
+    private volatile boolean closed;
+    
+    /**
+     * Creates a dispatcher with the default capacity that parks waiting threads.
+     * 
+     * @param listeners the listeners to notify, each on its own consumer thread
+     * @throws NullPointerException if any listener is null
+     * @throws IllegalArgumentException if no listener is given
+     */
+    public AsyncNodeDispatcher(final INodeNavigationListener... listeners) {
+        this(DEFAULT_CAPACITY, WaitStrategy.PARK, listeners);
+    }
+    
+    /**
+     * Creates a dispatcher and starts one daemon consumer thread per listener.
+     * 
+     * @param capacity the ring buffer capacity in nodes, rounded up to a power of two
+     * @param strategy how the producer and consumers wait for the ring buffer to change
+     * @param listeners the listeners to notify, each on its own consumer thread
+     * @throws NullPointerException if the strategy or any listener is null
+     * @throws IllegalArgumentException if the capacity is not positive or too large, or no listener is given
+     */
+    public AsyncNodeDispatcher(final int capacity, final WaitStrategy strategy,
+                               final INodeNavigationListener... listeners) {
+        if (capacity < 1 || capacity > MAX_CAPACITY) {
+            throw new IllegalArgumentException("Capacity must be between 1 and " + MAX_CAPACITY);
+        }
+        if (listeners.length == 0) {
+            throw new IllegalArgumentException("At least one listener is required");
+        }
+        this.waitStrategy = Objects.requireNonNull(strategy, "Wait strategy cannot be null");
+        this.ring = new int[ceilingPowerOfTwo(capacity)];
+        this.mask = this.ring.length - 1;
+        
+        this.consumers = new Consumer[listeners.length];
+        for (int index = 0; index < listeners.length; index++) {
+            this.consumers[index] = new Consumer(Objects.requireNonNull(listeners[index], "Listener cannot be null"));
+        }
+        for (int index = 0; index < this.consumers.length; index++) {
+            final Thread thread = new Thread(this.consumers[index], "node-dispatcher-" + index);
+            thread.setDaemon(true);
+            this.consumers[index].thread = thread;
+            thread.start();
+        }
+    }
+    
+    /**
+     * Gets the ring buffer capacity.
+     * 
+     * @return the number of nodes the ring buffer holds
+     */
+    public int getCapacity() {
+        return this.ring.length;
+    }
+    
+    /**
+     * Gets the wait strategy used by the producer and the consumers.
+     * 
+     * @return the wait strategy
+     */
+    public WaitStrategy getWaitStrategy() {
+        return this.waitStrategy;
+    }
+    
+    /**
+     * Gets the number of nodes published into the ring buffer so far.
+     * 
+     * @return the published node count
+     */
+    public long getPublishedCount() {
+        return this.published.get();
+    }
+    
+    /**
+     * Gets the first exception thrown by a listener.
+     * 
+     * @return the first failure, or null if no listener has failed
+     */
+    public Throwable getFailure() {
+        return this.failure.get();
+    }
+    
+    /**
+     * Publishes a single visited node.
+     * 
+     * @param data the data of the node being visited
+     * @throws IllegalStateException if the dispatcher is closed
+     */
+    @Override
+    public void onNodeVisited(final int data) {
+        publish(new int[] {data}, 0, 1);
+    }
+    
+    /**
+     * Publishes a chunk of visited nodes, waiting while the ring buffer is full.
+     * 
+     * @param values the array holding the node values
+     * @param offset position of the first node value of the chunk in {@code values}
+     * @param length number of node values in the chunk
+     * @throws IllegalStateException if the dispatcher is closed
+     */
+    @Override
+    public void onNodesVisited(final int[] values, final int offset, final int length) {
+        publish(values, offset, length);
+    }
+    
+    /**
+     * Checks whether every listener has seen every published node.
+     * 
+     * @return true if all consumers have caught up with the producer
+     */
+    public boolean isCaughtUp() {
+        final long target = this.published.get();
+        for (final Consumer consumer : this.consumers) {
+            if (consumer.cursor.get() < target) {
+                return false;
+            }
+        }
+        return true;
+    }
+    
+    /**
+     * Waits until every listener has seen every node published so far.
+     * 
+     * @throws InterruptedException if the calling thread is interrupted while waiting
+     */
+    public void awaitCaughtUp() throws InterruptedException {
+        while (!isCaughtUp()) {
+            idleInterruptibly();
+        }
+    }
+    
+    /**
+     * Waits until every listener has seen every node published so far, or the timeout elapses.
+     * 
+     * @param timeout the maximum time to wait
+     * @param unit the unit of the timeout
+     * @return true if all listeners caught up, false if the timeout elapsed first
+     * @throws InterruptedException if the calling thread is interrupted while waiting
+     */
+    public boolean awaitCaughtUp(final long timeout, final TimeUnit unit) throws InterruptedException {
+        final long deadline = System.nanoTime() + unit.toNanos(timeout);
+        while (!isCaughtUp()) {
+            if (System.nanoTime() - deadline >= 0) {
+                return false;
+            }
+            idleInterruptibly();
+        }
+        return true;
+    }
+    
+    /**
+     * Lets every listener drain the nodes already published, then stops the consumer threads.
+     * <p>
+     * Calling this method more than once has no further effect. If the
+     * calling thread is interrupted while waiting, closing still completes and
+     * the interrupt status is restored afterwards.
+     * </p>
+     */
+    @Override
+    public void close() {
+        this.closed = true;
+        boolean interrupted = false;
+        for (final Consumer consumer : this.consumers) {
+            while (consumer.thread.isAlive()) {
+                try {
+                    consumer.thread.join();
+                } catch (final InterruptedException e) {
+                    // Finish closing so every published node is delivered, then restore the interrupt
+                    interrupted = true;
+                }
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+    
+    /**
+     * Copies values into the ring buffer as consumers free up slots.
+     * 
+     * @param values the array holding the node values
+     * @param offset position of the first node value in {@code values}
+     * @param length number of node values to publish
+     */
+    private void publish(final int[] values, final int offset, final int length) {
+        if (this.closed) {
+            throw new IllegalStateException("Dispatcher is closed");
+        }
+        
+        final int capacity = this.ring.length;
+        long next = this.published.get();
+        int done = 0;
+        while (done < length) {
+            // Wait until the slowest consumer has freed at least one slot
+            while (next - this.gatingCursor >= capacity) {
+                this.gatingCursor = minimumCursor(next);
+                if (next - this.gatingCursor >= capacity) {
+                    this.waitStrategy.idle();
+                }
+            }
+            
+            final int count = (int) Math.min(this.gatingCursor + capacity - next, length - done);
+            final int start = (int) (next & this.mask);
+            final int first = Math.min(count, capacity - start);
+            System.arraycopy(values, offset + done, this.ring, start, first);
+            System.arraycopy(values, offset + done + first, this.ring, 0, count - first);
+            next += count;
+            done += count;
+            
+            // Release the copied values to the consumers
+            this.published.lazySet(next);
+        }
+    }
+    
+    /**
+     * Finds the smallest consumer cursor.
+     * 
+     * @param upperBound the value to return if every consumer is at or past it
+     * @return the smallest number of nodes consumed by any consumer
+     */
+    private long minimumCursor(final long upperBound) {
+        long minimum = upperBound;
+        for (final Consumer consumer : this.consumers) {
+            minimum = Math.min(minimum, consumer.cursor.get());
+        }
+        return minimum;
+    }
+    
+    /**
+     * Waits once with the wait strategy, honouring interruption.
+     * 
+     * @throws InterruptedException if the calling thread is interrupted
+     */
+    private void idleInterruptibly() throws InterruptedException {
+        if (Thread.interrupted()) {
+            throw new InterruptedException();
+        }
+        this.waitStrategy.idle();
+    }
+    
+    /**
+     * Rounds a positive capacity up to the next power of two.
+     * 
+     * @param capacity the requested capacity
+     * @return the smallest power of two not less than the capacity
+     */
+    private static int ceilingPowerOfTwo(final int capacity) {
+        final int highest = Integer.highestOneBit(capacity);
+        if (highest == capacity) {
+            return capacity;
+        }
+        return highest << 1;
+    }
+    
+    /**
+     * Drains the ring buffer into one listener on its own thread.
+     */
+    private final class Consumer implements Runnable {
+        
+        /** The listener this consumer notifies. */
+        private final INodeNavigationListener listener;
+        
+        /** Number of nodes this consumer has finished with; read by the producer. */
+        private final AtomicLong cursor = new AtomicLong();
+        
+        /** The thread running this consumer. */
+        private Thread thread;
+        
+        /** Whether the listener has thrown and must not be notified again. */
+        private boolean failed;
+        
+        /**
+         * Creates a consumer for the given listener.
+         * 
+         * @param target the listener to notify
+         */
+        Consumer(final INodeNavigationListener target) {
+            this.listener = target;
+        }
+        
+        @Override
+        public void run() {
+            long position = 0;
+            while (true) {
+                final long available = AsyncNodeDispatcher.this.published.get();
+                if (available == position) {
+                    if (AsyncNodeDispatcher.this.closed && AsyncNodeDispatcher.this.published.get() == position) {
+                        return;
+                    }
+                    AsyncNodeDispatcher.this.waitStrategy.idle();
+                    continue;
+                }
+                
+                if (!this.failed) {
+                    deliver(position, available);
+                }
+                position = available;
+                this.cursor.lazySet(position);
+            }
+        }
+        
+        /**
+         * Notifies the listener of the nodes with sequences in {@code [from, to)}.
+         * 
+         * @param from the first sequence to deliver, inclusive
+         * @param to the last sequence to deliver, exclusive
+         */
+        private void deliver(final long from, final long to) {
+            final int[] values = AsyncNodeDispatcher.this.ring;
+            try {
+                long sequence = from;
+                while (sequence < to) {
+                    final int start = (int) (sequence & AsyncNodeDispatcher.this.mask);
+                    final int length = (int) Math.min(to - sequence, values.length - start);
+                    if (this.listener instanceof INodeBatchListener) {
+                        ((INodeBatchListener) this.listener).onNodesVisited(values, start, length);
+                    } else {
+                        for (int index = start; index < start + length; index++) {
+                            this.listener.onNodeVisited(values[index]);
+                        }
+                    }
+                    sequence += length;
+                }
+            } catch (final Throwable e) {
+                // Even an Error must not stop the cursor, or the producer would wait for this consumer forever
+                this.failed = true;
+                AsyncNodeDispatcher.this.failure.compareAndSet(null, e);
+            }
+        }
+    }
+}
@@ -0,0 +1,350 @@
+/**
+ * Growable node storage made of fixed-size chunks, shared between versions.
+ * <p>
+ * Changing a navigator must neither copy the whole list for every added node
+ * nor disturb navigations that are already running. Each change therefore
+ * produces a new immutable version that reuses every chunk it leaves intact,
+ * and navigators publish versions with a single reference write.
+ * </p>
+ * 
+ * @author Ramaswamy Krishnan-Chittur
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+
+package com.observerpattern;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * An immutable version of a list of node values stored in chunks of {@value #CHUNK_SIZE}.
+ * <p>
+ * Position {@code i} lives at {@code chunks[i >>> CHUNK_SHIFT][i & CHUNK_MASK]},
+ * so random access stays constant time. Appending writes into unused slots
+ * past the end of the newest version, which no published version can read,
+ * and allocates a fresh chunk only when the last one is full; the chunk index
+ * doubles when it runs out of room, so growth never copies node values.
+ * Inserting and removing rewrite the chunks from the affected position onward
+ * into fresh arrays, leaving the chunks of older versions untouched.
+ * </p>
+ * <p>
+ * The in-place append relies on every change being applied to the newest
+ * version by one writer at a time; callers serialize changes with a lock,
+ * while any number of threads read any version without locking.
+ * </p>
+ * 
+ * @author Ramaswamy Krishnan-Chittur
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+final class ChunkedNodeStorage implements INodeStorage {
+    
+    /** The number of values per chunk as a power of two. */
+    static final int CHUNK_SHIFT = 12;
+    
+    /** The number of values per chunk. */
+    static final int CHUNK_SIZE = 1 << CHUNK_SHIFT;
+    
+    /** Mask selecting a position within its chunk. */
+    private static final int CHUNK_MASK = CHUNK_SIZE - 1;
+    
+    /** The empty list, with no chunks. */
+    static final ChunkedNodeStorage EMPTY = new ChunkedNodeStorage(new int[0][], 0);
+    
+    /** The chunk index; slots past this version's last chunk belong to newer versions. */
+    private final int[][] chunks;
+    
+    /** Number of node values in this version. */
+    private final int length;
+    
+    /**
+     * Creates a version over the first {@code count} values of the chunks.
+     * 
+     * @param spine the chunk index, which is not copied
+     * @param count number of node values in the version
+     */
+    private ChunkedNodeStorage(final int[][] spine, final int count) {
+        this.chunks = spine;
+        this.length = count;
+    }
+    
+    /**
+     * Copies the values of another storage into chunks.
+     * 
+     * @param source the storage to copy
+     * @return a version holding the same values
+     */
+    static ChunkedNodeStorage copyOf(final INodeStorage source) {
+        final Appender appender = new Appender();
+        source.forEachChunk(0, source.size(), CHUNK_SIZE, appender);
+        return appender.result;
+    }
+    
+    /**
+     * Counts the chunks needed to hold a number of values.
+     * 
+     * @param count the number of values
+     * @return the number of chunks
+     */
+    private static int chunkCount(final int count) {
+        return (int) (((long) count + CHUNK_MASK) >>> CHUNK_SHIFT);
+    }
+    
+    /**
+     * Computes the length of a version after adding values.
+     * 
+     * @param added the number of values added
+     * @return the new length
+     * @throws IllegalStateException if the list would hold more than {@link Integer#MAX_VALUE} values
+     */
+    private int grownLength(final int added) {
+        if (added > Integer.MAX_VALUE - this.length) {
+            throw new IllegalStateException("A navigator cannot hold more than " + Integer.MAX_VALUE + " nodes");
+        }
+        return this.length + added;
+    }
+    
+    /**
+     * Makes room past the end of this version, in place, for a longer version.
+     * 
+     * @param newLength the length of the longer version
+     * @return the chunk index of the longer version
+     */
+    private int[][] extend(final int newLength) {
+        final int used = chunkCount(this.length);
+        final int needed = chunkCount(newLength);
+        int[][] spine = this.chunks;
+        if (needed > spine.length) {
+            // Double the index so a long run of appends copies it only a logarithmic number of times
+            spine = Arrays.copyOf(spine, (int) Math.min(Math.max(needed, 2L * spine.length), Integer.MAX_VALUE));
+        }
+        for (int chunk = used; chunk < needed; chunk++) {
+            spine[chunk] = new int[CHUNK_SIZE];
+        }
+        return spine;
+    }
+    
+    /**
+     * Creates a chunk index that shares this version's chunks before a position.
+     * 
+     * @param firstChanged the first position whose chunk is rewritten
+     * @param newLength the length of the new version
+     * @return a new chunk index with fresh chunks from {@code firstChanged} onward
+     */
+    private int[][] rewriteFrom(final int firstChanged, final int newLength) {
+        final int kept = firstChanged >>> CHUNK_SHIFT;
+        final int[][] spine = new int[chunkCount(newLength)][];
+        System.arraycopy(this.chunks, 0, spine, 0, Math.min(kept, spine.length));
+        for (int chunk = kept; chunk < spine.length; chunk++) {
+            spine[chunk] = new int[CHUNK_SIZE];
+        }
+        // The rewritten chunks start with the unchanged values before the position
+        copyTo(kept << CHUNK_SHIFT, firstChanged, spine, kept << CHUNK_SHIFT);
+        return spine;
+    }
+    
+    /**
+     * Copies the values in {@code [fromIndex, toIndex)} into another chunk index.
+     * 
+     * @param fromIndex the first position to copy, inclusive
+     * @param toIndex the last position to copy, exclusive
+     * @param target the chunk index to copy into
+     * @param targetIndex the position in the target receiving the first value
+     */
+    private void copyTo(final int fromIndex, final int toIndex, final int[][] target, final int targetIndex) {
+        int source = fromIndex;
+        int destination = targetIndex;
+        while (source < toIndex) {
+            final int run = Math.min(toIndex - source,
+                                     CHUNK_SIZE - Math.max(source & CHUNK_MASK, destination & CHUNK_MASK));
+            System.arraycopy(this.chunks[source >>> CHUNK_SHIFT], source & CHUNK_MASK,
+                             target[destination >>> CHUNK_SHIFT], destination & CHUNK_MASK, run);
+            source += run;
+            destination += run;
+        }
+    }
+    
+    /**
+     * Creates the version with one value added at the end.
+     * 
+     * @param value the value to add
+     * @return the new version
+     * @throws IllegalStateException if the list is already full
+     */
+    ChunkedNodeStorage append(final int value) {
+        final int newLength = grownLength(1);
+        final int[][] spine = extend(newLength);
+        spine[this.length >>> CHUNK_SHIFT][this.length & CHUNK_MASK] = value;
+        return new ChunkedNodeStorage(spine, newLength);
+    }
+    
+    /**
+     * Creates the version with a slice of an array added at the end.
+     * 
+     * @param values the array holding the values to add, which is not retained
+     * @param offset position of the first value in the array
+     * @param count number of values to add
+     * @return the new version
+     * @throws IndexOutOfBoundsException if the slice does not fit inside the array
+     * @throws IllegalStateException if the list would hold more than {@link Integer#MAX_VALUE} values
+     */
+    ChunkedNodeStorage appendAll(final int[] values, final int offset, final int count) {
+        Objects.checkFromIndexSize(offset, count, values.length);
+        final int newLength = grownLength(count);
+        final int[][] spine = extend(newLength);
+        int written = 0;
+        while (written < count) {
+            final int position = this.length + written;
+            final int run = Math.min(count - written, CHUNK_SIZE - (position & CHUNK_MASK));
+            System.arraycopy(values, offset + written, spine[position >>> CHUNK_SHIFT], position & CHUNK_MASK, run);
+            written += run;
+        }
+        return new ChunkedNodeStorage(spine, newLength);
+    }
+    
+    /**
+     * Creates the version with a value inserted before a position.
+     * 
+     * @param index the position of the new value, from zero to {@link #size()}
+     * @param value the value to insert
+     * @return the new version
+     * @throws IndexOutOfBoundsException if index is outside {@code [0, size()]}
+     * @throws IllegalStateException if the list is already full
+     */
+    ChunkedNodeStorage insert(final int index, final int value) {
+        Objects.checkIndex(index, this.length + 1);
+        final int newLength = grownLength(1);
+        final int[][] spine = rewriteFrom(index, newLength);
+        spine[index >>> CHUNK_SHIFT][index & CHUNK_MASK] = value;
+        copyTo(index, this.length, spine, index + 1);
+        return new ChunkedNodeStorage(spine, newLength);
+    }
+    
+    /**
+     * Creates the version with the value at a position removed.
+     * 
+     * @param index the position of the value to remove
+     * @return the new version
+     * @throws IndexOutOfBoundsException if index is outside {@code [0, size())}
+     */
+    ChunkedNodeStorage remove(final int index) {
+        Objects.checkIndex(index, this.length);
+        final int[][] spine = rewriteFrom(index, this.length - 1);
+        copyTo(index + 1, this.length, spine, index);
+        return new ChunkedNodeStorage(spine, this.length - 1);
+    }
+    
+    /**
+     * Creates the version with the value at a position replaced.
+     * <p>
+     * Only the chunk holding the position is copied; the new chunk index
+     * shares every other chunk with this version.
+     * </p>
+     * 
+     * @param index the position of the value to replace
+     * @param value the new value
+     * @return the new version
+     * @throws IndexOutOfBoundsException if index is outside {@code [0, size())}
+     */
+    ChunkedNodeStorage set(final int index, final int value) {
+        Objects.checkIndex(index, this.length);
+        final int[][] spine = this.chunks.clone();
+        final int chunk = index >>> CHUNK_SHIFT;
+        spine[chunk] = spine[chunk].clone();
+        spine[chunk][index & CHUNK_MASK] = value;
+        return new ChunkedNodeStorage(spine, this.length);
+    }
+    
+    @Override
+    public boolean isImmutable() {
+        return true;
+    }
+    
+    @Override
+    public long heapBytes() {
+        // Count only this version's chunks; versions share them, so the figures of two versions overlap
+        long bytes = 0;
+        final int used = (this.length + CHUNK_MASK) >>> CHUNK_SHIFT;
+        for (int chunk = 0; chunk < used; chunk++) {
+            bytes += (long) this.chunks[chunk].length * Integer.BYTES;
+        }
+        return bytes;
+    }
+    
+    @Override
+    public int size() {
+        return this.length;
+    }
+    
+    @Override
+    public int get(final int index) {
+        Objects.checkIndex(index, this.length);
+        return this.chunks[index >>> CHUNK_SHIFT][index & CHUNK_MASK];
+    }
+    
+    @Override
+    public void forEach(final int fromIndex, final int toIndex, final INodeNavigationListener listener) {
+        int index = fromIndex;
+        while (index < toIndex) {
+            final int[] chunk = this.chunks[index >>> CHUNK_SHIFT];
+            final int start = index & CHUNK_MASK;
+            final int end = start + Math.min(toIndex - index, CHUNK_SIZE - start);
+            for (int position = start; position < end; position++) {
+                listener.onNodeVisited(chunk[position]);
+            }
+            index += end - start;
+        }
+    }
+    
+    /**
+     * Notifies the listener with slices of the chunks themselves, without copying.
+     * 
+     * @param fromIndex the first position to visit, inclusive
+     * @param toIndex the last position to visit, exclusive
+     * @param chunkSize the maximum number of values per chunk, at least one
+     * @param listener the listener to notify for each chunk
+     */
+    @Override
+    public void forEachChunk(final int fromIndex, final int toIndex, final int chunkSize,
+                             final INodeBatchListener listener) {
+        int index = fromIndex;
+        while (index < toIndex) {
+            final int start = index & CHUNK_MASK;
+            final int run = Math.min(Math.min(toIndex - index, CHUNK_SIZE - start), chunkSize);
+            listener.onNodesVisited(this.chunks[index >>> CHUNK_SHIFT], start, run);
+            index += run;
+        }
+    }
+    
+    /**
+     * Returns the node values in the same format as {@link java.util.Arrays#toString(int[])}.
+     * 
+     * @return a string representation of the node values
+     */
+    @Override
+    public String toString() {
+        final StringBuilder builder = new StringBuilder("[");
+        forEach(0, this.length, data -> {
+            if (builder.length() > 1) {
+                builder.append(", ");
+            }
+            builder.append(data);
+        });
+        return builder.append(']').toString();
+    }
+    
+    /**
+     * Batch listener that appends every chunk it receives to a growing version.
+     */
+    private static final class Appender implements INodeBatchListener {
+        
+        /** The version holding every value received so far. */
+        private ChunkedNodeStorage result = EMPTY;
+        
+        @Override
+        public void onNodesVisited(final int[] values, final int offset, final int count) {
+            this.result = this.result.appendAll(values, offset, count);
+        }
+    }
+}
@@ -0,0 +1,277 @@
+/**
+ * Node storage that keeps node values delta/varint compressed in memory.
+ * <p>
+ * Sorted or clustered node values, such as increasing identifiers, differ by
+ * small amounts from one node to the next. Storing those differences instead
+ * of the values themselves shrinks the list several times over, and the
+ * navigation loop decodes them as it streams through the list.
+ * </p>
+ * 
+ * @author Ramaswamy Krishnan-Chittur
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+
+package com.observerpattern;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * Stores node values as blocks of zigzag-encoded, variable-length deltas.
+ * <p>
+ * The values are split into blocks of {@value #BLOCK_SIZE}. Each block keeps
+ * its first value verbatim plus the byte offset of its deltas, and every
+ * other value is stored as the zigzag-encoded difference to its predecessor
+ * in one to five bytes. A delta under 64 in magnitude therefore costs one
+ * byte instead of four, and the per-block header adds well under one byte
+ * per node.
+ * </p>
+ * <p>
+ * Sequential navigation decodes each delta once while streaming through the
+ * byte array. Random access decodes from the start of the enclosing block,
+ * so {@link #get(int)} costs at most one block of decoding.
+ * </p>
+ * 
+ * @author Ramaswamy Krishnan-Chittur
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+final class CompressedNodeStorage implements INodeStorage {
+    
+    /** The number of values per block as a power of two. */
+    private static final int BLOCK_SHIFT = 7;
+    
+    /** The number of values per block. */
+    private static final int BLOCK_SIZE = 1 << BLOCK_SHIFT;
+    
+    /** The maximum number of bytes of a varint-encoded int. */
+    private static final int MAX_VARINT_BYTES = 5;
+    
+    /** The number of value bits carried by each varint byte. */
+    private static final int VARINT_SHIFT = 7;
+    
+    /** Mask selecting the value bits of a varint byte. */
+    private static final int VARINT_PAYLOAD = 0x7F;
+    
+    /** Flag marking a varint byte that is followed by another one. */
+    private static final int VARINT_CONTINUATION = 0x80;
+    
+    /** The largest byte array the JVM can reliably allocate. */
+    private static final int MAX_ARRAY_LENGTH = Integer.MAX_VALUE - Byte.SIZE;
+    
+    /** The first value of each block, stored verbatim. */
+    private final int[] bases;
+    
+    /** The position in {@link #deltas} of each block's first delta. */
+    private final int[] offsets;
+    
+    /** The varint-encoded deltas of every block, back to back. */
+    private final byte[] deltas;
+    
+    /** Number of node values in the storage. */
+    private final int length;
+    
+    /**
+     * Compresses a slice of an array; the array itself is not retained.
+     * 
+     * @param values the array holding the node values
+     * @param offset position of the first node value in the array
+     * @param count number of node values in the slice
+     * @throws IndexOutOfBoundsException if the slice does not fit inside the array
+     * @throws IllegalArgumentException if the compressed deltas would not fit in one byte array
+     */
+    CompressedNodeStorage(final int[] values, final int offset, final int count) {
+        Objects.checkFromIndexSize(offset, count, values.length);
+        this.length = count;
+        final int blocks = (count + BLOCK_SIZE - 1) >>> BLOCK_SHIFT;
+        this.bases = new int[blocks];
+        this.offsets = new int[blocks];
+        
+        // Start with one byte per delta, which sorted identifiers usually fit
+        byte[] encoded = new byte[Math.max(count, 1)];
+        int position = 0;
+        for (int index = 0; index < count; index++) {
+            final int value = values[offset + index];
+            if ((index & (BLOCK_SIZE - 1)) == 0) {
+                this.bases[index >>> BLOCK_SHIFT] = value;
+                this.offsets[index >>> BLOCK_SHIFT] = position;
+                continue;
+            }
+            if (encoded.length - position < MAX_VARINT_BYTES) {
+                encoded = grow(encoded);
+            }
+            final int delta = value - values[offset + index - 1];
+            int zigzag = (delta << 1) ^ (delta >> (Integer.SIZE - 1));
+            while ((zigzag & ~VARINT_PAYLOAD) != 0) {
+                encoded[position++] = (byte) (zigzag & VARINT_PAYLOAD | VARINT_CONTINUATION);
+                zigzag >>>= VARINT_SHIFT;
+            }
+            encoded[position++] = (byte) zigzag;
+        }
+        this.deltas = Arrays.copyOf(encoded, position);
+    }
+    
+    /**
+     * Enlarges the encoding buffer by half.
+     * 
+     * @param encoded the full buffer
+     * @return a larger copy of the buffer
+     * @throws IllegalArgumentException if the buffer cannot grow any further
+     */
+    private static byte[] grow(final byte[] encoded) {
+        if (encoded.length > MAX_ARRAY_LENGTH - MAX_VARINT_BYTES) {
+            throw new IllegalArgumentException("Values are too large or too scattered to compress");
+        }
+        final long larger = Math.max((long) encoded.length + (encoded.length >> 1), encoded.length + MAX_VARINT_BYTES);
+        return Arrays.copyOf(encoded, (int) Math.min(larger, MAX_ARRAY_LENGTH));
+    }
+    
+    /**
+     * Gets the memory held by the compressed form.
+     * 
+     * @return the bytes used by the block headers and the deltas
+     */
+    long compressedBytes() {
+        return (long) this.bases.length * Integer.BYTES + (long) this.offsets.length * Integer.BYTES
+               + this.deltas.length;
+    }
+    
+    @Override
+    public boolean isImmutable() {
+        return true;
+    }
+    
+    @Override
+    public long heapBytes() {
+        return ((long) this.bases.length + this.offsets.length) * Integer.BYTES + this.deltas.length;
+    }
+    
+    @Override
+    public int size() {
+        return this.length;
+    }
+    
+    @Override
+    public int get(final int index) {
+        Objects.checkIndex(index, this.length);
+        final int block = index >>> BLOCK_SHIFT;
+        final byte[] bytes = this.deltas;
+        int value = this.bases[block];
+        int position = this.offsets[block];
+        for (int skipped = block << BLOCK_SHIFT; skipped < index; skipped++) {
+            int next = bytes[position++];
+            int zigzag = next & VARINT_PAYLOAD;
+            for (int shift = VARINT_SHIFT; next < 0; shift += VARINT_SHIFT) {
+                next = bytes[position++];
+                zigzag |= (next & VARINT_PAYLOAD) << shift;
+            }
+            value += (zigzag >>> 1) ^ -(zigzag & 1);
+        }
+        return value;
+    }
+    
+    @Override
+    public void forEach(final int fromIndex, final int toIndex, final INodeNavigationListener listener) {
+        // Decode a block at a time into a scratch array, then notify from the plain array
+        final int[] block = new int[Math.min(BLOCK_SIZE, Math.max(toIndex - fromIndex, 0))];
+        for (int start = fromIndex; start < toIndex; start += block.length) {
+            final int filled = Math.min(block.length, toIndex - start);
+            decode(start, start + filled, block);
+            for (int index = 0; index < filled; index++) {
+                listener.onNodeVisited(block[index]);
+            }
+        }
+    }
+    
+    /**
+     * Notifies the listener with chunks decoded straight into a scratch array.
+     * 
+     * @param fromIndex the first position to visit, inclusive
+     * @param toIndex the last position to visit, exclusive
+     * @param chunkSize the maximum number of values per chunk, at least one
+     * @param listener the listener to notify for each chunk
+     */
+    @Override
+    public void forEachChunk(final int fromIndex, final int toIndex, final int chunkSize,
+                             final INodeBatchListener listener) {
+        final int[] chunk = new int[Math.min(chunkSize, Math.max(toIndex - fromIndex, 0))];
+        for (int start = fromIndex; start < toIndex; start += chunk.length) {
+            final int filled = Math.min(chunk.length, toIndex - start);
+            decode(start, start + filled, chunk);
+            listener.onNodesVisited(chunk, 0, filled);
+        }
+    }
+    
+    /**
+     * Decodes the values in {@code [fromIndex, toIndex)} into the start of an array.
+     * 
+     * @param fromIndex the first position to decode, inclusive
+     * @param toIndex the last position to decode, exclusive
+     * @param target the array receiving the values, at least {@code toIndex - fromIndex} long
+     */
+    private void decode(final int fromIndex, final int toIndex, final int[] target) {
+        final byte[] bytes = this.deltas;
+        int written = 0;
+        int index = fromIndex;
+        while (index < toIndex) {
+            final int block = index >>> BLOCK_SHIFT;
+            final int end = Math.min((block + 1) << BLOCK_SHIFT, toIndex);
+            // Only the first block of a range can start mid-block, so skipping is rare
+            int value = this.bases[block];
+            int position = this.offsets[block];
+            if (index > block << BLOCK_SHIFT) {
+                value = get(index);
+                position = skip(bytes, position, index - (block << BLOCK_SHIFT));
+            }
+            target[written++] = value;
+            for (int current = index + 1; current < end; current++) {
+                int next = bytes[position++];
+                int zigzag = next;
+                for (int shift = VARINT_SHIFT; next < 0; shift += VARINT_SHIFT) {
+                    zigzag &= (1 << shift) - 1;
+                    next = bytes[position++];
+                    zigzag |= next << shift;
+                }
+                value += (zigzag >>> 1) ^ -(zigzag & 1);
+                target[written++] = value;
+            }
+            index = end;
+        }
+    }
+    
+    /**
+     * Advances past a number of varints without decoding them.
+     * 
+     * @param bytes the encoded deltas
+     * @param position the position of the first varint to skip
+     * @param count the number of varints to skip
+     * @return the position of the varint after the skipped ones
+     */
+    private static int skip(final byte[] bytes, final int position, final int count) {
+        int next = position;
+        for (int skipped = 0; skipped < count; next++) {
+            if (bytes[next] >= 0) {
+                skipped++;
+            }
+        }
+        return next;
+    }
+    
+    /**
+     * Returns the node values in the same format as {@link java.util.Arrays#toString(int[])}.
+     * 
+     * @return a string representation of the node values
+     */
+    @Override
+    public String toString() {
+        final StringBuilder builder = new StringBuilder("[");
+        forEach(0, this.length, data -> {
+            if (builder.length() > 1) {
+                builder.append(", ");
+            }
+            builder.append(data);
+        });
+        return builder.append(']').toString();
+    }
+}
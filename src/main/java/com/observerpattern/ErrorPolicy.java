@@ -0,0 +1,46 @@
+/**
+ * Policies for listener failures during NodeNavigator navigation.
+ * <p>
+ * The policy decides whether an exception thrown by one listener ends the
+ * whole navigation or only costs that listener the affected notification.
+ * </p>
+ * 
+ * @author Ramaswamy Krishnan-Chittur
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+
+package com.observerpattern;
+
+/**
+ * How a NodeNavigator reacts when a listener throws during navigation.
+ * <p>
+ * Every policy counts the failures it sees; see
+ * {@link NodeNavigator#getFailureCount()}.
+ * </p>
+ * 
+ * @author Ramaswamy Krishnan-Chittur
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public enum ErrorPolicy {
+    
+    /**
+     * Aborts the navigation on the first failure and rethrows it wrapped in a
+     * {@link RuntimeException}; the default. Navigation runs with no per-listener guard.
+     */
+    FAIL_FAST,
+    
+    /**
+     * Skips the failed notification and carries on: the failing listener still
+     * receives the following nodes, and the other listeners are unaffected.
+     */
+    SKIP_AND_COUNT,
+    
+    /**
+     * Stops notifying a listener after its first failure: it receives no further
+     * nodes of the current navigation and is unsubscribed from the navigator,
+     * while the other listeners are unaffected.
+     */
+    ISOLATE_FAILING_LISTENER
+}
@@ -0,0 +1,120 @@
+/**
+ * Failure-tolerant broadcast used by NodeNavigator for the lenient error policies.
+ * <p>
+ * Each listener call is guarded on its own, so an exception from one listener
+ * is counted and contained instead of unwinding the whole navigation and
+ * starving the listeners after it.
+ * </p>
+ * 
+ * @author Ramaswamy Krishnan-Chittur
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+
+package com.observerpattern;
+
+/**
+ * Broadcasts node visits to a listener snapshot, containing listener failures.
+ * <p>
+ * One instance serves a single navigation. A guarded call costs nothing extra
+ * until it throws, because the JVM only consults exception handlers when an
+ * exception is raised. Per-node listeners receiving chunks are unpacked here
+ * rather than through a {@link NodeBatchListenerAdapter}, so a failure on one
+ * node does not cost the listener the rest of the chunk.
+ * </p>
+ * 
+ * @author Ramaswamy Krishnan-Chittur
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+final class GuardedDispatcher implements INodeBatchListener {
+    
+    /** The navigator that counts failures and isolates listeners. */
+    private final NodeNavigator owner;
+    
+    /** Whether a failing listener is dropped for the rest of the navigation. */
+    private final boolean isolate;
+    
+    /** The listeners to notify, in subscription order. */
+    private final INodeNavigationListener[] listeners;
+    
+    /** The native batch listeners, or null where the listener is per-node only. */
+    private final INodeBatchListener[] batchListeners;
+    
+    /** The listeners that have failed during this navigation under isolation. */
+    private final boolean[] isolated;
+    
+    /**
+     * Creates a guarded broadcast for one navigation.
+     * 
+     * @param navigator the navigator that counts failures and isolates listeners
+     * @param snapshot the listeners to notify
+     * @param policy the lenient policy to apply
+     */
+    GuardedDispatcher(final NodeNavigator navigator, final ListenerRegistry snapshot, final ErrorPolicy policy) {
+        this.owner = navigator;
+        this.isolate = policy == ErrorPolicy.ISOLATE_FAILING_LISTENER;
+        this.listeners = snapshot.toList().toArray(new INodeNavigationListener[0]);
+        this.batchListeners = new INodeBatchListener[this.listeners.length];
+        for (int index = 0; index < this.listeners.length; index++) {
+            if (this.listeners[index] instanceof INodeBatchListener) {
+                this.batchListeners[index] = (INodeBatchListener) this.listeners[index];
+            }
+        }
+        this.isolated = new boolean[this.listeners.length];
+    }
+    
+    @Override
+    public void onNodesVisited(final int[] values, final int offset, final int length) {
+        for (int index = 0; index < this.listeners.length; index++) {
+            if (this.isolated[index]) {
+                continue;
+            }
+            final INodeBatchListener batchListener = this.batchListeners[index];
+            if (batchListener != null) {
+                try {
+                    batchListener.onNodesVisited(values, offset, length);
+                } catch (final RuntimeException e) {
+                    fail(index);
+                }
+            } else {
+                final INodeNavigationListener listener = this.listeners[index];
+                final int end = offset + length;
+                for (int position = offset; position < end && !this.isolated[index]; position++) {
+                    try {
+                        listener.onNodeVisited(values[position]);
+                    } catch (final RuntimeException e) {
+                        fail(index);
+                    }
+                }
+            }
+        }
+    }
+    
+    @Override
+    public void onNodeVisited(final int data) {
+        for (int index = 0; index < this.listeners.length; index++) {
+            if (this.isolated[index]) {
+                continue;
+            }
+            try {
+                this.listeners[index].onNodeVisited(data);
+            } catch (final RuntimeException e) {
+                fail(index);
+            }
+        }
+    }
+    
+    /**
+     * Records a failure of the listener at the given position.
+     * 
+     * @param index the position of the failing listener
+     */
+    private void fail(final int index) {
+        this.owner.recordFailure();
+        if (this.isolate) {
+            this.isolated[index] = true;
+            this.owner.isolate(this.listeners[index]);
+        }
+    }
+}
@@ -0,0 +1,44 @@
+/**
+ * Interface for observers whose partial results can be combined.
+ * <p>
+ * Aggregate observers such as counts, sums, minimums and maximums can observe
+ * disjoint parts of a list independently and merge the results afterwards,
+ * which lets the NodeNavigator navigate large lists on several threads.
+ * </p>
+ * 
+ * @author Ramaswamy Krishnan-Chittur
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+
+package com.observerpattern;
+
+/**
+ * Interface for a listener that accumulates a mergeable partial result.
+ * <p>
+ * During {@link NodeNavigator#navigateParallel(java.util.function.Supplier)} every
+ * worker observes one contiguous range of nodes with its own partial, created
+ * by the caller's factory, so partials never need synchronization. Partials are
+ * then merged pairwise, always merging the partial of a later range into the
+ * partial of the range immediately before it, so any associative merge gives the
+ * same result as a sequential navigation. Listeners may also implement
+ * {@link INodeBatchListener} to receive their range in chunks.
+ * </p>
+ * <p>
+ * <strong>Design Pattern Role:</strong> Observer Interface
+ * </p>
+ * 
+ * @author Ramaswamy Krishnan-Chittur
+ * @version 1.0.0
+ * @param <T> the concrete listener type, so {@link #merge(IMergeableNodeListener)} is type-safe
+ * @since 1.0.0
+ */
+public interface IMergeableNodeListener<T extends IMergeableNodeListener<T>> extends INodeNavigationListener {
+    
+    /**
+     * Folds the partial result of the nodes that follow this partial's nodes into this partial.
+     * 
+     * @param following the partial result of the range immediately after this partial's range
+     */
+    void merge(T following);
+}
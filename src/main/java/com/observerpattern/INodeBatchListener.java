@@ -0,0 +1,62 @@
+/**
+ * Interface for observers that receive visited nodes in contiguous chunks.
+ * <p>
+ * Batch observers trade the one-call-per-node contract of INodeNavigationListener
+ * for one call per chunk of nodes, which lets aggregate observers such as sums
+ * and statistics process many values in a tight loop the JIT can vectorize.
+ * </p>
+ * 
+ * @author Ramaswamy Krishnan-Chittur
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+
+package com.observerpattern;
+
+/**
+ * Interface for a listener that is notified of visited nodes a chunk at a time.
+ * <p>
+ * A batch listener is subscribed with {@link NodeNavigator#subscribe(INodeNavigationListener)}
+ * like any other listener. During navigation it receives consecutive chunks of
+ * node values, in order, of at most {@link NodeNavigator#getChunkSize()} values each.
+ * </p>
+ * <p>
+ * The {@code values} array passed to {@link #onNodesVisited(int[], int, int)} may be
+ * the navigator's own storage. It is only valid for the duration of the call:
+ * implementations must not modify it, and must copy any values they want to keep.
+ * </p>
+ * <p>
+ * <strong>Design Pattern Role:</strong> Observer Interface
+ * </p>
+ * 
+ * @author Ramaswamy Krishnan-Chittur
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@FunctionalInterface
+public interface INodeBatchListener extends INodeNavigationListener {
+    
+    /**
+     * Called with a chunk of consecutive nodes visited during navigation.
+     * 
+     * @param values the array holding the node values; must not be modified or retained
+     * @param offset position of the first node value of the chunk in {@code values}
+     * @param length number of node values in the chunk
+     */
+    void onNodesVisited(int[] values, int offset, int length);
+    
+    /**
+     * Called when a single node is visited.
+     * <p>
+     * The NodeNavigator always notifies batch listeners through
+     * {@link #onNodesVisited(int[], int, int)}; this default only exists so a
+     * batch listener can still be used wherever a per-node listener is expected.
+     * </p>
+     * 
+     * @param data the data of the node being visited
+     */
+    @Override
+    default void onNodeVisited(final int data) {
+        onNodesVisited(new int[] {data}, 0, 1);
+    }
+}
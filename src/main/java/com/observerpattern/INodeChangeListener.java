@@ -0,0 +1,68 @@
+/**
+ * Interface for observers that follow a list through its changes.
+ * <p>
+ * Replaying every node after every change makes repeated passes cost O(n)
+ * even when only a handful of nodes changed. A change listener sees the whole
+ * list once and is then told only about the nodes appended, inserted,
+ * removed or updated since the previous pass, so keeping a view or an
+ * aggregate up to date costs O(changes).
+ * </p>
+ * 
+ * @author Ramaswamy Krishnan-Chittur
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+
+package com.observerpattern;
+
+/**
+ * Interface for a listener that is notified of individual changes to the list.
+ * <p>
+ * A change listener is subscribed with {@link NodeNavigator#subscribe(INodeNavigationListener)}
+ * like any other listener, and a full {@link NodeNavigator#navigate()} delivers
+ * every node to {@link #onNodeVisited(int)} as usual. Once change tracking is
+ * enabled with {@link NodeNavigator#setChangeTracking(boolean)},
+ * {@link NodeNavigator#navigateChanges()} delivers the changes made since the
+ * previous full navigation or change pass, in the order they were made.
+ * </p>
+ * <p>
+ * Every position is relative to the list as it was just before that change,
+ * so applying the changes in order to a copy of the list made during the
+ * previous pass reproduces the current list. An appended node is reported as
+ * an insertion at the end.
+ * </p>
+ * <p>
+ * <strong>Design Pattern Role:</strong> Observer Interface
+ * </p>
+ * 
+ * @author Ramaswamy Krishnan-Chittur
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public interface INodeChangeListener extends INodeNavigationListener {
+    
+    /**
+     * Called for a node added to the list.
+     * 
+     * @param index the position of the new node
+     * @param data the data of the new node
+     */
+    void onNodeInserted(int index, int data);
+    
+    /**
+     * Called for a node removed from the list.
+     * 
+     * @param index the position the node occupied
+     * @param data the data of the removed node
+     */
+    void onNodeRemoved(int index, int data);
+    
+    /**
+     * Called for a node whose data was replaced.
+     * 
+     * @param index the position of the node
+     * @param oldData the data before the change
+     * @param newData the data after the change
+     */
+    void onNodeUpdated(int index, int oldData, int newData);
+}
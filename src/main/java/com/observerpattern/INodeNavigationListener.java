@@ -35,7 +35,7 @@ public interface INodeNavigationListener {
      * Called when a node is visited during navigation.
      * <p>
      * This method is invoked by the NodeNavigator whenever it visits a node
-     * in the linked list. Implementing classes should define the specific
+     * in the list. Implementing classes should define the specific
      * behavior they want to perform when a node is visited.
      * </p>
      * 
@@ -0,0 +1,135 @@
+/**
+ * Management interface of a NodeNavigator registered with JMX.
+ * <p>
+ * Operations need to see a navigator's health without attaching a profiler
+ * or adding code to each service. A navigator registered through
+ * {@link NodeNavigatorMonitor#register(NodeNavigator, String)} exposes these
+ * attributes to any JMX client, so existing JMX scraping picks them up.
+ * </p>
+ * 
+ * @author Ramaswamy Krishnan-Chittur
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+
+package com.observerpattern;
+
+/**
+ * Runtime attributes of one NodeNavigator, read live on every request.
+ * <p>
+ * The navigation counts and durations come from the navigator's
+ * instrumentation and are zero while it is disabled; registering a navigator
+ * enables it. Failure counts and sizes are always available.
+ * </p>
+ * 
+ * @author Ramaswamy Krishnan-Chittur
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public interface INodeNavigatorMXBean {
+    
+    /**
+     * Gets the number of nodes in the list.
+     * 
+     * @return the list size
+     */
+    int getSize();
+    
+    /**
+     * Gets the number of subscribed listeners.
+     * 
+     * @return the listener count
+     */
+    int getListenerCount();
+    
+    /**
+     * Gets the number of navigations completed while instrumented.
+     * 
+     * @return the navigation count
+     */
+    long getNavigationCount();
+    
+    /**
+     * Gets the number of nodes those navigations notified the listeners of.
+     * 
+     * @return the visited node count
+     */
+    long getNodeCount();
+    
+    /**
+     * Gets the number of listener failures seen by navigation.
+     * 
+     * @return the failure count
+     */
+    long getErrorCount();
+    
+    /**
+     * Gets the number of listeners unsubscribed because they failed.
+     * 
+     * @return the isolated listener count
+     */
+    long getIsolatedListenerCount();
+    
+    /**
+     * Gets the average duration of a navigation.
+     * 
+     * @return the mean duration in nanoseconds, or zero if nothing was recorded
+     */
+    double getAverageNavigationNanos();
+    
+    /**
+     * Gets the duration of the slowest navigation.
+     * 
+     * @return the duration in nanoseconds, or zero if nothing was recorded
+     */
+    long getMaxNavigationNanos();
+    
+    /**
+     * Gets the average navigation throughput.
+     * 
+     * @return nodes visited per second of navigation, or zero if nothing was recorded
+     */
+    double getNodesPerSecond();
+    
+    /**
+     * Gets the number of bytes of Java heap holding the nodes.
+     * 
+     * @return the retained heap bytes
+     */
+    long getHeapBytes();
+    
+    /**
+     * Gets the number of bytes reserved outside the Java heap for the nodes.
+     * 
+     * @return the reserved off-heap bytes
+     */
+    long getOffHeapBytes();
+    
+    /**
+     * Gets the memory the nodes occupy on and off the Java heap.
+     * 
+     * @return the heap and off-heap bytes together
+     */
+    long getMemoryFootprintBytes();
+    
+    /**
+     * Checks whether the navigator has released its off-heap memory.
+     * 
+     * @return true once closed
+     */
+    boolean isClosed();
+    
+    /**
+     * Checks whether navigations are timed.
+     * 
+     * @return true if instrumentation is enabled
+     */
+    boolean isInstrumented();
+    
+    /**
+     * Enables or disables timing of navigations; disabling discards the timings.
+     * 
+     * @param enabled true to time navigations
+     */
+    void setInstrumented(boolean enabled);
+}
@@ -0,0 +1,185 @@
+/**
+ * Storage abstraction for the node values navigated by the NodeNavigator.
+ * <p>
+ * This interface decouples the NodeNavigator from the way its node values are
+ * held in memory, so the same subject can navigate a private copy of an array,
+ * a caller-owned array slice, or a {@link java.nio.IntBuffer} without copying.
+ * </p>
+ * 
+ * @author Ramaswamy Krishnan-Chittur
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+
+package com.observerpattern;
+
+/**
+ * Interface for an indexed, read-only sequence of node values.
+ * <p>
+ * Implementations own the navigation loop through {@link #forEach(int, int, INodeNavigationListener)},
+ * so each backend can walk its values with the tightest loop its layout allows
+ * instead of paying an interface call per element to fetch a value.
+ * </p>
+ * 
+ * @author Ramaswamy Krishnan-Chittur
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+interface INodeStorage {
+    
+    /**
+     * Gets the number of node values held by this storage.
+     * 
+     * @return the number of node values
+     */
+    int size();
+    
+    /**
+     * Gets the node value at the given position.
+     * 
+     * @param index the zero-based position of the node
+     * @return the node value at that position
+     * @throws IndexOutOfBoundsException if index is outside {@code [0, size())}
+     */
+    int get(int index);
+    
+    /**
+     * Notifies the listener of every node value in {@code [fromIndex, toIndex)}, in order.
+     * 
+     * @param fromIndex the first position to visit, inclusive
+     * @param toIndex the last position to visit, exclusive
+     * @param listener the listener to notify for each node value
+     */
+    void forEach(int fromIndex, int toIndex, INodeNavigationListener listener);
+    
+    /**
+     * Notifies the listener of the node values in {@code [fromIndex, toIndex)} in chunks.
+     * <p>
+     * Each chunk holds at most {@code chunkSize} consecutive values, and chunks are
+     * delivered in order. This default copies values one at a time into a scratch
+     * array; implementations with bulk access should override it.
+     * </p>
+     * 
+     * @param fromIndex the first position to visit, inclusive
+     * @param toIndex the last position to visit, exclusive
+     * @param chunkSize the maximum number of values per chunk, at least one
+     * @param listener the listener to notify for each chunk
+     */
+    default void forEachChunk(final int fromIndex, final int toIndex, final int chunkSize,
+                              final INodeBatchListener listener) {
+        final int[] chunk = new int[Math.min(chunkSize, Math.max(toIndex - fromIndex, 0))];
+        for (int start = fromIndex; start < toIndex; start += chunk.length) {
+            final int length = Math.min(chunk.length, toIndex - start);
+            for (int index = 0; index < length; index++) {
+                chunk[index] = get(start + index);
+            }
+            listener.onNodesVisited(chunk, 0, length);
+        }
+    }
+    
+    /**
+     * Notifies the listener of {@code count} node values taken every {@code step} positions.
+     * <p>
+     * The visited positions are {@code first}, {@code first + step}, and so on;
+     * a negative step walks backwards. The caller guarantees that every visited
+     * position lies inside {@code [0, size())}.
+     * </p>
+     * 
+     * @param first the first position to visit
+     * @param count the number of node values to visit
+     * @param step the distance between visited positions, never zero
+     * @param listener the listener to notify for each node value
+     */
+    default void forEachStrided(final int first, final int count, final int step,
+                                final INodeNavigationListener listener) {
+        int index = first;
+        for (int visited = 0; visited < count; visited++, index += step) {
+            listener.onNodeVisited(get(index));
+        }
+    }
+    
+    /**
+     * Notifies the listener of strided node values in chunks.
+     * <p>
+     * This visits the same positions as {@link #forEachStrided(int, int, int, INodeNavigationListener)},
+     * gathering at most {@code chunkSize} of them into a scratch array per chunk.
+     * </p>
+     * 
+     * @param first the first position to visit
+     * @param count the number of node values to visit
+     * @param step the distance between visited positions, never zero
+     * @param chunkSize the maximum number of values per chunk, at least one
+     * @param listener the listener to notify for each chunk
+     */
+    default void forEachChunkStrided(final int first, final int count, final int step, final int chunkSize,
+                                     final INodeBatchListener listener) {
+        final int[] chunk = new int[Math.min(chunkSize, count)];
+        int index = first;
+        for (int remaining = count; remaining > 0; remaining -= chunk.length) {
+            final int filled = Math.min(chunk.length, remaining);
+            for (int position = 0; position < filled; position++, index += step) {
+                chunk[position] = get(index);
+            }
+            listener.onNodesVisited(chunk, 0, filled);
+        }
+    }
+    
+    /**
+     * Tells whether the values of this storage can never change.
+     * <p>
+     * Storage over caller-owned arrays, buffers or mapped files can change
+     * behind the navigator's back, so this default says no; storage holding a
+     * private copy of its values says yes, which lets results computed from it
+     * be cached for as long as it is the navigator's current version.
+     * </p>
+     * 
+     * @return true if nobody can change the values
+     */
+    default boolean isImmutable() {
+        return false;
+    }
+    
+    /**
+     * Gets the number of bytes of Java heap this storage keeps reachable for its values.
+     * <p>
+     * Counts the arrays holding the values, including a caller-owned array
+     * the storage wraps, but not object headers. Off-heap, direct and mapped
+     * storage keep nothing of size on the heap, so this default says zero.
+     * </p>
+     * 
+     * @return the retained heap bytes
+     */
+    default long heapBytes() {
+        return 0;
+    }
+    
+    /**
+     * Gets the number of bytes this storage reserves outside the Java heap.
+     * 
+     * @return the reserved off-heap bytes; zero for heap-backed storage
+     */
+    default long offHeapBytes() {
+        return 0;
+    }
+    
+    /**
+     * Releases any memory this storage owns outside the Java heap.
+     * <p>
+     * Storage over heap arrays, caller-owned buffers or mapped files owns no
+     * such memory, so this default does nothing. Closing more than once has
+     * no further effect.
+     * </p>
+     */
+    default void close() {
+        // Nothing to release
+    }
+    
+    /**
+     * Tells whether this storage has released its memory and can no longer be read.
+     * 
+     * @return true once closed; always false for storage that owns no off-heap memory
+     */
+    default boolean isClosed() {
+        return false;
+    }
+}
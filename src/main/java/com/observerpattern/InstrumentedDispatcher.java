@@ -0,0 +1,238 @@
+/**
+ * Timing broadcast used by NodeNavigator while instrumentation or slow-listener events are enabled.
+ * <p>
+ * Reading the clock around every listener call would cost more than most
+ * listeners do. For instrumentation this dispatcher reads it once per
+ * listener per chunk for the totals, and around a sample of single calls for
+ * the latency distribution, so the overhead is spread over the nodes of a
+ * chunk. Only while a flight recording asks for {@link SlowListenerEvent}s is
+ * every call timed, with the cheaper JFR clock.
+ * </p>
+ * 
+ * @author Ramaswamy Krishnan-Chittur
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+
+package com.observerpattern;
+
+/**
+ * Broadcasts chunks to a listener snapshot and records how long each listener takes.
+ * <p>
+ * One instance serves a single navigation. Failures follow the navigator's
+ * error policy exactly as in {@link GuardedDispatcher}: under
+ * {@link ErrorPolicy#FAIL_FAST} the first exception propagates, otherwise it
+ * is counted and, if required, the listener is isolated.
+ * </p>
+ * 
+ * @author Ramaswamy Krishnan-Chittur
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+final class InstrumentedDispatcher implements INodeBatchListener {
+    
+    /** A per-node listener has one call in every this many timed on its own. */
+    private static final int SAMPLE_INTERVAL = 1024;
+    
+    /** The navigator that counts failures and isolates listeners. */
+    private final NodeNavigator owner;
+    
+    /** Whether failures are contained rather than propagated. */
+    private final boolean lenient;
+    
+    /** Whether a failing listener is dropped for the rest of the navigation. */
+    private final boolean isolate;
+    
+    /** The listeners to notify, in subscription order. */
+    private final INodeNavigationListener[] listeners;
+    
+    /** The native batch listeners, or null where the listener is per-node only. */
+    private final INodeBatchListener[] batchListeners;
+    
+    /** The timing counters of each listener, or null if instrumentation is disabled. */
+    private final ListenerLatency[] latencies;
+    
+    /** Whether each listener call is timed for slow-listener events. */
+    private final boolean traced;
+    
+    /** The listeners that have failed during this navigation under isolation. */
+    private final boolean[] isolated;
+    
+    /**
+     * Creates a timing broadcast for one navigation.
+     * 
+     * @param navigator the navigator that counts failures and isolates listeners
+     * @param snapshot the listeners to notify
+     * @param policy how to react when a listener throws
+     * @param counters the timing counters of each listener in subscription order, or null not to record timings
+     * @param tracing whether to emit an event for each listener call slower than its threshold
+     */
+    InstrumentedDispatcher(final NodeNavigator navigator, final ListenerRegistry snapshot, final ErrorPolicy policy,
+                           final ListenerLatency[] counters, final boolean tracing) {
+        this.owner = navigator;
+        this.lenient = policy != ErrorPolicy.FAIL_FAST;
+        this.isolate = policy == ErrorPolicy.ISOLATE_FAILING_LISTENER;
+        this.listeners = snapshot.toList().toArray(new INodeNavigationListener[0]);
+        this.batchListeners = new INodeBatchListener[this.listeners.length];
+        for (int index = 0; index < this.listeners.length; index++) {
+            if (this.listeners[index] instanceof INodeBatchListener) {
+                this.batchListeners[index] = (INodeBatchListener) this.listeners[index];
+            }
+        }
+        this.latencies = counters;
+        this.traced = tracing;
+        this.isolated = new boolean[this.listeners.length];
+    }
+    
+    @Override
+    public void onNodesVisited(final int[] values, final int offset, final int length) {
+        for (int index = 0; index < this.listeners.length; index++) {
+            if (this.isolated[index]) {
+                continue;
+            }
+            if (this.latencies == null) {
+                notify(index, values, offset, length);
+                continue;
+            }
+            final long start = System.nanoTime();
+            notify(index, values, offset, length);
+            final long elapsed = System.nanoTime() - start;
+            if (this.batchListeners[index] != null) {
+                this.latencies[index].record(1, length, elapsed);
+                this.latencies[index].sample(elapsed);
+            } else {
+                this.latencies[index].record(length, length, elapsed);
+            }
+        }
+    }
+    
+    /**
+     * Notifies one listener of a chunk, in a single call for a batch listener or node by node otherwise.
+     * 
+     * @param index the position of the listener
+     * @param values the array holding the node values
+     * @param offset position of the first node value
+     * @param length number of node values
+     */
+    private void notify(final int index, final int[] values, final int offset, final int length) {
+        final INodeBatchListener batchListener = this.batchListeners[index];
+        if (batchListener == null) {
+            if (this.traced) {
+                deliverTraced(index, values, offset, offset + length);
+            } else {
+                deliver(index, values, offset, offset + length);
+            }
+            return;
+        }
+        try {
+            if (this.traced) {
+                final SlowListenerEvent event = new SlowListenerEvent();
+                event.begin();
+                batchListener.onNodesVisited(values, offset, length);
+                event.end();
+                if (event.shouldCommit()) {
+                    event.describe(batchListener, values[offset], length);
+                    event.commit();
+                }
+            } else {
+                batchListener.onNodesVisited(values, offset, length);
+            }
+        } catch (final RuntimeException e) {
+            fail(index, e);
+        }
+    }
+    
+    /**
+     * Notifies a per-node listener of each node of a chunk, timing one call in every {@link #SAMPLE_INTERVAL}.
+     * 
+     * @param index the position of the listener
+     * @param values the array holding the node values
+     * @param offset position of the first node value
+     * @param end position after the last node value
+     */
+    private void deliver(final int index, final int[] values, final int offset, final int end) {
+        final INodeNavigationListener listener = this.listeners[index];
+        final ListenerLatency latency = this.latencies[index];
+        int position = offset;
+        while (position < end && !this.isolated[index]) {
+            try {
+                while (position < end) {
+                    final long before = System.nanoTime();
+                    listener.onNodeVisited(values[position++]);
+                    latency.sample(System.nanoTime() - before);
+                    final int runEnd = Math.min(end, position + SAMPLE_INTERVAL - 1);
+                    while (position < runEnd) {
+                        listener.onNodeVisited(values[position++]);
+                    }
+                }
+            } catch (final RuntimeException e) {
+                // The failing node was already consumed, so delivery resumes with the next one
+                fail(index, e);
+            }
+        }
+    }
+    
+    /**
+     * Notifies a per-node listener of each node of a chunk, emitting an event for each slow call.
+     * <p>
+     * Every call is timed with the JFR clock; if instrumentation is enabled,
+     * one call in every {@link #SAMPLE_INTERVAL} is also timed on its own.
+     * </p>
+     * 
+     * @param index the position of the listener
+     * @param values the array holding the node values
+     * @param offset position of the first node value
+     * @param end position after the last node value
+     */
+    private void deliverTraced(final int index, final int[] values, final int offset, final int end) {
+        final INodeNavigationListener listener = this.listeners[index];
+        ListenerLatency latency = null;
+        if (this.latencies != null) {
+            latency = this.latencies[index];
+        }
+        SlowListenerEvent event = new SlowListenerEvent();
+        int position = offset;
+        while (position < end && !this.isolated[index]) {
+            try {
+                while (position < end) {
+                    final boolean sampled = latency != null && (position - offset) % SAMPLE_INTERVAL == 0;
+                    final int value = values[position++];
+                    long before = 0;
+                    if (sampled) {
+                        before = System.nanoTime();
+                    }
+                    event.begin();
+                    listener.onNodeVisited(value);
+                    event.end();
+                    if (sampled) {
+                        latency.sample(System.nanoTime() - before);
+                    }
+                    if (event.shouldCommit()) {
+                        event.describe(listener, value, 1);
+                        event.commit();
+                        event = new SlowListenerEvent();
+                    }
+                }
+            } catch (final RuntimeException e) {
+                fail(index, e);
+            }
+        }
+    }
+    
+    /**
+     * Handles a failure of the listener at the given position according to the error policy.
+     * 
+     * @param index the position of the failing listener
+     * @param e the failure
+     */
+    private void fail(final int index, final RuntimeException e) {
+        if (!this.lenient) {
+            throw e;
+        }
+        this.owner.recordFailure();
+        if (this.isolate) {
+            this.isolated[index] = true;
+            this.owner.isolate(this.listeners[index]);
+        }
+    }
+}
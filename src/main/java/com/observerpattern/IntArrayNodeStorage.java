@@ -0,0 +1,149 @@
+/**
+ * Node storage backed by a slice of a primitive int array.
+ * <p>
+ * This storage is used both for the NodeNavigator's private copy of its input
+ * and for zero-copy wrapping of a caller-owned array slice.
+ * </p>
+ * 
+ * @author Ramaswamy Krishnan-Chittur
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+
+package com.observerpattern;
+
+import java.util.Objects;
+
+/**
+ * Stores node values in a contiguous slice of an {@code int[]}.
+ * <p>
+ * The array is referenced, not copied. Whoever constructs this storage decides
+ * whether the array is private to the navigator or shared with the caller.
+ * </p>
+ * 
+ * @author Ramaswamy Krishnan-Chittur
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+final class IntArrayNodeStorage implements INodeStorage {
+    
+    /** The backing array. */
+    private final int[] values;
+    
+    /** Position of the first node value in the backing array. */
+    private final int offset;
+    
+    /** Number of node values in the slice. */
+    private final int length;
+    
+    /** Whether the backing array is private to this storage. */
+    private final boolean privateArray;
+    
+    /**
+     * Creates a storage over the slice {@code [offset, offset + length)} of the given array.
+     * 
+     * @param array the backing array, which is not copied
+     * @param sliceOffset position of the first node value in the array
+     * @param sliceLength number of node values in the slice
+     * @param isPrivate true if no one else references the array
+     * @throws IndexOutOfBoundsException if the slice does not fit inside the array
+     */
+    IntArrayNodeStorage(final int[] array, final int sliceOffset, final int sliceLength, final boolean isPrivate) {
+        Objects.checkFromIndexSize(sliceOffset, sliceLength, array.length);
+        this.values = array;
+        this.offset = sliceOffset;
+        this.length = sliceLength;
+        this.privateArray = isPrivate;
+    }
+    
+    @Override
+    public boolean isImmutable() {
+        return this.privateArray;
+    }
+    
+    @Override
+    public long heapBytes() {
+        // The whole array stays reachable, even when only a slice of it is navigated
+        return (long) this.values.length * Integer.BYTES;
+    }
+    
+    @Override
+    public int size() {
+        return this.length;
+    }
+    
+    @Override
+    public int get(final int index) {
+        Objects.checkIndex(index, this.length);
+        return this.values[this.offset + index];
+    }
+    
+    @Override
+    public void forEach(final int fromIndex, final int toIndex, final INodeNavigationListener listener) {
+        final int[] array = this.values;
+        final int end = this.offset + toIndex;
+        for (int index = this.offset + fromIndex; index < end; index++) {
+            listener.onNodeVisited(array[index]);
+        }
+    }
+    
+    /**
+     * Notifies the listener with slices of the backing array itself, without copying.
+     * 
+     * @param fromIndex the first position to visit, inclusive
+     * @param toIndex the last position to visit, exclusive
+     * @param chunkSize the maximum number of values per chunk, at least one
+     * @param listener the listener to notify for each chunk
+     */
+    @Override
+    public void forEachChunk(final int fromIndex, final int toIndex, final int chunkSize,
+                             final INodeBatchListener listener) {
+        final int[] array = this.values;
+        final int end = this.offset + toIndex;
+        for (int start = this.offset + fromIndex; start < end; start += chunkSize) {
+            listener.onNodesVisited(array, start, Math.min(chunkSize, end - start));
+        }
+    }
+    
+    @Override
+    public void forEachStrided(final int first, final int count, final int step,
+                               final INodeNavigationListener listener) {
+        final int[] array = this.values;
+        int index = this.offset + first;
+        for (int visited = 0; visited < count; visited++, index += step) {
+            listener.onNodeVisited(array[index]);
+        }
+    }
+    
+    @Override
+    public void forEachChunkStrided(final int first, final int count, final int step, final int chunkSize,
+                                    final INodeBatchListener listener) {
+        final int[] array = this.values;
+        final int[] chunk = new int[Math.min(chunkSize, count)];
+        int index = this.offset + first;
+        for (int remaining = count; remaining > 0; remaining -= chunk.length) {
+            final int filled = Math.min(chunk.length, remaining);
+            for (int position = 0; position < filled; position++, index += step) {
+                chunk[position] = array[index];
+            }
+            listener.onNodesVisited(chunk, 0, filled);
+        }
+    }
+    
+    /**
+     * Returns the node values in the same format as {@link java.util.Arrays#toString(int[])}.
+     * 
+     * @return a string representation of the node values
+     */
+    @Override
+    public String toString() {
+        final StringBuilder builder = new StringBuilder("[");
+        for (int index = 0; index < this.length; index++) {
+            if (index > 0) {
+                builder.append(", ");
+            }
+            builder.append(this.values[this.offset + index]);
+        }
+        return builder.append(']').toString();
+    }
+}
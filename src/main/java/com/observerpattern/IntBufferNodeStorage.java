@@ -0,0 +1,118 @@
+/**
+ * Node storage backed by a java.nio.IntBuffer.
+ * <p>
+ * This storage lets the NodeNavigator navigate direct, read-only or otherwise
+ * array-less buffers without copying their contents onto the heap.
+ * </p>
+ * 
+ * @author Ramaswamy Krishnan-Chittur
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+
+package com.observerpattern;
+
+import java.nio.IntBuffer;
+import java.util.Objects;
+
+/**
+ * Stores node values in an {@link IntBuffer}, read with absolute gets.
+ * <p>
+ * The buffer is expected to be a private view (for example a
+ * {@link IntBuffer#slice()}) so that the caller moving its own position or
+ * limit does not change which values are navigated.
+ * </p>
+ * 
+ * @author Ramaswamy Krishnan-Chittur
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+final class IntBufferNodeStorage implements INodeStorage {
+    
+    /** The backing buffer, indexed from zero. */
+    private final IntBuffer buffer;
+    
+    /**
+     * Creates a storage over every value between position zero and the limit of the buffer.
+     * 
+     * @param view the backing buffer view, which is not copied
+     */
+    IntBufferNodeStorage(final IntBuffer view) {
+        this.buffer = view;
+    }
+    
+    @Override
+    public int size() {
+        return this.buffer.limit();
+    }
+    
+    @Override
+    public long heapBytes() {
+        if (this.buffer.isDirect()) {
+            return 0;
+        }
+        return (long) this.buffer.capacity() * Integer.BYTES;
+    }
+    
+    @Override
+    public int get(final int index) {
+        Objects.checkIndex(index, this.buffer.limit());
+        return this.buffer.get(index);
+    }
+    
+    @Override
+    public void forEach(final int fromIndex, final int toIndex, final INodeNavigationListener listener) {
+        final IntBuffer view = this.buffer;
+        for (int index = fromIndex; index < toIndex; index++) {
+            listener.onNodeVisited(view.get(index));
+        }
+    }
+    
+    @Override
+    public void forEachStrided(final int first, final int count, final int step,
+                               final INodeNavigationListener listener) {
+        final IntBuffer view = this.buffer;
+        int index = first;
+        for (int visited = 0; visited < count; visited++, index += step) {
+            listener.onNodeVisited(view.get(index));
+        }
+    }
+    
+    /**
+     * Notifies the listener with chunks bulk-copied from the buffer into a scratch array.
+     * 
+     * @param fromIndex the first position to visit, inclusive
+     * @param toIndex the last position to visit, exclusive
+     * @param chunkSize the maximum number of values per chunk, at least one
+     * @param listener the listener to notify for each chunk
+     */
+    @Override
+    public void forEachChunk(final int fromIndex, final int toIndex, final int chunkSize,
+                             final INodeBatchListener listener) {
+        final IntBuffer view = this.buffer;
+        final int[] chunk = new int[Math.min(chunkSize, Math.max(toIndex - fromIndex, 0))];
+        for (int start = fromIndex; start < toIndex; start += chunk.length) {
+            final int length = Math.min(chunk.length, toIndex - start);
+            view.get(start, chunk, 0, length);
+            listener.onNodesVisited(chunk, 0, length);
+        }
+    }
+    
+    /**
+     * Returns the node values in the same format as {@link java.util.Arrays#toString(int[])}.
+     * 
+     * @return a string representation of the node values
+     */
+    @Override
+    public String toString() {
+        final StringBuilder builder = new StringBuilder("[");
+        final int limit = this.buffer.limit();
+        for (int index = 0; index < limit; index++) {
+            if (index > 0) {
+                builder.append(", ");
+            }
+            builder.append(this.buffer.get(index));
+        }
+        return builder.append(']').toString();
+    }
+}
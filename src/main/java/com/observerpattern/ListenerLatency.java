@@ -0,0 +1,160 @@
+/**
+ * Live timing counters of one listener under instrumented navigation.
+ * <p>
+ * Instrumented navigations from any number of threads add to the same
+ * counters, so they are striped adders and an atomic histogram rather than
+ * plain fields. Recording is a handful of uncontended additions per chunk.
+ * </p>
+ * 
+ * @author Ramaswamy Krishnan-Chittur
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+
+package com.observerpattern;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Invocation counts, cumulative time and a latency histogram of one listener.
+ * <p>
+ * The histogram is log-linear: every power of two is split into eight
+ * buckets, so a percentile read from it is at most 12.5% above the true
+ * value, over the whole range from one nanosecond to centuries, in a fixed
+ * few kilobytes.
+ * </p>
+ * 
+ * @author Ramaswamy Krishnan-Chittur
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+final class ListenerLatency {
+    
+    /** Number of bits of a value, below its highest set bit, that select its bucket. */
+    private static final int SUB_BITS = 3;
+    
+    /** Number of buckets per power of two. */
+    private static final int SUB_COUNT = 1 << SUB_BITS;
+    
+    /** Number of buckets covering every non-negative long. */
+    private static final int BUCKETS = (Long.SIZE - SUB_BITS) * SUB_COUNT;
+    
+    /** Percentage that selects every sample. */
+    private static final double ALL = 100.0;
+    
+    /** Number of listener callbacks invoked. */
+    private final LongAdder invocations;
+    
+    /** Number of nodes delivered. */
+    private final LongAdder nodes;
+    
+    /** Total nanoseconds spent in the listener. */
+    private final LongAdder nanos;
+    
+    /** Number of sampled callbacks per latency bucket. */
+    private final AtomicLongArray samples;
+    
+    /**
+     * Creates counters with nothing recorded.
+     */
+    ListenerLatency() {
+        this.invocations = new LongAdder();
+        this.nodes = new LongAdder();
+        this.nanos = new LongAdder();
+        this.samples = new AtomicLongArray(BUCKETS);
+    }
+    
+    /**
+     * Adds the callbacks made for one chunk.
+     * 
+     * @param calls number of callbacks invoked
+     * @param nodeCount number of nodes delivered
+     * @param elapsed nanoseconds spent in the listener
+     */
+    void record(final int calls, final int nodeCount, final long elapsed) {
+        this.invocations.add(calls);
+        this.nodes.add(nodeCount);
+        this.nanos.add(elapsed);
+    }
+    
+    /**
+     * Adds the latency of one sampled callback to the histogram.
+     * 
+     * @param elapsed nanoseconds the callback took
+     */
+    void sample(final long elapsed) {
+        this.samples.incrementAndGet(bucketOf(elapsed));
+    }
+    
+    /**
+     * Copies the counters into an immutable snapshot.
+     * 
+     * @param listener the listener the counters belong to
+     * @return the listener's metrics so far
+     */
+    NavigationMetrics.ListenerMetrics snapshot(final INodeNavigationListener listener) {
+        final long[] counts = new long[BUCKETS];
+        for (int bucket = 0; bucket < BUCKETS; bucket++) {
+            counts[bucket] = this.samples.get(bucket);
+        }
+        return new NavigationMetrics.ListenerMetrics(listener, this.invocations.sum(), this.nodes.sum(),
+                                                     this.nanos.sum(), counts);
+    }
+    
+    /**
+     * Finds the bucket of a latency.
+     * 
+     * @param value the latency in nanoseconds; negative values count as zero
+     * @return the bucket holding the value
+     */
+    static int bucketOf(final long value) {
+        if (value < SUB_COUNT) {
+            return (int) Math.max(0, value);
+        }
+        final int exponent = Long.SIZE - 1 - Long.numberOfLeadingZeros(value);
+        final int shift = exponent - SUB_BITS;
+        return (shift + 1) * SUB_COUNT + (int) ((value >>> shift) & (SUB_COUNT - 1));
+    }
+    
+    /**
+     * Gets the largest latency a bucket holds.
+     * 
+     * @param bucket the bucket
+     * @return the largest value mapped to the bucket, in nanoseconds
+     */
+    static long bucketLimit(final int bucket) {
+        if (bucket < SUB_COUNT) {
+            return bucket;
+        }
+        final int shift = bucket / SUB_COUNT - 1;
+        final long lowest = (long) (SUB_COUNT + bucket % SUB_COUNT) << shift;
+        return lowest + (1L << shift) - 1;
+    }
+    
+    /**
+     * Estimates a percentile from histogram counts.
+     * 
+     * @param counts the number of samples per bucket
+     * @param percentile the percentile, from 0 to 100
+     * @return the smallest bucket limit at or below which that share of samples falls, or zero without samples
+     */
+    static long percentile(final long[] counts, final double percentile) {
+        long total = 0;
+        for (final long count : counts) {
+            total += count;
+        }
+        if (total == 0) {
+            return 0;
+        }
+        final long rank = Math.max(1, (long) Math.ceil(percentile / ALL * total));
+        long seen = 0;
+        for (int bucket = 0; bucket < counts.length; bucket++) {
+            seen += counts[bucket];
+            if (seen >= rank) {
+                return bucketLimit(bucket);
+            }
+        }
+        return bucketLimit(counts.length - 1);
+    }
+}
@@ -0,0 +1,209 @@
+/**
+ * Immutable copy-on-write snapshot of the listeners subscribed to a NodeNavigator.
+ * <p>
+ * The NodeNavigator publishes a new snapshot on every subscription change and
+ * navigates with whichever snapshot was current when navigation started, so
+ * navigation never locks and never observes a half-updated set of listeners.
+ * </p>
+ * 
+ * @author Ramaswamy Krishnan-Chittur
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+
+package com.observerpattern;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Immutable array of subscribed listeners that also broadcasts node visits to all of them.
+ * <p>
+ * Updates never modify an existing snapshot: {@link #with(INodeNavigationListener)}
+ * and {@link #without(INodeNavigationListener)} return a new snapshot backed by a
+ * fresh array. Broadcasting iterates that plain final array, so each visited node
+ * costs one loop over the listeners with no locking and no iterator allocation.
+ * </p>
+ * 
+ * @author Ramaswamy Krishnan-Chittur
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+final class ListenerRegistry implements INodeBatchListener {
+    
+    /** The snapshot with no listeners. */
+    static final ListenerRegistry EMPTY = new ListenerRegistry(new INodeNavigationListener[0]);
+    
+    /** The subscribed listeners, in subscription order; never modified after construction. */
+    private final INodeNavigationListener[] listeners;
+    
+    /** The same listeners as batch listeners, with per-node listeners wrapped in an adapter. */
+    private final INodeBatchListener[] batchListeners;
+    
+    /** Whether at least one subscribed listener is a native batch listener. */
+    private final boolean batched;
+    
+    /**
+     * Creates a snapshot that takes ownership of the given array.
+     * 
+     * @param snapshot the listeners, which must not be modified afterwards
+     */
+    private ListenerRegistry(final INodeNavigationListener[] snapshot) {
+        this.listeners = snapshot;
+        this.batchListeners = new INodeBatchListener[snapshot.length];
+        boolean anyBatch = false;
+        for (int index = 0; index < snapshot.length; index++) {
+            if (snapshot[index] instanceof INodeBatchListener) {
+                this.batchListeners[index] = (INodeBatchListener) snapshot[index];
+                anyBatch = true;
+            } else {
+                this.batchListeners[index] = new NodeBatchListenerAdapter(snapshot[index]);
+            }
+        }
+        this.batched = anyBatch;
+    }
+    
+    /**
+     * Returns a snapshot that also contains the given listener.
+     * 
+     * @param listener the listener to add
+     * @return this snapshot if the listener is already present, otherwise a new snapshot
+     */
+    ListenerRegistry with(final INodeNavigationListener listener) {
+        if (indexOf(listener) >= 0) {
+            return this;
+        }
+        final INodeNavigationListener[] updated = Arrays.copyOf(this.listeners, this.listeners.length + 1);
+        updated[this.listeners.length] = listener;
+        return new ListenerRegistry(updated);
+    }
+    
+    /**
+     * Returns a snapshot that no longer contains the given listener.
+     * 
+     * @param listener the listener to remove
+     * @return this snapshot if the listener is absent, otherwise a new snapshot
+     */
+    ListenerRegistry without(final INodeNavigationListener listener) {
+        final int index = indexOf(listener);
+        if (index < 0) {
+            return this;
+        }
+        if (this.listeners.length == 1) {
+            return EMPTY;
+        }
+        final INodeNavigationListener[] updated = new INodeNavigationListener[this.listeners.length - 1];
+        System.arraycopy(this.listeners, 0, updated, 0, index);
+        System.arraycopy(this.listeners, index + 1, updated, index, updated.length - index);
+        return new ListenerRegistry(updated);
+    }
+    
+    /**
+     * Gets the number of listeners in this snapshot.
+     * 
+     * @return the listener count
+     */
+    int size() {
+        return this.listeners.length;
+    }
+    
+    /**
+     * Gets the listeners in this snapshot.
+     * 
+     * @return an unmodifiable list of the listeners, in subscription order
+     */
+    List<INodeNavigationListener> toList() {
+        return List.of(this.listeners);
+    }
+    
+    /**
+     * Checks whether navigation should deliver chunks rather than single nodes.
+     * 
+     * @return true if at least one subscribed listener is a batch listener
+     */
+    boolean isBatched() {
+        return this.batched;
+    }
+    
+    /**
+     * Gets the cheapest listener that notifies everyone in this snapshot.
+     * <p>
+     * A single subscriber is returned as-is so navigation calls it directly;
+     * several subscribers are reached through this snapshot's broadcast.
+     * </p>
+     * 
+     * @return the sole listener, or this snapshot
+     */
+    INodeNavigationListener dispatcher() {
+        if (this.listeners.length == 1) {
+            return this.listeners[0];
+        }
+        return this;
+    }
+    
+    /**
+     * Gets the cheapest batch listener that notifies everyone in this snapshot.
+     * 
+     * @return the sole batch listener, or this snapshot
+     */
+    INodeBatchListener batchDispatcher() {
+        if (this.batchListeners.length == 1) {
+            return this.batchListeners[0];
+        }
+        return this;
+    }
+    
+    /**
+     * Creates a broadcast to this snapshot that contains listener failures, for one navigation.
+     * 
+     * @param owner the navigator that counts failures and isolates listeners
+     * @param policy the lenient error policy to apply
+     * @return a guarded listener that notifies everyone in this snapshot
+     */
+    INodeBatchListener guardedDispatcher(final NodeNavigator owner, final ErrorPolicy policy) {
+        return new GuardedDispatcher(owner, this, policy);
+    }
+    
+    /**
+     * Notifies every listener in this snapshot of a chunk, in subscription order.
+     * 
+     * @param values the array holding the node values
+     * @param offset position of the first node value of the chunk in {@code values}
+     * @param length number of node values in the chunk
+     */
+    @Override
+    public void onNodesVisited(final int[] values, final int offset, final int length) {
+        final INodeBatchListener[] targets = this.batchListeners;
+        for (int index = 0; index < targets.length; index++) {
+            targets[index].onNodesVisited(values, offset, length);
+        }
+    }
+    
+    /**
+     * Notifies every listener in this snapshot, in subscription order.
+     * 
+     * @param data the data of the node being visited
+     */
+    @Override
+    public void onNodeVisited(final int data) {
+        final INodeNavigationListener[] targets = this.listeners;
+        for (int index = 0; index < targets.length; index++) {
+            targets[index].onNodeVisited(data);
+        }
+    }
+    
+    /**
+     * Finds the position of a listener by identity.
+     * 
+     * @param listener the listener to look for
+     * @return the position of the listener, or -1 if it is absent
+     */
+    private int indexOf(final INodeNavigationListener listener) {
+        for (int index = 0; index < this.listeners.length; index++) {
+            if (this.listeners[index] == listener) {
+                return index;
+            }
+        }
+        return -1;
+    }
+}
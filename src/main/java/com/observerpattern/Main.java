@@ -38,6 +38,15 @@ public final class Main {
     /** Shorter line separator length for demo sections. */
     private static final int DEMO_LINE_LENGTH = 40;
     
+    /** Number of nodes used by the batch observer demo. */
+    private static final int BATCH_DEMO_NODE_COUNT = 10;
+    
+    /** Chunk size used by the batch observer demo. */
+    private static final int BATCH_DEMO_CHUNK_SIZE = 4;
+    
+    /** Number of nodes used by the parallel aggregation demo. */
+    private static final int PARALLEL_DEMO_NODE_COUNT = 1_000_000;
+    
     /**
      * Private constructor to prevent instantiation of utility class.
      */
@@ -51,9 +60,12 @@ public final class Main {
      * Runs several demonstrations showing different aspects of the Observer pattern:
      * <ul>
      *   <li>Basic observer functionality</li>
-     *   <li>Multiple observer scenarios</li>
+     *   <li>Multiple simultaneous observers</li>
      *   <li>Empty list handling</li>
      *   <li>Unsubscription behavior</li>
+     *   <li>Batch observers</li>
+     *   <li>Parallel aggregation</li>
+     *   <li>Cached aggregates</li>
      * </ul>
      * </p>
      * 
@@ -72,6 +84,9 @@ public final class Main {
             demonstrateEmptyList();
             demonstrateUnsubscription();
             demonstrateErrorHandling();
+            demonstrateBatchObserver();
+            demonstrateParallelAggregation();
+            demonstrateCachedAggregates();
             
             System.out.println("=".repeat(STANDARD_LINE_LENGTH));
             System.out.println("All demonstrations completed successfully!");
@@ -110,35 +125,36 @@ public final class Main {
     }
     
     /**
-     * Demonstrates multiple observer scenarios by switching between different observers.
+     * Demonstrates multiple observers subscribed to the same navigator.
+     * A single navigation notifies every subscribed observer of each node.
      */
     private static void demonstrateMultipleObservers() {
-        System.out.println("Demo 2: Multiple Observer Scenarios");
+        System.out.println("Demo 2: Multiple Observers");
         System.out.println("-".repeat(DEMO_LINE_LENGTH));
         
         final int[] numbers = {1, 2, 3, 4, 5};
         final NodeNavigator navigator = new NodeNavigator(numbers);
         
-        // First observer - simple logging
+        // Subscribe three different observers at once
         final SimpleLoggingListener logger = new SimpleLoggingListener("Logger");
-        navigator.subscribe(logger);
-        System.out.println("Navigation with Logger:");
-        navigator.navigate();
-        System.out.println("Logger recorded: " + logger.getVisitedNodes());
-        
-        // Second observer - sum calculator
         final SumCalculatorListener calculator = new SumCalculatorListener();
+        final StatisticsListener stats = new StatisticsListener();
+        navigator.subscribe(logger);
         navigator.subscribe(calculator);
-        System.out.println("\nNavigation with Calculator:");
+        navigator.subscribe(stats);
+        
+        System.out.println("Navigation with " + navigator.getListenerCount() + " observers:");
         navigator.navigate();
+        System.out.println("Logger recorded: " + logger.getVisitedNodes());
         System.out.println("Calculator sum: " + calculator.getSum());
+        System.out.println("Statistics: " + stats.getStatistics());
         
-        // Third observer - statistics collector
-        final StatisticsListener stats = new StatisticsListener();
-        navigator.subscribe(stats);
-        System.out.println("\nNavigation with Statistics:");
+        // Remove one observer; the others keep receiving notifications
+        navigator.unsubscribe(logger);
+        System.out.println("\nNavigation after unsubscribing Logger:");
         navigator.navigate();
-        System.out.println("Statistics: " + stats.getStatistics());
+        System.out.println("Logger recorded: " + logger.getVisitedNodes() + " (should be unchanged)");
+        System.out.println("Calculator sum: " + calculator.getSum());
         System.out.println();
     }
     
@@ -216,10 +232,69 @@ public final class Main {
         System.out.println();
     }
     
+    /**
+     * Demonstrates a batch observer receiving visited nodes in chunks.
+     */
+    private static void demonstrateBatchObserver() {
+        System.out.println("Demo 6: Batch Observer");
+        System.out.println("-".repeat(DEMO_LINE_LENGTH));
+        
+        final int[] numbers = new int[BATCH_DEMO_NODE_COUNT];
+        for (int index = 0; index < numbers.length; index++) {
+            numbers[index] = index + 1;
+        }
+        final NodeNavigator navigator = new NodeNavigator(numbers);
+        navigator.setChunkSize(BATCH_DEMO_CHUNK_SIZE);
+        
+        final BatchSumListener batchSum = new BatchSumListener();
+        navigator.subscribe(batchSum);
+        System.out.println("Navigating " + numbers.length + " nodes in chunks of " + navigator.getChunkSize());
+        navigator.navigate();
+        System.out.println("Batch sum: " + batchSum.getSum() + " from " + batchSum.getChunkCount() + " chunks");
+        System.out.println();
+    }
+    
+    /**
+     * Demonstrates parallel navigation with mergeable statistics partials.
+     */
+    private static void demonstrateParallelAggregation() {
+        System.out.println("Demo 7: Parallel Aggregation");
+        System.out.println("-".repeat(DEMO_LINE_LENGTH));
+        
+        final int[] numbers = new int[PARALLEL_DEMO_NODE_COUNT];
+        for (int index = 0; index < numbers.length; index++) {
+            numbers[index] = index + 1;
+        }
+        final NodeNavigator navigator = new NodeNavigator(numbers);
+        
+        System.out.println("Navigating " + numbers.length + " nodes in parallel...");
+        final MergeableStatisticsListener stats = navigator.navigateParallel(MergeableStatisticsListener::new);
+        System.out.println("Statistics: " + stats.getStatistics());
+        System.out.println();
+    }
+    
+    /**
+     * Demonstrates aggregates cached per version of the list and updated on change.
+     */
+    private static void demonstrateCachedAggregates() {
+        System.out.println("Demo 8: Cached Aggregates");
+        System.out.println("-".repeat(DEMO_LINE_LENGTH));
+        
+        final int[] numbers = {10, 20, 30, 40, 50};
+        final NodeNavigator navigator = new NodeNavigator(numbers);
+        System.out.println("Aggregates: " + navigator.getAggregates());
+        System.out.println("Asking again reuses the cached result: "
+                           + (navigator.getAggregates() == navigator.getAggregates()));
+        navigator.append(-numbers[0]);
+        System.out.println("After appending " + -numbers[0] + ": " + navigator.getAggregates());
+        System.out.println();
+    }
+    
     /**
      * Simple logging listener that records visited nodes.
+     * Package-private so the benchmarks can measure it.
      */
-    private static class SimpleLoggingListener implements INodeNavigationListener {
+    static class SimpleLoggingListener implements INodeNavigationListener {
         /** The name of this listener for display purposes. */
         private final String name;
         
@@ -268,8 +343,9 @@ public final class Main {
     
     /**
      * Calculator listener that computes the sum of visited nodes.
+     * Package-private so the benchmarks can measure it.
      */
-    private static class SumCalculatorListener implements INodeNavigationListener {
+    static class SumCalculatorListener implements INodeNavigationListener {
         /** Running sum of all visited node values. */
         private int sum;
         
@@ -298,8 +374,9 @@ public final class Main {
     
     /**
      * Statistics listener that collects statistical information about visited nodes.
+     * Package-private so the benchmarks can measure it.
      */
-    private static class StatisticsListener implements INodeNavigationListener {
+    static class StatisticsListener implements INodeNavigationListener {
         /** Count of nodes visited. */
         private int count;
         
@@ -343,4 +420,102 @@ public final class Main {
                                this.count, this.sum, this.min, this.max, average);
         }
     }
+    
+    /**
+     * Batch listener that sums each chunk of visited nodes in a tight loop.
+     */
+    private static class BatchSumListener implements INodeBatchListener {
+        /** Running sum of all visited node values. */
+        private long sum;
+        
+        /** Count of chunks received. */
+        private int chunkCount;
+        
+        @Override
+        public void onNodesVisited(final int[] values, final int offset, final int length) {
+            long chunkSum = 0;
+            for (int index = offset; index < offset + length; index++) {
+                chunkSum += values[index];
+            }
+            this.sum += chunkSum;
+            this.chunkCount++;
+            System.out.println("  BatchSum: chunk of " + length + " (chunk sum: " + chunkSum + ")");
+        }
+        
+        /**
+         * Gets the computed sum.
+         * 
+         * @return the sum of all visited nodes
+         */
+        public long getSum() {
+            return this.sum;
+        }
+        
+        /**
+         * Gets the number of chunks received.
+         * 
+         * @return chunk count
+         */
+        public int getChunkCount() {
+            return this.chunkCount;
+        }
+    }
+    
+    /**
+     * Statistics listener whose partial results from parallel navigation can be merged.
+     */
+    private static class MergeableStatisticsListener
+        implements IMergeableNodeListener<MergeableStatisticsListener>, INodeBatchListener {
+        /** Count of nodes visited. */
+        private long count;
+        
+        /** Sum of all node values. */
+        private long sum;
+        
+        /** Minimum value encountered. */
+        private int min = Integer.MAX_VALUE;
+        
+        /** Maximum value encountered. */
+        private int max = Integer.MIN_VALUE;
+        
+        @Override
+        public void onNodesVisited(final int[] values, final int offset, final int length) {
+            for (int index = offset; index < offset + length; index++) {
+                this.sum += values[index];
+                this.min = Math.min(this.min, values[index]);
+                this.max = Math.max(this.max, values[index]);
+            }
+            this.count += length;
+        }
+        
+        @Override
+        public void onNodeVisited(final int data) {
+            this.count++;
+            this.sum += data;
+            this.min = Math.min(this.min, data);
+            this.max = Math.max(this.max, data);
+        }
+        
+        @Override
+        public void merge(final MergeableStatisticsListener following) {
+            this.count += following.count;
+            this.sum += following.sum;
+            this.min = Math.min(this.min, following.min);
+            this.max = Math.max(this.max, following.max);
+        }
+        
+        /**
+         * Gets the computed statistics.
+         * 
+         * @return a string representation of the statistics
+         */
+        public String getStatistics() {
+            if (this.count == 0) {
+                return "No data";
+            }
+            final double average = (double) this.sum / this.count;
+            return String.format("Count=%d, Sum=%d, Min=%d, Max=%d, Avg=%.2f", 
+                               this.count, this.sum, this.min, this.max, average);
+        }
+    }
 }
@@ -0,0 +1,170 @@
+/**
+ * Node storage backed by a memory-mapped file of little-endian ints.
+ * <p>
+ * This storage lets the NodeNavigator navigate node dumps larger than the heap
+ * straight out of the operating system's page cache, without reading them into
+ * Java arrays first.
+ * </p>
+ * 
+ * @author Ramaswamy Krishnan-Chittur
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+
+package com.observerpattern;
+
+import java.io.IOException;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Objects;
+
+/**
+ * Stores node values in read-only {@link MappedByteBuffer} segments of a file.
+ * <p>
+ * A single mapping cannot exceed 2 GB, so the file is mapped as consecutive
+ * segments of {@code 2^segmentShift} ints each. Segments are a power of two
+ * long, so locating a node is a shift and a mask rather than a division.
+ * Mapping only reserves address space; pages are read lazily by the operating
+ * system as navigation touches them, so opening a navigator takes constant
+ * time whatever the file size.
+ * </p>
+ * <p>
+ * The mappings stay valid after the file channel is closed and are released
+ * when the storage is garbage collected.
+ * </p>
+ * 
+ * @author Ramaswamy Krishnan-Chittur
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+final class MappedFileNodeStorage implements INodeStorage {
+    
+    /** Default segment size as a power of two: 2^28 ints, or 1 GB per mapping. */
+    static final int DEFAULT_SEGMENT_SHIFT = 28;
+    
+    /** The number of values shown by {@link #toString()} before eliding the rest. */
+    private static final int TO_STRING_LIMIT = 16;
+    
+    /** The mapped segments as little-endian int views, each indexed from zero. */
+    private final IntBuffer[] segments;
+    
+    /** The number of ints per segment as a power of two. */
+    private final int shift;
+    
+    /** Mask selecting the position inside a segment. */
+    private final int mask;
+    
+    /** Number of node values in the storage. */
+    private final int length;
+    
+    /**
+     * Maps {@code count} ints of a file, starting at the given int position.
+     * 
+     * @param file the file holding little-endian ints
+     * @param firstNode position of the first mapped int in the file
+     * @param count number of ints to map
+     * @param segmentShift the number of ints per segment as a power of two
+     * @throws IOException if the file cannot be opened or mapped
+     */
+    MappedFileNodeStorage(final Path file, final long firstNode, final int count, final int segmentShift)
+        throws IOException {
+        this.shift = segmentShift;
+        this.mask = (1 << segmentShift) - 1;
+        this.length = count;
+        final int segmentCount = (int) (((long) count + this.mask) >>> segmentShift);
+        this.segments = new IntBuffer[segmentCount];
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            for (int segment = 0; segment < segmentCount; segment++) {
+                final long start = (long) segment << segmentShift;
+                final int ints = (int) Math.min(1L << segmentShift, count - start);
+                final MappedByteBuffer mapped = channel.map(FileChannel.MapMode.READ_ONLY,
+                                                            (firstNode + start) * Integer.BYTES,
+                                                            (long) ints * Integer.BYTES);
+                this.segments[segment] = mapped.order(ByteOrder.LITTLE_ENDIAN).asIntBuffer();
+            }
+        }
+    }
+    
+    @Override
+    public int size() {
+        return this.length;
+    }
+    
+    @Override
+    public int get(final int index) {
+        Objects.checkIndex(index, this.length);
+        return this.segments[index >>> this.shift].get(index & this.mask);
+    }
+    
+    @Override
+    public void forEach(final int fromIndex, final int toIndex, final INodeNavigationListener listener) {
+        int index = fromIndex;
+        while (index < toIndex) {
+            // Walk the rest of the current segment with a plain indexed loop
+            final IntBuffer segment = this.segments[index >>> this.shift];
+            final int start = index & this.mask;
+            final int end = start + Math.min(toIndex - index, segment.limit() - start);
+            for (int position = start; position < end; position++) {
+                listener.onNodeVisited(segment.get(position));
+            }
+            index += end - start;
+        }
+    }
+    
+    /**
+     * Notifies the listener with chunks bulk-copied from the mapped segments into a scratch array.
+     * 
+     * @param fromIndex the first position to visit, inclusive
+     * @param toIndex the last position to visit, exclusive
+     * @param chunkSize the maximum number of values per chunk, at least one
+     * @param listener the listener to notify for each chunk
+     */
+    @Override
+    public void forEachChunk(final int fromIndex, final int toIndex, final int chunkSize,
+                             final INodeBatchListener listener) {
+        final int[] chunk = new int[Math.min(chunkSize, Math.max(toIndex - fromIndex, 0))];
+        for (int start = fromIndex; start < toIndex; start += chunk.length) {
+            final int filled = Math.min(chunk.length, toIndex - start);
+            // A chunk may straddle a segment boundary, so copy it piecewise
+            int copied = 0;
+            while (copied < filled) {
+                final int index = start + copied;
+                final IntBuffer segment = this.segments[index >>> this.shift];
+                final int position = index & this.mask;
+                final int pieceLength = Math.min(filled - copied, segment.limit() - position);
+                segment.get(position, chunk, copied, pieceLength);
+                copied += pieceLength;
+            }
+            listener.onNodesVisited(chunk, 0, filled);
+        }
+    }
+    
+    /**
+     * Returns the first node values in the same format as {@link java.util.Arrays#toString(int[])}.
+     * <p>
+     * A mapped file may hold billions of values, so only the first
+     * {@value #TO_STRING_LIMIT} are shown, followed by an ellipsis.
+     * </p>
+     * 
+     * @return a string representation of the leading node values
+     */
+    @Override
+    public String toString() {
+        final StringBuilder builder = new StringBuilder("[");
+        final int shown = Math.min(this.length, TO_STRING_LIMIT);
+        for (int index = 0; index < shown; index++) {
+            if (index > 0) {
+                builder.append(", ");
+            }
+            builder.append(get(index));
+        }
+        if (shown < this.length) {
+            builder.append(", ...");
+        }
+        return builder.append(']').toString();
+    }
+}
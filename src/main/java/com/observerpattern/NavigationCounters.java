@@ -0,0 +1,193 @@
+/**
+ * Health counters of one NodeNavigator.
+ * <p>
+ * Failure counts are always kept, because they are updated only when a
+ * listener fails. Timings cost clock reads on the navigation path, so they
+ * are kept by separate instruments that only exist while enabled. Flight
+ * recorder events are emitted here too, and only cost anything while a
+ * recording enables them.
+ * </p>
+ * 
+ * @author Ramaswamy Krishnan-Chittur
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+
+package com.observerpattern;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Thread-safe failure counts and optional navigation instruments.
+ * 
+ * @author Ramaswamy Krishnan-Chittur
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+final class NavigationCounters {
+    
+    /** The number of listener failures seen by navigation so far. */
+    private final AtomicLong failures;
+    
+    /** The number of listeners unsubscribed because they failed. */
+    private final AtomicLong isolatedListeners;
+    
+    /** The timings recorded by instrumented navigations, or null when instrumentation is disabled. */
+    private volatile NavigationInstruments instruments;
+    
+    /**
+     * Creates counters with nothing recorded and instrumentation disabled.
+     */
+    NavigationCounters() {
+        this.failures = new AtomicLong();
+        this.isolatedListeners = new AtomicLong();
+    }
+    
+    /**
+     * Counts a listener failure.
+     */
+    void recordFailure() {
+        this.failures.incrementAndGet();
+    }
+    
+    /**
+     * Gets the number of listener failures.
+     * 
+     * @return the failure count
+     */
+    long getFailureCount() {
+        return this.failures.get();
+    }
+    
+    /**
+     * Counts a listener unsubscribed because it failed.
+     */
+    void recordIsolated() {
+        this.isolatedListeners.incrementAndGet();
+    }
+    
+    /**
+     * Gets the number of listeners unsubscribed because they failed.
+     * 
+     * @return the isolated listener count
+     */
+    long getIsolatedListenerCount() {
+        return this.isolatedListeners.get();
+    }
+    
+    /**
+     * Checks whether navigations are timed.
+     * 
+     * @return true if instrumentation is enabled
+     */
+    boolean isInstrumented() {
+        return this.instruments != null;
+    }
+    
+    /**
+     * Enables or disables timing of navigations.
+     * 
+     * @param enabled true to time navigations, false to stop and discard the timings
+     */
+    void setInstrumented(final boolean enabled) {
+        if (!enabled) {
+            this.instruments = null;
+        } else if (this.instruments == null) {
+            this.instruments = new NavigationInstruments();
+        }
+    }
+    
+    /**
+     * Runs one navigation pass of the owner and marks it on any flight recording.
+     * <p>
+     * The pass is recorded as a {@link NavigationEvent} whether it completes
+     * or a listener aborts it.
+     * </p>
+     * 
+     * @param owner the navigator to run the pass
+     * @param snapshot the listeners to notify, at least one
+     * @param storage the version of the nodes to navigate
+     * @param fromIndex the first position of the range, inclusive
+     * @param toIndex the last position of the range, exclusive
+     * @param step the distance between visited positions, never zero
+     */
+    void navigate(final NodeNavigator owner, final ListenerRegistry snapshot, final INodeStorage storage,
+                  final int fromIndex, final int toIndex, final int step) {
+        final NavigationEvent event = new NavigationEvent();
+        event.begin();
+        boolean completed = false;
+        try {
+            owner.dispatch(snapshot, storage, fromIndex, toIndex, step);
+            completed = true;
+        } finally {
+            event.end();
+            if (event.shouldCommit()) {
+                event.describe(storage.size(), NodeNavigator.countVisited(fromIndex, toIndex, step), step,
+                               snapshot.size(), completed);
+                event.commit();
+            }
+        }
+    }
+    
+    /**
+     * Creates the timing broadcast for one navigation, if instrumentation or slow-listener events are enabled.
+     * 
+     * @param owner the navigator that counts failures and isolates listeners
+     * @param snapshot the listeners to notify
+     * @param policy how to react when a listener throws
+     * @return a batch listener that notifies and times everyone in the snapshot, or null if neither is enabled
+     */
+    INodeBatchListener timedDispatcher(final NodeNavigator owner, final ListenerRegistry snapshot,
+                                       final ErrorPolicy policy) {
+        final NavigationInstruments current = this.instruments;
+        final boolean traced = SlowListenerEvent.isRecorded();
+        if (current == null && !traced) {
+            return null;
+        }
+        ListenerLatency[] latencies = null;
+        if (current != null) {
+            latencies = current.latencies(snapshot);
+        }
+        return new InstrumentedDispatcher(owner, snapshot, policy, latencies, traced);
+    }
+    
+    /**
+     * Records a completed instrumented navigation; ignored if instrumentation was disabled meanwhile.
+     * 
+     * @param visited number of nodes visited
+     * @param elapsed duration in nanoseconds
+     */
+    void navigated(final int visited, final long elapsed) {
+        final NavigationInstruments current = this.instruments;
+        if (current != null) {
+            current.navigated(visited, elapsed);
+        }
+    }
+    
+    /**
+     * Gets a snapshot of the recorded timings.
+     * 
+     * @param snapshot the listeners currently subscribed
+     * @return the metrics, all zero if instrumentation is disabled
+     */
+    NavigationMetrics metrics(final ListenerRegistry snapshot) {
+        final NavigationInstruments current = this.instruments;
+        if (current == null) {
+            return NavigationMetrics.EMPTY;
+        }
+        return current.snapshot(snapshot);
+    }
+    
+    /**
+     * Gets a snapshot of the navigation totals, without copying any listener's histogram.
+     * 
+     * @return the totals, all zero if instrumentation is disabled
+     */
+    NavigationMetrics totals() {
+        final NavigationInstruments current = this.instruments;
+        if (current == null) {
+            return NavigationMetrics.EMPTY;
+        }
+        return current.totals();
+    }
+}
@@ -0,0 +1,157 @@
+/**
+ * Resumable, incremental navigation over a NodeNavigator.
+ * <p>
+ * A cursor splits one long traversal into bounded steps and can record its
+ * position as a compact checkpoint, so an interrupted pass resumes where it
+ * stopped, even in a later process, instead of starting over.
+ * </p>
+ * 
+ * @author Ramaswamy Krishnan-Chittur
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+
+package com.observerpattern;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Position in a NodeNavigator's list that advances in bounded steps.
+ * <p>
+ * Each {@link #advance(int)} navigates the next nodes through
+ * {@link NodeNavigator#navigate(int, int)}, so the navigator's current
+ * listeners, chunk size and error policy apply to every step. A step that
+ * fails leaves the position unchanged, so retrying or resuming replays that
+ * step: listeners see its nodes at least once.
+ * </p>
+ * <p>
+ * A cursor is not thread-safe; each traversal should own its cursor.
+ * </p>
+ * 
+ * @author Ramaswamy Krishnan-Chittur
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public final class NavigationCursor {
+    
+    /** Format version written as the first byte of every checkpoint. */
+    private static final byte CHECKPOINT_VERSION = 1;
+    
+    /** Size of a checkpoint in bytes: version, position and list size. */
+    private static final int CHECKPOINT_BYTES = Byte.BYTES + Integer.BYTES + Integer.BYTES;
+    
+    /** The navigator whose nodes are traversed. */
+    private final NodeNavigator navigator;
+    
+    /** The position of the next node to visit. */
+    private int position;
+    
+    /**
+     * Creates a cursor at the given position.
+     * 
+     * @param owner the navigator whose nodes are traversed
+     * @param start the position of the next node to visit
+     */
+    NavigationCursor(final NodeNavigator owner, final int start) {
+        this.navigator = owner;
+        this.position = start;
+    }
+    
+    /**
+     * Gets the position of the next node to visit.
+     * 
+     * @return the number of nodes already visited
+     */
+    public int getPosition() {
+        return this.position;
+    }
+    
+    /**
+     * Gets the number of nodes not yet visited.
+     * 
+     * @return the remaining node count
+     */
+    public int remaining() {
+        return Math.max(this.navigator.size() - this.position, 0);
+    }
+    
+    /**
+     * Checks whether any node remains to be visited.
+     * 
+     * @return true if the traversal is not finished
+     */
+    public boolean hasNext() {
+        return remaining() > 0;
+    }
+    
+    /**
+     * Visits up to {@code maxNodes} further nodes and notifies the navigator's listeners.
+     * 
+     * @param maxNodes the maximum number of nodes to visit, at least one
+     * @return the number of nodes visited, zero once the traversal is finished
+     * @throws IllegalArgumentException if maxNodes is less than one
+     * @throws RuntimeException if an error occurs during navigation
+     */
+    public int advance(final int maxNodes) {
+        if (maxNodes < 1) {
+            throw new IllegalArgumentException("Step size must be positive");
+        }
+        final int count = Math.min(maxNodes, remaining());
+        if (count > 0) {
+            this.navigator.navigate(this.position, this.position + count);
+            this.position += count;
+        }
+        return count;
+    }
+    
+    /**
+     * Records the current position as a compact, self-describing checkpoint.
+     * <p>
+     * The checkpoint holds a format version, the position and the size of the
+     * list, in big-endian order; it can be stored anywhere and handed to
+     * {@link NodeNavigator#resume(byte[])} in a later process.
+     * </p>
+     * 
+     * @return a new checkpoint array
+     */
+    public byte[] checkpoint() {
+        return ByteBuffer.allocate(CHECKPOINT_BYTES)
+                         .put(CHECKPOINT_VERSION)
+                         .putInt(this.position)
+                         .putInt(this.navigator.size())
+                         .array();
+    }
+    
+    /**
+     * Reads the position recorded by {@link #checkpoint()}.
+     * 
+     * @param checkpoint the checkpoint bytes
+     * @param size the size of the list the checkpoint is applied to
+     * @return the recorded position
+     * @throws IllegalArgumentException if the checkpoint is malformed or was taken over a list of another size
+     */
+    static int readCheckpoint(final byte[] checkpoint, final int size) {
+        if (checkpoint == null || checkpoint.length != CHECKPOINT_BYTES) {
+            throw new IllegalArgumentException("Invalid checkpoint");
+        }
+        final ByteBuffer buffer = ByteBuffer.wrap(checkpoint);
+        if (buffer.get() != CHECKPOINT_VERSION) {
+            throw new IllegalArgumentException("Unsupported checkpoint version");
+        }
+        final int recorded = buffer.getInt();
+        if (buffer.getInt() != size || recorded < 0 || recorded > size) {
+            throw new IllegalArgumentException("Checkpoint does not match the navigator");
+        }
+        return recorded;
+    }
+    
+    /**
+     * Returns a string representation of the cursor.
+     * 
+     * @return a string with the position and the list size
+     */
+    @Override
+    public String toString() {
+        return String.format("NavigationCursor{position=%d, size=%d}", this.position, this.navigator.size());
+    }
+}
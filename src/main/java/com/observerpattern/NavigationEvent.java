@@ -0,0 +1,83 @@
+/**
+ * Java Flight Recorder event for one navigation pass.
+ * <p>
+ * A latency spike in production shows up in a flight recording as GC pauses,
+ * lock contention and safepoints, but nothing told the recording that a
+ * navigation was running. This event marks every pass of
+ * {@link NodeNavigator#navigate()} and the range navigations on the timeline,
+ * so they can be correlated with everything else JFR records.
+ * </p>
+ * 
+ * @author Ramaswamy Krishnan-Chittur
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+
+package com.observerpattern;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Duration event spanning one navigation pass, named {@value #NAME}.
+ * <p>
+ * Until a recording enables the event its methods do nothing, and the
+ * navigator fills in the fields only when the event will be committed, so a
+ * pass without JFR costs one short-lived object the JIT usually removes.
+ * Passes with no subscribed listeners are not recorded.
+ * </p>
+ * 
+ * @author Ramaswamy Krishnan-Chittur
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@Name(NavigationEvent.NAME)
+@Label("Navigation")
+@Category("Observer Pattern")
+@Description("A navigation pass notifying the subscribed listeners of each visited node")
+final class NavigationEvent extends Event {
+    
+    /** The event name to enable in recordings and JFR settings files. */
+    static final String NAME = "com.observerpattern.Navigation";
+    
+    /** Number of nodes in the list. */
+    @Label("List Size")
+    private int size;
+    
+    /** Number of nodes visited by the pass. */
+    @Label("Nodes Visited")
+    private int nodeCount;
+    
+    /** Distance between visited positions. */
+    @Label("Step")
+    private int step;
+    
+    /** Number of listeners notified. */
+    @Label("Listener Count")
+    private int listenerCount;
+    
+    /** Whether the pass reached its end rather than being aborted by a listener failure. */
+    @Label("Completed")
+    private boolean completed;
+    
+    /**
+     * Fills in the description of the pass.
+     * 
+     * @param listSize number of nodes in the list
+     * @param visited number of nodes visited
+     * @param stride distance between visited positions
+     * @param listeners number of listeners notified
+     * @param finished whether the pass reached its end
+     */
+    void describe(final int listSize, final int visited, final int stride, final int listeners,
+                  final boolean finished) {
+        this.size = listSize;
+        this.nodeCount = visited;
+        this.step = stride;
+        this.listenerCount = listeners;
+        this.completed = finished;
+    }
+}
@@ -0,0 +1,169 @@
+/**
+ * Live navigation and listener timings of one instrumented NodeNavigator.
+ * <p>
+ * Instrumentation must cost nothing when it is off, so every counter lives
+ * here, in an object the navigator only creates when instrumentation is
+ * enabled. A disabled navigator pays one null check per navigation.
+ * </p>
+ * 
+ * @author Ramaswamy Krishnan-Chittur
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+
+package com.observerpattern;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Thread-safe counters fed by instrumented navigations.
+ * <p>
+ * Listener counters are kept by listener identity for as long as the
+ * listener stays subscribed. They are resolved once per listener snapshot,
+ * so a navigation over an unchanged snapshot only compares one reference.
+ * </p>
+ * 
+ * @author Ramaswamy Krishnan-Chittur
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+final class NavigationInstruments {
+    
+    /** Nanoseconds per second, to turn durations into rates. */
+    private static final double NANOS_PER_SECOND = 1e9;
+    
+    /** Number of navigations completed. */
+    private final LongAdder navigations;
+    
+    /** Number of nodes visited. */
+    private final LongAdder nodes;
+    
+    /** Total navigation time in nanoseconds. */
+    private final LongAdder nanos;
+    
+    /** Duration of the slowest navigation in nanoseconds. */
+    private final AtomicLong maxNanos;
+    
+    /** Throughput of the most recent navigation, in nodes per second. */
+    private volatile double lastNodesPerSecond;
+    
+    /** The counters of the subscribed listeners, by identity; guarded by this object's monitor. */
+    private Map<INodeNavigationListener, ListenerLatency> byListener;
+    
+    /** The listener snapshot last resolved, with its counters. */
+    private volatile Resolved resolved;
+    
+    /**
+     * Creates instruments with nothing recorded.
+     */
+    NavigationInstruments() {
+        this.navigations = new LongAdder();
+        this.nodes = new LongAdder();
+        this.nanos = new LongAdder();
+        this.maxNanos = new AtomicLong();
+        this.byListener = new IdentityHashMap<>();
+    }
+    
+    /**
+     * Records a completed navigation.
+     * 
+     * @param visited number of nodes visited
+     * @param elapsed duration in nanoseconds
+     */
+    void navigated(final int visited, final long elapsed) {
+        this.navigations.increment();
+        this.nodes.add(visited);
+        this.nanos.add(elapsed);
+        this.maxNanos.accumulateAndGet(elapsed, Math::max);
+        if (elapsed > 0) {
+            this.lastNodesPerSecond = visited * NANOS_PER_SECOND / elapsed;
+        }
+    }
+    
+    /**
+     * Copies the counters into an immutable snapshot.
+     * 
+     * @param snapshot the listeners currently subscribed
+     * @return the metrics so far, with those listeners' metrics in subscription order
+     */
+    NavigationMetrics snapshot(final ListenerRegistry snapshot) {
+        final List<INodeNavigationListener> subscribed = snapshot.toList();
+        final ListenerLatency[] counters = latencies(snapshot);
+        final List<NavigationMetrics.ListenerMetrics> perListener = new ArrayList<>(counters.length);
+        for (int index = 0; index < counters.length; index++) {
+            perListener.add(counters[index].snapshot(subscribed.get(index)));
+        }
+        return new NavigationMetrics(this.navigations.sum(), this.nodes.sum(), this.nanos.sum(),
+                                     this.maxNanos.get(), this.lastNodesPerSecond, perListener);
+    }
+    
+    /**
+     * Copies the navigation counters into an immutable snapshot without listener metrics.
+     * 
+     * @return the navigation metrics so far
+     */
+    NavigationMetrics totals() {
+        return new NavigationMetrics(this.navigations.sum(), this.nodes.sum(), this.nanos.sum(),
+                                     this.maxNanos.get(), this.lastNodesPerSecond, List.of());
+    }
+    
+    /**
+     * Gets the counters of every listener of a snapshot, creating counters for new listeners.
+     * 
+     * @param snapshot the listener snapshot
+     * @return the counters, in subscription order
+     */
+    ListenerLatency[] latencies(final ListenerRegistry snapshot) {
+        final Resolved last = this.resolved;
+        if (last != null && last.snapshot == snapshot) {
+            return last.counters;
+        }
+        
+        synchronized (this) {
+            // Keep the counters of listeners still subscribed and drop the rest
+            final Map<INodeNavigationListener, ListenerLatency> kept = new IdentityHashMap<>();
+            final List<INodeNavigationListener> subscribed = snapshot.toList();
+            final ListenerLatency[] counters = new ListenerLatency[subscribed.size()];
+            for (int index = 0; index < counters.length; index++) {
+                final INodeNavigationListener listener = subscribed.get(index);
+                ListenerLatency counter = this.byListener.get(listener);
+                if (counter == null) {
+                    counter = new ListenerLatency();
+                }
+                kept.put(listener, counter);
+                counters[index] = counter;
+            }
+            this.byListener = kept;
+            this.resolved = new Resolved(snapshot, counters);
+            return counters;
+        }
+    }
+    
+    /**
+     * A listener snapshot together with its listeners' counters.
+     */
+    private static final class Resolved {
+        
+        /** The listener snapshot. */
+        private final ListenerRegistry snapshot;
+        
+        /** The counters of its listeners, in subscription order. */
+        private final ListenerLatency[] counters;
+        
+        /**
+         * Pairs a snapshot with its counters.
+         * 
+         * @param listeners the listener snapshot
+         * @param latencies the counters of its listeners
+         */
+        Resolved(final ListenerRegistry listeners, final ListenerLatency[] latencies) {
+            this.snapshot = listeners;
+            this.counters = latencies;
+        }
+    }
+}
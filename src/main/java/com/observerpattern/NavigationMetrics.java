@@ -0,0 +1,310 @@
+/**
+ * Snapshot of the timings recorded by an instrumented NodeNavigator.
+ * <p>
+ * Profilers show that navigate() is slow but not which observer makes it
+ * slow. With instrumentation enabled the navigator times every listener, and
+ * this snapshot reports, per listener, how often it was called, how long it
+ * took in total and how its call latency is distributed.
+ * </p>
+ * 
+ * @author Ramaswamy Krishnan-Chittur
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+
+package com.observerpattern;
+
+import java.util.List;
+
+/**
+ * Immutable navigation and per-listener metrics, as of one moment.
+ * <p>
+ * Obtained from {@link NodeNavigator#getMetrics()}. Navigations are counted
+ * when they complete; nodes are counted once per visited position, however
+ * many listeners are notified of it.
+ * </p>
+ * 
+ * @author Ramaswamy Krishnan-Chittur
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public final class NavigationMetrics {
+    
+    /** The metrics of a navigator that has recorded nothing. */
+    static final NavigationMetrics EMPTY = new NavigationMetrics(0, 0, 0, 0, 0.0, List.of());
+    
+    /** Nanoseconds per second, to turn durations into rates. */
+    private static final double NANOS_PER_SECOND = 1e9;
+    
+    /** Number of instrumented navigations completed. */
+    private final long navigationCount;
+    
+    /** Number of nodes visited by those navigations. */
+    private final long nodeCount;
+    
+    /** Total duration of those navigations, in nanoseconds. */
+    private final long totalNanos;
+    
+    /** Duration of the slowest navigation, in nanoseconds. */
+    private final long maxNanos;
+    
+    /** Throughput of the most recent navigation, in nodes per second. */
+    private final double lastNodesPerSecond;
+    
+    /** The metrics of each subscribed listener, in subscription order. */
+    private final List<ListenerMetrics> listenerMetrics;
+    
+    /**
+     * Creates a snapshot from its parts.
+     * 
+     * @param navigations number of navigations completed
+     * @param nodes number of nodes visited
+     * @param nanos total duration in nanoseconds
+     * @param slowest duration of the slowest navigation in nanoseconds
+     * @param lastThroughput nodes per second of the most recent navigation
+     * @param perListener the metrics of each subscribed listener
+     */
+    NavigationMetrics(final long navigations, final long nodes, final long nanos, final long slowest,
+                      final double lastThroughput, final List<ListenerMetrics> perListener) {
+        this.navigationCount = navigations;
+        this.nodeCount = nodes;
+        this.totalNanos = nanos;
+        this.maxNanos = slowest;
+        this.lastNodesPerSecond = lastThroughput;
+        this.listenerMetrics = List.copyOf(perListener);
+    }
+    
+    /**
+     * Gets the number of instrumented navigations completed.
+     * 
+     * @return the navigation count
+     */
+    public long getNavigationCount() {
+        return this.navigationCount;
+    }
+    
+    /**
+     * Gets the number of nodes visited by the instrumented navigations.
+     * 
+     * @return the node count
+     */
+    public long getNodeCount() {
+        return this.nodeCount;
+    }
+    
+    /**
+     * Gets the total duration of the instrumented navigations.
+     * 
+     * @return the duration in nanoseconds
+     */
+    public long getTotalNanos() {
+        return this.totalNanos;
+    }
+    
+    /**
+     * Gets the duration of the slowest instrumented navigation.
+     * 
+     * @return the duration in nanoseconds
+     */
+    public long getMaxNanos() {
+        return this.maxNanos;
+    }
+    
+    /**
+     * Gets the average duration of the instrumented navigations.
+     * 
+     * @return the mean duration in nanoseconds, or zero if nothing was recorded
+     */
+    public double getAverageNanos() {
+        if (this.navigationCount == 0) {
+            return 0.0;
+        }
+        return (double) this.totalNanos / this.navigationCount;
+    }
+    
+    /**
+     * Gets the average throughput of the instrumented navigations.
+     * 
+     * @return nodes visited per second of navigation, or zero if nothing was recorded
+     */
+    public double getNodesPerSecond() {
+        if (this.totalNanos == 0) {
+            return 0.0;
+        }
+        return this.nodeCount * NANOS_PER_SECOND / this.totalNanos;
+    }
+    
+    /**
+     * Gets the throughput of the most recent instrumented navigation.
+     * 
+     * @return nodes visited per second, or zero if nothing was recorded
+     */
+    public double getLastNodesPerSecond() {
+        return this.lastNodesPerSecond;
+    }
+    
+    /**
+     * Gets the metrics of each subscribed listener.
+     * 
+     * @return an unmodifiable list, in subscription order
+     */
+    public List<ListenerMetrics> getListenerMetrics() {
+        return this.listenerMetrics;
+    }
+    
+    /**
+     * Returns a string representation of the metrics.
+     * 
+     * @return the navigation totals and the metrics of each listener
+     */
+    @Override
+    public String toString() {
+        return String.format("NavigationMetrics{navigations=%d, nodes=%d, totalNanos=%d, maxNanos=%d, "
+                             + "nodesPerSecond=%.0f, listeners=%s}", this.navigationCount, this.nodeCount,
+                             this.totalNanos, this.maxNanos, getNodesPerSecond(), this.listenerMetrics);
+    }
+    
+    /**
+     * Immutable timings of one listener.
+     * <p>
+     * Every callback is counted and timed in bulk, one clock read per chunk.
+     * The latency distribution is sampled: every batch callback, and one in
+     * every few dozen per-node callbacks, is timed on its own.
+     * </p>
+     */
+    public static final class ListenerMetrics {
+        
+        /** The largest percentile. */
+        private static final double MAX_PERCENTILE = 100.0;
+        
+        /** The percentile of the median. */
+        private static final double MEDIAN = 50.0;
+        
+        /** The percentile reported as the tail latency. */
+        private static final double TAIL = 99.0;
+        
+        /** The listener these metrics describe. */
+        private final INodeNavigationListener listener;
+        
+        /** Number of callbacks invoked. */
+        private final long invocationCount;
+        
+        /** Number of nodes delivered. */
+        private final long nodeCount;
+        
+        /** Total time spent in the listener, in nanoseconds. */
+        private final long totalNanos;
+        
+        /** Number of sampled callbacks per latency bucket. */
+        private final long[] samples;
+        
+        /**
+         * Creates the metrics from their parts.
+         * 
+         * @param timed the listener
+         * @param invocations number of callbacks invoked
+         * @param nodes number of nodes delivered
+         * @param nanos total time spent in the listener
+         * @param histogram number of sampled callbacks per latency bucket; owned by this object
+         */
+        ListenerMetrics(final INodeNavigationListener timed, final long invocations, final long nodes,
+                        final long nanos, final long[] histogram) {
+            this.listener = timed;
+            this.invocationCount = invocations;
+            this.nodeCount = nodes;
+            this.totalNanos = nanos;
+            this.samples = histogram;
+        }
+        
+        /**
+         * Gets the listener these metrics describe.
+         * 
+         * @return the listener
+         */
+        public INodeNavigationListener getListener() {
+            return this.listener;
+        }
+        
+        /**
+         * Gets the number of callbacks invoked: one per node, or one per chunk for batch listeners.
+         * 
+         * @return the invocation count
+         */
+        public long getInvocationCount() {
+            return this.invocationCount;
+        }
+        
+        /**
+         * Gets the number of nodes delivered to the listener.
+         * 
+         * @return the node count
+         */
+        public long getNodeCount() {
+            return this.nodeCount;
+        }
+        
+        /**
+         * Gets the total time spent in the listener.
+         * 
+         * @return the time in nanoseconds
+         */
+        public long getTotalNanos() {
+            return this.totalNanos;
+        }
+        
+        /**
+         * Gets the average time the listener spent per node.
+         * 
+         * @return nanoseconds per node, or zero if no node was delivered
+         */
+        public double getNanosPerNode() {
+            if (this.nodeCount == 0) {
+                return 0.0;
+            }
+            return (double) this.totalNanos / this.nodeCount;
+        }
+        
+        /**
+         * Gets the number of callbacks whose latency was sampled.
+         * 
+         * @return the sample count
+         */
+        public long getSampleCount() {
+            long total = 0;
+            for (final long count : this.samples) {
+                total += count;
+            }
+            return total;
+        }
+        
+        /**
+         * Estimates a percentile of the sampled callback latency.
+         * <p>
+         * The estimate is never below the true value and at most 12.5% above it.
+         * </p>
+         * 
+         * @param percentile the percentile, for example 50 for the median or 99.9
+         * @return the latency in nanoseconds, or zero if nothing was sampled
+         * @throws IllegalArgumentException if percentile is not between 0 and 100
+         */
+        public long getPercentileNanos(final double percentile) {
+            if (!(percentile >= 0.0 && percentile <= MAX_PERCENTILE)) {
+                throw new IllegalArgumentException("Percentile must be between 0 and 100: " + percentile);
+            }
+            return ListenerLatency.percentile(this.samples, percentile);
+        }
+        
+        /**
+         * Returns a string representation of the listener's metrics.
+         * 
+         * @return the counts, total time and median and 99th percentile latency
+         */
+        @Override
+        public String toString() {
+            return String.format("ListenerMetrics{listener=%s, invocations=%d, nodes=%d, totalNanos=%d, "
+                                 + "p50=%d, p99=%d}", this.listener, this.invocationCount, this.nodeCount,
+                                 this.totalNanos, ListenerLatency.percentile(this.samples, MEDIAN),
+                                 ListenerLatency.percentile(this.samples, TAIL));
+        }
+    }
+}
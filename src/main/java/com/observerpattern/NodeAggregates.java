@@ -0,0 +1,189 @@
+/**
+ * Count, sum, minimum, maximum and mean of the nodes of a NodeNavigator.
+ * <p>
+ * These are the aggregates every statistics observer recomputes on each
+ * navigation. The NodeNavigator keeps them per version of its list, so asking
+ * again over an unchanged list is a field read instead of a full pass.
+ * </p>
+ * 
+ * @author Ramaswamy Krishnan-Chittur
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+
+package com.observerpattern;
+
+/**
+ * Immutable summary of a list of node values.
+ * <p>
+ * The sum is kept in a {@code long}, which cannot overflow for a list of at
+ * most {@link Integer#MAX_VALUE} ints. Like {@link java.util.IntSummaryStatistics},
+ * an empty list has a minimum of {@link Integer#MAX_VALUE}, a maximum of
+ * {@link Integer#MIN_VALUE} and a mean of zero.
+ * </p>
+ * 
+ * @author Ramaswamy Krishnan-Chittur
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public final class NodeAggregates {
+    
+    /** The aggregates of an empty list. */
+    static final NodeAggregates EMPTY = new NodeAggregates(0, 0, Integer.MAX_VALUE, Integer.MIN_VALUE);
+    
+    /** Number of nodes. */
+    private final int count;
+    
+    /** Sum of the node values. */
+    private final long sum;
+    
+    /** Smallest node value. */
+    private final int min;
+    
+    /** Largest node value. */
+    private final int max;
+    
+    /**
+     * Creates the aggregates from their parts.
+     * 
+     * @param nodeCount number of nodes
+     * @param nodeSum sum of the node values
+     * @param nodeMin smallest node value
+     * @param nodeMax largest node value
+     */
+    private NodeAggregates(final int nodeCount, final long nodeSum, final int nodeMin, final int nodeMax) {
+        this.count = nodeCount;
+        this.sum = nodeSum;
+        this.min = nodeMin;
+        this.max = nodeMax;
+    }
+    
+    /**
+     * Creates the aggregates from their parts.
+     * 
+     * @param nodeCount number of nodes
+     * @param nodeSum sum of the node values
+     * @param nodeMin smallest node value
+     * @param nodeMax largest node value
+     * @return the aggregates, or {@link #EMPTY} if there are no nodes
+     */
+    static NodeAggregates of(final int nodeCount, final long nodeSum, final int nodeMin, final int nodeMax) {
+        if (nodeCount == 0) {
+            return EMPTY;
+        }
+        return new NodeAggregates(nodeCount, nodeSum, nodeMin, nodeMax);
+    }
+    
+    /**
+     * Computes the aggregates of every value of a storage in one chunked pass.
+     * 
+     * @param storage the storage to summarize
+     * @return the aggregates of the storage
+     */
+    static NodeAggregates of(final INodeStorage storage) {
+        final NodeAggregateListener listener = new NodeAggregateListener();
+        storage.forEachChunk(0, storage.size(), NodeNavigator.DEFAULT_CHUNK_SIZE, listener);
+        return listener.toAggregates();
+    }
+    
+    /**
+     * Gets the aggregates after a value is added to the list.
+     * 
+     * @param value the added value
+     * @return the updated aggregates
+     */
+    NodeAggregates withInserted(final int value) {
+        return new NodeAggregates(this.count + 1, this.sum + value, Math.min(this.min, value),
+                                  Math.max(this.max, value));
+    }
+    
+    /**
+     * Gets the aggregates after a value is removed from the list.
+     * 
+     * @param value the removed value
+     * @return the updated aggregates, or null if the value was an extreme and the list must be rescanned
+     */
+    NodeAggregates withRemoved(final int value) {
+        if (this.count == 1) {
+            return EMPTY;
+        }
+        if (value == this.min || value == this.max) {
+            return null;
+        }
+        return new NodeAggregates(this.count - 1, this.sum - value, this.min, this.max);
+    }
+    
+    /**
+     * Gets the aggregates after a value of the list is replaced.
+     * 
+     * @param oldValue the replaced value
+     * @param newValue the new value
+     * @return the updated aggregates, or null if the list must be rescanned
+     */
+    NodeAggregates withUpdated(final int oldValue, final int newValue) {
+        final NodeAggregates removed = withRemoved(oldValue);
+        if (removed == null) {
+            return null;
+        }
+        return removed.withInserted(newValue);
+    }
+    
+    /**
+     * Gets the number of nodes.
+     * 
+     * @return the node count
+     */
+    public int getCount() {
+        return this.count;
+    }
+    
+    /**
+     * Gets the sum of the node values.
+     * 
+     * @return the exact sum
+     */
+    public long getSum() {
+        return this.sum;
+    }
+    
+    /**
+     * Gets the smallest node value.
+     * 
+     * @return the minimum, or {@link Integer#MAX_VALUE} if the list is empty
+     */
+    public int getMin() {
+        return this.min;
+    }
+    
+    /**
+     * Gets the largest node value.
+     * 
+     * @return the maximum, or {@link Integer#MIN_VALUE} if the list is empty
+     */
+    public int getMax() {
+        return this.max;
+    }
+    
+    /**
+     * Gets the arithmetic mean of the node values.
+     * 
+     * @return the mean, or zero if the list is empty
+     */
+    public double getMean() {
+        if (this.count == 0) {
+            return 0.0;
+        }
+        return (double) this.sum / this.count;
+    }
+    
+    /**
+     * Returns a string representation of the aggregates.
+     * 
+     * @return the count, sum, minimum, maximum and mean
+     */
+    @Override
+    public String toString() {
+        return String.format("NodeAggregates{count=%d, sum=%d, min=%d, max=%d, mean=%f}",
+                             this.count, this.sum, this.min, this.max, getMean());
+    }
+}
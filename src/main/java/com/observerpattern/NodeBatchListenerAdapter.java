@@ -0,0 +1,65 @@
+/**
+ * Adapter that lets a per-node observer receive batch notifications.
+ * <p>
+ * The NodeNavigator uses this adapter to deliver chunks to existing
+ * INodeNavigationListener implementations, one node at a time, whenever
+ * batch listeners are subscribed alongside them.
+ * </p>
+ * 
+ * @author Ramaswamy Krishnan-Chittur
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+
+package com.observerpattern;
+
+import java.util.Objects;
+
+/**
+ * Adapts an {@link INodeNavigationListener} to the {@link INodeBatchListener} contract.
+ * <p>
+ * <strong>Design Pattern Role:</strong> Adapter
+ * </p>
+ * 
+ * @author Ramaswamy Krishnan-Chittur
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public final class NodeBatchListenerAdapter implements INodeBatchListener {
+    
+    /** The per-node listener receiving the unpacked chunks. */
+    private final INodeNavigationListener delegate;
+    
+    /**
+     * Creates an adapter that forwards every node of a chunk to the given listener.
+     * 
+     * @param listener the per-node listener to notify
+     * @throws NullPointerException if listener is null
+     */
+    public NodeBatchListenerAdapter(final INodeNavigationListener listener) {
+        this.delegate = Objects.requireNonNull(listener, "Listener cannot be null");
+    }
+    
+    /**
+     * Gets the per-node listener this adapter forwards to.
+     * 
+     * @return the adapted listener
+     */
+    public INodeNavigationListener getDelegate() {
+        return this.delegate;
+    }
+    
+    @Override
+    public void onNodesVisited(final int[] values, final int offset, final int length) {
+        final INodeNavigationListener target = this.delegate;
+        final int end = offset + length;
+        for (int index = offset; index < end; index++) {
+            target.onNodeVisited(values[index]);
+        }
+    }
+    
+    @Override
+    public void onNodeVisited(final int data) {
+        this.delegate.onNodeVisited(data);
+    }
+}
@@ -0,0 +1,294 @@
+/**
+ * Record of the changes made to a NodeNavigator since its previous pass.
+ * <p>
+ * Change tracking must stay cheap for the writer, so each change is stored
+ * as a few primitives in parallel growable arrays rather than as an object
+ * per change, and the whole record is handed over to a change pass at once.
+ * </p>
+ * 
+ * @author Ramaswamy Krishnan-Chittur
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+
+package com.observerpattern;
+
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Growable, ordered record of insertions, removals and updates.
+ * <p>
+ * A log is filled by one writer at a time, under the navigator's mutation
+ * lock, and then replaced by an empty log when a pass takes it; a log that
+ * has been taken is only read afterwards, so replaying it needs no locking.
+ * A replay that a listener interrupts remembers how far each listener got,
+ * so the changes still owed can be handed back to the navigator.
+ * </p>
+ * 
+ * @author Ramaswamy Krishnan-Chittur
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+final class NodeChangeLog {
+    
+    /** Kind of a change that added a node. */
+    private static final byte INSERTED = 0;
+    
+    /** Kind of a change that removed a node. */
+    private static final byte REMOVED = 1;
+    
+    /** Kind of a change that replaced a node's data. */
+    private static final byte UPDATED = 2;
+    
+    /** Number of changes the arrays hold before they first grow. */
+    private static final int INITIAL_CAPACITY = 16;
+    
+    /** The kind of each change. */
+    private byte[] kinds;
+    
+    /** The position of each change. */
+    private int[] indices;
+    
+    /** The data added or removed, or the new data of an update. */
+    private int[] values;
+    
+    /** The old data of an update; unused for other kinds. */
+    private int[] oldValues;
+    
+    /** Number of changes recorded. */
+    private int count;
+    
+    /** Number of leading changes each listener already received, or null if none has received any. */
+    private Map<INodeChangeListener, Integer> received;
+    
+    /**
+     * Creates an empty log.
+     */
+    NodeChangeLog() {
+        this.kinds = new byte[INITIAL_CAPACITY];
+        this.indices = new int[INITIAL_CAPACITY];
+        this.values = new int[INITIAL_CAPACITY];
+        this.oldValues = new int[INITIAL_CAPACITY];
+    }
+    
+    /**
+     * Gets the number of changes recorded.
+     * 
+     * @return the change count
+     */
+    int size() {
+        return this.count;
+    }
+    
+    /**
+     * Records a node added to the list.
+     * 
+     * @param index the position of the new node
+     * @param data the data of the new node
+     */
+    void inserted(final int index, final int data) {
+        add(INSERTED, index, data, 0);
+    }
+    
+    /**
+     * Records consecutive nodes added to the list from a slice of an array.
+     * 
+     * @param index the position of the first new node
+     * @param data the array holding the new nodes
+     * @param offset position of the first new node in the array
+     * @param length number of new nodes
+     */
+    void inserted(final int index, final int[] data, final int offset, final int length) {
+        for (int i = 0; i < length; i++) {
+            add(INSERTED, index + i, data[offset + i], 0);
+        }
+    }
+    
+    /**
+     * Records a node removed from the list.
+     * 
+     * @param index the position the node occupied
+     * @param data the data of the removed node
+     */
+    void removed(final int index, final int data) {
+        add(REMOVED, index, data, 0);
+    }
+    
+    /**
+     * Records a node whose data was replaced.
+     * 
+     * @param index the position of the node
+     * @param oldData the data before the change
+     * @param newData the data after the change
+     */
+    void updated(final int index, final int oldData, final int newData) {
+        add(UPDATED, index, newData, oldData);
+    }
+    
+    /**
+     * Appends every change of a later log after the changes of this one.
+     * 
+     * @param later the log holding the changes made after this log's
+     */
+    void appendAll(final NodeChangeLog later) {
+        for (int change = 0; change < later.count; change++) {
+            add(later.kinds[change], later.indices[change], later.values[change], later.oldValues[change]);
+        }
+    }
+    
+    /**
+     * Appends one change, growing the arrays by half when they are full.
+     * 
+     * @param kind the kind of change
+     * @param index the position of the change
+     * @param value the data added or removed, or the new data
+     * @param oldValue the old data of an update
+     */
+    private void add(final byte kind, final int index, final int value, final int oldValue) {
+        if (this.count == this.kinds.length) {
+            final int capacity = this.count + (this.count >> 1);
+            this.kinds = Arrays.copyOf(this.kinds, capacity);
+            this.indices = Arrays.copyOf(this.indices, capacity);
+            this.values = Arrays.copyOf(this.values, capacity);
+            this.oldValues = Arrays.copyOf(this.oldValues, capacity);
+        }
+        this.kinds[this.count] = kind;
+        this.indices[this.count] = index;
+        this.values[this.count] = value;
+        this.oldValues[this.count] = oldValue;
+        this.count++;
+    }
+    
+    /**
+     * Delivers every recorded change, in order, to each change listener of a snapshot.
+     * <p>
+     * Listeners that do not implement {@link INodeChangeListener} are skipped,
+     * and each listener starts after the changes it already received.
+     * Under {@link ErrorPolicy#FAIL_FAST} the first exception propagates after
+     * recording how far every listener got, so that {@link #unreplayed()} can
+     * hand the rest back; the lenient policies count it and carry on,
+     * isolating the listener if asked.
+     * </p>
+     * 
+     * @param owner the navigator that counts failures and isolates listeners
+     * @param snapshot the listeners to notify
+     * @param policy how to react when a listener throws
+     */
+    void replay(final NodeNavigator owner, final ListenerRegistry snapshot, final ErrorPolicy policy) {
+        final List<INodeNavigationListener> listeners = snapshot.toList();
+        for (int position = 0; position < listeners.size(); position++) {
+            if (!(listeners.get(position) instanceof INodeChangeListener)) {
+                continue;
+            }
+            final INodeChangeListener listener = (INodeChangeListener) listeners.get(position);
+            for (int change = receivedBy(listener); change < this.count; change++) {
+                try {
+                    deliver(listener, change);
+                } catch (final RuntimeException e) {
+                    if (policy == ErrorPolicy.FAIL_FAST) {
+                        interrupted(listeners, position, change + 1);
+                        throw e;
+                    }
+                    owner.recordFailure();
+                    if (policy == ErrorPolicy.ISOLATE_FAILING_LISTENER) {
+                        owner.isolate(listener);
+                        break;
+                    }
+                }
+            }
+        }
+    }
+    
+    /**
+     * Gets the number of leading changes a listener already received.
+     * 
+     * @param listener the listener
+     * @return the position of the first change still owed to the listener
+     */
+    private int receivedBy(final INodeChangeListener listener) {
+        if (this.received == null) {
+            return 0;
+        }
+        return this.received.getOrDefault(listener, 0);
+    }
+    
+    /**
+     * Records how far each listener got when a listener interrupted a replay.
+     * 
+     * @param listeners the listeners of the interrupted replay, in delivery order
+     * @param position the position of the listener that threw
+     * @param resumeAt the first change still owed to that listener; the change that threw is not retried
+     */
+    private void interrupted(final List<INodeNavigationListener> listeners, final int position, final int resumeAt) {
+        final Map<INodeChangeListener, Integer> progress = new IdentityHashMap<>();
+        for (int other = 0; other < listeners.size(); other++) {
+            if (listeners.get(other) instanceof INodeChangeListener) {
+                final INodeChangeListener listener = (INodeChangeListener) listeners.get(other);
+                if (other < position) {
+                    progress.put(listener, this.count);
+                } else if (other == position) {
+                    progress.put(listener, resumeAt);
+                } else {
+                    progress.put(listener, receivedBy(listener));
+                }
+            }
+        }
+        this.received = progress;
+    }
+    
+    /**
+     * Copies the changes an interrupted replay still owes to at least one listener.
+     * <p>
+     * Changes every listener already received are dropped, and each listener
+     * keeps its place, so replaying the copy, with any newer changes appended,
+     * delivers every change to every listener exactly once.
+     * </p>
+     * 
+     * @return a new log holding the changes still owed
+     */
+    NodeChangeLog unreplayed() {
+        int first = this.count;
+        if (this.received == null) {
+            first = 0;
+        } else {
+            for (final int progress : this.received.values()) {
+                first = Math.min(first, progress);
+            }
+        }
+        
+        final NodeChangeLog rest = new NodeChangeLog();
+        for (int change = first; change < this.count; change++) {
+            rest.add(this.kinds[change], this.indices[change], this.values[change], this.oldValues[change]);
+        }
+        if (this.received != null) {
+            rest.received = new IdentityHashMap<>();
+            for (final Map.Entry<INodeChangeListener, Integer> progress : this.received.entrySet()) {
+                rest.received.put(progress.getKey(), progress.getValue() - first);
+            }
+        }
+        return rest;
+    }
+    
+    /**
+     * Delivers one recorded change to a listener.
+     * 
+     * @param listener the listener to notify
+     * @param change the position of the change in this log
+     */
+    private void deliver(final INodeChangeListener listener, final int change) {
+        switch (this.kinds[change]) {
+            case INSERTED:
+                listener.onNodeInserted(this.indices[change], this.values[change]);
+                break;
+            case REMOVED:
+                listener.onNodeRemoved(this.indices[change], this.values[change]);
+                break;
+            default:
+                listener.onNodeUpdated(this.indices[change], this.oldValues[change], this.values[change]);
+                break;
+        }
+    }
+}
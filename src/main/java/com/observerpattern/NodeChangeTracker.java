@@ -0,0 +1,318 @@
+/**
+ * Bookkeeping that follows every change to the list of a NodeNavigator.
+ * <p>
+ * A change must reach everything derived from the previous version of the
+ * list: the record replayed to change listeners, and the aggregates cached
+ * for repeated queries. Routing each change through one tracker keeps those
+ * derived results consistent with the version the navigator publishes.
+ * </p>
+ * 
+ * @author Ramaswamy Krishnan-Chittur
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+
+package com.observerpattern;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Records changes for change passes and caches aggregates per version of the list.
+ * <p>
+ * The tracker is also the navigator's mutation lock: every change is applied
+ * and reported while holding its monitor, so the change record and the cached
+ * aggregates move from one version to the next in step with the published
+ * nodes. Queries never take the lock. A cached result remembers the storage
+ * version it was computed from and is only returned while that version is
+ * still the navigator's current one, so a query racing a change can store a
+ * stale result but never return one.
+ * </p>
+ * 
+ * @author Ramaswamy Krishnan-Chittur
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+final class NodeChangeTracker {
+    
+    /** Maximum number of pluggable aggregates cached at once. */
+    private static final int MAX_CUSTOM_AGGREGATES = 64;
+    
+    /** The changes made since the previous full or change pass, or null when changes are not tracked. */
+    private volatile NodeChangeLog log;
+    
+    /** The built-in aggregates with the version they describe, or null when unknown. */
+    private volatile Cached<NodeAggregates> aggregates;
+    
+    /** The pluggable aggregates with the version they describe, keyed by factory. */
+    private final ConcurrentHashMap<Supplier<?>, Cached<?>> custom;
+    
+    /**
+     * Creates a tracker that records nothing and has nothing cached.
+     */
+    NodeChangeTracker() {
+        this.custom = new ConcurrentHashMap<>();
+    }
+    
+    /**
+     * Reports a node added to the list; must be called while holding this tracker's monitor.
+     * 
+     * @param before the version before the change
+     * @param after the version after the change
+     * @param index the position of the new node
+     * @param value the data of the new node
+     */
+    void inserted(final INodeStorage before, final INodeStorage after, final int index, final int value) {
+        final NodeChangeLog changes = this.log;
+        if (changes != null) {
+            changes.inserted(index, value);
+        }
+        NodeAggregates current = cachedAggregates(before);
+        if (current != null) {
+            current = current.withInserted(value);
+        }
+        advance(after, current);
+    }
+    
+    /**
+     * Reports consecutive nodes added to the list; must be called while holding this tracker's monitor.
+     * 
+     * @param before the version before the change
+     * @param after the version after the change
+     * @param index the position of the first new node
+     * @param values the array holding the new nodes
+     * @param offset position of the first new node in the array
+     * @param length number of new nodes
+     */
+    void inserted(final INodeStorage before, final INodeStorage after, final int index,
+                  final int[] values, final int offset, final int length) {
+        final NodeChangeLog changes = this.log;
+        if (changes != null) {
+            changes.inserted(index, values, offset, length);
+        }
+        NodeAggregates current = cachedAggregates(before);
+        for (int i = 0; current != null && i < length; i++) {
+            current = current.withInserted(values[offset + i]);
+        }
+        advance(after, current);
+    }
+    
+    /**
+     * Reports a node removed from the list; must be called while holding this tracker's monitor.
+     * 
+     * @param before the version before the change
+     * @param after the version after the change
+     * @param index the position the node occupied
+     * @param value the data of the removed node
+     */
+    void removed(final INodeStorage before, final INodeStorage after, final int index, final int value) {
+        final NodeChangeLog changes = this.log;
+        if (changes != null) {
+            changes.removed(index, value);
+        }
+        NodeAggregates current = cachedAggregates(before);
+        if (current != null) {
+            current = current.withRemoved(value);
+        }
+        advance(after, current);
+    }
+    
+    /**
+     * Reports a node whose data was replaced; must be called while holding this tracker's monitor.
+     * 
+     * @param before the version before the change
+     * @param after the version after the change
+     * @param index the position of the node
+     * @param oldValue the data before the change
+     * @param newValue the data after the change
+     */
+    void updated(final INodeStorage before, final INodeStorage after, final int index,
+                 final int oldValue, final int newValue) {
+        final NodeChangeLog changes = this.log;
+        if (changes != null) {
+            changes.updated(index, oldValue, newValue);
+        }
+        NodeAggregates current = cachedAggregates(before);
+        if (current != null) {
+            current = current.withUpdated(oldValue, newValue);
+        }
+        advance(after, current);
+    }
+    
+    /**
+     * Moves the cached results to a new version of the list.
+     * 
+     * @param after the new version
+     * @param updated the built-in aggregates of the new version, or null if they must be recomputed
+     */
+    private void advance(final INodeStorage after, final NodeAggregates updated) {
+        if (updated == null) {
+            this.aggregates = null;
+        } else {
+            this.aggregates = new Cached<>(after, updated);
+        }
+        // Pluggable aggregates cannot be updated in place; drop them rather than keep old versions alive
+        this.custom.clear();
+    }
+    
+    /**
+     * Checks whether changes are being recorded.
+     * 
+     * @return true if change tracking is enabled
+     */
+    boolean isTracking() {
+        return this.log != null;
+    }
+    
+    /**
+     * Enables or disables recording changes; must be called while holding this tracker's monitor.
+     * 
+     * @param enabled true to record changes, false to stop and discard the record
+     */
+    void setTracking(final boolean enabled) {
+        if (!enabled) {
+            this.log = null;
+        } else if (this.log == null) {
+            this.log = new NodeChangeLog();
+        }
+    }
+    
+    /**
+     * Empties the change record, if changes are tracked; must be called while holding this tracker's monitor.
+     */
+    void restart() {
+        if (this.log != null) {
+            this.log = new NodeChangeLog();
+        }
+    }
+    
+    /**
+     * Takes the change record and replays it to the change listeners of a snapshot.
+     * <p>
+     * If a listener interrupts the replay, the changes still owed are put
+     * back in front of the changes made meanwhile before the exception
+     * propagates, so the next replay delivers them.
+     * </p>
+     * 
+     * @param owner the navigator that counts failures and isolates listeners
+     * @param snapshot the listeners to notify
+     * @param policy how to react when a listener throws
+     * @return the number of changes replayed, or -1 if change tracking is not enabled
+     */
+    int replay(final NodeNavigator owner, final ListenerRegistry snapshot, final ErrorPolicy policy) {
+        final NodeChangeLog taken;
+        synchronized (this) {
+            taken = this.log;
+            if (taken == null) {
+                return -1;
+            }
+            this.log = new NodeChangeLog();
+        }
+        
+        // Replay outside the lock so slow listeners never hold up changes
+        try {
+            taken.replay(owner, snapshot, policy);
+        } catch (final RuntimeException e) {
+            final NodeChangeLog rest = taken.unreplayed();
+            synchronized (this) {
+                if (this.log != null) {
+                    rest.appendAll(this.log);
+                    this.log = rest;
+                }
+            }
+            throw e;
+        }
+        return taken.size();
+    }
+    
+    /**
+     * Gets the built-in aggregates of a version, computing them only if they are not cached.
+     * 
+     * @param storage the navigator's current version
+     * @return the aggregates of that version
+     */
+    NodeAggregates aggregates(final INodeStorage storage) {
+        final NodeAggregates cached = cachedAggregates(storage);
+        if (cached != null) {
+            return cached;
+        }
+        
+        final NodeAggregates computed = NodeAggregates.of(storage);
+        if (storage.isImmutable()) {
+            this.aggregates = new Cached<>(storage, computed);
+        }
+        return computed;
+    }
+    
+    /**
+     * Gets the pluggable aggregate of a version, computing it only if it is not cached.
+     * 
+     * @param <T> the listener type that computes the aggregate
+     * @param storage the navigator's current version
+     * @param factory creates an empty listener; its identity is the cache key
+     * @param chunkSize the maximum number of nodes per call to a batch listener
+     * @return a listener that has observed every node of that version
+     */
+    <T extends INodeNavigationListener> T aggregate(final INodeStorage storage, final Supplier<T> factory,
+                                                   final int chunkSize) {
+        final Cached<?> cached = this.custom.get(factory);
+        if (cached != null && cached.version == storage) {
+            @SuppressWarnings("unchecked")
+            final T result = (T) cached.value;
+            return result;
+        }
+        
+        final T listener = factory.get();
+        if (listener instanceof INodeBatchListener) {
+            storage.forEachChunk(0, storage.size(), chunkSize, (INodeBatchListener) listener);
+        } else {
+            storage.forEach(0, storage.size(), listener);
+        }
+        if (storage.isImmutable()) {
+            if (this.custom.size() >= MAX_CUSTOM_AGGREGATES) {
+                this.custom.clear();
+            }
+            this.custom.put(factory, new Cached<>(storage, listener));
+        }
+        return listener;
+    }
+    
+    /**
+     * Gets the built-in aggregates cached for a version.
+     * 
+     * @param storage the version of the list
+     * @return the cached aggregates, or null if none are cached for that version
+     */
+    private NodeAggregates cachedAggregates(final INodeStorage storage) {
+        final Cached<NodeAggregates> cached = this.aggregates;
+        if (cached != null && cached.version == storage) {
+            return cached.value;
+        }
+        return null;
+    }
+    
+    /**
+     * A result together with the version of the list it was computed from.
+     * 
+     * @param <V> the result type
+     */
+    private static final class Cached<V> {
+        
+        /** The version of the list the result describes. */
+        private final INodeStorage version;
+        
+        /** The result. */
+        private final V value;
+        
+        /**
+         * Pairs a result with its version.
+         * 
+         * @param storage the version of the list
+         * @param result the result computed from it
+         */
+        Cached(final INodeStorage storage, final V result) {
+            this.version = storage;
+            this.value = result;
+        }
+    }
+}
@@ -0,0 +1,219 @@
+/**
+ * Reactive-streams publisher over the nodes of a NodeNavigator.
+ * <p>
+ * Unlike navigate(), which pushes every node as fast as it can, this publisher
+ * only emits as many items as its subscriber has requested, so consumers that
+ * write to slow sinks can pace the traversal without unbounded buffering.
+ * </p>
+ * 
+ * @author Ramaswamy Krishnan-Chittur
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+
+package com.observerpattern;
+
+import java.util.Objects;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * {@link Flow.Publisher} that emits node values, or chunks of node values, on demand.
+ * <p>
+ * Every subscriber gets its own traversal from the first node to the last.
+ * Items are emitted synchronously on the thread that calls
+ * {@link Flow.Subscription#request(long)}, never more than requested, and a
+ * subscriber requesting more from inside {@code onNext} is served by the
+ * outer call rather than by recursion.
+ * </p>
+ * 
+ * @author Ramaswamy Krishnan-Chittur
+ * @version 1.0.0
+ * @param <T> the item type: {@code Integer} for nodes, {@code int[]} for chunks
+ * @since 1.0.0
+ */
+final class NodeFlowPublisher<T> implements Flow.Publisher<T> {
+    
+    /** The node values to publish. */
+    private final INodeStorage storage;
+    
+    /** Number of nodes covered by one item. */
+    private final int nodesPerItem;
+    
+    /** Reads the item covering a range of nodes. */
+    private final ItemReader<T> reader;
+    
+    /**
+     * Creates a publisher.
+     * 
+     * @param nodes the node values to publish
+     * @param itemWidth number of nodes covered by one item
+     * @param itemReader reads the item covering a range of nodes
+     */
+    private NodeFlowPublisher(final INodeStorage nodes, final int itemWidth, final ItemReader<T> itemReader) {
+        this.storage = nodes;
+        this.nodesPerItem = itemWidth;
+        this.reader = itemReader;
+    }
+    
+    /**
+     * Creates a publisher emitting one boxed value per node.
+     * 
+     * @param nodes the node values to publish
+     * @return the publisher
+     */
+    static NodeFlowPublisher<Integer> ofNodes(final INodeStorage nodes) {
+        return new NodeFlowPublisher<>(nodes, 1, (source, from, to) -> source.get(from));
+    }
+    
+    /**
+     * Creates a publisher emitting chunks of consecutive node values.
+     * 
+     * @param nodes the node values to publish
+     * @param chunkSize the maximum number of values per chunk, at least one
+     * @return the publisher
+     */
+    static NodeFlowPublisher<int[]> ofChunks(final INodeStorage nodes, final int chunkSize) {
+        return new NodeFlowPublisher<>(nodes, chunkSize, NodeFlowPublisher::copyRange);
+    }
+    
+    @Override
+    public void subscribe(final Flow.Subscriber<? super T> subscriber) {
+        Objects.requireNonNull(subscriber, "Subscriber cannot be null");
+        final NodeSubscription subscription = new NodeSubscription(subscriber);
+        subscriber.onSubscribe(subscription);
+        subscription.drain();
+    }
+    
+    /**
+     * Copies the node values in {@code [from, to)} into a new array.
+     * 
+     * @param source the node values
+     * @param from the first position, inclusive
+     * @param to the last position, exclusive
+     * @return a new array owned by the subscriber
+     */
+    private static int[] copyRange(final INodeStorage source, final int from, final int to) {
+        final int[] chunk = new int[to - from];
+        source.forEachChunk(from, to, chunk.length,
+            (values, offset, length) -> System.arraycopy(values, offset, chunk, 0, length));
+        return chunk;
+    }
+    
+    /**
+     * Reads the item that covers a range of nodes.
+     * 
+     * @param <T> the item type
+     */
+    @FunctionalInterface
+    private interface ItemReader<T> {
+        
+        /**
+         * Reads the item covering the nodes in {@code [from, to)}.
+         * 
+         * @param source the node values
+         * @param from the first position, inclusive
+         * @param to the last position, exclusive
+         * @return the item
+         */
+        T read(INodeStorage source, int from, int to);
+    }
+    
+    /**
+     * One subscriber's traversal, driven by its outstanding demand.
+     */
+    private final class NodeSubscription implements Flow.Subscription {
+        
+        /** The subscriber receiving the items. */
+        private final Flow.Subscriber<? super T> subscriber;
+        
+        /** Items requested but not yet emitted, capped at {@link Long#MAX_VALUE}. */
+        private final AtomicLong demand = new AtomicLong();
+        
+        /** Non-zero while some thread is draining; counts drain requests that arrived meanwhile. */
+        private final AtomicInteger workInProgress = new AtomicInteger();
+        
+        /** Position of the next node to emit; only touched by the draining thread. */
+        private int position;
+        
+        /** Whether the subscription is over, by cancellation, completion or error. */
+        private volatile boolean done;
+        
+        /** Error for an invalid request, to be signalled by the draining thread, or null. */
+        private volatile IllegalArgumentException pendingError;
+        
+        /**
+         * Creates a subscription for the given subscriber.
+         * 
+         * @param target the subscriber receiving the items
+         */
+        NodeSubscription(final Flow.Subscriber<? super T> target) {
+            this.subscriber = target;
+        }
+        
+        @Override
+        public void request(final long count) {
+            if (count <= 0) {
+                this.pendingError = new IllegalArgumentException("Request amount must be positive, was " + count);
+            } else {
+                this.demand.getAndAccumulate(count, (current, added) -> {
+                    final long sum = current + added;
+                    if (sum < 0) {
+                        return Long.MAX_VALUE;
+                    }
+                    return sum;
+                });
+            }
+            drain();
+        }
+        
+        @Override
+        public void cancel() {
+            this.done = true;
+        }
+        
+        /**
+         * Emits as many items as the demand allows; only one thread drains at a time.
+         */
+        void drain() {
+            if (this.workInProgress.getAndIncrement() != 0) {
+                return;
+            }
+            
+            int missed = 1;
+            do {
+                emitRequested();
+                missed = this.workInProgress.addAndGet(-missed);
+            } while (missed != 0);
+        }
+        
+        /**
+         * Emits items until demand runs out or the traversal ends.
+         */
+        private void emitRequested() {
+            final int size = NodeFlowPublisher.this.storage.size();
+            while (!this.done) {
+                if (this.pendingError != null) {
+                    this.done = true;
+                    this.subscriber.onError(this.pendingError);
+                    return;
+                }
+                if (this.position >= size) {
+                    this.done = true;
+                    this.subscriber.onComplete();
+                    return;
+                }
+                if (this.demand.get() == 0) {
+                    return;
+                }
+                
+                final int end = (int) Math.min((long) this.position + NodeFlowPublisher.this.nodesPerItem, size);
+                final T item = NodeFlowPublisher.this.reader.read(NodeFlowPublisher.this.storage, this.position, end);
+                this.position = end;
+                this.demand.decrementAndGet();
+                this.subscriber.onNext(item);
+            }
+        }
+    }
+}
@@ -0,0 +1,469 @@
+/**
+ * Logging listener that writes visited nodes in large batches on a background thread.
+ * <p>
+ * Logging each node with {@code System.out.println} boxes the value, builds a
+ * String and takes the console lock for every node, which makes logging
+ * thousands of times slower than navigation itself. This listener formats
+ * each line straight into a reusable byte buffer and hands full buffers to a
+ * writer thread, so navigation pays only for copying a few bytes per node.
+ * </p>
+ * 
+ * @author Ramaswamy Krishnan-Chittur
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+
+package com.observerpattern;
+
+import java.io.FileDescriptor;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Allocation-free logging observer writing one line per visited node to a channel.
+ * <p>
+ * Each node is logged as {@code "  <name> visited node: <value>"} followed by
+ * a newline, the same lines as the demo's logging listener. Lines are
+ * formatted into one of a few preallocated buffers; when a buffer fills up
+ * it is queued for a daemon writer thread, which writes it to the channel
+ * and returns it for reuse. If the writer falls behind, navigation waits for
+ * a free buffer rather than allocating more memory. No object is created per
+ * node or per buffer.
+ * </p>
+ * <p>
+ * Lines reach the channel when a buffer fills up, on {@link #flush()} and on
+ * {@link #close()}; close the listener, or at least flush it, before the
+ * application exits. Like {@link AsyncNodeDispatcher}, the listener has a
+ * single producer: it must not be notified from more than one thread at a
+ * time. A failure to write is kept, the rest of the output is discarded, and
+ * the failure is thrown by the next {@link #flush()} or {@link #close()}; an
+ * unchecked exception from the channel is thrown as the cause of an
+ * IOException.
+ * </p>
+ * <p>
+ * Example usage:
+ * </p>
+ * <pre>{@code
+ * try (NodeLoggingListener logger = NodeLoggingListener.toFile("Audit", Path.of("nodes.log"))) {
+ *     navigator.subscribe(logger);
+ *     navigator.navigate();
+ * }
+ * }</pre>
+ * <p>
+ * <strong>Design Pattern Role:</strong> Concrete Observer
+ * </p>
+ * 
+ * @author Ramaswamy Krishnan-Chittur
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public final class NodeLoggingListener implements INodeBatchListener, AutoCloseable {
+    
+    /** The default size of each buffer, in bytes. */
+    public static final int DEFAULT_BUFFER_SIZE = 65536;
+    
+    /** Number of buffers shared by navigation and the writer thread. */
+    private static final int BUFFER_COUNT = 4;
+    
+    /** The radix of the logged values. */
+    private static final int RADIX = 10;
+    
+    /** The largest number of digits of an int. */
+    private static final int MAX_DIGITS = 10;
+    
+    /** Queued after the last buffer to stop the writer thread. */
+    private static final ByteBuffer END = ByteBuffer.allocate(0);
+    
+    /** The encoded text written before each value. */
+    private final byte[] prefix;
+    
+    /** The largest number of bytes one line can take. */
+    private final int maxLineLength;
+    
+    /** Where the lines are written. */
+    private final WritableByteChannel channel;
+    
+    /** Whether closing the listener closes the channel. */
+    private final boolean ownsChannel;
+    
+    /** Buffers ready to be filled. */
+    private final ArrayBlockingQueue<ByteBuffer> free;
+    
+    /** Filled buffers waiting for the writer thread, in order. */
+    private final ArrayBlockingQueue<ByteBuffer> full;
+    
+    /** Number of buffers the writer thread has finished with. */
+    private final AtomicLong written = new AtomicLong();
+    
+    /** First failure to write to the channel, if any. */
+    private final AtomicReference<IOException> failure = new AtomicReference<>();
+    
+    /** The thread writing filled buffers to the channel. */
+    private final Thread writer;
+    
+    /** The buffer being filled; owned by the producer. */
+    private ByteBuffer buffer;
+    
+    /** The backing array of the buffer being filled. */
+    private byte[] bytes;
+    
+    /** Position of the next byte to fill. */
+    private int position;
+    
+    /** Number of buffers handed to the writer thread; owned by the producer. */
+    private long submitted;
+    
+    /** Whether the listener has been closed. */
+    private volatile boolean closed;
+    
+    /**
+     * Creates a listener writing to a channel with the default buffer size.
+     * 
+     * @param name the name written on each line
+     * @param target the channel to write to; not closed by the listener
+     * @throws IllegalArgumentException if the name or channel is null
+     */
+    public NodeLoggingListener(final String name, final WritableByteChannel target) {
+        this(name, target, DEFAULT_BUFFER_SIZE);
+    }
+    
+    /**
+     * Creates a listener writing to a channel.
+     * 
+     * @param name the name written on each line
+     * @param target the channel to write to; not closed by the listener
+     * @param bufferSize the size of each buffer in bytes, which is also the size of a batch written at once
+     * @throws IllegalArgumentException if the name or channel is null, or the buffer cannot hold one line
+     */
+    public NodeLoggingListener(final String name, final WritableByteChannel target, final int bufferSize) {
+        this(name, target, bufferSize, false);
+    }
+    
+    /**
+     * Creates a listener and starts its writer thread.
+     * 
+     * @param name the name written on each line
+     * @param target the channel to write to
+     * @param bufferSize the size of each buffer in bytes
+     * @param owned whether closing the listener closes the channel
+     * @throws IllegalArgumentException if the name or channel is null, or the buffer cannot hold one line
+     */
+    private NodeLoggingListener(final String name, final WritableByteChannel target, final int bufferSize,
+                                final boolean owned) {
+        if (name == null) {
+            throw new IllegalArgumentException("Name cannot be null");
+        }
+        if (target == null) {
+            throw new IllegalArgumentException("Channel cannot be null");
+        }
+        this.prefix = ("  " + name + " visited node: ").getBytes(StandardCharsets.UTF_8);
+        // A sign, every digit and the line break
+        this.maxLineLength = this.prefix.length + MAX_DIGITS + 2;
+        if (bufferSize < this.maxLineLength) {
+            throw new IllegalArgumentException("Buffer size must be at least " + this.maxLineLength + " bytes");
+        }
+        this.channel = target;
+        this.ownsChannel = owned;
+        
+        this.free = new ArrayBlockingQueue<>(BUFFER_COUNT);
+        this.full = new ArrayBlockingQueue<>(BUFFER_COUNT + 1);
+        for (int index = 1; index < BUFFER_COUNT; index++) {
+            this.free.add(ByteBuffer.allocate(bufferSize));
+        }
+        use(ByteBuffer.allocate(bufferSize));
+        
+        this.writer = new Thread(this::writeBatches, "node-logger-" + name);
+        this.writer.setDaemon(true);
+        this.writer.start();
+    }
+    
+    /**
+     * Creates a listener writing to standard output with the default buffer size.
+     * <p>
+     * Lines are written to the process's standard output file descriptor,
+     * bypassing {@link System#out}, so they may interleave with text printed
+     * through {@code System.out} at batch boundaries. Closing the listener
+     * leaves standard output open.
+     * </p>
+     * 
+     * @param name the name written on each line
+     * @return a new listener
+     * @throws IllegalArgumentException if the name is null
+     */
+    public static NodeLoggingListener toStandardOutput(final String name) {
+        return new NodeLoggingListener(name, new FileOutputStream(FileDescriptor.out).getChannel(),
+                                       DEFAULT_BUFFER_SIZE, false);
+    }
+    
+    /**
+     * Creates a listener appending to a file with the default buffer size.
+     * <p>
+     * The file is created if it does not exist, and closed when the listener is closed.
+     * </p>
+     * 
+     * @param name the name written on each line
+     * @param file the file to append to
+     * @return a new listener
+     * @throws IllegalArgumentException if the name or file is null
+     * @throws IOException if the file cannot be opened
+     */
+    public static NodeLoggingListener toFile(final String name, final Path file) throws IOException {
+        if (file == null) {
+            throw new IllegalArgumentException("File cannot be null");
+        }
+        final FileChannel target = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                                                    StandardOpenOption.APPEND);
+        try {
+            return new NodeLoggingListener(name, target, DEFAULT_BUFFER_SIZE, true);
+        } catch (final IllegalArgumentException e) {
+            target.close();
+            throw e;
+        }
+    }
+    
+    /**
+     * Logs a single visited node.
+     * 
+     * @param data the data of the node being visited
+     * @throws IllegalStateException if the listener is closed
+     */
+    @Override
+    public void onNodeVisited(final int data) {
+        if (this.closed) {
+            throw new IllegalStateException("Logger is closed");
+        }
+        if (this.bytes.length - this.position < this.maxLineLength) {
+            handOff();
+        }
+        this.position = appendLine(data, this.bytes, this.position);
+    }
+    
+    /**
+     * Logs a chunk of visited nodes.
+     * 
+     * @param values the array holding the node values
+     * @param offset position of the first node value of the chunk in {@code values}
+     * @param length number of node values in the chunk
+     * @throws IllegalStateException if the listener is closed
+     */
+    @Override
+    public void onNodesVisited(final int[] values, final int offset, final int length) {
+        if (this.closed) {
+            throw new IllegalStateException("Logger is closed");
+        }
+        final int end = offset + length;
+        for (int index = offset; index < end; index++) {
+            if (this.bytes.length - this.position < this.maxLineLength) {
+                handOff();
+            }
+            this.position = appendLine(values[index], this.bytes, this.position);
+        }
+    }
+    
+    /**
+     * Writes every line logged so far to the channel and waits until it is written.
+     * 
+     * @throws IOException if writing to the channel has failed
+     * @throws IllegalStateException if the listener is closed
+     */
+    public void flush() throws IOException {
+        if (this.closed) {
+            throw new IllegalStateException("Logger is closed");
+        }
+        if (this.position > 0) {
+            handOff();
+        }
+        while (this.written.get() < this.submitted) {
+            WaitStrategy.PARK.idle();
+        }
+        throwFailure();
+    }
+    
+    /**
+     * Writes every line logged so far, stops the writer thread and closes an owned channel.
+     * <p>
+     * Calling this method more than once has no further effect.
+     * </p>
+     * 
+     * @throws IOException if writing to or closing the channel has failed
+     */
+    @Override
+    public void close() throws IOException {
+        if (this.closed) {
+            return;
+        }
+        if (this.position > 0) {
+            handOff();
+        }
+        this.closed = true;
+        this.full.add(END);
+        
+        boolean interrupted = false;
+        while (this.writer.isAlive()) {
+            try {
+                this.writer.join();
+            } catch (final InterruptedException e) {
+                // Finish closing so no line is lost, then restore the interrupt
+                interrupted = true;
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+        
+        if (this.ownsChannel) {
+            try {
+                this.channel.close();
+            } catch (final IOException e) {
+                this.failure.compareAndSet(null, e);
+            }
+        }
+        throwFailure();
+    }
+    
+    /**
+     * Formats one line into a byte array without allocating.
+     * 
+     * @param value the node value
+     * @param target the array to format into; must have room for the longest line
+     * @param at position of the first byte of the line
+     * @return position after the line
+     */
+    private int appendLine(final int value, final byte[] target, final int at) {
+        System.arraycopy(this.prefix, 0, target, at, this.prefix.length);
+        final int end = appendInt(value, target, at + this.prefix.length);
+        target[end] = '\n';
+        return end + 1;
+    }
+    
+    /**
+     * Formats an int in decimal into a byte array without allocating.
+     * <p>
+     * Digits are computed on the negative value, whose range includes the
+     * magnitude of {@link Integer#MIN_VALUE}.
+     * </p>
+     * 
+     * @param value the value to format
+     * @param target the array to format into
+     * @param at position of the first byte
+     * @return position after the last digit
+     */
+    static int appendInt(final int value, final byte[] target, final int at) {
+        int start = at;
+        int remaining = value;
+        if (value < 0) {
+            target[start++] = '-';
+        } else {
+            remaining = -value;
+        }
+        
+        int cursor = start + digitCount(remaining);
+        final int end = cursor;
+        do {
+            final int quotient = remaining / RADIX;
+            target[--cursor] = (byte) ('0' + quotient * RADIX - remaining);
+            remaining = quotient;
+        } while (remaining != 0);
+        return end;
+    }
+    
+    /**
+     * Counts the decimal digits of a value that is not positive.
+     * 
+     * @param negative the negated value
+     * @return the number of digits, from 1 to {@value #MAX_DIGITS}
+     */
+    private static int digitCount(final int negative) {
+        int limit = -RADIX;
+        for (int count = 1; count < MAX_DIGITS; count++) {
+            if (negative > limit) {
+                return count;
+            }
+            limit *= RADIX;
+        }
+        return MAX_DIGITS;
+    }
+    
+    /**
+     * Queues the buffer being filled for the writer thread and continues in a free one.
+     */
+    private void handOff() {
+        this.buffer.limit(this.position);
+        this.full.add(this.buffer);
+        this.submitted++;
+        
+        // Wait for the writer to return a buffer instead of allocating another
+        ByteBuffer next = this.free.poll();
+        while (next == null) {
+            WaitStrategy.PARK.idle();
+            next = this.free.poll();
+        }
+        use(next);
+    }
+    
+    /**
+     * Makes an empty buffer the one being filled.
+     * 
+     * @param empty the buffer to fill next
+     */
+    private void use(final ByteBuffer empty) {
+        this.buffer = empty;
+        this.bytes = empty.array();
+        this.position = 0;
+    }
+    
+    /**
+     * Writes queued buffers to the channel until the listener is closed; runs on the writer thread.
+     */
+    private void writeBatches() {
+        while (true) {
+            final ByteBuffer batch;
+            try {
+                batch = this.full.take();
+            } catch (final InterruptedException e) {
+                // Only close() stops the writer, so no queued line is dropped
+                continue;
+            }
+            if (batch == END) {
+                return;
+            }
+            
+            if (this.failure.get() == null) {
+                try {
+                    while (batch.hasRemaining()) {
+                        this.channel.write(batch);
+                    }
+                } catch (final IOException e) {
+                    this.failure.compareAndSet(null, e);
+                } catch (final RuntimeException | Error e) {
+                    // The writer must keep recycling buffers, or handOff() and flush() would wait forever
+                    this.failure.compareAndSet(null, new IOException("Channel failed: " + e, e));
+                }
+            }
+            batch.clear();
+            this.free.add(batch);
+            this.written.incrementAndGet();
+        }
+    }
+    
+    /**
+     * Throws the first write failure, if any.
+     * 
+     * @throws IOException the first failure to write to the channel
+     */
+    private void throwFailure() throws IOException {
+        final IOException first = this.failure.get();
+        if (first != null) {
+            throw first;
+        }
+    }
+}
@@ -1,8 +1,8 @@
 /**
- * Subject class that navigates a linked list and notifies observers of visited nodes.
+ * Subject class that navigates a list of nodes and notifies observers of visited nodes.
  * <p>
  * This class demonstrates the Subject role in the Observer design pattern.
- * It maintains a linked list of integers and allows observers to subscribe
+ * It maintains a list of integers and allows observers to subscribe
  * for notifications when nodes are visited during navigation, providing
  * a practical example of loose coupling between subjects and observers.
  * </p>
@@ -14,148 +14,1337 @@
 
 package com.observerpattern;
 
-import java.util.LinkedList;
+import java.io.IOException;
+import java.nio.IntBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.Flow;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
 
 /**
- * Navigates a linked list and notifies a listener when a node is visited.
+ * Navigates a list of nodes and notifies listeners when a node is visited.
  * <p>
  * This class demonstrates the Subject role in the Observer design pattern.
- * It maintains a linked list of integers and allows a single observer to
+ * It maintains a list of integers and allows any number of observers to
  * subscribe for notifications when nodes are visited during navigation.
  * </p>
  * <p>
+ * The nodes are stored in a contiguous primitive {@code int[]} rather than a
+ * {@code LinkedList<Integer>}, so each node costs four bytes instead of a boxed
+ * {@code Integer} plus a list entry, and navigation is a simple indexed loop
+ * with no unboxing and no pointer chasing.
+ * </p>
+ * <p>
+ * The {@link #wrap(int[], int, int)} and {@link #wrap(IntBuffer)} factories adopt
+ * caller-owned data without copying, so a navigator can be built in constant time.
+ * </p>
+ * <p>
+ * Navigators created by {@link #offHeap(int[])} keep their nodes in direct
+ * memory and should be closed, preferably with try-with-resources, to release
+ * it; closing any other navigator has no effect.
+ * </p>
+ * <p>
  * <strong>Design Pattern Role:</strong> Subject/Observable
  * </p>
  * <p>
  * <strong>Key Features:</strong>
  * <ul>
- *   <li>Maintains a linked list of integers</li>
- *   <li>Supports single observer subscription</li>
- *   <li>Notifies observer during navigation</li>
+ *   <li>Maintains a primitive array of integers</li>
+ *   <li>Supports multiple observer subscriptions</li>
+ *   <li>Notifies observers during navigation</li>
+ *   <li>Append, insert and remove with snapshot-consistent navigation</li>
+ *   <li>Optional change tracking that replays only what changed</li>
+ *   <li>Aggregates cached per version of the list</li>
+ *   <li>Optional per-listener timing at no cost when disabled</li>
  *   <li>Thread-safe navigation</li>
  * </ul>
  * </p>
+ * <p>
+ * <strong>Thread Safety:</strong> any number of threads may navigate the same
+ * navigator while other threads subscribe and unsubscribe listeners. Listener
+ * changes are published lock-free by swapping an immutable snapshot, so each
+ * navigation notifies exactly the listeners that were subscribed when it
+ * started, for every node, and never blocks a concurrent subscription.
+ * Listeners notified from several threads must be thread-safe themselves.
+ * </p>
  * 
  * @author Ramaswamy Krishnan-Chittur
  * @version 1.0.0
  * @since 1.0.0
  */
-public class NodeNavigator {
+public class NodeNavigator implements AutoCloseable {
+    
+    /**
+     * The default maximum number of nodes delivered to batch listeners per call.
+     */
+    public static final int DEFAULT_CHUNK_SIZE = 1024;
+    
+    /**
+     * The node values to navigate, in navigation order.
+     * <p>
+     * Each change to the list publishes a new immutable version of the storage
+     * here, so every operation reads this reference once and works on one
+     * consistent version, however the list changes meanwhile.
+     * </p>
+     */
+    private volatile INodeStorage nodes;
+    
+    /**
+     * Records changes and caches aggregates per version of the nodes.
+     * <p>
+     * Its monitor also serializes changes to the list; navigation and
+     * aggregate queries never take it.
+     * </p>
+     */
+    private final NodeChangeTracker tracker;
     
     /**
-     * The linked list to navigate.
+     * The maximum number of nodes delivered to batch listeners per call.
      */
-    private final LinkedList<Integer> list;
+    private volatile int chunkSize;
     
     /**
-     * The listener to notify when a node is visited.
-     * Only one listener is supported for simplicity in this educational demo.
+     * The listeners to notify when a node is visited.
+     * <p>
+     * This is a copy-on-write snapshot: subscription changes publish a new
+     * immutable snapshot and install it with a compare-and-set, retrying if
+     * another thread changed the listeners first, while navigation reads the
+     * reference once and never locks.
+     * </p>
      */
-    private INodeNavigationListener listener;
+    private final AtomicReference<ListenerRegistry> listeners;
+    
+    /**
+     * How navigation reacts when a listener throws.
+     */
+    private volatile ErrorPolicy errorPolicy;
+    
+    /**
+     * Failure counts, and navigation timings while instrumentation is enabled.
+     */
+    private final NavigationCounters counters;
     
     /**
      * Creates an instance of the node navigator.
      * <p>
-     * Initializes the internal linked list with the provided array of numbers.
-     * The numbers are added to the list in the same order as they appear in the array.
+     * Initializes the internal storage with a copy of the provided array of numbers.
+     * The numbers are navigated in the same order as they appear in the array.
+     * Later changes to the caller's array are not visible to the navigator.
      * </p>
      * 
      * @param numbers the array of numbers to initialize the navigator with
      * @throws IllegalArgumentException if numbers array is null
      */
     public NodeNavigator(final int[] numbers) {
-        if (numbers == null) {
-            throw new IllegalArgumentException("Numbers array cannot be null");
+        this(NodeStorages.adopt(requireArray(numbers).clone()));
+    }
+    
+    /**
+     * Creates a node navigator over the given storage.
+     * 
+     * @param storage the node values to navigate
+     */
+    private NodeNavigator(final INodeStorage storage) {
+        this.nodes = storage;
+        this.tracker = new NodeChangeTracker();
+        this.listeners = new AtomicReference<>(ListenerRegistry.EMPTY);
+        this.chunkSize = DEFAULT_CHUNK_SIZE;
+        this.errorPolicy = ErrorPolicy.FAIL_FAST;
+        this.counters = new NavigationCounters();
+    }
+    
+    /**
+     * Creates a node navigator that navigates the given array without copying it.
+     * 
+     * @param numbers the caller-owned array to navigate
+     * @return a navigator over every element of the array
+     * @throws IllegalArgumentException if numbers array is null
+     * @see #wrap(int[], int, int)
+     */
+    public static NodeNavigator wrap(final int[] numbers) {
+        return wrap(numbers, 0, requireArray(numbers).length);
+    }
+    
+    /**
+     * Creates a node navigator that navigates a slice of the given array without copying it.
+     * <p>
+     * Construction takes constant time regardless of the slice length. The array
+     * remains owned by the caller: the navigator never writes to it, and any change
+     * the caller makes to the slice is seen by subsequent navigations. The caller
+     * must not modify the slice while a navigation is in progress.
+     * </p>
+     * 
+     * @param numbers the caller-owned array to navigate
+     * @param offset position of the first node in the array
+     * @param length number of nodes in the slice
+     * @return a navigator over {@code numbers[offset]} to {@code numbers[offset + length - 1]}
+     * @throws IllegalArgumentException if numbers array is null
+     * @throws IndexOutOfBoundsException if the slice does not fit inside the array
+     */
+    public static NodeNavigator wrap(final int[] numbers, final int offset, final int length) {
+        return new NodeNavigator(NodeStorages.ofArray(requireArray(numbers), offset, length));
+    }
+    
+    /**
+     * Creates a node navigator that navigates the remaining values of a buffer without copying them.
+     * <p>
+     * The navigator covers the values between the buffer's current position and
+     * its limit, captured when this method is called; later changes to the
+     * buffer's position or limit do not affect the navigator. The content remains
+     * owned by the caller: the navigator never writes to it, and any change the
+     * caller makes to those values is seen by subsequent navigations. The caller
+     * must not modify the content while a navigation is in progress.
+     * </p>
+     * <p>
+     * Read-only and direct buffers are supported. Writable heap buffers are
+     * navigated through their backing array for a faster loop.
+     * </p>
+     * 
+     * @param buffer the caller-owned buffer to navigate
+     * @return a navigator over the buffer's remaining values
+     * @throws IllegalArgumentException if buffer is null
+     */
+    public static NodeNavigator wrap(final IntBuffer buffer) {
+        if (buffer == null) {
+            throw new IllegalArgumentException("Buffer cannot be null");
+        }
+        return new NodeNavigator(NodeStorages.ofBuffer(buffer));
+    }
+    
+    /**
+     * Creates a node navigator over a compressed copy of the given array.
+     * 
+     * @param numbers the array to copy and compress
+     * @return a navigator over every element of the array
+     * @throws IllegalArgumentException if numbers array is null
+     * @see #compress(int[], int, int)
+     */
+    public static NodeNavigator compress(final int[] numbers) {
+        return compress(numbers, 0, requireArray(numbers).length);
+    }
+    
+    /**
+     * Creates a node navigator over a compressed copy of a slice of the given array.
+     * <p>
+     * Each node is stored as the difference to its predecessor in one to five
+     * bytes, so sorted or clustered values such as increasing identifiers take
+     * a quarter of the memory of an {@code int[]} or less. Navigation decodes
+     * the differences as it streams through the list, which keeps it within a
+     * small factor of navigating a plain array; random access, as used by
+     * strided navigation, decodes from the start of a block of 128 nodes.
+     * Values far apart from their neighbours take up to five bytes each and
+     * gain nothing from compression.
+     * </p>
+     * 
+     * @param numbers the array to copy and compress; it is not retained
+     * @param offset position of the first node in the array
+     * @param length number of nodes in the slice
+     * @return a navigator over {@code numbers[offset]} to {@code numbers[offset + length - 1]}
+     * @throws IllegalArgumentException if numbers array is null, or the values
+     *         are too scattered for the compressed form to fit in one byte array
+     * @throws IndexOutOfBoundsException if the slice does not fit inside the array
+     */
+    public static NodeNavigator compress(final int[] numbers, final int offset, final int length) {
+        return new NodeNavigator(NodeStorages.compress(requireArray(numbers), offset, length));
+    }
+    
+    /**
+     * Creates a node navigator over a copy of the given array held outside the Java heap.
+     * 
+     * @param numbers the array to copy
+     * @return a navigator over every element of the array, to be closed after use
+     * @throws IllegalArgumentException if numbers array is null or too large for one direct buffer
+     * @see #offHeap(int[], int, int)
+     */
+    public static NodeNavigator offHeap(final int[] numbers) {
+        return offHeap(numbers, 0, requireArray(numbers).length);
+    }
+    
+    /**
+     * Creates a node navigator over a copy of a slice of the given array held outside the Java heap.
+     * <p>
+     * The nodes are copied into direct memory, so the heap holds only a small
+     * handle and a large list adds nothing to garbage collection marking.
+     * {@link #getOffHeapBytes()} reports the memory reserved, and {@link #close()}
+     * releases it at once; a navigator that is never closed has its memory
+     * freed by the JDK's cleaner once it becomes unreachable, which may take a
+     * full collection. A single navigator holds up to 536,870,911 nodes.
+     * </p>
+     * 
+     * @param numbers the array to copy; it is not retained
+     * @param offset position of the first node in the array
+     * @param length number of nodes in the slice
+     * @return a navigator over {@code numbers[offset]} to {@code numbers[offset + length - 1]}, to be closed after use
+     * @throws IllegalArgumentException if numbers array is null or the slice is too large for one direct buffer
+     * @throws IndexOutOfBoundsException if the slice does not fit inside the array
+     */
+    public static NodeNavigator offHeap(final int[] numbers, final int offset, final int length) {
+        return new NodeNavigator(NodeStorages.offHeap(requireArray(numbers), offset, length));
+    }
+    
+    /**
+     * Creates a node navigator over every int of a file, memory-mapped rather than read.
+     * 
+     * @param file the file holding the node values as little-endian 32-bit ints
+     * @return a navigator over the whole file
+     * @throws IOException if the file cannot be opened, sized or mapped
+     * @throws IllegalArgumentException if file is null, its length is not a multiple
+     *         of four bytes, or it holds more than {@link Integer#MAX_VALUE} ints
+     * @see #map(Path, long, int)
+     */
+    public static NodeNavigator map(final Path file) throws IOException {
+        if (file == null) {
+            throw new IllegalArgumentException("File cannot be null");
         }
         
-        this.list = new LinkedList<>();
-        for (final int number : numbers) {
-            this.list.addLast(number);
+        final long bytes = Files.size(file);
+        if (bytes % Integer.BYTES != 0) {
+            throw new IllegalArgumentException("File length is not a multiple of " + Integer.BYTES + " bytes");
+        }
+        if (bytes / Integer.BYTES > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("File holds more nodes than one navigator can index; map a window");
+        }
+        return map(file, 0, (int) (bytes / Integer.BYTES));
+    }
+    
+    /**
+     * Creates a node navigator over a window of a file's ints, memory-mapped rather than read.
+     * <p>
+     * The file is mapped read-only in segments of up to 1 GB, so windows larger
+     * than the 2 GB limit of a single mapping are supported and navigation reads
+     * the operating system's page cache directly, with no copy onto the heap.
+     * Nothing is read up front, so construction takes constant time.
+     * </p>
+     * <p>
+     * A navigator indexes at most {@link Integer#MAX_VALUE} nodes; larger files
+     * are navigated as consecutive windows. The file must not be truncated while
+     * the navigator is in use, and changes written to it by others are seen by
+     * subsequent navigations.
+     * </p>
+     * 
+     * @param file the file holding the node values as little-endian 32-bit ints
+     * @param firstNode position of the first int of the window in the file
+     * @param count number of ints in the window
+     * @return a navigator over the window
+     * @throws IOException if the file cannot be opened or mapped
+     * @throws IllegalArgumentException if file is null, firstNode or count is negative,
+     *         or the window extends past the end of the file
+     */
+    public static NodeNavigator map(final Path file, final long firstNode, final int count) throws IOException {
+        if (file == null) {
+            throw new IllegalArgumentException("File cannot be null");
+        }
+        if (firstNode < 0 || count < 0) {
+            throw new IllegalArgumentException("Window cannot start or extend before the first node");
+        }
+        // Compare node positions rather than byte offsets, which overflow for huge starts
+        if (firstNode > Files.size(file) / Integer.BYTES - count) {
+            throw new IllegalArgumentException("Window extends past the end of the file");
+        }
+        return new NodeNavigator(NodeStorages.mapFile(file, firstNode, count));
+    }
+    
+    /**
+     * Creates a node navigator over the nodes of a snapshot written by {@link #save(Path)}.
+     * <p>
+     * The payload is read with large sequential reads straight into the
+     * navigator's array and verified against the length and CRC-32C checksum
+     * recorded in the header. Both encodings are accepted; the header says
+     * which one the file uses.
+     * </p>
+     * 
+     * @param file the snapshot file
+     * @return a navigator over the saved nodes
+     * @throws IOException if the file cannot be read, is not a valid snapshot,
+     *         or fails its integrity checks
+     * @throws IllegalArgumentException if file is null
+     */
+    public static NodeNavigator load(final Path file) throws IOException {
+        if (file == null) {
+            throw new IllegalArgumentException("File cannot be null");
+        }
+        
+        final int[] numbers = NodeSnapshot.read(file);
+        return new NodeNavigator(NodeStorages.adopt(numbers));
+    }
+    
+    /**
+     * Validates that an input array is present.
+     * 
+     * @param numbers the array to validate
+     * @return the same array
+     * @throws IllegalArgumentException if numbers array is null
+     */
+    private static int[] requireArray(final int[] numbers) {
+        if (numbers == null) {
+            throw new IllegalArgumentException("Numbers array cannot be null");
         }
-        this.listener = null;
+        return numbers;
     }
     
     /**
      * Subscribes a listener to the navigator.
      * <p>
-     * Only one listener can be subscribed at a time. If a listener is already
-     * subscribed, it will be replaced with the new listener.
+     * Any number of listeners can be subscribed at the same time; each one is
+     * notified of every visited node, in subscription order. Subscribing a
+     * listener that is already subscribed has no effect. This method may be
+     * called from any thread; a navigation already in progress keeps notifying
+     * the listeners that were subscribed when it started.
      * </p>
      * 
      * @param newListener the subscriber instance
-     * @throws IllegalArgumentException if listener is null
+     * @throws NullPointerException if listener is null
      */
     public void subscribe(final INodeNavigationListener newListener) {
-        this.listener = Objects.requireNonNull(newListener, "Listener cannot be null");
+        Objects.requireNonNull(newListener, "Listener cannot be null");
+        this.listeners.updateAndGet(current -> current.with(newListener));
     }
     
     /**
-     * Unsubscribes the current listener from the navigator.
+     * Unsubscribes the given listener from the navigator.
+     * <p>
+     * Other subscribed listeners are unaffected. This method may be called from
+     * any thread; a navigation already in progress keeps notifying the listeners
+     * that were subscribed when it started.
+     * </p>
+     * 
+     * @param oldListener the subscriber instance to remove
+     * @return true if the listener was subscribed, false otherwise
+     */
+    public boolean unsubscribe(final INodeNavigationListener oldListener) {
+        while (true) {
+            final ListenerRegistry current = this.listeners.get();
+            final ListenerRegistry updated = current.without(oldListener);
+            if (updated == current) {
+                return false;
+            }
+            if (this.listeners.compareAndSet(current, updated)) {
+                return true;
+            }
+        }
+    }
+    
+    /**
+     * Unsubscribes all listeners from the navigator.
      * <p>
      * After calling this method, no notifications will be sent during navigation
      * until a new listener is subscribed.
      * </p>
      */
     public void unsubscribe() {
-        this.listener = null;
+        this.listeners.set(ListenerRegistry.EMPTY);
     }
     
     /**
-     * Gets the current listener subscribed to this navigator.
+     * Gets the first listener subscribed to this navigator.
+     * <p>
+     * Kept for callers written when a navigator had a single listener; with
+     * one listener subscribed it returns that listener, as before.
+     * </p>
      * 
-     * @return the current listener, or null if no listener is subscribed
+     * @return the earliest subscribed listener, or null if no listener is subscribed
+     * @deprecated a navigator may have several listeners; use {@link #getListeners()} instead
      */
+    @Deprecated
     public INodeNavigationListener getListener() {
-        return this.listener;
+        final List<INodeNavigationListener> snapshot = getListeners();
+        if (snapshot.isEmpty()) {
+            return null;
+        }
+        return snapshot.get(0);
+    }
+    
+    /**
+     * Gets the listeners currently subscribed to this navigator.
+     * 
+     * @return an unmodifiable snapshot of the listeners, in subscription order
+     */
+    public List<INodeNavigationListener> getListeners() {
+        return this.listeners.get().toList();
+    }
+    
+    /**
+     * Gets the number of listeners currently subscribed to this navigator.
+     * 
+     * @return the listener count
+     */
+    public int getListenerCount() {
+        return this.listeners.get().size();
+    }
+    
+    /**
+     * Gets the maximum number of nodes delivered to a batch listener per call.
+     * 
+     * @return the chunk size
+     */
+    public int getChunkSize() {
+        return this.chunkSize;
     }
     
     /**
-     * Gets the size of the internal linked list.
+     * Sets the maximum number of nodes delivered to a batch listener per call.
+     * <p>
+     * Larger chunks amortize the per-call cost over more nodes; smaller chunks
+     * keep a listener's working set inside the CPU caches. The default is
+     * {@value #DEFAULT_CHUNK_SIZE}. The new size applies from the next navigation.
+     * </p>
+     * 
+     * @param newChunkSize the chunk size, at least one
+     * @throws IllegalArgumentException if the chunk size is less than one
+     */
+    public void setChunkSize(final int newChunkSize) {
+        if (newChunkSize < 1) {
+            throw new IllegalArgumentException("Chunk size must be positive");
+        }
+        this.chunkSize = newChunkSize;
+    }
+    
+    /**
+     * Gets how navigation reacts when a listener throws.
+     * 
+     * @return the error policy
+     */
+    public ErrorPolicy getErrorPolicy() {
+        return this.errorPolicy;
+    }
+    
+    /**
+     * Sets how navigation reacts when a listener throws.
+     * <p>
+     * The default, {@link ErrorPolicy#FAIL_FAST}, aborts the navigation on the
+     * first failure. The lenient policies let the remaining listeners and nodes
+     * be notified instead, at the cost of guarding each listener call. The new
+     * policy applies from the next navigation.
+     * </p>
+     * 
+     * @param newErrorPolicy the error policy
+     * @throws IllegalArgumentException if the error policy is null
+     */
+    public void setErrorPolicy(final ErrorPolicy newErrorPolicy) {
+        if (newErrorPolicy == null) {
+            throw new IllegalArgumentException("Error policy cannot be null");
+        }
+        this.errorPolicy = newErrorPolicy;
+    }
+    
+    /**
+     * Gets the number of failures seen by navigation since the navigator was created.
+     * <p>
+     * Every exception thrown by a listener during {@link #navigate()} counts
+     * once, whatever the error policy; a fail-fast navigation counts the
+     * failure that aborted it.
+     * </p>
+     * 
+     * @return the failure count
+     */
+    public long getFailureCount() {
+        return this.counters.getFailureCount();
+    }
+    
+    /**
+     * Gets the number of listeners unsubscribed under {@link ErrorPolicy#ISOLATE_FAILING_LISTENER}.
+     * 
+     * @return the isolated listener count
+     */
+    public long getIsolatedListenerCount() {
+        return this.counters.getIsolatedListenerCount();
+    }
+    
+    /**
+     * Checks whether navigations are timed.
+     * 
+     * @return true if instrumentation is enabled
+     */
+    public boolean isInstrumented() {
+        return this.counters.isInstrumented();
+    }
+    
+    /**
+     * Enables or disables timing of navigations and of each listener.
+     * <p>
+     * While enabled, {@link #navigate()} and the range navigations count
+     * themselves and their nodes and time every listener, and
+     * {@link #getMetrics()} reports the results. Instrumented navigations
+     * always deliver chunks, unpacking them for per-node listeners, and read
+     * the clock once per listener per chunk plus once around every 1024th
+     * per-node call. Disabled, navigation reads no clock and records nothing.
+     * Disabling discards the metrics recorded so far.
+     * </p>
+     * 
+     * @param enabled true to time navigations, false to stop and discard the metrics
+     */
+    public void setInstrumented(final boolean enabled) {
+        this.counters.setInstrumented(enabled);
+    }
+    
+    /**
+     * Gets the timings recorded since instrumentation was enabled.
+     * <p>
+     * Listener metrics are reported for the currently subscribed listeners,
+     * in subscription order; a listener's metrics are discarded once it is
+     * unsubscribed.
+     * </p>
+     * 
+     * @return a snapshot of the metrics, all zero if instrumentation is disabled
+     */
+    public NavigationMetrics getMetrics() {
+        return this.counters.metrics(this.listeners.get());
+    }
+    
+    /**
+     * Gets the navigation totals recorded since instrumentation was enabled, without listener metrics.
+     * 
+     * @return a snapshot of the totals, all zero if instrumentation is disabled
+     */
+    NavigationMetrics getTotals() {
+        return this.counters.totals();
+    }
+    
+    /**
+     * Gets the number of nodes held by the navigator.
      * 
      * @return the number of elements in the list
      */
     public int size() {
-        return this.list.size();
+        return this.nodes.size();
     }
     
     /**
-     * Checks if the internal linked list is empty.
+     * Checks if the navigator holds no nodes.
      * 
      * @return true if the list is empty, false otherwise
      */
     public boolean isEmpty() {
-        return this.list.isEmpty();
+        return this.nodes.size() == 0;
     }
     
     /**
-     * Navigates the linked list and notifies the listener for each node visited.
+     * Adds a node at the end of the list.
      * <p>
-     * This method traverses the internal linked list from the first node to the last.
-     * For each node visited, if a listener is subscribed, the listener's
+     * Appending takes amortized constant time: the nodes are kept in chunks of
+     * 4096, and a full last chunk is followed by a new one rather than copied.
+     * The first change to a navigator moves its nodes into this growable
+     * storage, copying them once; a navigator over a wrapped array or buffer
+     * then stops seeing the caller's later changes, and an off-heap navigator
+     * releases its off-heap memory and keeps its nodes on the heap.
+     * </p>
+     * <p>
+     * Changes may be made from any thread and are applied one at a time. Each
+     * change publishes a new version of the list without disturbing navigations
+     * already running: they keep visiting the nodes as they were when they
+     * started, and the next navigation sees the change.
+     * </p>
+     * 
+     * @param value the data of the new node
+     * @throws IllegalStateException if the list already holds {@link Integer#MAX_VALUE} nodes,
+     *         or the navigator is closed
+     */
+    public void append(final int value) {
+        synchronized (this.tracker) {
+            final INodeStorage before = this.nodes;
+            final INodeStorage current = growable();
+            this.nodes = NodeStorages.append(current, value);
+            this.tracker.inserted(before, this.nodes, current.size(), value);
+        }
+    }
+    
+    /**
+     * Adds every element of an array, in order, at the end of the list.
+     * <p>
+     * The nodes are added as one change: a navigation sees either none or all
+     * of them. Behaves otherwise as {@link #append(int)}.
+     * </p>
+     * 
+     * @param values the data of the new nodes; the array is copied, not retained
+     * @throws IllegalArgumentException if values array is null
+     * @throws IllegalStateException if the list would hold more than {@link Integer#MAX_VALUE} nodes,
+     *         or the navigator is closed
+     */
+    public void appendAll(final int[] values) {
+        requireArray(values);
+        synchronized (this.tracker) {
+            final INodeStorage before = this.nodes;
+            final INodeStorage current = growable();
+            this.nodes = NodeStorages.appendAll(current, values, 0, values.length);
+            this.tracker.inserted(before, this.nodes, current.size(), values, 0, values.length);
+        }
+    }
+    
+    /**
+     * Inserts a node before the given position, shifting later nodes one position up.
+     * <p>
+     * This takes time proportional to the number of nodes from the position to
+     * the end of the list. Behaves otherwise as {@link #append(int)}.
+     * </p>
+     * 
+     * @param index the position of the new node, from zero to {@link #size()}
+     * @param value the data of the new node
+     * @throws IndexOutOfBoundsException if index is outside {@code [0, size()]}
+     * @throws IllegalStateException if the list already holds {@link Integer#MAX_VALUE} nodes,
+     *         or the navigator is closed
+     */
+    public void insertAt(final int index, final int value) {
+        synchronized (this.tracker) {
+            final INodeStorage before = this.nodes;
+            Objects.checkIndex(index, before.size() + 1);
+            this.nodes = NodeStorages.insert(growable(), index, value);
+            this.tracker.inserted(before, this.nodes, index, value);
+        }
+    }
+    
+    /**
+     * Removes the node at the given position, shifting later nodes one position down.
+     * <p>
+     * This takes time proportional to the number of nodes from the position to
+     * the end of the list. Behaves otherwise as {@link #append(int)}.
+     * </p>
+     * 
+     * @param index the position of the node to remove
+     * @return the data of the removed node
+     * @throws IndexOutOfBoundsException if index is outside {@code [0, size())}
+     * @throws IllegalStateException if the navigator is closed
+     */
+    public int removeAt(final int index) {
+        synchronized (this.tracker) {
+            final INodeStorage before = this.nodes;
+            Objects.checkIndex(index, before.size());
+            final INodeStorage current = growable();
+            final int removed = current.get(index);
+            this.nodes = NodeStorages.remove(current, index);
+            this.tracker.removed(before, this.nodes, index, removed);
+            return removed;
+        }
+    }
+    
+    /**
+     * Replaces the data of the node at the given position.
+     * <p>
+     * Only the chunk of 4096 nodes holding the position is copied. Behaves
+     * otherwise as {@link #append(int)}.
+     * </p>
+     * 
+     * @param index the position of the node to change
+     * @param value the new data of the node
+     * @return the data the node held before
+     * @throws IndexOutOfBoundsException if index is outside {@code [0, size())}
+     * @throws IllegalStateException if the navigator is closed
+     */
+    public int set(final int index, final int value) {
+        synchronized (this.tracker) {
+            final INodeStorage before = this.nodes;
+            Objects.checkIndex(index, before.size());
+            final INodeStorage current = growable();
+            final int previous = current.get(index);
+            this.nodes = NodeStorages.set(current, index, value);
+            this.tracker.updated(before, this.nodes, index, previous, value);
+            return previous;
+        }
+    }
+    
+    /**
+     * Checks whether changes to the list are recorded for {@link #navigateChanges()}.
+     * 
+     * @return true if change tracking is enabled
+     */
+    public boolean isChangeTracking() {
+        return this.tracker.isTracking();
+    }
+    
+    /**
+     * Enables or disables recording changes to the list for {@link #navigateChanges()}.
+     * <p>
+     * While enabled, every append, insert, remove and update is recorded until
+     * the next full {@link #navigate()} or {@link #navigateChanges()} takes the
+     * record, so the record grows with the number of changes between passes.
+     * Enabling starts from an empty record, as does a full navigation, which
+     * already shows every node as it is. Disabling discards the record.
+     * </p>
+     * 
+     * @param enabled true to record changes, false to stop
+     */
+    public void setChangeTracking(final boolean enabled) {
+        synchronized (this.tracker) {
+            this.tracker.setTracking(enabled);
+        }
+    }
+    
+    /**
+     * Notifies the change listeners of the changes made since the previous pass.
+     * <p>
+     * A pass is a full {@link #navigate()} or a call to this method. Each
+     * subscribed {@link INodeChangeListener} receives every recorded change in
+     * the order the changes were made, one listener after another in
+     * subscription order; other listeners are not notified. The cost is
+     * proportional to the number of changes, not to the size of the list, and
+     * the record is emptied so the next call only sees newer changes. Changes
+     * made while this method runs are left for the next call.
+     * </p>
+     * <p>
+     * Listener failures are handled according to {@link #getErrorPolicy()}, as
+     * in {@link #navigate()}. When {@link ErrorPolicy#FAIL_FAST} stops a pass,
+     * the changes not yet delivered to each listener are kept, and the next
+     * call delivers them before any newer change; the change that failed is
+     * not delivered again. Change passes are meant to be driven by one
+     * thread at a time, so that each listener sees the changes in order.
+     * </p>
+     * 
+     * @return the number of changes delivered
+     * @throws IllegalStateException if change tracking is not enabled
+     * @throws RuntimeException if an error occurs while notifying the listeners
+     */
+    public int navigateChanges() {
+        final int replayed;
+        try {
+            replayed = this.tracker.replay(this, this.listeners.get(), this.errorPolicy);
+        } catch (final RuntimeException e) {
+            throw navigationError(e);
+        }
+        if (replayed < 0) {
+            throw new IllegalStateException("Change tracking is not enabled");
+        }
+        return replayed;
+    }
+    
+    /**
+     * Gets the count, sum, minimum, maximum and mean of the nodes.
+     * <p>
+     * The result is cached for the current version of the list, so asking
+     * again before the next change takes constant time. Appends, inserts and
+     * updates keep the cached result up to date incrementally; removing or
+     * overwriting the current minimum or maximum makes the next call rescan
+     * the list once. Nodes that the caller can still change, as with
+     * {@link #wrap(int[])} or {@link #map(Path)}, are rescanned on every call.
+     * </p>
+     * 
+     * @return the aggregates of the current nodes
+     * @throws IllegalStateException if the navigator is closed
+     */
+    public NodeAggregates getAggregates() {
+        return this.tracker.aggregates(requireOpen(this.nodes));
+    }
+    
+    /**
+     * Gets a pluggable aggregate of the nodes, computed by a listener and cached per version of the list.
+     * <p>
+     * On the first call, and after every change, a new listener from the
+     * factory observes every node, in chunks if it is an {@link INodeBatchListener};
+     * subscribed listeners are not notified. Later calls with the same factory
+     * instance return that listener until the list changes, so the factory
+     * should be kept, for example in a field, rather than created per call.
+     * The returned listener is shared between callers and must be treated as
+     * read-only. Nodes the caller can still change are not cached, as for
+     * {@link #getAggregates()}.
+     * </p>
+     * 
+     * @param <T> the listener type that computes the aggregate
+     * @param factory creates an empty listener; its identity is the cache key
+     * @return a listener that has observed every current node
+     * @throws IllegalArgumentException if factory is null
+     * @throws IllegalStateException if the navigator is closed
+     * @throws RuntimeException if an error occurs while computing the aggregate
+     */
+    public <T extends INodeNavigationListener> T aggregate(final Supplier<T> factory) {
+        if (factory == null) {
+            throw new IllegalArgumentException("Listener factory cannot be null");
+        }
+        final INodeStorage storage = requireOpen(this.nodes);
+        try {
+            return this.tracker.aggregate(storage, factory, this.chunkSize);
+        } catch (final RuntimeException e) {
+            throw new RuntimeException("Error occurred during navigation: " + e.getMessage(), e);
+        }
+    }
+    
+    /**
+     * Validates that a version of the nodes can still be read.
+     * 
+     * @param storage the version to read
+     * @return the same version
+     * @throws IllegalStateException if the navigator is closed
+     */
+    private static INodeStorage requireOpen(final INodeStorage storage) {
+        if (storage.isClosed()) {
+            throw new IllegalStateException("Navigator is closed");
+        }
+        return storage;
+    }
+    
+    /**
+     * Gets the number of bytes of Java heap holding this navigator's nodes.
+     * <p>
+     * Counts the arrays behind the current version of the list, including a
+     * caller-owned array given to {@link #wrap(int[])}, but not object
+     * headers. Off-heap, direct-buffer and memory-mapped navigators report
+     * zero.
+     * </p>
+     * 
+     * @return the retained heap bytes
+     */
+    public long getHeapBytes() {
+        return this.nodes.heapBytes();
+    }
+    
+    /**
+     * Gets the nodes as growable storage, moving them there on the first change.
+     * <p>
+     * Must be called while holding the tracker's monitor.
+     * </p>
+     * 
+     * @return the current version of the nodes in growable storage
+     * @throws IllegalStateException if the navigator is closed
+     */
+    private INodeStorage growable() {
+        final INodeStorage current = NodeStorages.growable(this.nodes);
+        this.nodes = current;
+        return current;
+    }
+    
+    /**
+     * Gets the number of bytes this navigator reserves outside the Java heap.
+     * 
+     * @return the reserved off-heap bytes; zero once closed, and for navigators not created by {@link #offHeap}
+     */
+    public long getOffHeapBytes() {
+        return this.nodes.offHeapBytes();
+    }
+    
+    /**
+     * Checks if the navigator has been closed and released its off-heap memory.
+     * 
+     * @return true once an off-heap navigator is closed, false otherwise
+     */
+    public boolean isClosed() {
+        return this.nodes.isClosed();
+    }
+    
+    /**
+     * Releases the off-heap memory of a navigator created by {@link #offHeap(int[])}.
+     * <p>
+     * Navigations still running finish first: the memory is released when the
+     * last of them completes. Navigating, saving or reading nodes after closing
+     * throws {@link IllegalStateException}, while listener management and
+     * {@link #size()} keep working. Closing again, or closing a navigator over
+     * heap, caller-owned or mapped data, has no effect.
+     * </p>
+     */
+    @Override
+    public void close() {
+        this.nodes.close();
+    }
+    
+    /**
+     * Navigates the list and notifies the listeners for each node visited.
+     * <p>
+     * This method traverses the internal storage from the first node to the last.
+     * For each node visited, every subscribed listener's
      * {@link INodeNavigationListener#onNodeVisited(int)} method is called with
-     * the node's data.
+     * the node's data, in subscription order.
+     * </p>
+     * <p>
+     * The set of listeners is captured once when navigation starts; listeners
+     * subscribed or unsubscribed during navigation take effect on the next call.
+     * </p>
+     * <p>
+     * If any {@link INodeBatchListener} is subscribed, nodes are delivered in
+     * chunks of at most {@link #getChunkSize()} nodes: every listener receives a
+     * chunk before the next chunk is read, and per-node listeners receive the
+     * chunk's nodes one at a time through a {@link NodeBatchListenerAdapter}.
      * </p>
      * <p>
      * If no listener is subscribed, the navigation still occurs but no notifications
      * are sent.
      * </p>
+     * <p>
+     * With change tracking enabled, this full navigation also empties the
+     * record of changes, so the next {@link #navigateChanges()} reports only
+     * the changes made after it started.
+     * </p>
+     * <p>
+     * A listener that throws is handled according to {@link #getErrorPolicy()}.
+     * Under the default {@link ErrorPolicy#FAIL_FAST} the traversal runs
+     * unguarded and the first failure aborts it.
+     * </p>
      * 
      * @throws RuntimeException if an error occurs during navigation
      */
     public void navigate() {
+        INodeStorage storage = this.nodes;
+        if (this.tracker.isTracking()) {
+            // Start the change record at the version this pass shows in full
+            synchronized (this.tracker) {
+                storage = this.nodes;
+                this.tracker.restart();
+            }
+        }
+        navigate(storage, 0, storage.size(), 1);
+    }
+    
+    /**
+     * Navigates the nodes in {@code [fromIndex, toIndex)} and notifies the listeners for each one.
+     * 
+     * @param fromIndex the first position to visit, inclusive
+     * @param toIndex the last position to visit, exclusive
+     * @throws IndexOutOfBoundsException if the range does not fit inside the list
+     * @throws RuntimeException if an error occurs during navigation
+     * @see #navigate(int, int, int)
+     */
+    public void navigate(final int fromIndex, final int toIndex) {
+        navigate(fromIndex, toIndex, 1);
+    }
+    
+    /**
+     * Navigates every {@code step}-th node in {@code [fromIndex, toIndex)} and notifies the listeners.
+     * <p>
+     * A positive step visits {@code fromIndex}, {@code fromIndex + step}, and so
+     * on while below {@code toIndex}. A negative step walks the same range
+     * backwards, starting from {@code toIndex - 1}, so
+     * {@code navigate(0, size(), -1)} visits the whole list in reverse. Only the
+     * visited nodes are read, so the cost is proportional to the number of
+     * notifications rather than to the size of the list.
+     * </p>
+     * <p>
+     * Listeners, chunking and error handling behave as in {@link #navigate()};
+     * batch listeners receive the visited nodes gathered into chunks, in visiting order.
+     * </p>
+     * 
+     * @param fromIndex the first position of the range, inclusive
+     * @param toIndex the last position of the range, exclusive
+     * @param step the distance between visited positions; negative to walk backwards
+     * @throws IndexOutOfBoundsException if the range does not fit inside the list
+     * @throws IllegalArgumentException if step is zero
+     * @throws IllegalStateException if the navigator is closed
+     * @throws RuntimeException if an error occurs during navigation
+     */
+    public void navigate(final int fromIndex, final int toIndex, final int step) {
+        navigate(this.nodes, fromIndex, toIndex, step);
+    }
+    
+    /**
+     * Navigates a range of one version of the nodes.
+     * 
+     * @param storage the version of the nodes to navigate
+     * @param fromIndex the first position of the range, inclusive
+     * @param toIndex the last position of the range, exclusive
+     * @param step the distance between visited positions; negative to walk backwards
+     */
+    private void navigate(final INodeStorage storage, final int fromIndex, final int toIndex, final int step) {
+        Objects.checkFromToIndex(fromIndex, toIndex, storage.size());
+        if (step == 0) {
+            throw new IllegalArgumentException("Step cannot be zero");
+        }
+        if (storage.isClosed()) {
+            throw new IllegalStateException("Navigator is closed");
+        }
+        
+        // Take one snapshot of the listeners so the storage can run a plain indexed loop
+        final ListenerRegistry snapshot = this.listeners.get();
+        if (snapshot.size() == 0) {
+            return;
+        }
+        
+        this.counters.navigate(this, snapshot, storage, fromIndex, toIndex, step);
+    }
+    
+    /**
+     * Notifies a listener snapshot of a validated range according to the error policy.
+     * <p>
+     * Called back by {@link NavigationCounters#navigate} once it has started
+     * recording the pass.
+     * </p>
+     * 
+     * @param snapshot the listeners to notify, at least one
+     * @param storage the version of the nodes to navigate
+     * @param fromIndex the first position of the range, inclusive
+     * @param toIndex the last position of the range, exclusive
+     * @param step the distance between visited positions, never zero
+     */
+    void dispatch(final ListenerRegistry snapshot, final INodeStorage storage, final int fromIndex,
+                  final int toIndex, final int step) {
+        final ErrorPolicy policy = this.errorPolicy;
+        final INodeBatchListener timed = this.counters.timedDispatcher(this, snapshot, policy);
+        if (timed != null) {
+            navigateInstrumented(timed, policy, storage, fromIndex, toIndex, step);
+            return;
+        }
+        if (policy != ErrorPolicy.FAIL_FAST) {
+            // Guard each listener call so one failing listener cannot abort the traversal
+            final INodeBatchListener guarded = snapshot.guardedDispatcher(this, policy);
+            traverse(storage, fromIndex, toIndex, step, snapshot.isBatched(), guarded, guarded);
+            return;
+        }
+        
         try {
-            for (final Integer nodeValue : this.list) {
-                // Notify the listener when a node is visited
-                if (this.listener != null) {
-                    this.listener.onNodeVisited(nodeValue);
-                }
+            traverse(storage, fromIndex, toIndex, step, snapshot.isBatched(), snapshot.dispatcher(),
+                     snapshot.batchDispatcher());
+        } catch (final Exception e) {
+            throw navigationError(e);
+        }
+    }
+    
+    /**
+     * Navigates a range of one version of the nodes, timing the navigation and each listener.
+     * 
+     * @param timed the broadcast that notifies and times the listeners
+     * @param policy how to react when a listener throws
+     * @param storage the version of the nodes to navigate
+     * @param fromIndex the first position of the range, inclusive
+     * @param toIndex the last position of the range, exclusive
+     * @param step the distance between visited positions, never zero
+     */
+    private void navigateInstrumented(final INodeBatchListener timed, final ErrorPolicy policy,
+                                      final INodeStorage storage, final int fromIndex, final int toIndex,
+                                      final int step) {
+        final long start = System.nanoTime();
+        if (policy != ErrorPolicy.FAIL_FAST) {
+            traverse(storage, fromIndex, toIndex, step, true, timed, timed);
+        } else {
+            try {
+                traverse(storage, fromIndex, toIndex, step, true, timed, timed);
+            } catch (final Exception e) {
+                throw navigationError(e);
             }
+        }
+        this.counters.navigated(countVisited(fromIndex, toIndex, step), System.nanoTime() - start);
+    }
+    
+    /**
+     * Counts a failure that aborts a fail-fast navigation and wraps it for the caller.
+     * 
+     * @param e the failure
+     * @return the exception to throw
+     */
+    private RuntimeException navigationError(final Exception e) {
+        this.counters.recordFailure();
+        return new RuntimeException("Error occurred during navigation: " + e.getMessage(), e);
+    }
+    
+    /**
+     * Counts the positions a validated range navigation visits.
+     * 
+     * @param fromIndex the first position of the range, inclusive
+     * @param toIndex the last position of the range, exclusive
+     * @param step the distance between visited positions, never zero
+     * @return the number of visited positions
+     */
+    static int countVisited(final int fromIndex, final int toIndex, final int step) {
+        // Count in long arithmetic so extreme steps cannot overflow
+        final long stride = Math.abs((long) step);
+        return (int) (((long) toIndex - fromIndex + stride - 1) / stride);
+    }
+    
+    /**
+     * Walks a validated range and notifies either the per-node or the batch listener.
+     * 
+     * @param storage the version of the nodes to walk
+     * @param fromIndex the first position of the range, inclusive
+     * @param toIndex the last position of the range, exclusive
+     * @param step the distance between visited positions, never zero
+     * @param batched whether to deliver chunks to the batch listener
+     * @param listener the listener to notify for each node when not batched
+     * @param batchListener the listener to notify for each chunk when batched
+     */
+    private void traverse(final INodeStorage storage, final int fromIndex, final int toIndex, final int step,
+                          final boolean batched, final INodeNavigationListener listener,
+                          final INodeBatchListener batchListener) {
+        if (step == 1) {
+            if (batched) {
+                // Notify the listeners with each chunk of visited nodes
+                storage.forEachChunk(fromIndex, toIndex, this.chunkSize, batchListener);
+            } else {
+                // Notify the listeners when each node is visited
+                storage.forEach(fromIndex, toIndex, listener);
+            }
+            return;
+        }
+        
+        final int count = countVisited(fromIndex, toIndex, step);
+        if (count == 0) {
+            return;
+        }
+        int first = fromIndex;
+        if (step < 0) {
+            first = toIndex - 1;
+        }
+        if (batched) {
+            storage.forEachChunkStrided(first, count, step, this.chunkSize, batchListener);
+        } else {
+            storage.forEachStrided(first, count, step, listener);
+        }
+    }
+    
+    /**
+     * Counts a listener failure contained by a lenient error policy.
+     */
+    void recordFailure() {
+        this.counters.recordFailure();
+    }
+    
+    /**
+     * Unsubscribes a listener that failed under {@link ErrorPolicy#ISOLATE_FAILING_LISTENER}.
+     * 
+     * @param listener the failing listener
+     */
+    void isolate(final INodeNavigationListener listener) {
+        if (unsubscribe(listener)) {
+            this.counters.recordIsolated();
+        }
+    }
+    
+    /**
+     * Creates a cursor that navigates the list incrementally from the first node.
+     * <p>
+     * The cursor notifies this navigator's listeners in bounded steps and can
+     * record its position as a checkpoint for {@link #resume(byte[])}.
+     * </p>
+     * 
+     * @return a new cursor at position zero
+     */
+    public NavigationCursor cursor() {
+        return new NavigationCursor(this, 0);
+    }
+    
+    /**
+     * Creates a cursor that continues from a checkpoint taken by {@link NavigationCursor#checkpoint()}.
+     * <p>
+     * The checkpoint may come from another process, provided this navigator
+     * holds the same list; a list of a different size is rejected.
+     * </p>
+     * 
+     * @param checkpoint the checkpoint bytes
+     * @return a new cursor at the recorded position
+     * @throws IllegalArgumentException if the checkpoint is malformed or does not match this list
+     */
+    public NavigationCursor resume(final byte[] checkpoint) {
+        return new NavigationCursor(this, NavigationCursor.readCheckpoint(checkpoint, this.nodes.size()));
+    }
+    
+    /**
+     * Navigates the list on the common fork/join pool with one listener partial per worker.
+     * 
+     * @param <T> the mergeable listener type
+     * @param factory creates an empty listener partial for each range of nodes
+     * @return the merged partial that observed every node
+     * @throws IllegalArgumentException if factory is null
+     * @throws RuntimeException if an error occurs during navigation
+     * @see #navigateParallel(Supplier, ForkJoinPool)
+     */
+    public <T extends IMergeableNodeListener<T>> T navigateParallel(final Supplier<T> factory) {
+        return navigateParallel(factory, ForkJoinPool.commonPool());
+    }
+    
+    /**
+     * Navigates the list on the given fork/join pool with one listener partial per worker.
+     * <p>
+     * The node range is split into contiguous ranges that are navigated
+     * concurrently. Each range is observed by its own partial from the factory,
+     * so partials need no synchronization, and the partials are then merged in
+     * range order with {@link IMergeableNodeListener#merge(IMergeableNodeListener)}.
+     * An associative merge therefore gives the same result as observing every
+     * node sequentially with a single listener.
+     * </p>
+     * <p>
+     * This mode is meant for aggregate observers. The listeners subscribed with
+     * {@link #subscribe(INodeNavigationListener)} are not notified, and the order
+     * in which individual nodes are observed across ranges is unspecified.
+     * </p>
+     * 
+     * @param <T> the mergeable listener type
+     * @param factory creates an empty listener partial for each range of nodes
+     * @param pool the pool that runs the navigation
+     * @return the merged partial that observed every node
+     * @throws IllegalArgumentException if factory or pool is null
+     * @throws IllegalStateException if the navigator is closed
+     * @throws RuntimeException if an error occurs during navigation
+     */
+    public <T extends IMergeableNodeListener<T>> T navigateParallel(final Supplier<T> factory,
+                                                                   final ForkJoinPool pool) {
+        if (factory == null) {
+            throw new IllegalArgumentException("Listener factory cannot be null");
+        }
+        if (pool == null) {
+            throw new IllegalArgumentException("Pool cannot be null");
+        }
+        final INodeStorage storage = requireOpen(this.nodes);
+        try {
+            return ParallelNavigationTask.navigate(pool, storage, factory, this.chunkSize);
         } catch (final Exception e) {
             throw new RuntimeException("Error occurred during navigation: " + e.getMessage(), e);
         }
     }
     
+    /**
+     * Exposes the nodes as a {@link Flow.Publisher} of node values that honours backpressure.
+     * <p>
+     * Each subscriber gets its own traversal from the first node to the last and
+     * receives a node only after requesting it with
+     * {@link Flow.Subscription#request(long)}, so a slow consumer paces the
+     * traversal instead of being flooded. Items are emitted on the thread that
+     * requests them. The listeners subscribed with
+     * {@link #subscribe(INodeNavigationListener)} are not notified.
+     * </p>
+     * 
+     * @return a publisher of the node values, in order
+     */
+    public Flow.Publisher<Integer> toPublisher() {
+        return NodeFlowPublisher.ofNodes(this.nodes);
+    }
+    
+    /**
+     * Exposes the nodes as a {@link Flow.Publisher} of chunks that honours backpressure.
+     * <p>
+     * This behaves like {@link #toPublisher()}, except that each item is a new
+     * array of up to {@link #getChunkSize()} consecutive node values, captured
+     * when this method is called. Each request therefore moves a whole chunk,
+     * and subscribers own the arrays they receive.
+     * </p>
+     * 
+     * @return a publisher of consecutive chunks of node values, in order
+     */
+    public Flow.Publisher<int[]> toBatchPublisher() {
+        return NodeFlowPublisher.ofChunks(this.nodes, this.chunkSize);
+    }
+    
+    /**
+     * Saves the nodes to a snapshot file in the raw encoding.
+     * 
+     * @param file the snapshot file, replaced if it exists
+     * @throws IOException if the file cannot be written
+     * @throws IllegalArgumentException if file is null
+     * @see #save(Path, SnapshotEncoding)
+     */
+    public void save(final Path file) throws IOException {
+        save(file, SnapshotEncoding.RAW);
+    }
+    
+    /**
+     * Saves the nodes to a snapshot file that {@link #load(Path)} can reload.
+     * <p>
+     * The file holds a small versioned header with the node count and a CRC-32C
+     * checksum, followed by the nodes in the given encoding. The nodes are
+     * streamed through a fixed buffer with bulk channel writes, whatever
+     * storage backs this navigator. Listeners are not notified.
+     * </p>
+     * 
+     * @param file the snapshot file, replaced if it exists
+     * @param encoding the payload encoding
+     * @throws IOException if the file cannot be written
+     * @throws IllegalArgumentException if file or encoding is null
+     */
+    public void save(final Path file, final SnapshotEncoding encoding) throws IOException {
+        if (file == null) {
+            throw new IllegalArgumentException("File cannot be null");
+        }
+        if (encoding == null) {
+            throw new IllegalArgumentException("Encoding cannot be null");
+        }
+        
+        NodeSnapshot.write(this.nodes, file, encoding);
+    }
+    
     /**
      * Returns a string representation of the navigator and its current state.
      * 
@@ -163,9 +1352,12 @@ public class NodeNavigator {
      */
     @Override
     public String toString() {
-        return String.format("NodeNavigator{size=%d, hasListener=%b, data=%s}", 
-                           this.list.size(), 
-                           this.listener != null, 
-                           this.list.toString());
+        final int listenerCount = this.listeners.get().size();
+        final INodeStorage storage = this.nodes;
+        return String.format("NodeNavigator{size=%d, listeners=%d, hasListener=%b, data=%s}", 
+                           storage.size(), 
+                           listenerCount, 
+                           listenerCount > 0, 
+                           storage);
     }
 }
@@ -0,0 +1,385 @@
+/**
+ * Versioned binary snapshot format for the nodes of a NodeNavigator.
+ * <p>
+ * A snapshot lets a service persist its node list and reload it on restart
+ * with a few large sequential reads, instead of rebuilding the list from the
+ * systems it was originally derived from.
+ * </p>
+ * 
+ * @author Ramaswamy Krishnan-Chittur
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+
+package com.observerpattern;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.zip.CRC32C;
+
+/**
+ * Reads and writes node snapshots with {@link FileChannel} bulk I/O.
+ * <p>
+ * A snapshot is a {@value #HEADER_BYTES}-byte header followed by the payload,
+ * all little-endian:
+ * </p>
+ * <pre>
+ * offset  size  field
+ *      0     4  magic "NODE" (0x4E4F4445)
+ *      4     1  format version, currently 1
+ *      5     1  payload encoding, see {@link SnapshotEncoding}
+ *      6     2  reserved, zero
+ *      8     4  node count
+ *     12     8  payload length in bytes
+ *     20     8  CRC-32C of the payload
+ *     28        payload
+ * </pre>
+ * <p>
+ * The payload is streamed through a fixed direct buffer in both directions,
+ * so memory use beyond the node array itself is constant. The header is
+ * written last: a save that is interrupted leaves a file without a valid
+ * magic number, which loading rejects.
+ * </p>
+ * 
+ * @author Ramaswamy Krishnan-Chittur
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+final class NodeSnapshot {
+    
+    /** The magic number identifying a snapshot: "NODE" in ASCII. */
+    static final int MAGIC = 0x4E4F4445;
+    
+    /** The format version written by this class. */
+    static final byte VERSION = 1;
+    
+    /** The size of the header in bytes. */
+    static final int HEADER_BYTES = 28;
+    
+    /** The size of the I/O buffer in bytes. */
+    private static final int BLOCK_BYTES = 1_048_576;
+    
+    /** The maximum number of bytes of a varint-encoded int. */
+    private static final int MAX_VARINT_BYTES = 5;
+    
+    /** The number of value bits carried by each varint byte. */
+    private static final int VARINT_SHIFT = 7;
+    
+    /** Mask selecting the value bits of a varint byte. */
+    private static final int VARINT_PAYLOAD = 0x7F;
+    
+    /** Flag marking a varint byte that is followed by another one. */
+    private static final int VARINT_CONTINUATION = 0x80;
+    
+    /**
+     * Prevents instantiation of this utility class.
+     */
+    private NodeSnapshot() {
+    }
+    
+    /**
+     * Writes the nodes of a storage to a snapshot file, replacing any existing file.
+     * 
+     * @param nodes the nodes to write
+     * @param file the snapshot file
+     * @param encoding the payload encoding
+     * @throws IOException if the file cannot be written
+     */
+    static void write(final INodeStorage nodes, final Path file, final SnapshotEncoding encoding)
+        throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                                                    StandardOpenOption.TRUNCATE_EXISTING)) {
+            // Reserve the header; it is filled in once the payload checksum is known
+            channel.position(HEADER_BYTES);
+            final PayloadWriter writer = new PayloadWriter(channel, encoding);
+            try {
+                nodes.forEachChunk(0, nodes.size(), BLOCK_BYTES / Integer.BYTES, writer);
+                writer.flush();
+            } catch (final UncheckedIOException e) {
+                throw e.getCause();
+            }
+            
+            final ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES).order(ByteOrder.LITTLE_ENDIAN)
+                                                .putInt(MAGIC)
+                                                .put(VERSION)
+                                                .put(encoding.getId())
+                                                .putShort((short) 0)
+                                                .putInt(nodes.size())
+                                                .putLong(writer.payloadBytes)
+                                                .putLong(writer.checksum.getValue())
+                                                .flip();
+            while (header.hasRemaining()) {
+                channel.write(header, header.position());
+            }
+            channel.force(false);
+        }
+    }
+    
+    /**
+     * Reads the nodes of a snapshot file into a new array.
+     * 
+     * @param file the snapshot file
+     * @return the node values, in order
+     * @throws IOException if the file cannot be read, is not a snapshot, uses an
+     *         unsupported version or encoding, or fails its length or checksum checks
+     */
+    static int[] read(final Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            final PayloadReader reader = PayloadReader.open(channel);
+            final CRC32C checksum = new CRC32C();
+            final ByteBuffer block = ByteBuffer.allocateDirect(BLOCK_BYTES).order(ByteOrder.LITTLE_ENDIAN);
+            long remaining = reader.payloadBytes;
+            while (remaining > 0 || block.position() > 0) {
+                // Top the block up, checksumming exactly the bytes just read
+                final int start = block.position();
+                block.limit((int) Math.min(block.capacity(), start + remaining));
+                while (block.hasRemaining()) {
+                    if (channel.read(block) < 0) {
+                        throw new IOException("Snapshot is truncated");
+                    }
+                }
+                remaining -= block.position() - start;
+                checksum.update(block.duplicate().position(start).limit(block.position()));
+                
+                block.flip();
+                reader.decode(block, remaining == 0);
+                block.compact();
+                if (remaining == 0 && block.position() > 0) {
+                    throw new IOException("Snapshot payload ends inside a value");
+                }
+            }
+            return reader.finish(checksum.getValue());
+        }
+    }
+    
+    /**
+     * Reads one varint from the buffer.
+     * 
+     * @param block the buffer positioned at the first byte of the varint
+     * @return the decoded value
+     * @throws IOException if the varint is longer than an int allows
+     */
+    private static int readVarint(final ByteBuffer block) throws IOException {
+        int value = 0;
+        for (int shift = 0; shift < MAX_VARINT_BYTES * VARINT_SHIFT; shift += VARINT_SHIFT) {
+            final int next = block.get();
+            value |= (next & VARINT_PAYLOAD) << shift;
+            if ((next & VARINT_CONTINUATION) == 0) {
+                return value;
+            }
+        }
+        throw new IOException("Snapshot holds a malformed varint");
+    }
+    
+    /**
+     * Decoder that validates a snapshot header and fills the node array from payload blocks.
+     */
+    private static final class PayloadReader {
+        
+        /** The payload encoding. */
+        private final SnapshotEncoding encoding;
+        
+        /** The payload length in bytes declared by the header. */
+        private final long payloadBytes;
+        
+        /** The payload checksum declared by the header. */
+        private final long expectedChecksum;
+        
+        /** The node values decoded so far. */
+        private final int[] values;
+        
+        /** The number of node values decoded so far. */
+        private int filled;
+        
+        /** The last node decoded, the base of the next delta. */
+        private int previous;
+        
+        /**
+         * Creates a decoder for a validated header.
+         * 
+         * @param payloadEncoding the payload encoding
+         * @param count the node count
+         * @param length the payload length in bytes
+         * @param checksum the payload checksum
+         */
+        private PayloadReader(final SnapshotEncoding payloadEncoding, final int count, final long length,
+                              final long checksum) {
+            this.encoding = payloadEncoding;
+            this.values = new int[count];
+            this.payloadBytes = length;
+            this.expectedChecksum = checksum;
+        }
+        
+        /**
+         * Reads and validates the header of a snapshot.
+         * 
+         * @param channel the channel positioned at the start of the file
+         * @return a decoder for the payload that follows
+         * @throws IOException if the header cannot be read or is not valid
+         */
+        static PayloadReader open(final FileChannel channel) throws IOException {
+            final ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES).order(ByteOrder.LITTLE_ENDIAN);
+            while (header.hasRemaining()) {
+                if (channel.read(header) < 0) {
+                    throw new IOException("Not a node snapshot: file is shorter than the header");
+                }
+            }
+            header.flip();
+            if (header.getInt() != MAGIC) {
+                throw new IOException("Not a node snapshot: bad magic number");
+            }
+            final byte version = header.get();
+            if (version != VERSION) {
+                throw new IOException("Unsupported snapshot version " + version);
+            }
+            final SnapshotEncoding encoding = SnapshotEncoding.fromId(header.get());
+            if (encoding == null) {
+                throw new IOException("Unsupported snapshot encoding");
+            }
+            header.getShort();
+            final int count = header.getInt();
+            final long length = header.getLong();
+            final boolean rawLengthMismatch =
+                encoding == SnapshotEncoding.RAW && length != (long) count * Integer.BYTES;
+            if (count < 0 || length != channel.size() - HEADER_BYTES || rawLengthMismatch) {
+                throw new IOException("Snapshot is truncated or its header is corrupt");
+            }
+            return new PayloadReader(encoding, count, length, header.getLong());
+        }
+        
+        /**
+         * Decodes the complete values of a block, leaving a trailing partial value unread.
+         * 
+         * @param block the buffer holding payload bytes, flipped for reading
+         * @param last whether the block holds the end of the payload
+         * @throws IOException if the payload holds more values than declared or a malformed varint
+         */
+        void decode(final ByteBuffer block, final boolean last) throws IOException {
+            if (this.encoding == SnapshotEncoding.RAW) {
+                final int ints = block.remaining() / Integer.BYTES;
+                block.asIntBuffer().get(this.values, this.filled, ints);
+                block.position(block.position() + ints * Integer.BYTES);
+                this.filled += ints;
+                return;
+            }
+            
+            // Leave a possibly split varint for the next block unless the payload is exhausted
+            while (block.remaining() >= MAX_VARINT_BYTES || last && block.hasRemaining()) {
+                if (this.filled == this.values.length) {
+                    throw new IOException("Snapshot holds more nodes than its header declares");
+                }
+                final int zigzag = readVarint(block);
+                this.previous += (zigzag >>> 1) ^ -(zigzag & 1);
+                this.values[this.filled++] = this.previous;
+            }
+        }
+        
+        /**
+         * Verifies the decoded payload and hands over the node values.
+         * 
+         * @param checksum the checksum of the payload bytes read
+         * @return the node values
+         * @throws IOException if fewer values than declared were decoded or the checksum differs
+         */
+        int[] finish(final long checksum) throws IOException {
+            if (this.filled != this.values.length) {
+                throw new IOException("Snapshot holds fewer nodes than its header declares");
+            }
+            if (checksum != this.expectedChecksum) {
+                throw new IOException("Snapshot checksum mismatch");
+            }
+            return this.values;
+        }
+    }
+    
+    /**
+     * Batch listener that encodes visited chunks into the payload of a snapshot.
+     */
+    private static final class PayloadWriter implements INodeBatchListener {
+        
+        /** The channel positioned where the payload starts. */
+        private final FileChannel channel;
+        
+        /** The payload encoding. */
+        private final SnapshotEncoding encoding;
+        
+        /** The buffer collecting encoded bytes until it is written. */
+        private final ByteBuffer block = ByteBuffer.allocateDirect(BLOCK_BYTES).order(ByteOrder.LITTLE_ENDIAN);
+        
+        /** The running checksum of the payload written so far. */
+        private final CRC32C checksum = new CRC32C();
+        
+        /** The number of payload bytes written so far. */
+        private long payloadBytes;
+        
+        /** The last node encoded, the base of the next delta. */
+        private int previous;
+        
+        /**
+         * Creates a writer for the given channel and encoding.
+         * 
+         * @param target the channel positioned where the payload starts
+         * @param payloadEncoding the payload encoding
+         */
+        PayloadWriter(final FileChannel target, final SnapshotEncoding payloadEncoding) {
+            this.channel = target;
+            this.encoding = payloadEncoding;
+        }
+        
+        @Override
+        public void onNodesVisited(final int[] values, final int offset, final int length) {
+            if (this.encoding == SnapshotEncoding.RAW) {
+                int copied = 0;
+                while (copied < length) {
+                    if (this.block.remaining() < Integer.BYTES) {
+                        flush();
+                    }
+                    final int ints = Math.min(length - copied, this.block.remaining() / Integer.BYTES);
+                    this.block.asIntBuffer().put(values, offset + copied, ints);
+                    this.block.position(this.block.position() + ints * Integer.BYTES);
+                    copied += ints;
+                }
+                return;
+            }
+            
+            final int end = offset + length;
+            for (int index = offset; index < end; index++) {
+                if (this.block.remaining() < MAX_VARINT_BYTES) {
+                    flush();
+                }
+                final int delta = values[index] - this.previous;
+                this.previous = values[index];
+                int zigzag = (delta << 1) ^ (delta >> (Integer.SIZE - 1));
+                while ((zigzag & ~VARINT_PAYLOAD) != 0) {
+                    this.block.put((byte) (zigzag & VARINT_PAYLOAD | VARINT_CONTINUATION));
+                    zigzag >>>= VARINT_SHIFT;
+                }
+                this.block.put((byte) zigzag);
+            }
+        }
+        
+        /**
+         * Checksums and writes the buffered bytes.
+         * 
+         * @throws UncheckedIOException if the bytes cannot be written
+         */
+        void flush() {
+            this.block.flip();
+            this.checksum.update(this.block.duplicate());
+            this.payloadBytes += this.block.remaining();
+            try {
+                while (this.block.hasRemaining()) {
+                    this.channel.write(this.block);
+                }
+            } catch (final IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            this.block.clear();
+        }
+    }
+}
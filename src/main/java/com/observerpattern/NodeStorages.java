@@ -0,0 +1,209 @@
+/**
+ * Factory for the node storage backends of the NodeNavigator.
+ * <p>
+ * Keeping the choice of backend here lets the NodeNavigator depend only on
+ * the INodeStorage contract, whatever memory layout holds its nodes.
+ * </p>
+ * 
+ * @author Ramaswamy Krishnan-Chittur
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+
+package com.observerpattern;
+
+import java.io.IOException;
+import java.nio.IntBuffer;
+import java.nio.file.Path;
+
+/**
+ * Static factory methods creating an {@link INodeStorage} for each kind of source.
+ * 
+ * @author Ramaswamy Krishnan-Chittur
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+final class NodeStorages {
+    
+    /**
+     * Prevents instantiation of this factory.
+     */
+    private NodeStorages() {
+    }
+    
+    /**
+     * Creates a storage over a slice of an array, which is not copied.
+     * 
+     * @param array the backing array
+     * @param offset position of the first node value in the array
+     * @param length number of node values in the slice
+     * @return the storage
+     * @throws IndexOutOfBoundsException if the slice does not fit inside the array
+     */
+    static INodeStorage ofArray(final int[] array, final int offset, final int length) {
+        return new IntArrayNodeStorage(array, offset, length, false);
+    }
+    
+    /**
+     * Creates a storage that takes ownership of an array no one else references.
+     * 
+     * @param array the array holding the node values, which must not be modified afterwards
+     * @return the storage
+     */
+    static INodeStorage adopt(final int[] array) {
+        return new IntArrayNodeStorage(array, 0, array.length, true);
+    }
+    
+    /**
+     * Creates a storage over the remaining values of a buffer, which are not copied.
+     * <p>
+     * Writable heap buffers are navigated through their backing array for a
+     * faster loop; any other buffer is read through a private slice.
+     * </p>
+     * 
+     * @param buffer the backing buffer
+     * @return the storage
+     */
+    static INodeStorage ofBuffer(final IntBuffer buffer) {
+        if (buffer.hasArray()) {
+            return new IntArrayNodeStorage(buffer.array(), buffer.arrayOffset() + buffer.position(),
+                                           buffer.remaining(), false);
+        }
+        return new IntBufferNodeStorage(buffer.slice());
+    }
+    
+    /**
+     * Creates a delta/varint compressed copy of a slice of an array.
+     * 
+     * @param array the array holding the node values, which is not retained
+     * @param offset position of the first node value in the array
+     * @param length number of node values in the slice
+     * @return the storage
+     * @throws IndexOutOfBoundsException if the slice does not fit inside the array
+     */
+    static INodeStorage compress(final int[] array, final int offset, final int length) {
+        return new CompressedNodeStorage(array, offset, length);
+    }
+    
+    /**
+     * Creates a copy of a slice of an array in direct memory, outside the Java heap.
+     * 
+     * @param array the array holding the node values, which is not retained
+     * @param offset position of the first node value in the array
+     * @param length number of node values in the slice
+     * @return the storage, which must be closed to release its memory promptly
+     * @throws IndexOutOfBoundsException if the slice does not fit inside the array
+     * @throws IllegalArgumentException if the slice is too large for one direct buffer
+     */
+    static INodeStorage offHeap(final int[] array, final int offset, final int length) {
+        return new OffHeapNodeStorage(array, offset, length);
+    }
+    
+    /**
+     * Creates a storage that memory-maps a window of a file of little-endian ints.
+     * 
+     * @param file the file holding the node values
+     * @param firstNode position of the first int of the window in the file
+     * @param count number of ints in the window
+     * @return the storage
+     * @throws IOException if the file cannot be opened or mapped
+     */
+    static INodeStorage mapFile(final Path file, final long firstNode, final int count) throws IOException {
+        return new MappedFileNodeStorage(file, firstNode, count, MappedFileNodeStorage.DEFAULT_SEGMENT_SHIFT);
+    }
+    
+    /**
+     * Moves a list into growable chunked storage on its first change, copying it once.
+     * <p>
+     * The original storage is released as soon as it is copied, so the caller
+     * must publish the returned storage in its place. Storage that is already
+     * growable is returned as it is.
+     * </p>
+     * 
+     * @param storage the current version
+     * @return the same values in growable storage
+     * @throws IllegalStateException if the storage is closed
+     */
+    static INodeStorage growable(final INodeStorage storage) {
+        if (storage instanceof ChunkedNodeStorage) {
+            return storage;
+        }
+        
+        final ChunkedNodeStorage copy = ChunkedNodeStorage.copyOf(storage);
+        storage.close();
+        return copy;
+    }
+    
+    /**
+     * Creates the version of a growable list with a value appended.
+     * 
+     * @param storage the current version, as returned by {@link #growable(INodeStorage)}
+     * @param value the value to append
+     * @return the new version
+     * @throws IllegalStateException if the list is full
+     */
+    static INodeStorage append(final INodeStorage storage, final int value) {
+        return chunked(storage).append(value);
+    }
+    
+    /**
+     * Creates the version of a growable list with a slice of an array appended.
+     * 
+     * @param storage the current version, as returned by {@link #growable(INodeStorage)}
+     * @param values the array holding the values, which is not retained
+     * @param offset position of the first value in the array
+     * @param length number of values
+     * @return the new version
+     * @throws IllegalStateException if the list would overflow
+     */
+    static INodeStorage appendAll(final INodeStorage storage, final int[] values, final int offset,
+                                  final int length) {
+        return chunked(storage).appendAll(values, offset, length);
+    }
+    
+    /**
+     * Creates the version of a growable list with a value inserted.
+     * 
+     * @param storage the current version, as returned by {@link #growable(INodeStorage)}
+     * @param index the position of the new value
+     * @param value the value to insert
+     * @return the new version
+     * @throws IllegalStateException if the list is full
+     */
+    static INodeStorage insert(final INodeStorage storage, final int index, final int value) {
+        return chunked(storage).insert(index, value);
+    }
+    
+    /**
+     * Creates the version of a growable list with a value removed.
+     * 
+     * @param storage the current version, as returned by {@link #growable(INodeStorage)}
+     * @param index the position of the value to remove
+     * @return the new version
+     */
+    static INodeStorage remove(final INodeStorage storage, final int index) {
+        return chunked(storage).remove(index);
+    }
+    
+    /**
+     * Creates the version of a growable list with a value replaced.
+     * 
+     * @param storage the current version, as returned by {@link #growable(INodeStorage)}
+     * @param index the position of the value to replace
+     * @param value the new value
+     * @return the new version
+     */
+    static INodeStorage set(final INodeStorage storage, final int index, final int value) {
+        return chunked(storage).set(index, value);
+    }
+    
+    /**
+     * Views growable storage as chunked storage.
+     * 
+     * @param storage storage returned by {@link #growable(INodeStorage)}
+     * @return the same storage
+     */
+    private static ChunkedNodeStorage chunked(final INodeStorage storage) {
+        return (ChunkedNodeStorage) storage;
+    }
+}
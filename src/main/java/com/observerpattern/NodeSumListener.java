@@ -0,0 +1,278 @@
+/**
+ * Built-in observer that sums the visited nodes exactly.
+ * <p>
+ * Summing into an int silently wraps after a few large nodes, and a plain
+ * field loses updates when nodes arrive from several threads. This observer
+ * sums into a long, carries anything that would overflow the long into a
+ * BigInteger, and in striped mode spreads concurrent updates over several
+ * cells the way {@link java.util.concurrent.atomic.LongAdder} does.
+ * </p>
+ * 
+ * @author Ramaswamy Krishnan-Chittur
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+
+package com.observerpattern;
+
+import java.math.BigInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Batch listener that sums the nodes it observes without overflowing.
+ * <p>
+ * A listener created with {@link #NodeSumListener()} is, like any listener,
+ * meant for one navigating thread at a time. A listener created with
+ * {@link #striped()} may be notified from any number of threads at once,
+ * for example by several navigators or by the consumers of an
+ * {@link AsyncNodeDispatcher}; each thread mostly updates a cell of its
+ * own, so threads rarely contend. Both kinds merge, so they can be used
+ * with {@link NodeNavigator#navigateParallel(java.util.function.Supplier)},
+ * and a striped listener can even be shared by every worker by passing
+ * {@code () -> listener} as the factory.
+ * </p>
+ * <p>
+ * <strong>Design Pattern Role:</strong> Concrete Observer
+ * </p>
+ * 
+ * @author Ramaswamy Krishnan-Chittur
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public final class NodeSumListener implements INodeBatchListener, IMergeableNodeListener<NodeSumListener> {
+    
+    /** Longs per striped cell; keeps every cell on its own pair of cache lines. */
+    private static final int CELL_STRIDE = 16;
+    
+    /** The largest number of cells of a striped listener. */
+    private static final int MAX_STRIPES = 64;
+    
+    /** The striped cells, one long every {@link #CELL_STRIDE} slots, or null for a single-threaded listener. */
+    private final AtomicLongArray cells;
+    
+    /** The number of cells minus one; the number of cells is a power of two. */
+    private final int stripeMask;
+    
+    /** The running sum of a single-threaded listener. */
+    private long sum;
+    
+    /** The part of the sum that did not fit into the long counters; guarded by this object's monitor. */
+    private BigInteger carried;
+    
+    /**
+     * Creates a listener for one navigating thread at a time.
+     */
+    public NodeSumListener() {
+        this(0);
+    }
+    
+    /**
+     * Creates a listener with the given number of cells.
+     * 
+     * @param stripes the number of cells, a power of two, or zero for a single-threaded listener
+     */
+    private NodeSumListener(final int stripes) {
+        if (stripes == 0) {
+            this.cells = null;
+            this.stripeMask = 0;
+        } else {
+            this.cells = new AtomicLongArray(stripes * CELL_STRIDE);
+            this.stripeMask = stripes - 1;
+        }
+        this.carried = BigInteger.ZERO;
+    }
+    
+    /**
+     * Creates a listener that may be notified from any number of threads at once.
+     * 
+     * @return a striped listener with a cell for each available processor
+     */
+    public static NodeSumListener striped() {
+        return new NodeSumListener(stripeCount(Runtime.getRuntime().availableProcessors()));
+    }
+    
+    /**
+     * Chooses the number of cells for the given number of processors.
+     * 
+     * @param processors the number of processors that may update the sum at once
+     * @return the smallest power of two of at least two and at least the processors, at most {@link #MAX_STRIPES}
+     */
+    static int stripeCount(final int processors) {
+        final int atLeast = Integer.highestOneBit(Math.max(1, processors) * 2 - 1);
+        return Math.min(MAX_STRIPES, Math.max(2, atLeast));
+    }
+    
+    /**
+     * Checks whether this listener may be notified from several threads at once.
+     * 
+     * @return true if the listener is striped
+     */
+    public boolean isStriped() {
+        return this.cells != null;
+    }
+    
+    @Override
+    public void onNodeVisited(final int data) {
+        add(data);
+    }
+    
+    @Override
+    public void onNodesVisited(final int[] values, final int offset, final int length) {
+        // At most 2^31 values of at most 2^31 each, so a chunk cannot overflow a long
+        long chunk = 0;
+        for (int index = offset; index < offset + length; index++) {
+            chunk += values[index];
+        }
+        add(chunk);
+    }
+    
+    @Override
+    public void merge(final NodeSumListener following) {
+        if (following == this) {
+            // A striped listener shared by every worker has already seen every node
+            return;
+        }
+        final BigInteger other = following.getSum();
+        if (other.bitLength() < Long.SIZE) {
+            add(other.longValue());
+        } else {
+            carry(other);
+        }
+    }
+    
+    /**
+     * Adds a value to the sum.
+     * 
+     * @param value the value to add
+     */
+    void add(final long value) {
+        if (this.cells == null) {
+            final long next = this.sum + value;
+            if (overflows(this.sum, value, next)) {
+                carry(BigInteger.valueOf(this.sum).add(BigInteger.valueOf(value)));
+                this.sum = 0;
+            } else {
+                this.sum = next;
+            }
+            return;
+        }
+        
+        // Start at this thread's own cell and move on to the next whenever another thread got there first
+        int stripe = (int) Thread.currentThread().getId() & this.stripeMask;
+        while (true) {
+            final int slot = stripe * CELL_STRIDE;
+            final long current = this.cells.get(slot);
+            final long next = current + value;
+            if (overflows(current, value, next)) {
+                if (carryCell(slot, current, value)) {
+                    return;
+                }
+            } else if (this.cells.compareAndSet(slot, current, next)) {
+                return;
+            }
+            stripe = (stripe + 1) & this.stripeMask;
+        }
+    }
+    
+    /**
+     * Checks whether a long addition wrapped around.
+     * 
+     * @param augend the first operand
+     * @param addend the second operand
+     * @param result the wrapped result of the addition
+     * @return true if the exact sum does not fit into a long
+     */
+    private static boolean overflows(final long augend, final long addend, final long result) {
+        return ((augend ^ result) & (addend ^ result)) < 0;
+    }
+    
+    /**
+     * Moves an amount that does not fit into the long counters to the carried sum.
+     * 
+     * @param amount the amount to carry
+     */
+    private synchronized void carry(final BigInteger amount) {
+        this.carried = this.carried.add(amount);
+    }
+    
+    /**
+     * Empties a striped cell into the carried sum together with a value that would overflow it.
+     * <p>
+     * Holding the monitor while the cell is emptied keeps {@link #getSum()}
+     * from seeing the cell already cleared but its value not yet carried.
+     * </p>
+     * 
+     * @param slot the slot of the cell
+     * @param current the value the cell is expected to hold
+     * @param value the value to add
+     * @return true if the cell still held the expected value and was carried
+     */
+    private synchronized boolean carryCell(final int slot, final long current, final long value) {
+        if (!this.cells.compareAndSet(slot, current, 0)) {
+            return false;
+        }
+        this.carried = this.carried.add(BigInteger.valueOf(current).add(BigInteger.valueOf(value)));
+        return true;
+    }
+    
+    /**
+     * Gets the part of the sum carried out of the long counters.
+     * 
+     * @return the carried sum
+     */
+    private synchronized BigInteger getCarried() {
+        return this.carried;
+    }
+    
+    /**
+     * Gets the exact sum of the nodes observed so far.
+     * <p>
+     * For a striped listener the sum is exact once every notification has
+     * returned; nodes added while the sum is read may or may not be counted,
+     * but a cell that overflows meanwhile is counted exactly once.
+     * </p>
+     * 
+     * @return the sum
+     */
+    public BigInteger getSum() {
+        if (this.cells == null) {
+            return getCarried().add(BigInteger.valueOf(this.sum));
+        }
+        return getStripedSum();
+    }
+    
+    /**
+     * Sums the carried part and the cells of a striped listener.
+     * <p>
+     * Overflowing cells are only carried while holding the monitor, so the
+     * carried part and the cells read here always agree.
+     * </p>
+     * 
+     * @return the sum
+     */
+    private synchronized BigInteger getStripedSum() {
+        BigInteger total = this.carried;
+        long partial = 0;
+        for (int slot = 0; slot < this.cells.length(); slot += CELL_STRIDE) {
+            final long cell = this.cells.get(slot);
+            final long next = partial + cell;
+            if (overflows(partial, cell, next)) {
+                total = total.add(BigInteger.valueOf(partial));
+                partial = cell;
+            } else {
+                partial = next;
+            }
+        }
+        return total.add(BigInteger.valueOf(partial));
+    }
+    
+    /**
+     * Gets the sum of the nodes observed so far as a long.
+     * 
+     * @return the sum
+     * @throws ArithmeticException if the sum does not fit into a long
+     */
+    public long getLongSum() {
+        return getSum().longValueExact();
+    }
+}
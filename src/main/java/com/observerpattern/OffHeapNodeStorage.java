@@ -0,0 +1,268 @@
+/**
+ * Node storage that keeps node values in direct memory, outside the Java heap.
+ * <p>
+ * A large list held on the heap is marked and copied by the garbage collector
+ * on every old-generation cycle. Holding the values in a direct buffer leaves
+ * only a small handle on the heap, and the memory can be released explicitly
+ * instead of waiting for the collector.
+ * </p>
+ * 
+ * @author Ramaswamy Krishnan-Chittur
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+
+package com.observerpattern;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Stores node values in a private direct buffer that {@link #close()} releases.
+ * <p>
+ * Every read leases the buffer for its duration, so closing the storage while
+ * a navigation is running defers the release until the last running read
+ * finishes, and reads started after closing fail instead of touching freed
+ * memory. The memory is returned eagerly through the JDK's
+ * {@code invokeCleaner} hook when it is accessible; otherwise, and for
+ * storages that are never closed, the buffer's own {@link java.lang.ref.Cleaner}
+ * frees it once the storage becomes unreachable.
+ * </p>
+ * 
+ * @author Ramaswamy Krishnan-Chittur
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+final class OffHeapNodeStorage implements INodeStorage {
+    
+    /** The largest number of nodes that fit in one direct buffer. */
+    static final int MAX_NODES = Integer.MAX_VALUE / Integer.BYTES;
+    
+    /** Flag in {@link #state} set once the storage is closed. */
+    private static final int CLOSED = 1;
+    
+    /** Amount added to {@link #state} per running read, above the closed flag. */
+    private static final int LEASE = 2;
+    
+    /** The JDK hook that frees a direct buffer at once, or null if it is not accessible. */
+    private static final Method INVOKE_CLEANER;
+    
+    /** The JDK object the hook is invoked on, or null if it is not accessible. */
+    private static final Object UNSAFE;
+    
+    static {
+        Method invokeCleaner = null;
+        Object unsafe = null;
+        try {
+            final Class<?> unsafeClass = Class.forName("sun.misc.Unsafe");
+            final Field instance = unsafeClass.getDeclaredField("theUnsafe");
+            instance.setAccessible(true);
+            unsafe = instance.get(null);
+            invokeCleaner = unsafeClass.getMethod("invokeCleaner", ByteBuffer.class);
+        } catch (final ReflectiveOperationException | RuntimeException e) {
+            // Fall back to the buffer's own cleaner, which runs after garbage collection
+        }
+        INVOKE_CLEANER = invokeCleaner;
+        UNSAFE = unsafe;
+    }
+    
+    /** Number of running reads times {@link #LEASE}, plus {@link #CLOSED} once closed. */
+    private final AtomicInteger state;
+    
+    /** Number of node values in the storage. */
+    private final int length;
+    
+    /** The number of direct memory bytes reserved for the values. */
+    private final long capacity;
+    
+    /** The direct buffer holding the values, or null once released. */
+    private volatile ByteBuffer memory;
+    
+    /** The navigation loops over {@link #memory}, or null once released. */
+    private volatile INodeStorage view;
+    
+    /**
+     * Copies a slice of an array into newly allocated direct memory.
+     * 
+     * @param values the array holding the node values, which is not retained
+     * @param offset position of the first node value in the array
+     * @param count number of node values in the slice
+     * @throws IndexOutOfBoundsException if the slice does not fit inside the array
+     * @throws IllegalArgumentException if the slice holds more than {@link #MAX_NODES} values
+     */
+    OffHeapNodeStorage(final int[] values, final int offset, final int count) {
+        Objects.checkFromIndexSize(offset, count, values.length);
+        if (count > MAX_NODES) {
+            throw new IllegalArgumentException("Too many nodes for one off-heap buffer: " + count);
+        }
+        
+        // Native byte order lets the JIT read each value with a single load
+        final ByteBuffer buffer = ByteBuffer.allocateDirect(count * Integer.BYTES).order(ByteOrder.nativeOrder());
+        buffer.asIntBuffer().put(values, offset, count);
+        this.state = new AtomicInteger();
+        this.length = count;
+        this.capacity = buffer.capacity();
+        this.memory = buffer;
+        this.view = new IntBufferNodeStorage(buffer.asIntBuffer());
+    }
+    
+    /**
+     * Leases the memory for one read.
+     * 
+     * @return the navigation loops over the memory
+     * @throws IllegalStateException if the storage is closed
+     */
+    private INodeStorage acquire() {
+        while (true) {
+            final int current = this.state.get();
+            if ((current & CLOSED) != 0) {
+                throw new IllegalStateException("Off-heap node storage is closed");
+            }
+            if (this.state.compareAndSet(current, current + LEASE)) {
+                return this.view;
+            }
+        }
+    }
+    
+    /**
+     * Ends a lease, releasing the memory if it was the last one after closing.
+     */
+    private void release() {
+        if (this.state.addAndGet(-LEASE) == CLOSED) {
+            free();
+        }
+    }
+    
+    /**
+     * Returns the memory; called exactly once, when the storage is closed and no read is running.
+     */
+    private void free() {
+        final ByteBuffer buffer = this.memory;
+        this.view = null;
+        this.memory = null;
+        if (INVOKE_CLEANER == null) {
+            // The dropped references leave the memory to the buffer's own cleaner
+            return;
+        }
+        try {
+            INVOKE_CLEANER.invoke(UNSAFE, buffer);
+        } catch (final ReflectiveOperationException e) {
+            // The dropped references leave the memory to the buffer's own cleaner
+        }
+    }
+    
+    @Override
+    public void close() {
+        while (true) {
+            final int current = this.state.get();
+            if ((current & CLOSED) != 0) {
+                return;
+            }
+            if (this.state.compareAndSet(current, current | CLOSED)) {
+                if (current == 0) {
+                    free();
+                }
+                return;
+            }
+        }
+    }
+    
+    @Override
+    public boolean isClosed() {
+        return (this.state.get() & CLOSED) != 0;
+    }
+    
+    @Override
+    public long offHeapBytes() {
+        if (this.memory == null) {
+            return 0;
+        }
+        return this.capacity;
+    }
+    
+    @Override
+    public boolean isImmutable() {
+        return true;
+    }
+    
+    @Override
+    public int size() {
+        return this.length;
+    }
+    
+    @Override
+    public int get(final int index) {
+        final INodeStorage values = acquire();
+        try {
+            return values.get(index);
+        } finally {
+            release();
+        }
+    }
+    
+    @Override
+    public void forEach(final int fromIndex, final int toIndex, final INodeNavigationListener listener) {
+        final INodeStorage values = acquire();
+        try {
+            values.forEach(fromIndex, toIndex, listener);
+        } finally {
+            release();
+        }
+    }
+    
+    @Override
+    public void forEachChunk(final int fromIndex, final int toIndex, final int chunkSize,
+                             final INodeBatchListener listener) {
+        final INodeStorage values = acquire();
+        try {
+            values.forEachChunk(fromIndex, toIndex, chunkSize, listener);
+        } finally {
+            release();
+        }
+    }
+    
+    @Override
+    public void forEachStrided(final int first, final int count, final int step,
+                               final INodeNavigationListener listener) {
+        final INodeStorage values = acquire();
+        try {
+            values.forEachStrided(first, count, step, listener);
+        } finally {
+            release();
+        }
+    }
+    
+    @Override
+    public void forEachChunkStrided(final int first, final int count, final int step, final int chunkSize,
+                                    final INodeBatchListener listener) {
+        final INodeStorage values = acquire();
+        try {
+            values.forEachChunkStrided(first, count, step, chunkSize, listener);
+        } finally {
+            release();
+        }
+    }
+    
+    /**
+     * Returns the node values in the same format as {@link java.util.Arrays#toString(int[])}.
+     * 
+     * @return a string representation of the node values, or {@code [closed]} once closed
+     */
+    @Override
+    public String toString() {
+        try {
+            final INodeStorage values = acquire();
+            try {
+                return values.toString();
+            } finally {
+                release();
+            }
+        } catch (final IllegalStateException e) {
+            return "[closed]";
+        }
+    }
+}
@@ -0,0 +1,126 @@
+/**
+ * Fork/join task that navigates a range of nodes with mergeable listener partials.
+ * <p>
+ * This task backs NodeNavigator.navigateParallel: it splits the node range in
+ * halves until each range is small enough, navigates every leaf range with a
+ * fresh listener partial, and merges the partials in range order on the way up.
+ * </p>
+ * 
+ * @author Ramaswamy Krishnan-Chittur
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+
+package com.observerpattern;
+
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.Supplier;
+
+/**
+ * Recursive task returning the merged partial of a range of nodes.
+ * 
+ * @author Ramaswamy Krishnan-Chittur
+ * @version 1.0.0
+ * @param <T> the mergeable listener type
+ * @since 1.0.0
+ */
+final class ParallelNavigationTask<T extends IMergeableNodeListener<T>> extends RecursiveTask<T> {
+    
+    /** Serialization version, required because fork/join tasks are serializable. */
+    private static final long serialVersionUID = 1L;
+    
+    /** The smallest range of nodes a parallel navigation hands to one worker. */
+    private static final int MIN_LEAF_SIZE = 8192;
+    
+    /** The number of ranges per pool thread a parallel navigation aims for, to balance uneven workers. */
+    private static final int LEAVES_PER_THREAD = 4;
+    
+    /** The node values being navigated. */
+    private final transient INodeStorage storage;
+    
+    /** Creates one listener partial per leaf range. */
+    private final transient Supplier<T> factory;
+    
+    /** The first position of this task's range, inclusive. */
+    private final int fromIndex;
+    
+    /** The last position of this task's range, exclusive. */
+    private final int toIndex;
+    
+    /** Ranges no longer than this are navigated without further splitting. */
+    private final int leafSize;
+    
+    /** Chunk size used for partials that are batch listeners. */
+    private final int chunkSize;
+    
+    /**
+     * Creates a task for the range {@code [from, to)}.
+     * 
+     * @param nodes the node values being navigated
+     * @param partialFactory creates one listener partial per leaf range
+     * @param from the first position of the range, inclusive
+     * @param to the last position of the range, exclusive
+     * @param leaf ranges no longer than this are not split further
+     * @param chunk chunk size used for partials that are batch listeners
+     */
+    ParallelNavigationTask(final INodeStorage nodes, final Supplier<T> partialFactory,
+                           final int from, final int to, final int leaf, final int chunk) {
+        this.storage = nodes;
+        this.factory = partialFactory;
+        this.fromIndex = from;
+        this.toIndex = to;
+        this.leafSize = leaf;
+        this.chunkSize = chunk;
+    }
+    
+    /**
+     * Navigates every value of a storage on a pool, splitting it into ranges sized for the pool.
+     * 
+     * @param <T> the mergeable listener type
+     * @param pool the pool that runs the navigation
+     * @param nodes the node values to navigate
+     * @param partialFactory creates one listener partial per leaf range
+     * @param chunk chunk size used for partials that are batch listeners
+     * @return the merged partial that observed every node
+     */
+    static <T extends IMergeableNodeListener<T>> T navigate(final ForkJoinPool pool, final INodeStorage nodes,
+                                                           final Supplier<T> partialFactory, final int chunk) {
+        final int size = nodes.size();
+        final int leaf = Math.max(MIN_LEAF_SIZE, size / (pool.getParallelism() * LEAVES_PER_THREAD) + 1);
+        return pool.invoke(new ParallelNavigationTask<>(nodes, partialFactory, 0, size, leaf, chunk));
+    }
+    
+    @Override
+    protected T compute() {
+        if (this.toIndex - this.fromIndex <= this.leafSize) {
+            return navigateLeaf();
+        }
+        
+        final int middle = (this.fromIndex + this.toIndex) >>> 1;
+        final ParallelNavigationTask<T> left = new ParallelNavigationTask<>(
+            this.storage, this.factory, this.fromIndex, middle, this.leafSize, this.chunkSize);
+        final ParallelNavigationTask<T> right = new ParallelNavigationTask<>(
+            this.storage, this.factory, middle, this.toIndex, this.leafSize, this.chunkSize);
+        right.fork();
+        final T partial = left.compute();
+        partial.merge(right.join());
+        return partial;
+    }
+    
+    /**
+     * Navigates this task's range with a fresh listener partial.
+     * 
+     * @return the partial that observed the range
+     */
+    private T navigateLeaf() {
+        final T partial = Objects.requireNonNull(this.factory.get(), "Listener factory returned null");
+        if (partial instanceof INodeBatchListener) {
+            this.storage.forEachChunk(this.fromIndex, this.toIndex, this.chunkSize, (INodeBatchListener) partial);
+        } else {
+            this.storage.forEach(this.fromIndex, this.toIndex, partial);
+        }
+        return partial;
+    }
+}
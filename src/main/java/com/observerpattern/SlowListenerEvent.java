@@ -0,0 +1,83 @@
+/**
+ * Java Flight Recorder event for a listener call that exceeds a threshold.
+ * <p>
+ * A navigation that takes too long is usually held up by one listener. This
+ * event records each listener call slower than the configured threshold,
+ * with the listener's class and the node it was handling, on the same
+ * timeline as GC, lock and I/O events.
+ * </p>
+ * 
+ * @author Ramaswamy Krishnan-Chittur
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+
+package com.observerpattern;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+/**
+ * Duration event spanning one slow listener call, named {@value #NAME}.
+ * <p>
+ * Calls are only timed while a recording enables this event: navigation then
+ * reads the JFR clock around every per-node call and every chunk delivered
+ * to a batch listener, and commits those that take at least the threshold,
+ * one millisecond unless the recording sets another. Without such a
+ * recording, navigation checks once per pass whether the event is enabled.
+ * </p>
+ * 
+ * @author Ramaswamy Krishnan-Chittur
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@Name(SlowListenerEvent.NAME)
+@Label("Slow Listener Call")
+@Category("Observer Pattern")
+@Description("A listener call that took longer than the threshold")
+@Threshold("1 ms")
+@StackTrace(false)
+final class SlowListenerEvent extends Event {
+    
+    /** The event name to enable in recordings and JFR settings files. */
+    static final String NAME = "com.observerpattern.SlowListener";
+    
+    /** The class of the slow listener. */
+    @Label("Listener Class")
+    private Class<?> listenerClass;
+    
+    /** The node value handled, or the first of the chunk for a batch listener. */
+    @Label("Node")
+    private int node;
+    
+    /** Number of nodes handled by the call: one for a per-node call, the chunk length for a batch call. */
+    @Label("Node Count")
+    private int nodeCount;
+    
+    /**
+     * Checks whether any recording currently enables this event.
+     * 
+     * @return true if listener calls should be timed
+     */
+    static boolean isRecorded() {
+        return new SlowListenerEvent().isEnabled();
+    }
+    
+    /**
+     * Fills in the description of the call.
+     * 
+     * @param listener the slow listener
+     * @param value the node value handled, or the first of the chunk
+     * @param nodes number of nodes handled by the call
+     */
+    void describe(final INodeNavigationListener listener, final int value, final int nodes) {
+        this.listenerClass = listener.getClass();
+        this.node = value;
+        this.nodeCount = nodes;
+    }
+}
@@ -0,0 +1,70 @@
+/**
+ * Payload encodings of the NodeNavigator binary snapshot format.
+ * <p>
+ * The encoding trades snapshot size against save and load speed; the
+ * snapshot header records which one was used, so loading needs no hint.
+ * </p>
+ * 
+ * @author Ramaswamy Krishnan-Chittur
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+
+package com.observerpattern;
+
+/**
+ * How the node values of a snapshot are laid out after the header.
+ * 
+ * @author Ramaswamy Krishnan-Chittur
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public enum SnapshotEncoding {
+    
+    /**
+     * Four little-endian bytes per node; the fastest to save and load.
+     */
+    RAW((byte) 0),
+    
+    /**
+     * The difference to the previous node, zigzag-encoded as a variable-length
+     * integer of one to five bytes; compact when neighbouring nodes are close.
+     */
+    DELTA_VARINT((byte) 1);
+    
+    /** The identifier stored in the snapshot header. */
+    private final byte id;
+    
+    /**
+     * Creates an encoding with the given header identifier.
+     * 
+     * @param headerId the identifier stored in the snapshot header
+     */
+    SnapshotEncoding(final byte headerId) {
+        this.id = headerId;
+    }
+    
+    /**
+     * Gets the identifier stored in the snapshot header.
+     * 
+     * @return the header identifier
+     */
+    byte getId() {
+        return this.id;
+    }
+    
+    /**
+     * Finds the encoding with the given header identifier.
+     * 
+     * @param headerId the identifier read from a snapshot header
+     * @return the encoding, or null if the identifier is unknown
+     */
+    static SnapshotEncoding fromId(final byte headerId) {
+        for (final SnapshotEncoding encoding : values()) {
+            if (encoding.id == headerId) {
+                return encoding;
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,63 @@
+/**
+ * Strategies for threads waiting on an AsyncNodeDispatcher ring buffer.
+ * <p>
+ * The strategy trades latency for CPU usage: spinning reacts fastest but
+ * keeps a core busy, parking frees the core but wakes up later.
+ * </p>
+ * 
+ * @author Ramaswamy Krishnan-Chittur
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+
+package com.observerpattern;
+
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * How a producer or consumer thread waits for the ring buffer to change.
+ * 
+ * @author Ramaswamy Krishnan-Chittur
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public enum WaitStrategy {
+    
+    /**
+     * Spins on the CPU with {@link Thread#onSpinWait()}; lowest latency, one busy core per waiting thread.
+     */
+    BUSY_SPIN {
+        @Override
+        void idle() {
+            Thread.onSpinWait();
+        }
+    },
+    
+    /**
+     * Yields the CPU to other runnable threads between checks.
+     */
+    YIELD {
+        @Override
+        void idle() {
+            Thread.yield();
+        }
+    },
+    
+    /**
+     * Parks the thread briefly between checks; lowest CPU usage, highest latency.
+     */
+    PARK {
+        @Override
+        void idle() {
+            LockSupport.parkNanos(PARK_NANOS);
+        }
+    };
+    
+    /** How long a parking thread sleeps between checks, in nanoseconds. */
+    private static final long PARK_NANOS = 50_000L;
+    
+    /**
+     * Waits once before the caller checks the ring buffer again.
+     */
+    abstract void idle();
+}
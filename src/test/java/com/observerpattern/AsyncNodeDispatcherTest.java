@@ -0,0 +1,251 @@
+/**
+ * Unit tests for asynchronous dispatch through the ring buffer.
+ * <p>
+ * This test class validates that the AsyncNodeDispatcher delivers every
+ * published node, in order, to each listener on its own consumer thread,
+ * under every wait strategy, and that completion, failure and shutdown
+ * behave as documented.
+ * </p>
+ * 
+ * @author Ramaswamy Krishnan-Chittur
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+
+package com.observerpattern;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Unit tests for the AsyncNodeDispatcher.
+ * 
+ * @author Ramaswamy Krishnan-Chittur
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@DisplayName("AsyncNodeDispatcher Tests")
+class AsyncNodeDispatcherTest {
+    
+    /** Number of nodes navigated, several times the ring capacity. */
+    private static final int NODE_COUNT = 1000;
+    
+    /** Small ring capacity so the producer has to wait for consumers. */
+    private static final int SMALL_CAPACITY = 64;
+    
+    /** Maximum time to wait for consumers in seconds. */
+    private static final long TIMEOUT_SECONDS = 10;
+    
+    /**
+     * Tests in-order delivery to per-node and batch listeners under every wait strategy.
+     * 
+     * @param strategy the wait strategy under test
+     * @throws InterruptedException if the test is interrupted
+     */
+    @ParameterizedTest
+    @EnumSource(WaitStrategy.class)
+    @DisplayName("Should deliver every node in order to each listener")
+    void testDeliversAllNodesInOrder(final WaitStrategy strategy) throws InterruptedException {
+        // Arrange
+        final int[] numbers = TestNodes.sequence(NODE_COUNT);
+        final RecordingListener perNode = new RecordingListener();
+        final RecordingListener batch = new RecordingListener();
+        final INodeBatchListener batchView = (values, offset, length) -> {
+            for (int i = offset; i < offset + length; i++) {
+                batch.onNodeVisited(values[i]);
+            }
+        };
+        final NodeNavigator navigator = new NodeNavigator(numbers);
+        navigator.setChunkSize(SMALL_CAPACITY / 2 + 1);
+        
+        try (AsyncNodeDispatcher dispatcher = new AsyncNodeDispatcher(SMALL_CAPACITY, strategy, perNode, batchView)) {
+            navigator.subscribe(dispatcher);
+            
+            // Act
+            navigator.navigate();
+            
+            // Assert
+            assertTrue(dispatcher.awaitCaughtUp(TIMEOUT_SECONDS, TimeUnit.SECONDS), "Consumers should catch up");
+            assertEquals(NODE_COUNT, dispatcher.getPublishedCount(), "Every node should be published");
+            assertSame(strategy, dispatcher.getWaitStrategy(), "Dispatcher should keep its strategy");
+        }
+        assertEquals(toList(numbers), perNode.getValues(), "Per-node listener should see every node in order");
+        assertEquals(toList(numbers), batch.getValues(), "Batch listener should see every node in order");
+    }
+    
+    /**
+     * Tests that a blocked consumer is reported as not caught up, and catches up once released.
+     * 
+     * @throws InterruptedException if the test is interrupted
+     */
+    @Test
+    @DisplayName("Should signal completion only after every listener caught up")
+    void testCompletionSignal() throws InterruptedException {
+        // Arrange
+        final CountDownLatch release = new CountDownLatch(1);
+        final RecordingListener recorder = new RecordingListener();
+        final INodeNavigationListener blocked = data -> {
+            try {
+                release.await();
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            recorder.onNodeVisited(data);
+        };
+        
+        try (AsyncNodeDispatcher dispatcher = new AsyncNodeDispatcher(blocked)) {
+            // Act
+            dispatcher.onNodeVisited(1);
+            
+            // Assert
+            assertFalse(dispatcher.awaitCaughtUp(1, TimeUnit.MILLISECONDS), "Blocked consumer is behind");
+            release.countDown();
+            dispatcher.awaitCaughtUp();
+            assertTrue(dispatcher.isCaughtUp(), "Released consumer should catch up");
+        }
+        assertEquals(List.of(1), recorder.getValues(), "Blocked listener should eventually see the node");
+    }
+    
+    /**
+     * Tests that a failing listener does not hold up the others.
+     * 
+     * @throws InterruptedException if the test is interrupted
+     */
+    @Test
+    @DisplayName("Should isolate a failing listener and keep the first failure")
+    void testFailingListener() throws InterruptedException {
+        // Arrange
+        final IllegalStateException boom = new IllegalStateException("boom");
+        final INodeNavigationListener failing = data -> {
+            throw boom;
+        };
+        final RecordingListener healthy = new RecordingListener();
+        final int[] numbers = TestNodes.sequence(NODE_COUNT);
+        final NodeNavigator navigator = new NodeNavigator(numbers);
+        
+        try (AsyncNodeDispatcher dispatcher = new AsyncNodeDispatcher(
+                SMALL_CAPACITY, WaitStrategy.YIELD, failing, healthy)) {
+            navigator.subscribe(dispatcher);
+            assertNull(dispatcher.getFailure(), "No failure before navigation");
+            
+            // Act
+            navigator.navigate();
+            
+            // Assert
+            assertTrue(dispatcher.awaitCaughtUp(TIMEOUT_SECONDS, TimeUnit.SECONDS), "Consumers should catch up");
+            assertSame(boom, dispatcher.getFailure(), "First failure should be kept");
+        }
+        assertEquals(toList(numbers), healthy.getValues(), "Healthy listener should see every node");
+    }
+    
+    /**
+     * Tests that a listener throwing an Error neither stalls the producer nor kills the others.
+     * 
+     * @throws InterruptedException if the test is interrupted
+     */
+    @Test
+    @DisplayName("Should keep draining after a listener throws an Error")
+    void testListenerError() throws InterruptedException {
+        // Arrange
+        final AssertionError error = new AssertionError("broken invariant");
+        final INodeNavigationListener failing = data -> {
+            throw error;
+        };
+        final RecordingListener healthy = new RecordingListener();
+        final int[] numbers = TestNodes.sequence(NODE_COUNT);
+        final NodeNavigator navigator = new NodeNavigator(numbers);
+        final AsyncNodeDispatcher dispatcher = new AsyncNodeDispatcher(
+            SMALL_CAPACITY, WaitStrategy.PARK, failing, healthy);
+        navigator.subscribe(dispatcher);
+        
+        // Act: the ring fills many times over, so a dead consumer would block navigation
+        navigator.navigate();
+        
+        // Assert
+        assertTrue(dispatcher.awaitCaughtUp(TIMEOUT_SECONDS, TimeUnit.SECONDS), "Consumers should catch up");
+        assertSame(error, dispatcher.getFailure(), "The Error should be kept as the failure");
+        assertEquals(toList(numbers), healthy.getValues(), "Healthy listener should see every node");
+        
+        Thread.currentThread().interrupt();
+        dispatcher.close();
+        assertTrue(Thread.interrupted(), "Closing should restore the interrupt status");
+    }
+    
+    /**
+     * Tests argument validation, capacity rounding and closing.
+     * 
+     * @throws InterruptedException if the test is interrupted
+     */
+    @Test
+    @DisplayName("Should validate arguments, round capacity and reject publishing after close")
+    void testLifecycleAndValidation() throws InterruptedException {
+        final RecordingListener listener = new RecordingListener();
+        
+        assertThrows(IllegalArgumentException.class, () -> new AsyncNodeDispatcher(0, WaitStrategy.PARK, listener),
+                   "Zero capacity should be rejected");
+        assertThrows(IllegalArgumentException.class, () -> new AsyncNodeDispatcher(),
+                   "Dispatcher without listeners should be rejected");
+        assertThrows(NullPointerException.class, () -> new AsyncNodeDispatcher(1, null, listener),
+                   "Null strategy should be rejected");
+        
+        final AsyncNodeDispatcher dispatcher = new AsyncNodeDispatcher(SMALL_CAPACITY - 1, WaitStrategy.PARK, listener);
+        assertEquals(SMALL_CAPACITY, dispatcher.getCapacity(), "Capacity should round up to a power of two");
+        dispatcher.close();
+        dispatcher.close();
+        assertThrows(IllegalStateException.class, () -> dispatcher.onNodeVisited(1),
+                   "Publishing after close should be rejected");
+    }
+    
+    /**
+     * Converts an array to a list.
+     * 
+     * @param numbers the values
+     * @return the values as a list
+     */
+    private static List<Integer> toList(final int[] numbers) {
+        final List<Integer> list = new ArrayList<>(numbers.length);
+        for (final int number : numbers) {
+            list.add(number);
+        }
+        return list;
+    }
+    
+    /**
+     * Thread-safe listener recording every value it receives.
+     */
+    private static class RecordingListener implements INodeNavigationListener {
+        /** Values received, in order. */
+        private final List<Integer> values = Collections.synchronizedList(new ArrayList<>());
+        
+        @Override
+        public void onNodeVisited(final int data) {
+            this.values.add(data);
+        }
+        
+        /**
+         * Gets the values received.
+         * 
+         * @return a copy of the values received
+         */
+        public List<Integer> getValues() {
+            synchronized (this.values) {
+                return new ArrayList<>(this.values);
+            }
+        }
+    }
+}
@@ -0,0 +1,244 @@
+/**
+ * Unit tests for changing a NodeNavigator after construction.
+ * <p>
+ * This test class validates that append, appendAll, insertAt and removeAt
+ * keep the list identical to a reference list across chunk boundaries, that
+ * navigations keep seeing the version they started with while the list
+ * changes, and that the first change takes a private copy of the nodes.
+ * </p>
+ * 
+ * @author Ramaswamy Krishnan-Chittur
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+
+package com.observerpattern;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.Random;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Unit tests for the ChunkedNodeStorage.
+ * 
+ * @author Ramaswamy Krishnan-Chittur
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@DisplayName("Mutable Navigation Tests")
+class ChunkedNodeStorageTest {
+    
+    /** Number of nodes, enough to span several chunks with a partial last one. */
+    private static final int NODE_COUNT = ChunkedNodeStorage.CHUNK_SIZE * 3 + 1;
+    
+    /** Number of random changes applied to the list. */
+    private static final int CHANGES = 2000;
+    
+    /** Number of change kinds cycled through; removal takes two of them to keep the size steady. */
+    private static final int CHANGE_KINDS = 4;
+    
+    /** Number of threads navigating while the list grows. */
+    private static final int NAVIGATING_THREADS = 4;
+    
+    /** Maximum time to wait for the worker threads in seconds. */
+    private static final long TIMEOUT_SECONDS = 60;
+    
+    /**
+     * Collects every node a navigation delivers.
+     * 
+     * @param navigator the navigator to navigate
+     * @return the visited node values
+     */
+    private static int[] navigate(final NodeNavigator navigator) {
+        final List<Integer> visited = new ArrayList<>();
+        final INodeNavigationListener listener = visited::add;
+        navigator.subscribe(listener);
+        navigator.navigate();
+        navigator.unsubscribe(listener);
+        return visited.stream().mapToInt(Integer::intValue).toArray();
+    }
+    
+    /**
+     * Converts a reference list to an array.
+     * 
+     * @param expected the reference list
+     * @return the values of the list
+     */
+    private static int[] toArray(final List<Integer> expected) {
+        return expected.stream().mapToInt(Integer::intValue).toArray();
+    }
+    
+    /**
+     * Tests that random appends, inserts and removals across chunk boundaries match a reference list.
+     */
+    @Test
+    @DisplayName("Should match a reference list through random changes across chunks")
+    void testRandomChanges() {
+        // Arrange
+        final Random random = new Random(NODE_COUNT);
+        final NodeNavigator navigator = new NodeNavigator(new int[]{});
+        final List<Integer> expected = new ArrayList<>();
+        final int[] bulk = new int[NODE_COUNT];
+        for (int i = 0; i < bulk.length; i++) {
+            bulk[i] = -i;
+            expected.add(-i);
+        }
+        final List<Integer> expectedRemovals = new ArrayList<>();
+        final List<Integer> removals = new ArrayList<>();
+        final List<Integer> chunked = new ArrayList<>();
+        final INodeBatchListener chunkRecorder = (chunk, offset, length) -> {
+            for (int i = offset; i < offset + length; i++) {
+                chunked.add(chunk[i]);
+            }
+        };
+        
+        // Act
+        navigator.appendAll(bulk);
+        for (int change = 0; change < CHANGES; change++) {
+            final int index = random.nextInt(expected.size() + 1);
+            switch (change % CHANGE_KINDS) {
+                case 0:
+                    navigator.append(change);
+                    expected.add(change);
+                    break;
+                case 1:
+                    navigator.insertAt(index, change);
+                    expected.add(index, change);
+                    break;
+                default:
+                    final int removed = Math.min(index, expected.size() - 1);
+                    expectedRemovals.add(expected.remove(removed));
+                    removals.add(navigator.removeAt(removed));
+                    break;
+            }
+        }
+        final int[] visited = navigate(navigator);
+        navigator.subscribe(chunkRecorder);
+        navigator.navigate(1, expected.size(), 1);
+        
+        // Assert
+        assertEquals(expectedRemovals, removals, "removeAt should return the removed node");
+        assertEquals(expected.size(), navigator.size(), "Size should follow every change");
+        assertArrayEquals(toArray(expected), visited, "Nodes should follow every change");
+        assertEquals(expected.subList(1, expected.size()), chunked, "Chunks should follow every change");
+    }
+    
+    /**
+     * Tests that changes made by a listener during a navigation only show in the next navigation.
+     */
+    @Test
+    @DisplayName("Should let a running navigation finish on the version it started with")
+    void testSnapshotDuringChange() {
+        // Arrange
+        final NodeNavigator navigator = new NodeNavigator(new int[]{0, 1, 2});
+        final List<Integer> visited = new ArrayList<>();
+        navigator.subscribe(data -> {
+            visited.add(data);
+            if (visited.size() == 1) {
+                navigator.removeAt(2);
+                navigator.append(-1);
+                navigator.insertAt(0, Integer.MIN_VALUE);
+            }
+        });
+        
+        // Act
+        navigator.navigate();
+        navigator.unsubscribe();
+        
+        // Assert
+        assertEquals(List.of(0, 1, 2), visited, "The running navigation should not see the changes");
+        assertArrayEquals(new int[]{Integer.MIN_VALUE, 0, 1, -1}, navigate(navigator),
+                        "The next navigation should see the changes");
+    }
+    
+    /**
+     * Tests that navigations racing a stream of appends each see one whole version of the list.
+     * 
+     * @throws InterruptedException if the test is interrupted
+     */
+    @Test
+    @DisplayName("Should give every concurrent navigation one consistent version")
+    void testConcurrentAppends() throws InterruptedException {
+        // Arrange
+        final NodeNavigator navigator = new NodeNavigator(new int[]{});
+        final CountDownLatch start = new CountDownLatch(1);
+        final CountDownLatch done = new CountDownLatch(NAVIGATING_THREADS);
+        final Queue<String> errors = new ConcurrentLinkedQueue<>();
+        // Every thread's navigations notify the same listener, so it tracks positions per thread
+        final ThreadLocal<int[]> position = ThreadLocal.withInitial(() -> new int[1]);
+        navigator.subscribe(data -> {
+            final int index = position.get()[0]++;
+            if (data != index) {
+                errors.add("Position " + index + " held " + data);
+            }
+        });
+        for (int thread = 0; thread < NAVIGATING_THREADS; thread++) {
+            new Thread(() -> {
+                try {
+                    start.await();
+                    while (navigator.size() < NODE_COUNT) {
+                        // A consistent version holds exactly 0, 1, 2, ... up to its size
+                        position.get()[0] = 0;
+                        navigator.navigate();
+                    }
+                } catch (final InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    done.countDown();
+                }
+            }).start();
+        }
+        
+        // Act
+        start.countDown();
+        for (int node = 0; node < NODE_COUNT; node++) {
+            navigator.append(node);
+        }
+        
+        // Assert
+        assertTrue(done.await(TIMEOUT_SECONDS, TimeUnit.SECONDS), "Navigating threads should finish");
+        assertTrue(errors.isEmpty(), () -> "Navigations should see consistent versions: " + errors.peek());
+    }
+    
+    /**
+     * Tests that the first change copies wrapped and off-heap nodes, and that invalid changes are rejected.
+     */
+    @Test
+    @DisplayName("Should copy wrapped and off-heap nodes on the first change, and validate arguments")
+    void testFirstChangeAndValidation() {
+        // Arrange
+        final int[] caller = {0, 1, 2};
+        final NodeNavigator wrapped = NodeNavigator.wrap(caller);
+        final NodeNavigator offHeap = NodeNavigator.offHeap(caller);
+        final NodeNavigator closed = NodeNavigator.offHeap(caller);
+        
+        // Act
+        wrapped.append(-1);
+        caller[0] = Integer.MIN_VALUE;
+        offHeap.removeAt(0);
+        closed.close();
+        
+        // Assert
+        assertArrayEquals(new int[]{0, 1, 2, -1}, navigate(wrapped), "Changed navigators should own their nodes");
+        assertEquals(0, offHeap.getOffHeapBytes(), "Changed off-heap navigators should release their memory");
+        assertArrayEquals(new int[]{1, 2}, navigate(offHeap), "Nodes should survive the move onto the heap");
+        assertThrows(IndexOutOfBoundsException.class, () -> wrapped.insertAt(-1, 0), "Negative index");
+        assertThrows(IndexOutOfBoundsException.class, () -> wrapped.insertAt(wrapped.size() + 1, 0),
+                   "Index past the end");
+        assertThrows(IndexOutOfBoundsException.class, () -> wrapped.removeAt(wrapped.size()), "Index past the end");
+        assertThrows(IllegalArgumentException.class, () -> wrapped.appendAll(null), "Null array");
+        assertThrows(IllegalStateException.class, () -> closed.append(0), "Closed navigators cannot change");
+    }
+}
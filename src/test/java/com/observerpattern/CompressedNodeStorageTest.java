@@ -0,0 +1,176 @@
+/**
+ * Unit tests for navigation over delta/varint compressed storage.
+ * <p>
+ * This test class validates that a NodeNavigator created with
+ * {@link NodeNavigator#compress(int[])} delivers exactly the original values,
+ * including extreme deltas, ranges that start and end mid-block and chunks that
+ * straddle blocks, and that sorted values shrink to a fraction of an int[].
+ * </p>
+ * 
+ * @author Ramaswamy Krishnan-Chittur
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+
+package com.observerpattern;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Unit tests for the CompressedNodeStorage.
+ * 
+ * @author Ramaswamy Krishnan-Chittur
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@DisplayName("Compressed Navigation Tests")
+class CompressedNodeStorageTest {
+    
+    /** Number of nodes, enough to span many blocks with a partial last one. */
+    private static final int NODE_COUNT = 1000;
+    
+    /** Chunk size that does not divide the block size. */
+    private static final int CHUNK_SIZE = 7;
+    
+    /** Odd multiplier that scatters consecutive indexes across the int range. */
+    private static final int SPREAD = 0x9E3779B9;
+    
+    /**
+     * Creates pseudo-random node values whose deltas overflow in both directions.
+     * 
+     * @param count the number of values
+     * @return the values
+     */
+    private static int[] scattered(final int count) {
+        final int[] values = new int[count];
+        for (int i = 0; i < count; i++) {
+            values[i] = i * SPREAD;
+        }
+        values[0] = Integer.MIN_VALUE;
+        values[1] = Integer.MAX_VALUE;
+        values[2] = Integer.MIN_VALUE;
+        return values;
+    }
+    
+    /**
+     * Collects the nodes a navigation delivers.
+     * 
+     * @param navigator the navigator to navigate
+     * @param from the first position to visit, inclusive
+     * @param to the last position to visit, exclusive
+     * @param step the distance between visited positions
+     * @return the visited node values
+     */
+    private static int[] navigate(final NodeNavigator navigator, final int from, final int to, final int step) {
+        final List<Integer> visited = new ArrayList<>();
+        navigator.subscribe(visited::add);
+        navigator.navigate(from, to, step);
+        navigator.unsubscribe();
+        return visited.stream().mapToInt(Integer::intValue).toArray();
+    }
+    
+    /**
+     * Tests that compressed nodes navigate back to exactly the original values.
+     */
+    @Test
+    @DisplayName("Should navigate exactly the original values")
+    void testRoundTrip() {
+        // Arrange
+        final int[] numbers = scattered(NODE_COUNT);
+        
+        // Act
+        final NodeNavigator navigator = NodeNavigator.compress(numbers);
+        final NodeNavigator empty = NodeNavigator.compress(new int[]{});
+        
+        // Assert
+        assertEquals(NODE_COUNT, navigator.size(), "Every value should be a node");
+        assertArrayEquals(numbers, navigate(navigator, 0, NODE_COUNT, 1), "Extreme deltas should round-trip");
+        assertTrue(navigator.toString().contains(Arrays.toString(numbers)), "toString should decode every node");
+        assertTrue(empty.isEmpty(), "Empty arrays should be allowed");
+    }
+    
+    /**
+     * Tests ranges, reverse strides and chunks that start and end inside compressed blocks.
+     */
+    @Test
+    @DisplayName("Should navigate ranges, strides and chunks across blocks")
+    void testRangesAndChunks() {
+        // Arrange
+        final int[] numbers = scattered(NODE_COUNT);
+        final CompressedNodeStorage storage = new CompressedNodeStorage(numbers, 1, NODE_COUNT - 1);
+        final int[] expected = Arrays.copyOfRange(numbers, 1, NODE_COUNT);
+        final NodeNavigator navigator = NodeNavigator.compress(numbers, 1, NODE_COUNT - 1);
+        final int from = CHUNK_SIZE * CHUNK_SIZE;
+        final int to = expected.length - CHUNK_SIZE;
+        final List<Integer> chunked = new ArrayList<>();
+        
+        // Act
+        final int[] ranged = navigate(navigator, from, to, 1);
+        final int[] reversed = navigate(navigator, 0, expected.length, -CHUNK_SIZE);
+        storage.forEachChunk(from, to, CHUNK_SIZE, (chunk, offset, length) -> {
+            for (int i = offset; i < offset + length; i++) {
+                chunked.add(chunk[i]);
+            }
+        });
+        
+        // Assert
+        assertArrayEquals(Arrays.copyOfRange(expected, from, to), ranged, "Ranges should start and end mid-block");
+        for (int i = 0; i < reversed.length; i++) {
+            assertEquals(expected[expected.length - 1 - i * CHUNK_SIZE], reversed[i],
+                         "Strided access should decode within the right block");
+        }
+        assertArrayEquals(Arrays.copyOfRange(expected, from, to),
+                        chunked.stream().mapToInt(Integer::intValue).toArray(),
+                        "Chunks straddling blocks should be decoded seamlessly");
+    }
+    
+    /**
+     * Tests that sorted values with small deltas compress to about a byte per node.
+     */
+    @Test
+    @DisplayName("Should store sorted values in a fraction of an int array")
+    void testCompressionRatio() {
+        // Arrange
+        final int[] sorted = new int[NODE_COUNT * NODE_COUNT];
+        for (int i = 0; i < sorted.length; i++) {
+            sorted[i] = Integer.MIN_VALUE + i * CHUNK_SIZE;
+        }
+        
+        // Act
+        final CompressedNodeStorage storage = new CompressedNodeStorage(sorted, 0, sorted.length);
+        
+        // Assert
+        assertTrue(storage.compressedBytes() * Integer.BYTES <= (long) sorted.length * Integer.BYTES + sorted.length,
+                   "Small deltas should need little more than one byte per node");
+        assertEquals(sorted[sorted.length - 1], storage.get(sorted.length - 1), "Last node should decode");
+    }
+    
+    /**
+     * Tests that null arrays and out-of-range slices and ranges are rejected.
+     */
+    @Test
+    @DisplayName("Should reject invalid arguments")
+    void testValidation() {
+        // Arrange
+        final int[] numbers = scattered(CHUNK_SIZE);
+        final NodeNavigator navigator = NodeNavigator.compress(numbers);
+        
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> NodeNavigator.compress(null),
+                   "Null array should be rejected");
+        assertThrows(IndexOutOfBoundsException.class, () -> NodeNavigator.compress(numbers, 1, CHUNK_SIZE),
+                   "Slice past the end should be rejected");
+        assertThrows(IndexOutOfBoundsException.class, () -> navigator.navigate(0, CHUNK_SIZE + 1),
+                   "Range past the end should be rejected");
+    }
+}
@@ -0,0 +1,212 @@
+/**
+ * Unit tests for navigation over memory-mapped files.
+ * <p>
+ * This test class validates that a NodeNavigator created with
+ * {@link NodeNavigator#map(java.nio.file.Path)} reads little-endian ints
+ * straight from the file, including windows and values that span several
+ * mapped segments, and that invalid files and windows are rejected.
+ * </p>
+ * 
+ * @author Ramaswamy Krishnan-Chittur
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+
+package com.observerpattern;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Unit tests for the MappedFileNodeStorage.
+ * 
+ * @author Ramaswamy Krishnan-Chittur
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@DisplayName("Memory-Mapped Navigation Tests")
+class MappedFileNodeStorageTest {
+    
+    /** Number of nodes written to the test file. */
+    private static final int NODE_COUNT = 1000;
+    
+    /** Tiny segments of 2^4 ints, so the test file spans many mappings. */
+    private static final int SMALL_SEGMENT_SHIFT = 4;
+    
+    /** Chunk size that does not divide the segment size. */
+    private static final int CHUNK_SIZE = 7;
+    
+    /** Multiplier that makes every byte of a test value differ. */
+    private static final int BYTE_SPREAD = 0x01010101;
+    
+    /** Window start, 2^62, whose byte offset wraps around to zero in long arithmetic. */
+    private static final long HUGE_FIRST_NODE = Long.MAX_VALUE / 2 + 1;
+    
+    /** Directory for the test files, removed after each test. */
+    @TempDir
+    private Path directory;
+    
+    /**
+     * Writes the values to a file as little-endian ints.
+     * 
+     * @param values the values to write
+     * @return the file
+     * @throws IOException if the file cannot be written
+     */
+    private Path write(final int[] values) throws IOException {
+        final ByteBuffer bytes = ByteBuffer.allocate(values.length * Integer.BYTES).order(ByteOrder.LITTLE_ENDIAN);
+        bytes.asIntBuffer().put(values);
+        return Files.write(this.directory.resolve("nodes.bin"), bytes.array());
+    }
+    
+    /**
+     * Creates node values that differ in every byte, so byte order mistakes show.
+     * 
+     * @param count the number of values
+     * @return the values
+     */
+    private static int[] values(final int count) {
+        final int[] values = new int[count];
+        for (int i = 0; i < count; i++) {
+            values[i] = i * BYTE_SPREAD - NODE_COUNT;
+        }
+        return values;
+    }
+    
+    /**
+     * Collects every node a navigation delivers, one at a time.
+     * 
+     * @param navigator the navigator to navigate
+     * @return the visited node values
+     */
+    private static int[] navigate(final NodeNavigator navigator) {
+        final List<Integer> visited = new ArrayList<>();
+        navigator.subscribe(visited::add);
+        navigator.navigate();
+        return visited.stream().mapToInt(Integer::intValue).toArray();
+    }
+    
+    /**
+     * Tests that mapping a whole file navigates every int it holds.
+     * 
+     * @throws IOException if the test file cannot be written or mapped
+     */
+    @Test
+    @DisplayName("Should navigate every little-endian int of the file")
+    void testMapWholeFile() throws IOException {
+        // Arrange
+        final int[] numbers = values(NODE_COUNT);
+        final Path file = write(numbers);
+        
+        // Act
+        final NodeNavigator navigator = NodeNavigator.map(file);
+        
+        // Assert
+        assertEquals(NODE_COUNT, navigator.size(), "Every int should be a node");
+        assertArrayEquals(numbers, navigate(navigator), "Nodes should match the file contents");
+        assertTrue(navigator.toString().contains(", ...]"), "Large files should be elided in toString");
+    }
+    
+    /**
+     * Tests that mapping a window navigates only the ints inside it.
+     * 
+     * @throws IOException if the test file cannot be written or mapped
+     */
+    @Test
+    @DisplayName("Should navigate a window of the file")
+    void testMapWindow() throws IOException {
+        // Arrange
+        final int[] numbers = values(NODE_COUNT);
+        final Path file = write(numbers);
+        final int first = NODE_COUNT / 2 + 1;
+        final int count = NODE_COUNT / CHUNK_SIZE;
+        
+        // Act
+        final NodeNavigator navigator = NodeNavigator.map(file, first, count);
+        
+        // Assert
+        assertArrayEquals(Arrays.copyOfRange(numbers, first, first + count), navigate(navigator),
+                        "Only the window should be navigated");
+    }
+    
+    /**
+     * Tests per-node, chunked and random access over a file mapped in many small segments.
+     * 
+     * @throws IOException if the test file cannot be written or mapped
+     */
+    @Test
+    @DisplayName("Should read across segment boundaries per node, per chunk and strided")
+    void testManySegments() throws IOException {
+        // Arrange
+        final int[] numbers = values(NODE_COUNT);
+        final MappedFileNodeStorage storage =
+            new MappedFileNodeStorage(write(numbers), 1, NODE_COUNT - 1, SMALL_SEGMENT_SHIFT);
+        final int[] expected = Arrays.copyOfRange(numbers, 1, NODE_COUNT);
+        final List<Integer> perNode = new ArrayList<>();
+        final List<Integer> chunked = new ArrayList<>();
+        final List<Integer> strided = new ArrayList<>();
+        
+        // Act
+        storage.forEach(0, storage.size(), perNode::add);
+        storage.forEachChunk(0, storage.size(), CHUNK_SIZE, (chunk, offset, length) -> {
+            for (int i = offset; i < offset + length; i++) {
+                chunked.add(chunk[i]);
+            }
+        });
+        for (int i = 0; i < expected.length; i += CHUNK_SIZE) {
+            strided.add(storage.get(i));
+        }
+        
+        // Assert
+        assertArrayEquals(expected, perNode.stream().mapToInt(Integer::intValue).toArray(),
+                        "Per-node navigation should cross segments seamlessly");
+        assertArrayEquals(expected, chunked.stream().mapToInt(Integer::intValue).toArray(),
+                        "Chunks straddling segments should be copied piecewise");
+        for (int i = 0; i < strided.size(); i++) {
+            assertEquals(expected[i * CHUNK_SIZE], strided.get(i), "Random access should locate the right segment");
+        }
+    }
+    
+    /**
+     * Tests that missing, malformed and out-of-range files and windows are rejected.
+     * 
+     * @throws IOException if the test files cannot be written
+     */
+    @Test
+    @DisplayName("Should reject malformed files and windows")
+    void testValidation() throws IOException {
+        // Arrange
+        final Path file = write(values(NODE_COUNT));
+        final Path ragged = Files.write(this.directory.resolve("ragged.bin"), new byte[Integer.BYTES + 1]);
+        
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> NodeNavigator.map(null),
+                   "Null file should be rejected");
+        assertThrows(IllegalArgumentException.class, () -> NodeNavigator.map(ragged),
+                   "Partial trailing int should be rejected");
+        assertThrows(IllegalArgumentException.class, () -> NodeNavigator.map(file, -1, 1),
+                   "Negative window start should be rejected");
+        assertThrows(IllegalArgumentException.class, () -> NodeNavigator.map(file, 1, NODE_COUNT),
+                   "Window past the end should be rejected");
+        assertThrows(IllegalArgumentException.class, () -> NodeNavigator.map(file, HUGE_FIRST_NODE, NODE_COUNT),
+                   "Window whose byte offset overflows a long should be rejected");
+        assertThrows(IOException.class, () -> NodeNavigator.map(this.directory.resolve("missing.bin")),
+                   "Missing file should be reported");
+        assertEquals(0, NodeNavigator.map(file, NODE_COUNT, 0).size(), "Empty window should be allowed");
+    }
+}
@@ -0,0 +1,180 @@
+/**
+ * Unit tests for incremental, resumable navigation.
+ * <p>
+ * This test class validates that a NavigationCursor visits every node exactly
+ * once across bounded steps, that its checkpoints resume the traversal in a
+ * fresh navigator, and that invalid checkpoints and failed steps behave as
+ * documented.
+ * </p>
+ * 
+ * @author Ramaswamy Krishnan-Chittur
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+
+package com.observerpattern;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Unit tests for the NavigationCursor.
+ * 
+ * @author Ramaswamy Krishnan-Chittur
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@DisplayName("NavigationCursor Tests")
+class NavigationCursorTest {
+    
+    /** Number of nodes navigated. */
+    private static final int NODE_COUNT = 1000;
+    
+    /** Number of nodes visited per step, not a divisor of the node count. */
+    private static final int STEP = 64;
+    
+    /**
+     * Converts the collected values to an array.
+     * 
+     * @param values the collected values
+     * @return the values as an array
+     */
+    private static int[] toArray(final List<Integer> values) {
+        return values.stream().mapToInt(Integer::intValue).toArray();
+    }
+    
+    /**
+     * Tests that stepping a cursor to the end visits every node once, at most a step at a time.
+     */
+    @Test
+    @DisplayName("Should visit every node exactly once in bounded steps")
+    void testAdvanceInSteps() {
+        // Arrange
+        final int[] numbers = TestNodes.sequence(NODE_COUNT);
+        final NodeNavigator navigator = new NodeNavigator(numbers);
+        final List<Integer> visited = new ArrayList<>();
+        navigator.subscribe(visited::add);
+        final NavigationCursor cursor = navigator.cursor();
+        final List<Integer> counts = new ArrayList<>();
+        final List<Integer> positions = new ArrayList<>();
+        final List<Integer> visitedSizes = new ArrayList<>();
+        
+        // Act
+        while (cursor.hasNext()) {
+            counts.add(cursor.advance(STEP));
+            positions.add(cursor.getPosition());
+            visitedSizes.add(visited.size());
+        }
+        
+        // Assert
+        assertEquals((NODE_COUNT + STEP - 1) / STEP, counts.size(), "Last step should visit the remainder");
+        int expectedPosition = 0;
+        for (int step = 0; step < counts.size(); step++) {
+            final int count = counts.get(step);
+            assertTrue(count > 0 && count <= STEP, "Each step should visit at most the step size");
+            expectedPosition += count;
+            assertEquals(expectedPosition, positions.get(step), "Position should move by the visited count");
+            assertEquals(expectedPosition, visitedSizes.get(step), "Listeners should see exactly the visited nodes");
+        }
+        assertEquals(0, cursor.remaining(), "Finished cursor should have nothing left");
+        assertEquals(0, cursor.advance(STEP), "Finished cursor should visit nothing");
+        assertArrayEquals(numbers, toArray(visited), "Every node should be visited once, in order");
+    }
+    
+    /**
+     * Tests that a checkpoint taken in one navigator resumes the traversal in another.
+     */
+    @Test
+    @DisplayName("Should resume from a checkpoint in a fresh navigator")
+    void testCheckpointAndResume() {
+        // Arrange: a first "process" is interrupted after a few steps
+        final int[] numbers = TestNodes.sequence(NODE_COUNT);
+        final List<Integer> visited = new ArrayList<>();
+        final NodeNavigator first = new NodeNavigator(numbers);
+        first.subscribe(visited::add);
+        final NavigationCursor interrupted = first.cursor();
+        interrupted.advance(STEP);
+        interrupted.advance(STEP);
+        final byte[] checkpoint = interrupted.checkpoint();
+        final NodeNavigator second = new NodeNavigator(numbers);
+        second.subscribe(visited::add);
+        
+        // Act: a second "process" resumes where the first one stopped
+        final NavigationCursor resumed = second.resume(checkpoint);
+        final int resumedAt = resumed.getPosition();
+        while (resumed.hasNext()) {
+            resumed.advance(STEP);
+        }
+        
+        // Assert
+        assertEquals(interrupted.getPosition(), resumedAt, "Position should survive the checkpoint");
+        assertArrayEquals(numbers, toArray(visited), "Resumed traversal should neither skip nor repeat nodes");
+    }
+    
+    /**
+     * Tests that invalid steps and malformed or foreign checkpoints are rejected.
+     */
+    @Test
+    @DisplayName("Should reject invalid steps and checkpoints")
+    void testValidation() {
+        // Arrange
+        final NodeNavigator navigator = new NodeNavigator(TestNodes.sequence(NODE_COUNT));
+        final byte[] checkpoint = navigator.cursor().checkpoint();
+        final byte[] otherVersion = checkpoint.clone();
+        otherVersion[0]++;
+        
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> navigator.cursor().advance(0),
+                   "Zero step should be rejected");
+        assertThrows(IllegalArgumentException.class, () -> navigator.resume(null),
+                   "Null checkpoint should be rejected");
+        assertThrows(IllegalArgumentException.class, () -> navigator.resume(new byte[1]),
+                   "Truncated checkpoint should be rejected");
+        assertThrows(IllegalArgumentException.class, () -> navigator.resume(otherVersion),
+                   "Unknown version should be rejected");
+        assertThrows(IllegalArgumentException.class,
+                   () -> new NodeNavigator(TestNodes.sequence(STEP)).resume(checkpoint),
+                   "Checkpoint of another list should be rejected");
+    }
+    
+    /**
+     * Tests that a step whose listener throws leaves the cursor in place so the step can be retried.
+     */
+    @Test
+    @DisplayName("Should keep its position when a step fails")
+    void testFailedStepIsReplayed() {
+        // Arrange
+        final NodeNavigator navigator = new NodeNavigator(TestNodes.sequence(NODE_COUNT));
+        final boolean[] failing = {true};
+        final List<Integer> visited = new ArrayList<>();
+        navigator.subscribe(data -> {
+            if (failing[0] && data == STEP) {
+                throw new IllegalStateException("Interrupted");
+            }
+            visited.add(data);
+        });
+        final NavigationCursor cursor = navigator.cursor();
+        cursor.advance(STEP);
+        
+        // Act
+        assertThrows(RuntimeException.class, () -> cursor.advance(STEP), "Failure should surface");
+        final int positionAfterFailure = cursor.getPosition();
+        failing[0] = false;
+        cursor.advance(STEP);
+        
+        // Assert
+        assertEquals(STEP, positionAfterFailure, "Failed step should not move the cursor");
+        assertEquals(2 * STEP, cursor.getPosition(), "Retried step should complete");
+        assertFalse(visited.isEmpty(), "Retried step should notify the listener");
+        assertEquals(2 * STEP - 1, visited.get(visited.size() - 1), "Retried step should end at its last node");
+    }
+}
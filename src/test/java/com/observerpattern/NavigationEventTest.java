@@ -0,0 +1,262 @@
+/**
+ * Unit tests for the Java Flight Recorder events of navigation.
+ * <p>
+ * This test class records navigations with JFR and validates that every
+ * pass is marked with its size, visited nodes and listeners, that listener
+ * calls slower than the threshold are reported with the listener and node,
+ * and that tracing leaves error handling and instrumentation unchanged.
+ * </p>
+ * 
+ * @author Ramaswamy Krishnan-Chittur
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+
+package com.observerpattern;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.stream.Collectors;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Unit tests for the NavigationEvent and SlowListenerEvent.
+ * 
+ * @author Ramaswamy Krishnan-Chittur
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@DisplayName("Navigation Event Tests")
+class NavigationEventTest {
+    
+    /** Number of nodes in the list; spans several chunks. */
+    private static final int NODE_COUNT = 5000;
+    
+    /** The node the slow per-node listener lingers on. */
+    private static final int SLOW_NODE = 4321;
+    
+    /** The slow-listener threshold used by the recordings. */
+    private static final Duration THRESHOLD = Duration.ofMillis(1);
+    
+    /** How long a slow listener call takes; well above the threshold. */
+    private static final long SLOW_NANOS = TimeUnit.MILLISECONDS.toNanos(5);
+    
+    /** Directory for the recording files, removed after each test. */
+    @TempDir
+    private Path directory;
+    
+    /**
+     * Records the navigator events emitted while an action runs.
+     * 
+     * @param action the code to record
+     * @return the navigation and slow-listener events, in commit order per thread
+     * @throws IOException if the recording cannot be written or read
+     */
+    private List<RecordedEvent> record(final Runnable action) throws IOException {
+        final Path file = this.directory.resolve("navigation.jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable(NavigationEvent.NAME).withoutStackTrace();
+            recording.enable(SlowListenerEvent.NAME).withThreshold(THRESHOLD);
+            recording.start();
+            action.run();
+            recording.stop();
+            recording.dump(file);
+        }
+        return RecordingFile.readAllEvents(file);
+    }
+    
+    /**
+     * Selects the events of one type.
+     * 
+     * @param events the recorded events
+     * @param name the event name
+     * @return the events with that name
+     */
+    private static List<RecordedEvent> named(final List<RecordedEvent> events, final String name) {
+        return events.stream()
+                     .filter(event -> name.equals(event.getEventType().getName()))
+                     .collect(Collectors.toList());
+    }
+    
+    /**
+     * Tests that full and strided passes are recorded with their sizes, and that passes without listeners are not.
+     * 
+     * @throws IOException if the recording cannot be written or read
+     */
+    @Test
+    @DisplayName("Should mark each navigation pass")
+    void testNavigationEvents() throws IOException {
+        // Arrange
+        final NodeNavigator navigator = new NodeNavigator(TestNodes.sequence(NODE_COUNT));
+        final NodeNavigator unobserved = new NodeNavigator(TestNodes.sequence(NODE_COUNT));
+        navigator.subscribe(data -> { });
+        navigator.subscribe(new NodeAggregateListener());
+        
+        // Act
+        final List<RecordedEvent> passes = named(record(() -> {
+            navigator.navigate();
+            navigator.navigate(0, NODE_COUNT, 2);
+            unobserved.navigate();
+        }), NavigationEvent.NAME);
+        
+        // Assert
+        assertEquals(2, passes.size(), "Passes without listeners should not be recorded");
+        final RecordedEvent full = passes.get(0);
+        assertEquals(NODE_COUNT, full.getInt("size"), "The list size should be recorded");
+        assertEquals(NODE_COUNT, full.getInt("nodeCount"), "A full pass visits every node");
+        assertEquals(2, full.getInt("listenerCount"), "The listeners should be counted");
+        assertTrue(full.getBoolean("completed"), "The pass should be complete");
+        assertFalse(full.getDuration().isNegative(), "The pass should have a duration");
+        final RecordedEvent strided = passes.get(1);
+        assertEquals(NODE_COUNT / 2, strided.getInt("nodeCount"), "A strided pass visits every other node");
+        assertEquals(2, strided.getInt("step"), "The step should be recorded");
+    }
+    
+    /**
+     * Tests that a pass aborted by a fail-fast listener is recorded as incomplete.
+     * 
+     * @throws IOException if the recording cannot be written or read
+     */
+    @Test
+    @DisplayName("Should mark navigation passes aborted by a listener")
+    void testAbortedNavigation() throws IOException {
+        // Arrange
+        final NodeNavigator navigator = new NodeNavigator(TestNodes.sequence(NODE_COUNT));
+        navigator.subscribe(data -> {
+            throw new IllegalStateException("Listener failed");
+        });
+        final List<RuntimeException> failures = new ArrayList<>();
+        
+        // Act
+        final List<RecordedEvent> passes = named(record(() -> {
+            try {
+                navigator.navigate();
+            } catch (final RuntimeException e) {
+                failures.add(e);
+            }
+        }), NavigationEvent.NAME);
+        
+        // Assert
+        assertEquals(1, failures.size(), "Fail-fast should propagate");
+        assertEquals(1, passes.size(), "The aborted pass should be recorded");
+        assertFalse(passes.get(0).getBoolean("completed"), "The pass should be marked incomplete");
+    }
+    
+    /**
+     * Tests that a slow batch call and a slow per-node call are reported with their listener and node.
+     * 
+     * @throws IOException if the recording cannot be written or read
+     */
+    @Test
+    @DisplayName("Should report listener calls slower than the threshold")
+    void testSlowListenerEvents() throws IOException {
+        // Arrange
+        final NodeNavigator navigator = new NodeNavigator(TestNodes.sequence(NODE_COUNT));
+        navigator.subscribe(new SlowBatchListener());
+        navigator.subscribe(new SlowNodeListener());
+        
+        // Act
+        final boolean timedWithoutRecording = SlowListenerEvent.isRecorded();
+        final List<RecordedEvent> slow = named(record(navigator::navigate), SlowListenerEvent.NAME);
+        
+        // Assert
+        assertFalse(timedWithoutRecording, "Calls should not be timed without a recording");
+        // Any call can exceed the threshold during a GC pause, so look for the two deliberately slow ones
+        final RecordedEvent batchCall = slowCall(slow, SlowBatchListener.class, 0);
+        assertEquals(navigator.getChunkSize(), batchCall.getInt("nodeCount"), "The chunk length should be recorded");
+        final RecordedEvent nodeCall = slowCall(slow, SlowNodeListener.class, SLOW_NODE);
+        assertEquals(1, nodeCall.getInt("nodeCount"), "A per-node call handles one node");
+        assertTrue(nodeCall.getDuration().compareTo(THRESHOLD) >= 0, "Reported calls should reach the threshold");
+    }
+    
+    /**
+     * Tests that recording events changes neither the error policy nor the instrumentation of a navigation.
+     * 
+     * @throws IOException if the recording cannot be written or read
+     */
+    @Test
+    @DisplayName("Should keep error policies and instrumentation while tracing")
+    void testTracingWithInstrumentation() throws IOException {
+        // Arrange
+        final NodeNavigator navigator = new NodeNavigator(TestNodes.sequence(NODE_COUNT));
+        final NodeAggregateListener healthy = new NodeAggregateListener();
+        navigator.subscribe(data -> {
+            if (data == SLOW_NODE) {
+                throw new IllegalStateException("Listener failed");
+            }
+        });
+        navigator.subscribe(healthy);
+        navigator.setErrorPolicy(ErrorPolicy.SKIP_AND_COUNT);
+        navigator.setInstrumented(true);
+        
+        // Act
+        record(navigator::navigate);
+        
+        // Assert
+        assertEquals(1, navigator.getFailureCount(), "The failure should be counted");
+        assertEquals(NODE_COUNT, healthy.toAggregates().getCount(), "Other listeners should still be notified");
+        final NavigationMetrics.ListenerMetrics failing = navigator.getMetrics().getListenerMetrics().get(0);
+        assertEquals(NODE_COUNT, failing.getInvocationCount(), "Every call should be counted");
+        assertTrue(failing.getSampleCount() > 0, "Per-node calls should still be sampled");
+    }
+    
+    /**
+     * Finds the slow-listener event of one listener class and node.
+     * 
+     * @param events the slow-listener events recorded
+     * @param listener the class of the listener
+     * @param node the node, or the first node of the chunk for batch listeners
+     * @return the only matching event
+     */
+    private static RecordedEvent slowCall(final List<RecordedEvent> events, final Class<?> listener,
+                                          final int node) {
+        final List<RecordedEvent> matching = events.stream()
+            .filter(event -> listener.getName().equals(event.getClass("listenerClass").getName()))
+            .filter(event -> event.getInt("node") == node)
+            .collect(Collectors.toList());
+        assertEquals(1, matching.size(), "The slow call of " + listener.getSimpleName() + " should be reported once");
+        return matching.get(0);
+    }
+    
+    /**
+     * Per-node listener that lingers on one node.
+     */
+    private static final class SlowNodeListener implements INodeNavigationListener {
+        
+        @Override
+        public void onNodeVisited(final int data) {
+            if (data == SLOW_NODE) {
+                LockSupport.parkNanos(SLOW_NANOS);
+            }
+        }
+    }
+    
+    /**
+     * Batch listener that lingers on the first chunk.
+     */
+    private static final class SlowBatchListener implements INodeBatchListener {
+        
+        @Override
+        public void onNodesVisited(final int[] values, final int offset, final int length) {
+            if (values[offset] == 0) {
+                LockSupport.parkNanos(SLOW_NANOS);
+            }
+        }
+    }
+}
@@ -0,0 +1,272 @@
+/**
+ * Unit tests for instrumented navigation and the metrics it reports.
+ * <p>
+ * This test class validates that instrumentation counts navigations, nodes
+ * and listener callbacks exactly, that a slow listener shows up as slow,
+ * that listener failures still follow the error policy, and that a disabled
+ * navigator records nothing.
+ * </p>
+ * 
+ * @author Ramaswamy Krishnan-Chittur
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+
+package com.observerpattern;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Unit tests for the NavigationMetrics.
+ * 
+ * @author Ramaswamy Krishnan-Chittur
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@DisplayName("Navigation Metrics Tests")
+class NavigationMetricsTest {
+    
+    /** Number of nodes in the list; spans several chunks and sample intervals. */
+    private static final int NODE_COUNT = 5000;
+    
+    /** Every this many nodes the slow listener sleeps. */
+    private static final int SLOW_INTERVAL = 1000;
+    
+    /** How long the slow listener sleeps. */
+    private static final long SLOW_NANOS = TimeUnit.MILLISECONDS.toNanos(2);
+    
+    /** The median percentile. */
+    private static final double MEDIAN = 50.0;
+    
+    /** The largest percentile. */
+    private static final double MAX = 100.0;
+    
+    /** Histogram buckets per power of two; a bucket is at most this fraction of its values wider. */
+    private static final int BUCKETS_PER_POWER = 8;
+    
+    /** The estimated median may exceed the true median by at most the node count divided by this. */
+    private static final int MEDIAN_TOLERANCE = 10;
+    
+    /**
+     * Creates a listener that sleeps on every {@link #SLOW_INTERVAL}th node.
+     * 
+     * @return the slow listener
+     */
+    private static INodeNavigationListener slowListener() {
+        return data -> {
+            if (data % SLOW_INTERVAL == 0) {
+                LockSupport.parkNanos(SLOW_NANOS);
+            }
+        };
+    }
+    
+    /**
+     * Tests that instrumentation is off by default and that a navigator without it records nothing.
+     */
+    @Test
+    @DisplayName("Should record nothing while instrumentation is disabled")
+    void testDisabled() {
+        // Arrange
+        final NodeNavigator navigator = new NodeNavigator(TestNodes.sequence(NODE_COUNT));
+        navigator.subscribe(new NodeAggregateListener());
+        
+        // Act
+        final boolean instrumented = navigator.isInstrumented();
+        navigator.navigate();
+        final NavigationMetrics metrics = navigator.getMetrics();
+        
+        // Assert
+        assertFalse(instrumented, "Instrumentation should be disabled by default");
+        assertSame(NavigationMetrics.EMPTY, metrics, "A disabled navigator should record nothing");
+    }
+    
+    /**
+     * Tests that the navigation totals and the per-listener counts and samples are exact.
+     */
+    @Test
+    @DisplayName("Should count navigations, nodes and callbacks of each listener")
+    void testCounts() {
+        // Arrange
+        final NodeNavigator navigator = new NodeNavigator(TestNodes.sequence(NODE_COUNT));
+        final INodeNavigationListener fast = data -> { };
+        final INodeNavigationListener slow = slowListener();
+        final NodeAggregateListener batch = new NodeAggregateListener();
+        navigator.subscribe(fast);
+        navigator.subscribe(slow);
+        navigator.subscribe(batch);
+        navigator.setInstrumented(true);
+        final int visited = NODE_COUNT + NODE_COUNT / 2;
+        
+        // Act
+        navigator.navigate();
+        navigator.navigate(0, NODE_COUNT, 2);
+        final NavigationMetrics metrics = navigator.getMetrics();
+        final List<NavigationMetrics.ListenerMetrics> perListener = metrics.getListenerMetrics();
+        
+        // Assert
+        assertTrue(navigator.isInstrumented(), "Instrumentation should be enabled");
+        assertEquals(2, metrics.getNavigationCount(), "Both navigations should be counted");
+        assertEquals(visited, metrics.getNodeCount(), "Every visited node should be counted once");
+        assertTrue(metrics.getTotalNanos() >= metrics.getMaxNanos(), "The slowest navigation is part of the total");
+        assertTrue(metrics.getNodesPerSecond() > 0, "Throughput should be reported");
+        assertTrue(metrics.getLastNodesPerSecond() > 0, "The last navigation's throughput should be reported");
+        assertTrue(metrics.toString().contains("navigations=2"), "The string should show the totals");
+        assertEquals(List.of(fast, slow, batch),
+                     perListener.stream().map(NavigationMetrics.ListenerMetrics::getListener).toList(),
+                     "Listeners should be reported in subscription order");
+        final NavigationMetrics.ListenerMetrics fastMetrics = perListener.get(0);
+        final NavigationMetrics.ListenerMetrics batchMetrics = perListener.get(2);
+        assertEquals(visited, fastMetrics.getInvocationCount(), "Per-node listeners are called once per node");
+        assertEquals(visited, fastMetrics.getNodeCount(), "Every node should be delivered");
+        assertEquals(visited, batchMetrics.getNodeCount(), "Every node should be delivered in chunks");
+        assertTrue(batchMetrics.getInvocationCount() < visited, "Batch listeners are called once per chunk");
+        assertEquals(batchMetrics.getInvocationCount(), batchMetrics.getSampleCount(), "Every chunk is sampled");
+        assertTrue(fastMetrics.getSampleCount() > 0, "Per-node calls should be sampled");
+        assertTrue(fastMetrics.getSampleCount() < visited, "Only some per-node calls should be sampled");
+    }
+    
+    /**
+     * Tests that time spent in a slow listener is attributed to that listener.
+     */
+    @Test
+    @DisplayName("Should attribute a slow listener's time to it")
+    void testSlowListener() {
+        // Arrange
+        final NodeNavigator navigator = new NodeNavigator(TestNodes.sequence(NODE_COUNT));
+        navigator.subscribe(data -> { });
+        navigator.subscribe(slowListener());
+        navigator.setInstrumented(true);
+        
+        // Act
+        navigator.navigate();
+        final List<NavigationMetrics.ListenerMetrics> perListener = navigator.getMetrics().getListenerMetrics();
+        
+        // Assert
+        final NavigationMetrics.ListenerMetrics fastMetrics = perListener.get(0);
+        final NavigationMetrics.ListenerMetrics slowMetrics = perListener.get(1);
+        assertTrue(slowMetrics.getTotalNanos() >= SLOW_NANOS * (NODE_COUNT / SLOW_INTERVAL),
+                   "Time spent in a listener should be attributed to it");
+        assertTrue(slowMetrics.getNanosPerNode() > fastMetrics.getNanosPerNode(), "The slow listener should stand out");
+        assertTrue(slowMetrics.getPercentileNanos(MEDIAN) <= slowMetrics.getPercentileNanos(MAX),
+                   "Percentiles should not decrease");
+        assertThrows(IllegalArgumentException.class, () -> slowMetrics.getPercentileNanos(-1),
+                     "Negative percentiles are invalid");
+    }
+    
+    /**
+     * Tests that unsubscribed listeners leave the metrics and that disabling instrumentation discards them.
+     */
+    @Test
+    @DisplayName("Should drop metrics of unsubscribed listeners and discard them when disabled")
+    void testUnsubscribeAndDisable() {
+        // Arrange
+        final NodeNavigator navigator = new NodeNavigator(TestNodes.sequence(NODE_COUNT));
+        final INodeNavigationListener fast = data -> { };
+        navigator.subscribe(fast);
+        navigator.subscribe(new NodeAggregateListener());
+        navigator.setInstrumented(true);
+        navigator.navigate();
+        
+        // Act
+        navigator.unsubscribe(fast);
+        final int remaining = navigator.getMetrics().getListenerMetrics().size();
+        navigator.setInstrumented(false);
+        final NavigationMetrics disabled = navigator.getMetrics();
+        
+        // Assert
+        assertEquals(1, remaining, "Unsubscribed listeners are dropped");
+        assertSame(NavigationMetrics.EMPTY, disabled, "Disabling should discard the metrics");
+    }
+    
+    /**
+     * Tests that each error policy behaves as without instrumentation, and what the metrics record.
+     */
+    @Test
+    @DisplayName("Should follow the error policy while instrumented")
+    void testErrorPolicies() {
+        // Arrange
+        final NodeNavigator navigator = new NodeNavigator(TestNodes.sequence(NODE_COUNT));
+        navigator.setInstrumented(true);
+        final NodeAggregateListener healthy = new NodeAggregateListener();
+        final INodeNavigationListener failing = data -> {
+            if (data % SLOW_INTERVAL == 1) {
+                throw new IllegalStateException("Listener failed");
+            }
+        };
+        final INodeBatchListener failingBatch = (values, offset, length) -> {
+            throw new IllegalStateException("Listener failed");
+        };
+        navigator.subscribe(failing);
+        navigator.subscribe(healthy);
+        final int failures = NODE_COUNT / SLOW_INTERVAL;
+        
+        // Act & Assert: fail fast
+        assertThrows(RuntimeException.class, navigator::navigate, "Fail-fast should propagate");
+        assertEquals(1, navigator.getFailureCount(), "The failure should be counted");
+        assertEquals(0, navigator.getMetrics().getNavigationCount(), "An aborted navigation is not completed");
+        
+        // Act: skip and count
+        navigator.setErrorPolicy(ErrorPolicy.SKIP_AND_COUNT);
+        navigator.navigate();
+        
+        // Assert: skip and count
+        assertEquals(1 + failures, navigator.getFailureCount(), "Each failed node should be counted");
+        assertEquals(NODE_COUNT, healthy.toAggregates().getCount(), "Other listeners should still be notified");
+        assertEquals(NODE_COUNT, navigator.getMetrics().getListenerMetrics().get(0).getNodeCount(),
+                     "A per-node listener should get the rest of the chunk after a failure");
+        
+        // Act: isolate
+        navigator.subscribe(failingBatch);
+        navigator.setErrorPolicy(ErrorPolicy.ISOLATE_FAILING_LISTENER);
+        navigator.navigate();
+        
+        // Assert: isolate
+        assertEquals(List.of(healthy), navigator.getListeners(), "Failing listeners should be unsubscribed");
+        assertEquals(2, navigator.getIsolatedListenerCount(), "Both failing listeners should be isolated");
+        assertEquals(2, navigator.getMetrics().getNavigationCount(), "Contained failures complete the navigation");
+    }
+    
+    /**
+     * Tests that the latency buckets are tight enough and that percentiles are estimated from them.
+     */
+    @Test
+    @DisplayName("Should estimate percentiles within the histogram resolution")
+    void testHistogram() {
+        // Arrange
+        final long[] counts = new long[ListenerLatency.bucketOf(Long.MAX_VALUE) + 1];
+        final long[] limits = new long[NODE_COUNT];
+        
+        // Act
+        for (int value = 0; value < NODE_COUNT; value++) {
+            final int bucket = ListenerLatency.bucketOf(value);
+            limits[value] = ListenerLatency.bucketLimit(bucket);
+            counts[bucket]++;
+        }
+        final long median = ListenerLatency.percentile(counts, MEDIAN);
+        final long smallest = ListenerLatency.percentile(counts, 0);
+        
+        // Assert
+        for (int value = 0; value < NODE_COUNT; value++) {
+            assertTrue(limits[value] >= value, "A bucket should hold its values");
+            assertTrue(limits[value] <= value + value / BUCKETS_PER_POWER,
+                       "A bucket should be at most an eighth wider than its values");
+        }
+        assertEquals(Long.MAX_VALUE, ListenerLatency.bucketLimit(counts.length - 1), "The last bucket holds the rest");
+        assertEquals(0, ListenerLatency.bucketOf(-1), "Negative latencies count as zero");
+        assertEquals(0, ListenerLatency.percentile(new long[counts.length], MEDIAN), "No samples give zero");
+        assertTrue(median >= NODE_COUNT / 2 - 1 && median <= NODE_COUNT / 2 + NODE_COUNT / MEDIAN_TOLERANCE,
+                   "The median should be close to the middle value");
+        assertEquals(0, smallest, "The smallest sample is zero");
+    }
+}
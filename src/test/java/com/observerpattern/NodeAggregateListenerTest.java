@@ -0,0 +1,160 @@
+/**
+ * Unit tests for the built-in aggregate observer and its kernels.
+ * <p>
+ * This test class validates that the scalar kernel and the fastest available
+ * kernel, which is the SIMD kernel when built with the {@code vector}
+ * profile, agree with independently computed statistics for every chunk
+ * length and alignment, for extreme values, and across parallel navigation.
+ * </p>
+ * 
+ * @author Ramaswamy Krishnan-Chittur
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+
+package com.observerpattern;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.IntSummaryStatistics;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+/**
+ * Unit tests for the NodeAggregateListener.
+ * 
+ * @author Ramaswamy Krishnan-Chittur
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@DisplayName("Aggregate Listener Tests")
+class NodeAggregateListenerTest {
+    
+    /** Number of values to draw chunks from; large enough to span several vector blocks. */
+    private static final int NODE_COUNT = 200_000;
+    
+    /** Longest short chunk tried at every alignment. */
+    private static final int SHORT_CHUNKS = 100;
+    
+    /**
+     * Checks a listener's aggregates against independently computed statistics.
+     * 
+     * @param values the values the listener observed
+     * @param listener the listener to check
+     */
+    private static void assertMatches(final int[] values, final NodeAggregateListener listener) {
+        final IntSummaryStatistics expected = Arrays.stream(values).summaryStatistics();
+        final NodeAggregates actual = listener.toAggregates();
+        assertEquals(expected.getCount(), actual.getCount(), "Count should match");
+        assertEquals(expected.getSum(), actual.getSum(), "Sum should match");
+        assertEquals(expected.getMin(), actual.getMin(), "Minimum should match");
+        assertEquals(expected.getMax(), actual.getMax(), "Maximum should match");
+    }
+    
+    /**
+     * Feeds one chunk to a listener.
+     * 
+     * @param values the array holding the chunk
+     * @param offset position of the first value of the chunk
+     * @param length number of values in the chunk
+     * @param listener a fresh listener
+     * @return the listener, having observed the chunk
+     */
+    private static NodeAggregateListener feed(final int[] values, final int offset, final int length,
+                                              final NodeAggregateListener listener) {
+        listener.onNodesVisited(values, offset, length);
+        return listener;
+    }
+    
+    /**
+     * Tests the scalar and vector kernels on short chunks at every alignment, and on one long chunk.
+     */
+    @Test
+    @DisplayName("Should aggregate chunks of every length and alignment exactly")
+    void testChunks() {
+        // Arrange
+        final int[] values = new Random(NODE_COUNT).ints(NODE_COUNT).toArray();
+        final List<int[]> chunks = new ArrayList<>();
+        final List<NodeAggregateListener> listeners = new ArrayList<>();
+        
+        // Act
+        for (int length = 0; length <= SHORT_CHUNKS; length++) {
+            for (int offset = 0; offset <= 2; offset++) {
+                final int[] chunk = Arrays.copyOfRange(values, offset, offset + length);
+                chunks.add(chunk);
+                listeners.add(feed(values, offset, length, NodeAggregateListener.scalar()));
+                chunks.add(chunk);
+                listeners.add(feed(values, offset, length, new NodeAggregateListener()));
+            }
+        }
+        final int[] longChunk = Arrays.copyOfRange(values, 1, NODE_COUNT);
+        chunks.add(longChunk);
+        listeners.add(feed(values, 1, NODE_COUNT - 1, NodeAggregateListener.scalar()));
+        chunks.add(longChunk);
+        listeners.add(feed(values, 1, NODE_COUNT - 1, new NodeAggregateListener()));
+        
+        // Assert
+        for (int chunk = 0; chunk < chunks.size(); chunk++) {
+            assertMatches(chunks.get(chunk), listeners.get(chunk));
+        }
+    }
+    
+    /**
+     * Tests that chunks of only the largest or smallest int sum exactly, and that no nodes give the empty result.
+     */
+    @Test
+    @DisplayName("Should sum extreme values without overflow")
+    void testExtremes() {
+        // Arrange
+        final int[] largest = new int[NODE_COUNT];
+        Arrays.fill(largest, Integer.MAX_VALUE);
+        final int[] smallest = new int[NODE_COUNT];
+        Arrays.fill(smallest, Integer.MIN_VALUE);
+        
+        // Act
+        final NodeAggregateListener largestScalar = feed(largest, 0, NODE_COUNT, NodeAggregateListener.scalar());
+        final NodeAggregateListener largestVector = feed(largest, 0, NODE_COUNT, new NodeAggregateListener());
+        final NodeAggregateListener smallestScalar = feed(smallest, 0, NODE_COUNT, NodeAggregateListener.scalar());
+        final NodeAggregateListener smallestVector = feed(smallest, 0, NODE_COUNT, new NodeAggregateListener());
+        final NodeAggregateListener empty = feed(largest, 0, 0, new NodeAggregateListener());
+        
+        // Assert
+        assertMatches(largest, largestScalar);
+        assertMatches(largest, largestVector);
+        assertMatches(smallest, smallestScalar);
+        assertMatches(smallest, smallestVector);
+        assertSame(NodeAggregates.EMPTY, empty.toAggregates(), "No nodes should give the empty aggregates");
+    }
+    
+    /**
+     * Tests that chunked, per-node and parallel navigation all give the same aggregates as the cache.
+     */
+    @Test
+    @DisplayName("Should give the same result sequentially, per node and in parallel")
+    void testNavigation() {
+        // Arrange
+        final int[] values = new Random(SHORT_CHUNKS).ints(NODE_COUNT).toArray();
+        final NodeNavigator navigator = new NodeNavigator(values);
+        final NodeAggregateListener sequential = new NodeAggregateListener();
+        final NodeAggregateListener perNode = new NodeAggregateListener();
+        navigator.subscribe(sequential);
+        navigator.subscribe((INodeNavigationListener) perNode::onNodeVisited);
+        
+        // Act
+        navigator.navigate();
+        final NodeAggregateListener parallel = navigator.navigateParallel(NodeAggregateListener::new);
+        
+        // Assert
+        assertMatches(values, sequential);
+        assertMatches(values, perNode);
+        assertMatches(values, parallel);
+        assertEquals(navigator.getAggregates().toString(), sequential.toAggregates().toString(),
+                     "The cached aggregates should agree");
+    }
+}
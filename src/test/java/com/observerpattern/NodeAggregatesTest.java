@@ -0,0 +1,225 @@
+/**
+ * Unit tests for the aggregates a NodeNavigator caches per version of its list.
+ * <p>
+ * This test class validates that the built-in aggregates follow every change,
+ * that repeated queries over an unchanged list reuse the cached result, that
+ * nodes the caller can still change are never served from the cache, and
+ * that pluggable aggregates are computed once per version.
+ * </p>
+ * 
+ * @author Ramaswamy Krishnan-Chittur
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+
+package com.observerpattern;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.IntSummaryStatistics;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Unit tests for the NodeAggregates.
+ * 
+ * @author Ramaswamy Krishnan-Chittur
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@DisplayName("Aggregate Cache Tests")
+class NodeAggregatesTest {
+    
+    /** Number of nodes the list starts with. */
+    private static final int NODE_COUNT = 10_000;
+    
+    /** Number of random changes applied to the list. */
+    private static final int CHANGES = 2000;
+    
+    /** Number of change kinds cycled through. */
+    private static final int CHANGE_KINDS = 4;
+    
+    /** Range of the random node values, kept small so extremes are often removed. */
+    private static final int VALUE_RANGE = 100;
+    
+    /**
+     * Summarizes a navigator's nodes independently of its cache.
+     * 
+     * @param navigator the navigator to summarize
+     * @return the statistics of every node
+     */
+    private static IntSummaryStatistics expected(final NodeNavigator navigator) {
+        final IntSummaryStatistics statistics = new IntSummaryStatistics();
+        final INodeNavigationListener listener = statistics::accept;
+        navigator.subscribe(listener);
+        navigator.navigate();
+        navigator.unsubscribe(listener);
+        return statistics;
+    }
+    
+    /**
+     * Checks that aggregates match independently computed statistics.
+     * 
+     * @param statistics the statistics of every node
+     * @param aggregates the aggregates reported for the same nodes
+     */
+    private static void assertAggregates(final IntSummaryStatistics statistics, final NodeAggregates aggregates) {
+        assertEquals(statistics.getCount(), aggregates.getCount(), "Count should match");
+        assertEquals(statistics.getSum(), aggregates.getSum(), "Sum should match");
+        assertEquals(statistics.getMin(), aggregates.getMin(), "Minimum should match");
+        assertEquals(statistics.getMax(), aggregates.getMax(), "Maximum should match");
+        assertEquals(statistics.getAverage(), aggregates.getMean(), "Mean should match");
+    }
+    
+    /**
+     * Tests that the cached aggregates match a full recount after every kind of change, down to an empty list.
+     */
+    @Test
+    @DisplayName("Should follow every change to the list")
+    void testAggregatesFollowChanges() {
+        // Arrange
+        final Random random = new Random(NODE_COUNT);
+        final NodeNavigator navigator = new NodeNavigator(random.ints(NODE_COUNT, 0, VALUE_RANGE).toArray());
+        final List<IntSummaryStatistics> expected = new ArrayList<>();
+        final List<NodeAggregates> actual = new ArrayList<>();
+        
+        // Act
+        expected.add(expected(navigator));
+        actual.add(navigator.getAggregates());
+        for (int change = 0; change < CHANGES; change++) {
+            final int index = random.nextInt(navigator.size());
+            final int value = random.nextInt(VALUE_RANGE) - random.nextInt(VALUE_RANGE);
+            switch (change % CHANGE_KINDS) {
+                case 0:
+                    navigator.append(value);
+                    break;
+                case 1:
+                    navigator.insertAt(index, value);
+                    break;
+                case 2:
+                    navigator.removeAt(index);
+                    break;
+                default:
+                    navigator.set(index, value);
+                    break;
+            }
+            expected.add(expected(navigator));
+            actual.add(navigator.getAggregates());
+        }
+        while (!navigator.isEmpty()) {
+            navigator.removeAt(0);
+        }
+        final NodeAggregates empty = navigator.getAggregates();
+        
+        // Assert
+        for (int version = 0; version < expected.size(); version++) {
+            assertAggregates(expected.get(version), actual.get(version));
+        }
+        assertAggregates(expected(navigator), empty);
+        assertEquals(0.0, empty.getMean(), "An empty list should have a mean of zero");
+    }
+    
+    /**
+     * Tests that owned nodes reuse their cached result until changed, while caller-owned nodes are rescanned.
+     */
+    @Test
+    @DisplayName("Should reuse the cached result until the list changes")
+    void testCachedPerVersion() {
+        // Arrange
+        final int[] caller = {0, 1, 2};
+        final NodeNavigator owned = new NodeNavigator(caller);
+        final NodeNavigator wrapped = NodeNavigator.wrap(caller);
+        final NodeNavigator closed = NodeNavigator.offHeap(caller);
+        
+        // Act: read, change and read the owned nodes again
+        final NodeAggregates first = owned.getAggregates();
+        final NodeAggregates again = owned.getAggregates();
+        owned.append(-1);
+        final NodeAggregates appended = owned.getAggregates();
+        
+        // Assert
+        assertSame(first, again, "An unchanged list should reuse the cached result");
+        assertNotSame(first, appended, "A change should produce a new result");
+        assertEquals(-1, appended.getMin(), "The appended node should count");
+        assertSame(appended, owned.getAggregates(), "The new result should be cached in turn");
+        
+        // Act: read, change through the caller and read the wrapped nodes again
+        final NodeAggregates beforeCallerChange = wrapped.getAggregates();
+        caller[0] = -1;
+        final NodeAggregates afterCallerChange = wrapped.getAggregates();
+        closed.close();
+        
+        // Assert
+        assertEquals(2, beforeCallerChange.getMax(), "The caller's nodes should be summarized");
+        assertEquals(-1, afterCallerChange.getMin(), "Changes by the caller should be seen at once");
+        assertThrows(IllegalStateException.class, closed::getAggregates, "Closed navigators cannot be read");
+    }
+    
+    /**
+     * Tests that a pluggable aggregate runs its factory once per version of the list.
+     */
+    @Test
+    @DisplayName("Should compute a pluggable aggregate once per version")
+    void testPluggableAggregate() {
+        // Arrange
+        final NodeNavigator navigator = new NodeNavigator(new int[]{0, 1, 2});
+        final AtomicInteger created = new AtomicInteger();
+        final Supplier<CountingListener> factory = () -> {
+            created.incrementAndGet();
+            return new CountingListener();
+        };
+        
+        // Act: aggregate the same version twice
+        final CountingListener first = navigator.aggregate(factory);
+        final CountingListener again = navigator.aggregate(factory);
+        
+        // Assert
+        assertEquals(navigator.size(), first.getCount(), "The listener should observe every node");
+        assertSame(first, again, "An unchanged list should reuse the listener");
+        assertEquals(1, created.get(), "The factory should be called once per version");
+        
+        // Act: aggregate after a change, and caller-owned nodes
+        navigator.removeAt(0);
+        final CountingListener changed = navigator.aggregate(factory);
+        final int createdAfterChange = created.get();
+        final CountingListener wrapped = NodeNavigator.wrap(new int[]{0}).aggregate(factory);
+        
+        // Assert
+        assertEquals(navigator.size(), changed.getCount(), "A change should recompute");
+        assertEquals(2, createdAfterChange, "The factory should be called again after a change");
+        assertEquals(1, wrapped.getCount(), "Caller-owned nodes should be aggregated");
+        assertThrows(IllegalArgumentException.class, () -> navigator.aggregate(null), "Null factory");
+    }
+    
+    /**
+     * Batch listener that counts the nodes it receives.
+     */
+    private static final class CountingListener implements INodeBatchListener {
+        
+        /** Number of nodes received. */
+        private int count;
+        
+        @Override
+        public void onNodesVisited(final int[] values, final int offset, final int length) {
+            this.count += length;
+        }
+        
+        /**
+         * Gets the number of nodes received.
+         * 
+         * @return the node count
+         */
+        int getCount() {
+            return this.count;
+        }
+    }
+}
@@ -0,0 +1,349 @@
+/**
+ * Unit tests for change tracking and change passes on a NodeNavigator.
+ * <p>
+ * This test class validates that replaying the reported changes on a copy of
+ * the list reproduces the list, that full navigations and change passes start
+ * a new record, and that listener failures follow the error policy.
+ * </p>
+ * 
+ * @author Ramaswamy Krishnan-Chittur
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+
+package com.observerpattern;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Unit tests for the NodeChangeLog.
+ * 
+ * @author Ramaswamy Krishnan-Chittur
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@DisplayName("Change Tracking Tests")
+class NodeChangeLogTest {
+    
+    /** Number of nodes the list starts with. */
+    private static final int NODE_COUNT = 1000;
+    
+    /** Number of random changes applied between change passes. */
+    private static final int CHANGES = 500;
+    
+    /** Number of change kinds cycled through. */
+    private static final int CHANGE_KINDS = 5;
+    
+    /** Number of rounds of changes, each followed by a change pass. */
+    private static final int PASSES = 3;
+    
+    /**
+     * Change listener that keeps a copy of the list up to date.
+     */
+    private static final class MirrorListener implements INodeChangeListener {
+        
+        /** The copy of the list. */
+        private final List<Integer> mirror = new ArrayList<>();
+        
+        /** Number of change notifications received. */
+        private int changes;
+        
+        @Override
+        public void onNodeVisited(final int data) {
+            this.mirror.add(data);
+        }
+        
+        @Override
+        public void onNodeInserted(final int index, final int data) {
+            this.mirror.add(index, data);
+            this.changes++;
+        }
+        
+        @Override
+        public void onNodeRemoved(final int index, final int data) {
+            assertEquals(this.mirror.remove(index), data, "A removal should report the removed node");
+            this.changes++;
+        }
+        
+        @Override
+        public void onNodeUpdated(final int index, final int oldData, final int newData) {
+            assertEquals(this.mirror.set(index, newData), oldData, "An update should report the old data");
+            this.changes++;
+        }
+        
+        /**
+         * Gets the copy of the list.
+         * 
+         * @return the values of the copy
+         */
+        int[] toArray() {
+            return this.mirror.stream().mapToInt(Integer::intValue).toArray();
+        }
+    }
+    
+    /**
+     * Applies one change, chosen by its number, to both the navigator and the reference list.
+     * 
+     * @param navigator the navigator to change
+     * @param expected the reference list
+     * @param change the number of the change, which picks its kind and is used as the new data
+     * @param index the position to change
+     */
+    private static void change(final NodeNavigator navigator, final List<Integer> expected,
+                               final int change, final int index) {
+        switch (change % CHANGE_KINDS) {
+            case 0:
+                navigator.append(change);
+                expected.add(change);
+                break;
+            case 1:
+                navigator.appendAll(new int[]{change, -change});
+                expected.add(change);
+                expected.add(-change);
+                break;
+            case 2:
+                navigator.insertAt(index, change);
+                expected.add(index, change);
+                break;
+            default:
+                if (change % CHANGE_KINDS == CHANGE_KINDS - 1) {
+                    navigator.set(index, change);
+                    expected.set(index, change);
+                } else {
+                    navigator.removeAt(index);
+                    expected.remove(index);
+                }
+                break;
+        }
+    }
+    
+    /**
+     * Tests that applying the delivered changes to a copy of the list reproduces the list, pass after pass.
+     */
+    @Test
+    @DisplayName("Should reproduce the list by replaying changes on a copy")
+    void testReplayReproducesList() {
+        // Arrange
+        final Random random = new Random(NODE_COUNT);
+        final int[] initial = random.ints(NODE_COUNT).toArray();
+        final NodeNavigator navigator = new NodeNavigator(initial);
+        final List<Integer> expected = new ArrayList<>();
+        for (final int data : initial) {
+            expected.add(data);
+        }
+        navigator.setChangeTracking(true);
+        final MirrorListener listener = new MirrorListener();
+        final List<Integer> visited = new ArrayList<>();
+        navigator.subscribe(listener);
+        navigator.subscribe(visited::add);
+        navigator.navigate();
+        visited.clear();
+        final List<Integer> replayed = new ArrayList<>();
+        final List<Integer> received = new ArrayList<>();
+        final List<List<Integer>> expectedLists = new ArrayList<>();
+        final List<List<Integer>> mirroredLists = new ArrayList<>();
+        
+        // Act
+        for (int pass = 0; pass < PASSES; pass++) {
+            for (int change = 0; change < CHANGES; change++) {
+                change(navigator, expected, change, random.nextInt(expected.size()));
+            }
+            replayed.add(navigator.navigateChanges());
+            received.add(listener.changes);
+            expectedLists.add(new ArrayList<>(expected));
+            mirroredLists.add(new ArrayList<>(listener.mirror));
+        }
+        
+        // Assert
+        final int expectedChanges = CHANGES + CHANGES / CHANGE_KINDS;
+        for (int pass = 0; pass < PASSES; pass++) {
+            assertEquals(expectedChanges, replayed.get(pass), "Every change should be delivered");
+            assertEquals(expectedChanges * (pass + 1), received.get(pass), "Only new changes should be delivered");
+            assertEquals(expectedLists.get(pass), mirroredLists.get(pass),
+                         "Replaying the changes should reproduce the list");
+        }
+        assertTrue(visited.isEmpty(), "Per-node listeners should not be notified of changes");
+    }
+    
+    /**
+     * Tests when changes start being recorded, and that full navigations and change passes empty the record.
+     */
+    @Test
+    @DisplayName("Should start a new record on a full navigation and on a change pass")
+    void testPassesResetRecord() {
+        // Arrange
+        final NodeNavigator navigator = new NodeNavigator(new int[]{0, 1});
+        final MirrorListener listener = new MirrorListener();
+        navigator.subscribe(listener);
+        
+        // Act: changes made before tracking is enabled
+        final boolean trackingByDefault = navigator.isChangeTracking();
+        navigator.append(-1);
+        navigator.setChangeTracking(true);
+        final int beforeTracking = navigator.navigateChanges();
+        
+        // Assert
+        assertFalse(trackingByDefault, "Tracking should be disabled by default");
+        assertTrue(navigator.isChangeTracking(), "Tracking should be enabled");
+        assertEquals(0, beforeTracking, "Changes before tracking should not be recorded");
+        
+        // Act: a full navigation after a change
+        navigator.appendAll(new int[]{2});
+        navigator.navigate();
+        final int afterFullPass = navigator.navigateChanges();
+        
+        // Assert
+        assertArrayEquals(new int[]{0, 1, -1, 2}, listener.toArray(), "A full navigation should show every node");
+        assertEquals(0, afterFullPass, "A full navigation should empty the record");
+        
+        // Act: two change passes after two changes
+        navigator.removeAt(0);
+        navigator.set(0, 0);
+        final int firstChangePass = navigator.navigateChanges();
+        final int secondChangePass = navigator.navigateChanges();
+        
+        // Assert
+        assertEquals(2, firstChangePass, "Both changes should be delivered");
+        assertEquals(0, secondChangePass, "A change pass should empty the record");
+        assertArrayEquals(new int[]{0, -1, 2}, listener.toArray(), "The changes should be applied to the copy");
+        
+        // Act: tracking disabled again
+        navigator.setChangeTracking(false);
+        navigator.append(0);
+        
+        // Assert
+        assertThrows(IllegalStateException.class, navigator::navigateChanges, "Tracking is disabled again");
+    }
+    
+    /**
+     * Tests that a fail-fast change pass stopped by a listener keeps the changes it still owes.
+     */
+    @Test
+    @DisplayName("Should deliver the changes a failed fail-fast pass still owes on the next pass")
+    void testFailFastKeepsUndeliveredChanges() {
+        // Arrange
+        final NodeNavigator navigator = new NodeNavigator(new int[]{0});
+        navigator.setChangeTracking(true);
+        final List<Integer> inserted = new ArrayList<>();
+        final INodeChangeListener failing = new INodeChangeListener() {
+            @Override
+            public void onNodeVisited(final int data) {
+                // Only changes are recorded
+            }
+            
+            @Override
+            public void onNodeInserted(final int index, final int data) {
+                if (data == 2) {
+                    throw new IllegalStateException("Listener failed");
+                }
+                inserted.add(data);
+            }
+            
+            @Override
+            public void onNodeRemoved(final int index, final int data) {
+                inserted.remove(Integer.valueOf(data));
+            }
+            
+            @Override
+            public void onNodeUpdated(final int index, final int oldData, final int newData) {
+                inserted.set(inserted.indexOf(oldData), newData);
+            }
+        };
+        final MirrorListener mirror = new MirrorListener();
+        navigator.subscribe(failing);
+        navigator.subscribe(mirror);
+        navigator.navigate();
+        final int[] added = {1, 2, NODE_COUNT};
+        navigator.appendAll(added);
+        
+        // Act
+        assertThrows(RuntimeException.class, navigator::navigateChanges, "Fail-fast should propagate");
+        navigator.append(-1);
+        final int replayed = navigator.navigateChanges();
+        
+        // Assert
+        assertEquals(added.length + 1, replayed, "The owed changes should be delivered before the new one");
+        assertArrayEquals(new int[]{0, 1, 2, NODE_COUNT, -1}, mirror.toArray(),
+                          "A listener after the failing one should catch up on every change");
+        assertEquals(List.of(1, NODE_COUNT, -1), inserted,
+                     "The failing listener should resume after the change that failed");
+        assertEquals(0, navigator.navigateChanges(), "Every owed change should now be delivered");
+    }
+    
+    /**
+     * Tests that a change listener that always fails is handled as each error policy prescribes.
+     */
+    @Test
+    @DisplayName("Should handle failing change listeners according to the error policy")
+    void testErrorPolicies() {
+        // Arrange
+        final NodeNavigator navigator = new NodeNavigator(new int[]{0});
+        navigator.setChangeTracking(true);
+        final MirrorListener healthy = new MirrorListener();
+        final INodeChangeListener failing = new INodeChangeListener() {
+            @Override
+            public void onNodeVisited(final int data) {
+                // Only changes fail
+            }
+            
+            @Override
+            public void onNodeInserted(final int index, final int data) {
+                throw new IllegalStateException("Listener failed");
+            }
+            
+            @Override
+            public void onNodeRemoved(final int index, final int data) {
+                throw new IllegalStateException("Listener failed");
+            }
+            
+            @Override
+            public void onNodeUpdated(final int index, final int oldData, final int newData) {
+                throw new IllegalStateException("Listener failed");
+            }
+        };
+        navigator.subscribe(healthy);
+        navigator.subscribe(failing);
+        navigator.navigate();
+        
+        // Act: fail fast
+        navigator.appendAll(new int[]{1});
+        assertThrows(RuntimeException.class, navigator::navigateChanges, "Fail-fast should propagate");
+        final long failFast = navigator.getFailureCount();
+        
+        // Assert
+        assertEquals(1, failFast, "The failure should be counted");
+        
+        // Act: skip and count
+        navigator.setErrorPolicy(ErrorPolicy.SKIP_AND_COUNT);
+        navigator.appendAll(new int[]{2, -1});
+        final int delivered = navigator.navigateChanges();
+        final long skipped = navigator.getFailureCount();
+        
+        // Assert
+        assertEquals(2, delivered, "Every change should be delivered");
+        assertEquals(failFast + 2, skipped, "Each failed notification should be counted");
+        assertArrayEquals(new int[]{0, 1, 2, -1}, healthy.toArray(), "Other listeners should still be notified");
+        
+        // Act: isolate the failing listener
+        navigator.setErrorPolicy(ErrorPolicy.ISOLATE_FAILING_LISTENER);
+        navigator.appendAll(new int[]{0, 1});
+        navigator.navigateChanges();
+        
+        // Assert
+        assertEquals(skipped + 1, navigator.getFailureCount(), "An isolated listener should fail only once");
+        assertEquals(List.of(healthy), navigator.getListeners(), "The failing listener should be unsubscribed");
+        assertArrayEquals(new int[]{0, 1, 2, -1, 0, 1}, healthy.toArray(),
+                          "Other listeners should still be notified");
+    }
+}
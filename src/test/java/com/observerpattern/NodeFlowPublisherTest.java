@@ -0,0 +1,232 @@
+/**
+ * Unit tests for the backpressure-aware Flow publishers of NodeNavigator.
+ * <p>
+ * This test class validates that node and chunk publishers emit exactly
+ * what their subscribers request, in order, and follow the reactive-streams
+ * rules for completion, cancellation, invalid requests and reentrancy.
+ * </p>
+ * 
+ * @author Ramaswamy Krishnan-Chittur
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+
+package com.observerpattern;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Flow;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Unit tests for the NodeNavigator Flow publishers.
+ * 
+ * @author Ramaswamy Krishnan-Chittur
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@DisplayName("NodeFlowPublisher Tests")
+class NodeFlowPublisherTest {
+    
+    /** Number of nodes for the reentrancy test, deep enough to overflow a recursive implementation. */
+    private static final int DEEP_NODE_COUNT = 200_000;
+    
+    /**
+     * Tests that nodes are emitted only as requested.
+     */
+    @Test
+    @DisplayName("Should emit only as many nodes as requested")
+    void testHonoursDemand() {
+        // Arrange
+        final int[] numbers = {1, 2, 3, 4, 5};
+        final RecordingSubscriber<Integer> subscriber = new RecordingSubscriber<>();
+        new NodeNavigator(numbers).toPublisher().subscribe(subscriber);
+        
+        // Act & Assert
+        assertTrue(subscriber.getItems().isEmpty(), "Nothing should be emitted before a request");
+        subscriber.getSubscription().request(2);
+        assertEquals(Arrays.asList(1, 2), subscriber.getItems(), "Exactly two nodes should be emitted");
+        assertFalse(subscriber.isCompleted(), "Publisher should not complete early");
+        
+        subscriber.getSubscription().request(Long.MAX_VALUE);
+        subscriber.getSubscription().request(Long.MAX_VALUE);
+        assertEquals(Arrays.stream(numbers).boxed().collect(Collectors.toList()), subscriber.getItems(),
+                   "Remaining nodes should follow in order");
+        assertTrue(subscriber.isCompleted(), "Publisher should complete after the last node");
+    }
+    
+    /**
+     * Tests that chunks respect the navigator's chunk size.
+     */
+    @Test
+    @DisplayName("Should emit chunks of at most the chunk size")
+    void testChunks() {
+        // Arrange
+        final int[] numbers = {1, 2, 3, 4, 5};
+        final NodeNavigator navigator = new NodeNavigator(numbers);
+        navigator.setChunkSize(2);
+        final RecordingSubscriber<int[]> subscriber = new RecordingSubscriber<>();
+        navigator.toBatchPublisher().subscribe(subscriber);
+        
+        // Act
+        subscriber.getSubscription().request(Long.MAX_VALUE);
+        
+        // Assert
+        assertEquals(numbers.length / 2 + 1, subscriber.getItems().size(), "Nodes should be split into chunks");
+        final int[] joined = subscriber.getItems().stream().flatMapToInt(Arrays::stream).toArray();
+        assertArrayEquals(numbers, joined, "Chunks should cover every node in order");
+        assertTrue(subscriber.isCompleted(), "Publisher should complete after the last chunk");
+    }
+    
+    /**
+     * Tests completion of an empty navigator, cancellation and invalid requests.
+     */
+    @Test
+    @DisplayName("Should complete empty lists, stop on cancel and reject non-positive requests")
+    void testSignals() {
+        final RecordingSubscriber<Integer> empty = new RecordingSubscriber<>();
+        new NodeNavigator(new int[]{}).toPublisher().subscribe(empty);
+        assertTrue(empty.isCompleted(), "Empty list should complete without a request");
+        
+        final RecordingSubscriber<Integer> cancelled = new RecordingSubscriber<>();
+        new NodeNavigator(new int[]{1, 2}).toPublisher().subscribe(cancelled);
+        cancelled.getSubscription().cancel();
+        cancelled.getSubscription().request(1);
+        assertTrue(cancelled.getItems().isEmpty(), "Cancelled subscription should emit nothing");
+        assertFalse(cancelled.isCompleted(), "Cancelled subscription should not complete");
+        
+        final RecordingSubscriber<Integer> invalid = new RecordingSubscriber<>();
+        new NodeNavigator(new int[]{1, 2}).toPublisher().subscribe(invalid);
+        invalid.getSubscription().request(0);
+        assertTrue(invalid.getError() instanceof IllegalArgumentException, "Zero request should signal an error");
+        
+        assertThrows(NullPointerException.class, () -> new NodeNavigator(new int[]{}).toPublisher().subscribe(null),
+                   "Null subscriber should be rejected");
+    }
+    
+    /**
+     * Tests that requesting from inside onNext does not recurse.
+     */
+    @Test
+    @DisplayName("Should serve requests made from onNext without recursion")
+    void testReentrantRequests() {
+        // Arrange
+        final int[] numbers = new int[DEEP_NODE_COUNT];
+        final RecordingSubscriber<Integer> subscriber = new RecordingSubscriber<>(true);
+        new NodeNavigator(numbers).toPublisher().subscribe(subscriber);
+        
+        // Act
+        subscriber.getSubscription().request(1);
+        
+        // Assert
+        assertEquals(DEEP_NODE_COUNT, subscriber.getItems().size(), "Every node should be emitted");
+        assertTrue(subscriber.isCompleted(), "Publisher should complete");
+    }
+    
+    /**
+     * Subscriber recording every signal it receives.
+     * 
+     * @param <T> the item type
+     */
+    private static class RecordingSubscriber<T> implements Flow.Subscriber<T> {
+        /** Items received, in order. */
+        private final List<T> items = new ArrayList<>();
+        
+        /** Whether to request one more item from inside every onNext. */
+        private final boolean requestFromOnNext;
+        
+        /** The subscription received in onSubscribe. */
+        private Flow.Subscription subscription;
+        
+        /** Whether onComplete was received. */
+        private boolean completed;
+        
+        /** The error received in onError, if any. */
+        private Throwable error;
+        
+        /**
+         * Creates a subscriber that only requests when told to.
+         */
+        RecordingSubscriber() {
+            this(false);
+        }
+        
+        /**
+         * Creates a subscriber.
+         * 
+         * @param requestMore whether to request one more item from inside every onNext
+         */
+        RecordingSubscriber(final boolean requestMore) {
+            this.requestFromOnNext = requestMore;
+        }
+        
+        @Override
+        public void onSubscribe(final Flow.Subscription newSubscription) {
+            this.subscription = newSubscription;
+        }
+        
+        @Override
+        public void onNext(final T item) {
+            this.items.add(item);
+            if (this.requestFromOnNext) {
+                this.subscription.request(1);
+            }
+        }
+        
+        @Override
+        public void onError(final Throwable throwable) {
+            this.error = throwable;
+        }
+        
+        @Override
+        public void onComplete() {
+            this.completed = true;
+        }
+        
+        /**
+         * Gets the items received.
+         * 
+         * @return the items received, in order
+         */
+        List<T> getItems() {
+            return this.items;
+        }
+        
+        /**
+         * Gets the subscription.
+         * 
+         * @return the subscription received in onSubscribe
+         */
+        Flow.Subscription getSubscription() {
+            return this.subscription;
+        }
+        
+        /**
+         * Checks whether the publisher completed.
+         * 
+         * @return true if onComplete was received
+         */
+        boolean isCompleted() {
+            return this.completed;
+        }
+        
+        /**
+         * Gets the error received.
+         * 
+         * @return the error received in onError, or null
+         */
+        Throwable getError() {
+            return this.error;
+        }
+    }
+}
@@ -0,0 +1,365 @@
+/**
+ * Unit tests for the batched logging listener.
+ * <p>
+ * This test class validates that every visited node is written as one line,
+ * in order, across many buffer hand-offs, that values of every sign and
+ * magnitude are formatted correctly, that logging does not allocate per
+ * node, and that write failures and closing are reported.
+ * </p>
+ * 
+ * @author Ramaswamy Krishnan-Chittur
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+
+package com.observerpattern;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.NonWritableChannelException;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Unit tests for the NodeLoggingListener.
+ * 
+ * @author Ramaswamy Krishnan-Chittur
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@DisplayName("Node Logging Listener Tests")
+class NodeLoggingListenerTest {
+    
+    /** Number of nodes logged; spans many small buffers. */
+    private static final int NODE_COUNT = 10000;
+    
+    /** A buffer size that holds only a few lines. */
+    private static final int SMALL_BUFFER = 100;
+    
+    /** Values at the edges of the int range and of each digit count. */
+    private static final int[] EDGE_VALUES = {
+        0, 1, -1, 9, -9, 10, -10, 99, 100, 999_999_999, 1_000_000_000, -1_000_000_000,
+        Integer.MAX_VALUE, Integer.MIN_VALUE,
+    };
+    
+    /** Directory for the log files, removed after each test. */
+    @TempDir
+    private Path directory;
+    
+    /**
+     * Creates node values of alternating sign and growing magnitude.
+     * 
+     * @param count the number of nodes
+     * @return the node values
+     */
+    private static int[] nodes(final int count) {
+        final int[] values = new int[count];
+        for (int index = 0; index < count; index++) {
+            values[index] = index * index * (1 - 2 * (index % 2));
+        }
+        return values;
+    }
+    
+    /**
+     * Builds the lines the listener is expected to write.
+     * 
+     * @param name the listener name
+     * @param values the logged values
+     * @return one line per value
+     */
+    private static List<String> lines(final String name, final int[] values) {
+        final List<String> expected = new ArrayList<>();
+        for (final int value : values) {
+            expected.add("  " + name + " visited node: " + value);
+        }
+        return expected;
+    }
+    
+    /**
+     * Tests that values at the edges of the int range and of each digit count are formatted like Integer.toString.
+     */
+    @Test
+    @DisplayName("Should format values of every sign and magnitude")
+    void testFormatting() {
+        // Arrange
+        final byte[] target = new byte[Integer.toString(Integer.MIN_VALUE).length()];
+        final List<String> formatted = new ArrayList<>();
+        
+        // Act
+        for (final int value : EDGE_VALUES) {
+            final int end = NodeLoggingListener.appendInt(value, target, 0);
+            formatted.add(new String(target, 0, end, StandardCharsets.US_ASCII));
+        }
+        
+        // Assert
+        for (int index = 0; index < EDGE_VALUES.length; index++) {
+            assertEquals(Integer.toString(EDGE_VALUES[index]), formatted.get(index),
+                         "The value should be formatted like Integer.toString");
+        }
+    }
+    
+    /**
+     * Tests that two loggers on the same file append their passes one after the other.
+     * 
+     * @throws IOException if the log file cannot be written or read
+     */
+    @Test
+    @DisplayName("Should append one line per visited node to a file, in order")
+    void testFile() throws IOException {
+        // Arrange
+        final int[] values = nodes(NODE_COUNT);
+        final NodeNavigator navigator = new NodeNavigator(values);
+        final Path file = this.directory.resolve("nodes.log");
+        final List<String> expected = lines("Audit", values);
+        for (int index = 0; index < NODE_COUNT; index += 2) {
+            expected.add("  Audit visited node: " + values[index]);
+        }
+        
+        // Act
+        try (NodeLoggingListener logger = NodeLoggingListener.toFile("Audit", file)) {
+            navigator.subscribe(logger);
+            navigator.navigate();
+            navigator.unsubscribe(logger);
+        }
+        try (NodeLoggingListener logger = NodeLoggingListener.toFile("Audit", file)) {
+            navigator.subscribe(logger);
+            navigator.navigate(0, NODE_COUNT, 2);
+        }
+        
+        // Assert
+        assertEquals(expected, Files.readAllLines(file), "Each pass should be appended to the file");
+    }
+    
+    /**
+     * Tests that lines spread over many small buffers are all written, in order, on flush.
+     * 
+     * @throws IOException if the lines cannot be written
+     */
+    @Test
+    @DisplayName("Should hand off many small batches and write all of them on flush")
+    void testSmallBuffers() throws IOException {
+        // Arrange
+        final ByteArrayOutputStream output = new ByteArrayOutputStream();
+        final NodeLoggingListener logger =
+            new NodeLoggingListener("Small", Channels.newChannel(output), SMALL_BUFFER);
+        final NodeNavigator navigator = new NodeNavigator(EDGE_VALUES);
+        navigator.subscribe(logger);
+        final List<String> expected = new ArrayList<>();
+        for (int pass = 0; pass < SMALL_BUFFER; pass++) {
+            expected.addAll(lines("Small", EDGE_VALUES));
+        }
+        
+        // Act
+        for (int pass = 0; pass < SMALL_BUFFER; pass++) {
+            navigator.navigate();
+        }
+        logger.flush();
+        
+        // Assert
+        assertEquals(String.join("\n", expected) + "\n", output.toString(StandardCharsets.UTF_8),
+                     "Flushing should write every line logged so far");
+        logger.close();
+    }
+    
+    /**
+     * Tests that a logger can be closed twice and rejects nodes and flushes once closed.
+     * 
+     * @throws IOException if the logger cannot be closed
+     */
+    @Test
+    @DisplayName("Should reject use after close")
+    void testClosed() throws IOException {
+        // Arrange
+        final NodeLoggingListener logger = new NodeLoggingListener("Closed", new DiscardingChannel(), SMALL_BUFFER);
+        logger.onNodeVisited(1);
+        
+        // Act
+        logger.close();
+        
+        // Assert
+        assertDoesNotThrow(logger::close, "Closing twice should have no effect");
+        assertThrows(IllegalStateException.class, () -> logger.onNodeVisited(1), "A closed logger rejects nodes");
+        assertThrows(IllegalStateException.class, logger::flush, "A closed logger cannot be flushed");
+    }
+    
+    /**
+     * Tests that a logger requires a name and a buffer that holds at least one line.
+     */
+    @Test
+    @DisplayName("Should reject missing names and too small buffers")
+    void testConstructorValidation() {
+        // Arrange
+        final WritableByteChannel channel = new DiscardingChannel();
+        
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> new NodeLoggingListener("Tiny", channel, 2),
+                     "The buffer should hold at least one line");
+        assertThrows(IllegalArgumentException.class, () -> new NodeLoggingListener(null, channel),
+                     "A name is required");
+    }
+    
+    /**
+     * Tests that logging batches and single nodes allocates less than one byte per node once warmed up.
+     * 
+     * @throws IOException if the lines cannot be written
+     */
+    @Test
+    @DisplayName("Should not allocate per visited node")
+    void testAllocationFree() throws IOException {
+        // Arrange
+        final com.sun.management.ThreadMXBean threads =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        final int[] values = nodes(NODE_COUNT);
+        final NodeNavigator navigator = NodeNavigator.wrap(values);
+        final long allocated;
+        try (NodeLoggingListener logger = new NodeLoggingListener("Quiet", new DiscardingChannel(), SMALL_BUFFER)) {
+            navigator.subscribe(logger);
+            navigator.navigate();
+            logger.flush();
+            
+            // Act
+            final long before = threads.getCurrentThreadAllocatedBytes();
+            logger.onNodesVisited(values, 0, values.length);
+            for (final int value : values) {
+                logger.onNodeVisited(value);
+            }
+            logger.flush();
+            allocated = threads.getCurrentThreadAllocatedBytes() - before;
+        }
+        
+        // Assert
+        assertTrue(allocated < NODE_COUNT, "Logging should not allocate per node, but allocated " + allocated);
+    }
+    
+    /**
+     * Tests that a checked write failure is thrown by both flush and close.
+     */
+    @Test
+    @DisplayName("Should report a write failure on flush and close")
+    void testFailure() {
+        // Arrange
+        final IOException broken = new IOException("Disk full");
+        final NodeLoggingListener logger = new NodeLoggingListener("Failing", new DiscardingChannel(broken));
+        
+        // Act & Assert: flush
+        logger.onNodeVisited(1);
+        assertSame(broken, assertThrows(IOException.class, logger::flush, "Flush should report the failure"),
+                   "The original failure should be thrown");
+        
+        // Act & Assert: close
+        logger.onNodeVisited(2);
+        assertSame(broken, assertThrows(IOException.class, logger::close, "Close should report the failure"),
+                   "The original failure should be thrown");
+    }
+    
+    /**
+     * Tests that an unchecked channel failure does not block logging and is reported as the cause on flush and close.
+     */
+    @Test
+    @DisplayName("Should keep logging and report an unchecked channel failure")
+    void testUncheckedFailure() {
+        // Arrange
+        final NonWritableChannelException broken = new NonWritableChannelException();
+        final NodeLoggingListener logger = new NodeLoggingListener("Failing", new DiscardingChannel(broken),
+                                                                   SMALL_BUFFER);
+        // Many more buffers than the pool holds, so a dead writer would block the hand-off
+        final int[] values = nodes(NODE_COUNT);
+        
+        // Act
+        logger.onNodesVisited(values, 0, values.length);
+        final IOException flushFailure = assertThrows(IOException.class, logger::flush, "Flush should report it");
+        final IOException closeFailure = assertThrows(IOException.class, logger::close, "Close should report it");
+        
+        // Assert
+        assertSame(broken, flushFailure.getCause(), "The unchecked failure should be the cause");
+        assertSame(broken, closeFailure.getCause(), "Close should report the same failure");
+    }
+    
+    /**
+     * Tests that the bytes written match the demo listener's lines, with the name encoded as UTF-8.
+     * 
+     * @throws IOException if the lines cannot be written
+     */
+    @Test
+    @DisplayName("Should write the same bytes as the demo logging listener")
+    void testMatchesDemoListener() throws IOException {
+        // Arrange
+        final ByteArrayOutputStream output = new ByteArrayOutputStream();
+        final String text = String.join("\n", lines("Dëmo", EDGE_VALUES)) + "\n";
+        final byte[] expected = text.getBytes(StandardCharsets.UTF_8);
+        
+        // Act
+        try (NodeLoggingListener logger = new NodeLoggingListener("Dëmo", Channels.newChannel(output))) {
+            logger.onNodesVisited(EDGE_VALUES, 0, EDGE_VALUES.length);
+        }
+        
+        // Assert
+        assertArrayEquals(expected, output.toByteArray(), "Names should be encoded as UTF-8");
+    }
+    
+    /**
+     * Channel that discards everything written to it, or fails every write.
+     */
+    private static final class DiscardingChannel implements WritableByteChannel {
+        
+        /** The failure to throw on every write, checked or unchecked, or null to discard silently. */
+        private final Exception failure;
+        
+        /**
+         * Creates a channel that discards everything.
+         */
+        DiscardingChannel() {
+            this(null);
+        }
+        
+        /**
+         * Creates a channel that fails every write.
+         * 
+         * @param error the IOException or RuntimeException to throw, or null to discard silently
+         */
+        DiscardingChannel(final Exception error) {
+            this.failure = error;
+        }
+        
+        @Override
+        public int write(final ByteBuffer source) throws IOException {
+            if (this.failure instanceof IOException) {
+                throw (IOException) this.failure;
+            }
+            if (this.failure != null) {
+                throw (RuntimeException) this.failure;
+            }
+            final int length = source.remaining();
+            source.position(source.limit());
+            return length;
+        }
+        
+        @Override
+        public boolean isOpen() {
+            return true;
+        }
+        
+        @Override
+        public void close() {
+            // Nothing to release
+        }
+    }
+}
@@ -0,0 +1,278 @@
+/**
+ * Concurrency stress tests for the NodeNavigator.
+ * <p>
+ * This test class validates that navigations running on several threads at
+ * once, while other threads subscribe and unsubscribe listeners, always
+ * notify each listener of either every node or none of a navigation, and
+ * that concurrent subscription changes are never lost.
+ * </p>
+ * 
+ * @author Ramaswamy Krishnan-Chittur
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+
+package com.observerpattern;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Concurrency stress tests for the NodeNavigator.
+ * 
+ * @author Ramaswamy Krishnan-Chittur
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@DisplayName("NodeNavigator Concurrency Tests")
+class NodeNavigatorConcurrencyTest {
+    
+    /** Number of nodes navigated per pass. */
+    private static final int NODE_COUNT = 64;
+    
+    /** Number of threads navigating at the same time. */
+    private static final int NAVIGATING_THREADS = 4;
+    
+    /** Number of navigations performed by each navigating thread. */
+    private static final int PASSES = 2000;
+    
+    /** Number of threads changing subscriptions at the same time. */
+    private static final int SUBSCRIBING_THREADS = 4;
+    
+    /** Number of distinct listeners subscribed by each subscribing thread. */
+    private static final int LISTENERS_PER_THREAD = 250;
+    
+    /** Maximum time to wait for the worker threads in seconds. */
+    private static final long TIMEOUT_SECONDS = 60;
+    
+    /**
+     * Thread-safe listener that checks every navigating thread sees whole passes, in order.
+     * <p>
+     * Each navigating thread expects the nodes {@code 0..NODE_COUNT-1} in
+     * order, and must be back at node zero whenever one of its navigations
+     * returns; otherwise it saw only part of a pass.
+     * </p>
+     */
+    private static class PassCheckingListener implements INodeNavigationListener {
+        
+        /** The next node value each navigating thread expects. */
+        private final ThreadLocal<int[]> expected = ThreadLocal.withInitial(() -> new int[1]);
+        
+        /** Number of nodes seen. */
+        private final AtomicLong count = new AtomicLong();
+        
+        /** Number of nodes seen out of order. */
+        private final AtomicLong outOfOrder = new AtomicLong();
+        
+        /** Number of navigations that notified only part of their nodes. */
+        private final AtomicLong tornPasses = new AtomicLong();
+        
+        @Override
+        public void onNodeVisited(final int data) {
+            final int[] next = this.expected.get();
+            if (data != next[0]) {
+                this.outOfOrder.incrementAndGet();
+            }
+            next[0] = (data + 1) % NODE_COUNT;
+            this.count.incrementAndGet();
+        }
+        
+        /**
+         * Checks, on the navigating thread, that its navigation just returned at a pass boundary.
+         */
+        void passEnded() {
+            final int[] next = this.expected.get();
+            if (next[0] != 0) {
+                this.tornPasses.incrementAndGet();
+                next[0] = 0;
+            }
+        }
+        
+        /**
+         * Gets the number of nodes seen.
+         * 
+         * @return the node count
+         */
+        long getCount() {
+            return this.count.get();
+        }
+        
+        /**
+         * Gets the number of nodes seen out of order.
+         * 
+         * @return the out-of-order count
+         */
+        long getOutOfOrderCount() {
+            return this.outOfOrder.get();
+        }
+        
+        /**
+         * Gets the number of navigations that notified only part of their nodes.
+         * 
+         * @return the torn pass count
+         */
+        long getTornPassCount() {
+            return this.tornPasses.get();
+        }
+    }
+    
+    /**
+     * Thread-safe batch listener that checks every navigating thread sees whole passes, in order.
+     */
+    private static final class PassCheckingBatchListener extends PassCheckingListener implements INodeBatchListener {
+        
+        @Override
+        public void onNodesVisited(final int[] values, final int offset, final int length) {
+            for (int index = offset; index < offset + length; index++) {
+                onNodeVisited(values[index]);
+            }
+        }
+    }
+    
+    /**
+     * Starts the given tasks on their own threads, all released at once,
+     * and waits for them to finish.
+     * 
+     * @param tasks the tasks to run
+     * @return the failures thrown by the tasks
+     * @throws InterruptedException if interrupted while waiting
+     */
+    private static Queue<Throwable> runConcurrently(final List<Runnable> tasks) throws InterruptedException {
+        final Queue<Throwable> failures = new ConcurrentLinkedQueue<>();
+        final CountDownLatch start = new CountDownLatch(1);
+        final CountDownLatch done = new CountDownLatch(tasks.size());
+        for (final Runnable task : tasks) {
+            final Thread thread = new Thread(() -> {
+                try {
+                    start.await();
+                    task.run();
+                } catch (final Throwable t) {
+                    failures.add(t);
+                } finally {
+                    done.countDown();
+                }
+            });
+            thread.setDaemon(true);
+            thread.start();
+        }
+        start.countDown();
+        assertTrue(done.await(TIMEOUT_SECONDS, TimeUnit.SECONDS), "Worker threads did not finish in time");
+        return failures;
+    }
+    
+    /**
+     * Tests that concurrent navigations deliver whole passes in order while other listeners come and go.
+     * 
+     * @throws InterruptedException if the test is interrupted
+     */
+    @Test
+    @DisplayName("Concurrent navigations notify every node while listeners churn")
+    void testNavigateWhileSubscriptionsChange() throws InterruptedException {
+        // Arrange
+        final NodeNavigator navigator = new NodeNavigator(TestNodes.sequence(NODE_COUNT));
+        final PassCheckingListener permanent = new PassCheckingListener();
+        final PassCheckingListener churning = new PassCheckingListener();
+        final PassCheckingBatchListener churningBatch = new PassCheckingBatchListener();
+        final List<PassCheckingListener> checked = List.of(permanent, churning, churningBatch);
+        navigator.subscribe(permanent);
+        
+        final CountDownLatch navigatorsDone = new CountDownLatch(NAVIGATING_THREADS);
+        final List<Runnable> tasks = new ArrayList<>();
+        for (int thread = 0; thread < NAVIGATING_THREADS; thread++) {
+            tasks.add(() -> {
+                try {
+                    for (int pass = 0; pass < PASSES; pass++) {
+                        navigator.navigate();
+                        checked.forEach(PassCheckingListener::passEnded);
+                    }
+                } finally {
+                    navigatorsDone.countDown();
+                }
+            });
+        }
+        tasks.add(() -> {
+            while (navigatorsDone.getCount() > 0) {
+                navigator.subscribe(churning);
+                navigator.subscribe(churningBatch);
+                navigator.unsubscribe(churning);
+                navigator.unsubscribe(churningBatch);
+            }
+        });
+        
+        // Act
+        final Queue<Throwable> failures = runConcurrently(tasks);
+        
+        // Assert
+        assertTrue(failures.isEmpty(), () -> "Unexpected failures: " + failures);
+        assertEquals((long) NAVIGATING_THREADS * PASSES * NODE_COUNT, permanent.getCount(),
+                   "The permanent listener should see every node of every pass");
+        for (final PassCheckingListener listener : checked) {
+            assertEquals(0, listener.getTornPassCount(), "A navigation notified only part of its nodes");
+            assertEquals(0, listener.getOutOfOrderCount(), "A navigation notified its nodes out of order");
+        }
+        assertEquals(1, navigator.getListenerCount(), "Only the permanent listener should remain");
+    }
+    
+    /**
+     * Tests that subscriptions and unsubscriptions from several threads at once are all applied.
+     * 
+     * @throws InterruptedException if the test is interrupted
+     */
+    @Test
+    @DisplayName("Concurrent subscribe and unsubscribe calls are never lost")
+    void testConcurrentSubscribeAndUnsubscribe() throws InterruptedException {
+        // Arrange
+        final NodeNavigator navigator = new NodeNavigator(TestNodes.sequence(NODE_COUNT));
+        final List<List<PassCheckingListener>> perThread = new ArrayList<>();
+        for (int thread = 0; thread < SUBSCRIBING_THREADS; thread++) {
+            final List<PassCheckingListener> listeners = new ArrayList<>();
+            for (int listener = 0; listener < LISTENERS_PER_THREAD; listener++) {
+                listeners.add(new PassCheckingListener());
+            }
+            perThread.add(listeners);
+        }
+        final List<Runnable> subscribers = new ArrayList<>();
+        for (final List<PassCheckingListener> listeners : perThread) {
+            subscribers.add(() -> listeners.forEach(navigator::subscribe));
+        }
+        
+        // Act
+        assertTrue(runConcurrently(subscribers).isEmpty(), "Subscribing should not fail");
+        
+        // Assert
+        assertEquals(SUBSCRIBING_THREADS * LISTENERS_PER_THREAD, navigator.getListenerCount(),
+                   "Every subscription should be kept");
+        
+        // Arrange
+        final AtomicLong removed = new AtomicLong();
+        final List<Runnable> unsubscribers = new ArrayList<>();
+        for (final List<PassCheckingListener> listeners : perThread) {
+            unsubscribers.add(() -> {
+                for (final PassCheckingListener listener : listeners) {
+                    if (navigator.unsubscribe(listener)) {
+                        removed.incrementAndGet();
+                    }
+                }
+            });
+        }
+        
+        // Act
+        assertTrue(runConcurrently(unsubscribers).isEmpty(), "Unsubscribing should not fail");
+        
+        // Assert
+        assertEquals(SUBSCRIBING_THREADS * LISTENERS_PER_THREAD, removed.get(),
+                   "Every listener should be reported as removed once");
+        assertEquals(0, navigator.getListenerCount(), "No listener should remain");
+    }
+}
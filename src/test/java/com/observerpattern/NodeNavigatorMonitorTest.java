@@ -0,0 +1,227 @@
+/**
+ * Unit tests for the JMX view of a NodeNavigator.
+ * <p>
+ * This test class validates that a registered navigator can be read and
+ * controlled through the platform MBean server like any other MXBean, and
+ * that registration and unregistration handle names correctly.
+ * </p>
+ * 
+ * @author Ramaswamy Krishnan-Chittur
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+
+package com.observerpattern;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+
+import javax.management.Attribute;
+import javax.management.JMException;
+import javax.management.JMX;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Unit tests for the NodeNavigatorMonitor.
+ * 
+ * @author Ramaswamy Krishnan-Chittur
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@DisplayName("Node Navigator Monitor Tests")
+class NodeNavigatorMonitorTest {
+    
+    /** Number of nodes in the list. */
+    private static final int NODE_COUNT = 1000;
+    
+    /**
+     * Tests that the attributes of a registered navigator can be read through the MBean server and a proxy.
+     * 
+     * @throws JMException if an attribute cannot be read
+     */
+    @Test
+    @DisplayName("Should expose live navigator attributes through the MBean server")
+    void testAttributes() throws JMException {
+        // Arrange
+        final NodeNavigator navigator = new NodeNavigator(TestNodes.sequence(NODE_COUNT));
+        navigator.subscribe(data -> {
+            if (data == NODE_COUNT - 1) {
+                throw new IllegalStateException("Listener failed");
+            }
+        });
+        navigator.setErrorPolicy(ErrorPolicy.SKIP_AND_COUNT);
+        final MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        final ObjectName name = NodeNavigatorMonitor.register(navigator, "monitor, attributes");
+        try {
+            // Act
+            final Object size = server.getAttribute(name, "Size");
+            final Object listenerCount = server.getAttribute(name, "ListenerCount");
+            final Object initialNavigations = server.getAttribute(name, "NavigationCount");
+            navigator.navigate();
+            navigator.navigate();
+            final INodeNavigatorMXBean proxy = JMX.newMXBeanProxy(server, name, INodeNavigatorMXBean.class);
+            
+            // Assert
+            assertTrue(navigator.isInstrumented(), "Registration should enable instrumentation");
+            assertEquals("NodeNavigator", name.getKeyProperty("type"), "Navigators should share one type");
+            assertEquals(NODE_COUNT, size, "The size should be exposed");
+            assertEquals(1, listenerCount, "The listeners should be counted");
+            assertEquals(0L, initialNavigations, "Nothing should be navigated yet");
+            assertEquals(2, proxy.getNavigationCount(), "Navigations should be counted");
+            assertEquals(2 * NODE_COUNT, proxy.getNodeCount(), "Notified nodes should be counted");
+            assertEquals(2, proxy.getErrorCount(), "Listener failures should be counted");
+            assertEquals(0, proxy.getIsolatedListenerCount(), "No listener should be isolated");
+            assertTrue(proxy.getAverageNavigationNanos() > 0, "The average duration should be reported");
+            assertTrue(proxy.getMaxNavigationNanos() >= proxy.getAverageNavigationNanos(),
+                       "The slowest navigation takes at least the average");
+            assertTrue(proxy.getNodesPerSecond() > 0, "Throughput should be reported");
+            assertEquals((long) NODE_COUNT * Integer.BYTES, proxy.getHeapBytes(), "The heap array should be counted");
+            assertEquals(0, proxy.getOffHeapBytes(), "A heap navigator reserves no off-heap memory");
+            assertEquals(proxy.getHeapBytes(), proxy.getMemoryFootprintBytes(), "The footprint adds both");
+            assertFalse(proxy.isClosed(), "The navigator should be open");
+        } finally {
+            NodeNavigatorMonitor.unregister(name);
+        }
+    }
+    
+    /**
+     * Tests that instrumentation can be switched off through the MBean server.
+     * 
+     * @throws JMException if the attribute cannot be written
+     */
+    @Test
+    @DisplayName("Should let JMX clients disable instrumentation")
+    void testDisableInstrumentation() throws JMException {
+        // Arrange
+        final NodeNavigator navigator = new NodeNavigator(TestNodes.sequence(NODE_COUNT));
+        final MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        final ObjectName name = NodeNavigatorMonitor.register(navigator, "monitor-instrumented");
+        try {
+            final INodeNavigatorMXBean proxy = JMX.newMXBeanProxy(server, name, INodeNavigatorMXBean.class);
+            navigator.navigate();
+            
+            // Act
+            server.setAttribute(name, new Attribute("Instrumented", false));
+            
+            // Assert
+            assertFalse(navigator.isInstrumented(), "Instrumentation should be controllable over JMX");
+            assertEquals(0, proxy.getNavigationCount(), "Disabling should discard the timings");
+        } finally {
+            NodeNavigatorMonitor.unregister(name);
+        }
+    }
+    
+    /**
+     * Tests that unregistering removes the MXBean once and reports nothing removed afterwards.
+     */
+    @Test
+    @DisplayName("Should unregister a navigator exactly once")
+    void testUnregister() {
+        // Arrange
+        final NodeNavigator navigator = new NodeNavigator(TestNodes.sequence(NODE_COUNT));
+        final ObjectName name = NodeNavigatorMonitor.register(navigator, "monitor-unregister");
+        
+        // Act
+        final boolean first = NodeNavigatorMonitor.unregister(name);
+        final boolean second = NodeNavigatorMonitor.unregister(name);
+        
+        // Assert
+        assertTrue(first, "The navigator should be unregistered");
+        assertFalse(second, "Unregistering twice should report nothing removed");
+        assertFalse(ManagementFactory.getPlatformMBeanServer().isRegistered(name), "The MXBean should be gone");
+    }
+    
+    /**
+     * Tests that off-heap memory counts towards the footprint until the navigator is closed.
+     */
+    @Test
+    @DisplayName("Should report the off-heap footprint until closed")
+    void testOffHeapFootprint() {
+        // Arrange
+        final NodeNavigator offHeap = NodeNavigator.offHeap(TestNodes.sequence(NODE_COUNT));
+        final ObjectName name = NodeNavigatorMonitor.register(offHeap, "monitor-footprint");
+        try {
+            final INodeNavigatorMXBean proxy =
+                JMX.newMXBeanProxy(ManagementFactory.getPlatformMBeanServer(), name, INodeNavigatorMXBean.class);
+            
+            // Act
+            final long heapBytes = proxy.getHeapBytes();
+            final long openFootprint = proxy.getMemoryFootprintBytes();
+            offHeap.close();
+            final long closedFootprint = proxy.getMemoryFootprintBytes();
+            
+            // Assert
+            assertEquals(0, heapBytes, "Off-heap nodes take no heap");
+            assertEquals((long) NODE_COUNT * Integer.BYTES, openFootprint,
+                         "Off-heap memory should count towards the footprint");
+            assertTrue(proxy.isClosed(), "Closing should be visible");
+            assertEquals(0, closedFootprint, "Released memory should not be counted");
+        } finally {
+            NodeNavigatorMonitor.unregister(name);
+        }
+    }
+    
+    /**
+     * Tests that changed and compressed storages report their heap use.
+     */
+    @Test
+    @DisplayName("Should report the heap footprint of changed and compressed storage")
+    void testHeapFootprint() {
+        // Arrange
+        final NodeNavigator changed = new NodeNavigator(TestNodes.sequence(NODE_COUNT));
+        final NodeNavigator compressed = NodeNavigator.compress(TestNodes.sequence(NODE_COUNT));
+        final long arrayBytes = (long) NODE_COUNT * Integer.BYTES;
+        
+        // Act
+        changed.append(NODE_COUNT);
+        
+        // Assert
+        assertTrue(changed.getHeapBytes() > arrayBytes, "Chunks should be counted");
+        assertTrue(compressed.getHeapBytes() < arrayBytes, "Compressed nodes should take less heap than an array");
+    }
+    
+    /**
+     * Tests that registration requires a navigator and a name.
+     */
+    @Test
+    @DisplayName("Should reject missing navigators and names")
+    void testRegistrationValidation() {
+        // Arrange
+        final NodeNavigator navigator = new NodeNavigator(TestNodes.sequence(NODE_COUNT));
+        
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> NodeNavigatorMonitor.register(navigator, null),
+                     "A name is required");
+        assertThrows(IllegalArgumentException.class, () -> NodeNavigatorMonitor.register(null, "monitor-null"),
+                     "A navigator is required");
+    }
+    
+    /**
+     * Tests that a name cannot be registered twice and that the failed registration leaves the navigator alone.
+     */
+    @Test
+    @DisplayName("Should reject duplicate names")
+    void testDuplicateRegistration() {
+        // Arrange
+        final NodeNavigator navigator = new NodeNavigator(TestNodes.sequence(NODE_COUNT));
+        final NodeNavigator duplicate = new NodeNavigator(TestNodes.sequence(1));
+        final ObjectName name = NodeNavigatorMonitor.register(navigator, "monitor-duplicate");
+        try {
+            // Act & Assert
+            assertThrows(IllegalStateException.class,
+                         () -> NodeNavigatorMonitor.register(duplicate, "monitor-duplicate"),
+                         "Names should be unique");
+            assertFalse(duplicate.isInstrumented(), "A failed registration should not enable instrumentation");
+        } finally {
+            NodeNavigatorMonitor.unregister(name);
+        }
+    }
+}
@@ -22,9 +22,13 @@ import org.junit.jupiter.api.TestInfo;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
 
+import java.nio.ByteBuffer;
+import java.nio.IntBuffer;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Supplier;
 
 import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
@@ -173,13 +177,39 @@ class NodeNavigatorTest {
             final NodeNavigator navigator = new NodeNavigator(numbers);
             
             // Test initial state
-            assertNull(navigator.getListener(), "Initially should have no listener");
+            assertTrue(navigator.getListeners().isEmpty(), "Initially should have no listener");
             
             // Test subscription
             navigator.subscribe(testListener);
-            assertSame(testListener, navigator.getListener(), "Should store the subscribed listener");
+            assertEquals(List.of(testListener), navigator.getListeners(), "Should store the subscribed listener");
             
             // Test unsubscription
+            navigator.unsubscribe();
+            assertTrue(navigator.getListeners().isEmpty(), "Should have no listener after unsubscribe");
+        }
+        
+        /**
+         * Tests that the single-listener accessor still returns the first subscribed listener.
+         */
+        @Test
+        @SuppressWarnings("deprecation")
+        @DisplayName("Should keep returning the first listener from the deprecated accessor")
+        void testDeprecatedGetListener() {
+            // Arrange
+            final int[] numbers = {1, 2, 3};
+            final NodeNavigator navigator = new NodeNavigator(numbers);
+            final TestNodeListener secondListener = new TestNodeListener();
+            
+            // Act and Assert
+            assertNull(navigator.getListener(), "Initially should have no listener");
+            
+            navigator.subscribe(testListener);
+            navigator.subscribe(secondListener);
+            assertSame(testListener, navigator.getListener(), "Should return the earliest subscribed listener");
+            
+            navigator.unsubscribe(testListener);
+            assertSame(secondListener, navigator.getListener(), "Should return the remaining listener");
+            
             navigator.unsubscribe();
             assertNull(navigator.getListener(), "Should have no listener after unsubscribe");
         }
@@ -225,11 +255,11 @@ class NodeNavigatorTest {
         }
         
         /**
-         * Tests that subscribing a new observer replaces the previous one.
+         * Tests that subscribing a new observer adds to the existing ones.
          */
         @Test
-        @DisplayName("Should replace observer when subscribing a new one")
-        void testObserverReplacement() {
+        @DisplayName("Should notify every subscribed observer")
+        void testMultipleObservers() {
             // Arrange
             final int[] numbers = {1, 2};
             final NodeNavigator navigator = new NodeNavigator(numbers);
@@ -239,17 +269,86 @@ class NodeNavigatorTest {
             navigator.subscribe(testListener);
             navigator.navigate();
             
-            // Subscribe second observer (should replace first)
+            // Subscribe second observer (both should now be notified)
             navigator.subscribe(secondListener);
             navigator.navigate();
             
             // Assert
-            assertEquals(2, testListener.getNotificationCount(),
-                       "First observer should only receive notifications from first navigation");
-            assertEquals(2, secondListener.getNotificationCount(),
+            assertEquals(2 * numbers.length, testListener.getNotificationCount(),
+                       "First observer should receive notifications from both navigations");
+            assertEquals(numbers.length, secondListener.getNotificationCount(),
                        "Second observer should receive notifications from second navigation");
-            assertSame(secondListener, navigator.getListener(),
-                     "Navigator should reference the second observer");
+            assertEquals(List.of(testListener, secondListener), navigator.getListeners(),
+                       "Navigator should reference both observers in subscription order");
+        }
+        
+        /**
+         * Tests that unsubscribing one observer leaves the others subscribed.
+         */
+        @Test
+        @DisplayName("Should unsubscribe a single observer")
+        void testUnsubscribeSingleObserver() {
+            // Arrange
+            final int[] numbers = {1, 2, 3};
+            final NodeNavigator navigator = new NodeNavigator(numbers);
+            final TestNodeListener secondListener = new TestNodeListener();
+            navigator.subscribe(testListener);
+            navigator.subscribe(secondListener);
+            
+            // Act
+            assertTrue(navigator.unsubscribe(testListener), "Subscribed observer should be removed");
+            assertFalse(navigator.unsubscribe(testListener), "Removing twice should report false");
+            navigator.navigate();
+            
+            // Assert
+            assertEquals(0, testListener.getNotificationCount(), "Removed observer should not be notified");
+            assertArrayEquals(numbers, secondListener.getVisitedNodesArray(),
+                            "Remaining observer should still be notified");
+            assertEquals(1, navigator.getListenerCount(), "One observer should remain");
+        }
+        
+        /**
+         * Tests that subscribing the same observer twice has no effect.
+         */
+        @Test
+        @DisplayName("Should ignore duplicate subscription")
+        void testDuplicateSubscription() {
+            // Arrange
+            final int[] numbers = {1, 2, 3};
+            final NodeNavigator navigator = new NodeNavigator(numbers);
+            
+            // Act
+            navigator.subscribe(testListener);
+            navigator.subscribe(testListener);
+            navigator.navigate();
+            
+            // Assert
+            assertEquals(1, navigator.getListenerCount(), "Observer should be registered once");
+            assertArrayEquals(numbers, testListener.getVisitedNodesArray(),
+                            "Observer should be notified once per node");
+        }
+        
+        /**
+         * Tests that subscription changes during navigation apply to the next navigation.
+         */
+        @Test
+        @DisplayName("Should apply subscription changes made during navigation to the next navigation")
+        void testSubscriptionChangeDuringNavigation() {
+            // Arrange
+            final int[] numbers = {1, 2, 3};
+            final NodeNavigator navigator = new NodeNavigator(numbers);
+            final INodeNavigationListener subscriber = data -> navigator.subscribe(testListener);
+            navigator.subscribe(subscriber);
+            
+            // Act
+            navigator.navigate();
+            final int firstRunCount = testListener.getNotificationCount();
+            navigator.navigate();
+            
+            // Assert
+            assertEquals(0, firstRunCount, "Listener added mid-navigation should wait for the next pass");
+            assertArrayEquals(numbers, testListener.getVisitedNodesArray(),
+                            "Listener should be notified on the next navigation");
         }
     }
     
@@ -384,6 +483,28 @@ class NodeNavigatorTest {
             final String populatedString = navigator.toString();
             assertTrue(populatedString.contains("size=3"), "ToString should include correct size");
             assertTrue(populatedString.contains("hasListener=true"), "ToString should include listener status");
+            assertTrue(populatedString.contains("data=[1, 2, 3]"), "ToString should include the node values");
+        }
+
+        /**
+         * Tests that the navigator keeps its own copy of the constructor array.
+         */
+        @Test
+        @DisplayName("Should not observe later changes to the constructor array")
+        void testConstructorCopiesArray() {
+            // Arrange
+            final int[] numbers = {1, 2, 3};
+            final int[] expected = numbers.clone();
+            final NodeNavigator navigator = new NodeNavigator(numbers);
+            numbers[0] = SINGLE_TEST_VALUE;
+
+            // Act
+            navigator.subscribe(testListener);
+            navigator.navigate();
+
+            // Assert
+            assertArrayEquals(expected, testListener.getVisitedNodesArray(),
+                            "Navigator should navigate the values it was constructed with");
         }
         
         /**
@@ -414,6 +535,593 @@ class NodeNavigatorTest {
         }
     }
     
+    /**
+     * Nested class for testing the zero-copy wrapping factories.
+     */
+    @Nested
+    @DisplayName("Wrapping Factory Tests")
+    class WrappingFactoryTests {
+        
+        /**
+         * Tests that wrapping an array slice navigates only that slice.
+         */
+        @Test
+        @DisplayName("Should navigate only the wrapped array slice")
+        void testWrapArraySlice() {
+            // Arrange
+            final int[] numbers = {1, 2, 3, 4, 5};
+            final int[] expected = Arrays.copyOfRange(numbers, 1, numbers.length - 1);
+            final NodeNavigator navigator = NodeNavigator.wrap(numbers, 1, expected.length);
+            
+            // Act
+            navigator.subscribe(testListener);
+            navigator.navigate();
+            
+            // Assert
+            assertArrayEquals(expected, testListener.getVisitedNodesArray(),
+                            "Should visit the slice values in order");
+            assertEquals(expected.length, navigator.size(), "Size should be the slice length");
+            assertTrue(navigator.toString().contains("data=[2, 3, 4]"), "ToString should show the slice only");
+        }
+        
+        /**
+         * Tests that a wrapped array is shared with the caller rather than copied.
+         */
+        @Test
+        @DisplayName("Should observe caller changes to a wrapped array")
+        void testWrapSharesArray() {
+            // Arrange
+            final int[] numbers = {1, 2, 3};
+            final NodeNavigator navigator = NodeNavigator.wrap(numbers);
+            numbers[0] = SINGLE_TEST_VALUE;
+            
+            // Act
+            navigator.subscribe(testListener);
+            navigator.navigate();
+            
+            // Assert
+            assertArrayEquals(numbers, testListener.getVisitedNodesArray(),
+                            "Wrapped navigator should see the caller's current values");
+        }
+        
+        /**
+         * Tests argument validation of the wrapping factories.
+         */
+        @Test
+        @DisplayName("Should reject null inputs and out-of-range slices")
+        void testWrapValidation() {
+            final int[] numbers = {1, 2, 3};
+            
+            assertThrows(IllegalArgumentException.class, () -> NodeNavigator.wrap((int[]) null),
+                       "Wrapping a null array should be rejected");
+            assertThrows(IllegalArgumentException.class, () -> NodeNavigator.wrap(null, 0, 0),
+                       "Wrapping a null array slice should be rejected");
+            assertThrows(IllegalArgumentException.class, () -> NodeNavigator.wrap((IntBuffer) null),
+                       "Wrapping a null buffer should be rejected");
+            assertThrows(IndexOutOfBoundsException.class, () -> NodeNavigator.wrap(numbers, 2, 2),
+                       "Slice past the end of the array should be rejected");
+            assertThrows(IndexOutOfBoundsException.class, () -> NodeNavigator.wrap(numbers, -1, 1),
+                       "Negative slice offset should be rejected");
+        }
+        
+        /**
+         * Tests wrapping heap, read-only and direct buffers.
+         */
+        @Test
+        @DisplayName("Should navigate the remaining values of heap, read-only and direct buffers")
+        void testWrapBuffers() {
+            final int[] numbers = {1, 2, 3, 4, 5};
+            final int[] expected = Arrays.copyOfRange(numbers, 1, numbers.length);
+            
+            final IntBuffer heap = IntBuffer.wrap(numbers);
+            heap.position(1);
+            final IntBuffer readOnly = heap.asReadOnlyBuffer();
+            final IntBuffer direct = ByteBuffer.allocateDirect(numbers.length * Integer.BYTES).asIntBuffer();
+            direct.put(numbers).position(1);
+            
+            for (final IntBuffer buffer : Arrays.asList(heap, readOnly, direct)) {
+                final TestNodeListener listener = new TestNodeListener();
+                final NodeNavigator navigator = NodeNavigator.wrap(buffer);
+                
+                // Moving the caller's position must not change the wrapped range
+                buffer.position(0);
+                navigator.subscribe(listener);
+                navigator.navigate();
+                
+                assertArrayEquals(expected, listener.getVisitedNodesArray(),
+                                "Should visit the values between position and limit at wrap time");
+                assertEquals(expected.length, navigator.size(), "Size should be the remaining count");
+                assertTrue(navigator.toString().contains("data=[2, 3, 4, 5]"),
+                         "ToString should show the wrapped values");
+            }
+        }
+    }
+    
+    /**
+     * Nested class for testing chunked delivery to batch listeners.
+     */
+    @Nested
+    @DisplayName("Batch Listener Tests")
+    class BatchListenerTests {
+        
+        /**
+         * Tests that a batch listener receives every node in chunks of the configured size.
+         */
+        @Test
+        @DisplayName("Should deliver nodes to batch listener in chunks of the configured size")
+        void testChunkedDelivery() {
+            // Arrange
+            final int[] numbers = {1, 2, 3, 4, 5};
+            final NodeNavigator navigator = new NodeNavigator(numbers);
+            final TestBatchListener batchListener = new TestBatchListener();
+            navigator.setChunkSize(2);
+            
+            // Act
+            navigator.subscribe(batchListener);
+            navigator.navigate();
+            
+            // Assert
+            assertEquals(Arrays.asList(2, 2, 1), batchListener.getChunkLengths(),
+                       "Chunks should hold at most the configured number of nodes");
+            assertArrayEquals(numbers, batchListener.getValuesArray(),
+                            "Chunks should cover every node in order");
+        }
+        
+        /**
+         * Tests that per-node and batch listeners can be subscribed together.
+         */
+        @Test
+        @DisplayName("Should notify per-node and batch listeners subscribed together")
+        void testMixedListeners() {
+            // Arrange
+            final int[] numbers = {1, 2, 3, 4, 5};
+            final NodeNavigator navigator = new NodeNavigator(numbers);
+            final TestBatchListener batchListener = new TestBatchListener();
+            navigator.setChunkSize(2);
+            
+            // Act
+            navigator.subscribe(testListener);
+            navigator.subscribe(batchListener);
+            navigator.navigate();
+            
+            // Assert
+            assertArrayEquals(numbers, testListener.getVisitedNodesArray(),
+                            "Per-node listener should still see every node in order");
+            assertArrayEquals(numbers, batchListener.getValuesArray(),
+                            "Batch listener should see every node in order");
+        }
+        
+        /**
+         * Tests chunked delivery from buffer-backed storage.
+         */
+        @Test
+        @DisplayName("Should deliver chunks from buffer-backed navigators")
+        void testChunkedDeliveryFromBuffer() {
+            // Arrange
+            final int[] numbers = {1, 2, 3, 4, 5};
+            final IntBuffer direct = ByteBuffer.allocateDirect(numbers.length * Integer.BYTES).asIntBuffer();
+            direct.put(numbers).flip();
+            final NodeNavigator navigator = NodeNavigator.wrap(direct);
+            final TestBatchListener batchListener = new TestBatchListener();
+            navigator.setChunkSize(2);
+            
+            // Act
+            navigator.subscribe(batchListener);
+            navigator.navigate();
+            
+            // Assert
+            assertEquals(Arrays.asList(2, 2, 1), batchListener.getChunkLengths(),
+                       "Chunks should hold at most the configured number of nodes");
+            assertArrayEquals(numbers, batchListener.getValuesArray(),
+                            "Chunks should cover every node in order");
+        }
+        
+        /**
+         * Tests chunk size validation, default and persistence.
+         */
+        @Test
+        @DisplayName("Should reject non-positive chunk sizes")
+        void testChunkSizeValidation() {
+            final NodeNavigator navigator = new NodeNavigator(new int[]{1});
+            
+            assertEquals(NodeNavigator.DEFAULT_CHUNK_SIZE, navigator.getChunkSize(),
+                       "Chunk size should start at the default");
+            assertThrows(IllegalArgumentException.class, () -> navigator.setChunkSize(0),
+                       "Zero chunk size should be rejected");
+            
+            navigator.setChunkSize(2);
+            navigator.unsubscribe();
+            assertEquals(2, navigator.getChunkSize(), "Unsubscribing should keep the configured chunk size");
+        }
+        
+        /**
+         * Tests the adapter and the per-node default of batch listeners.
+         */
+        @Test
+        @DisplayName("Should adapt between per-node and batch contracts")
+        void testAdapters() {
+            // Arrange
+            final int[] numbers = {1, 2, 3};
+            final NodeBatchListenerAdapter adapter = new NodeBatchListenerAdapter(testListener);
+            final TestBatchListener batchListener = new TestBatchListener();
+            
+            // Act
+            adapter.onNodesVisited(numbers, 1, 2);
+            adapter.onNodeVisited(SINGLE_TEST_VALUE);
+            batchListener.onNodeVisited(SINGLE_TEST_VALUE);
+            
+            // Assert
+            assertEquals(Arrays.asList(numbers[1], numbers[2], SINGLE_TEST_VALUE), testListener.getVisitedNodes(),
+                       "Adapter should forward each node of the chunk");
+            assertSame(testListener, adapter.getDelegate(), "Adapter should expose its delegate");
+            assertArrayEquals(new int[]{SINGLE_TEST_VALUE}, batchListener.getValuesArray(),
+                            "Per-node call on a batch listener should arrive as a chunk of one");
+            assertThrows(NullPointerException.class, () -> new NodeBatchListenerAdapter(null),
+                       "Adapter should reject a null listener");
+        }
+    }
+    
+    /**
+     * Nested class for testing parallel navigation with mergeable partials.
+     */
+    @Nested
+    @DisplayName("Parallel Navigation Tests")
+    class ParallelNavigationTests {
+        
+        /** Number of nodes, large enough to be split across several workers. */
+        private static final int PARALLEL_ARRAY_SIZE = 100_000;
+        
+        /** Parallelism of the test pool. */
+        private static final int PARALLELISM = 4;
+        
+        /**
+         * Tests that parallel navigation matches a sequential navigation.
+         */
+        @Test
+        @DisplayName("Should produce the same aggregates and order as sequential navigation")
+        void testParallelMatchesSequential() {
+            // Arrange
+            final int[] numbers = new int[PARALLEL_ARRAY_SIZE];
+            for (int i = 0; i < numbers.length; i++) {
+                numbers[i] = (i * SINGLE_TEST_VALUE) % MEDIUM_ARRAY_SIZE - SMALL_ARRAY_SIZE;
+            }
+            final NodeNavigator navigator = new NodeNavigator(numbers);
+            final TestAggregateListener sequential = new TestAggregateListener();
+            navigator.subscribe(sequential);
+            navigator.navigate();
+            final ForkJoinPool pool = new ForkJoinPool(PARALLELISM);
+            
+            try {
+                // Act
+                final TestAggregateListener parallel = navigator.navigateParallel(TestAggregateListener::new, pool);
+                
+                // Assert
+                assertEquals(sequential.toString(), parallel.toString(),
+                           "Parallel aggregates should match sequential aggregates");
+                assertTrue(parallel.getMergeCount() > 0, "Large list should be split across partials");
+                assertArrayEquals(numbers, parallel.getValuesArray(),
+                                "Merging in range order should preserve node order");
+            } finally {
+                pool.shutdown();
+            }
+        }
+        
+        /**
+         * Tests parallel navigation with batch partials on the common pool.
+         */
+        @Test
+        @DisplayName("Should feed chunks to batch partials")
+        void testParallelBatchPartials() {
+            // Arrange
+            final int[] numbers = new int[PARALLEL_ARRAY_SIZE];
+            Arrays.fill(numbers, 1);
+            final NodeNavigator navigator = new NodeNavigator(numbers);
+            
+            // Act
+            final TestAggregateListener result = navigator.navigateParallel(TestBatchAggregateListener::new);
+            
+            // Assert
+            assertEquals(PARALLEL_ARRAY_SIZE, result.getValuesArray().length, "Every node should be observed");
+        }
+        
+        /**
+         * Tests parallel navigation of an empty list and argument validation.
+         */
+        @Test
+        @DisplayName("Should handle empty lists and reject invalid arguments")
+        void testParallelEdgeCases() {
+            final NodeNavigator navigator = new NodeNavigator(new int[]{});
+            
+            assertEquals(0, navigator.navigateParallel(TestAggregateListener::new).getValuesArray().length,
+                       "Empty list should yield an empty partial");
+            assertThrows(IllegalArgumentException.class,
+                       () -> navigator.navigateParallel((Supplier<TestAggregateListener>) null),
+                       "Null factory should be rejected");
+            assertThrows(IllegalArgumentException.class,
+                       () -> navigator.navigateParallel(TestAggregateListener::new, null),
+                       "Null pool should be rejected");
+        }
+        
+        /**
+         * Tests that listener failures surface as navigation errors.
+         */
+        @Test
+        @DisplayName("Should report listener failures as navigation errors")
+        void testParallelFailure() {
+            final NodeNavigator navigator = new NodeNavigator(new int[]{1, 2, 3});
+            
+            final RuntimeException exception = assertThrows(RuntimeException.class,
+                () -> navigator.navigateParallel(() -> null),
+                "Null partial should fail the navigation");
+            assertTrue(exception.getMessage().startsWith("Error occurred during navigation"),
+                     "Failure should be reported as a navigation error");
+        }
+    }
+    
+    /**
+     * Nested class for testing the error policies and failure counters.
+     */
+    @Nested
+    @DisplayName("Error Policy Tests")
+    class ErrorPolicyTests {
+        
+        /** Nodes with two negative values that make the failing listener throw. */
+        private final int[] numbers = {1, -2, 3, -4, 5};
+        
+        /** Listener that throws on every negative node. */
+        private final INodeNavigationListener failingListener = data -> {
+            if (data < 0) {
+                throw new IllegalStateException("Negative node " + data);
+            }
+        };
+        
+        /**
+         * Tests that fail-fast is the default, aborts navigation and counts the failure.
+         */
+        @Test
+        @DisplayName("Should abort on the first failure by default")
+        void testFailFast() {
+            // Arrange
+            final NodeNavigator navigator = new NodeNavigator(numbers);
+            navigator.subscribe(failingListener);
+            navigator.subscribe(testListener);
+            
+            // Act
+            final RuntimeException exception = assertThrows(RuntimeException.class, navigator::navigate,
+                                                            "Failure should abort the navigation");
+            
+            // Assert
+            assertSame(ErrorPolicy.FAIL_FAST, navigator.getErrorPolicy(), "Fail-fast should be the default");
+            assertTrue(exception.getCause() instanceof IllegalStateException, "Cause should be preserved");
+            assertEquals(1, testListener.getNotificationCount(), "Navigation should stop at the failing node");
+            assertEquals(1, navigator.getFailureCount(), "Aborting failure should be counted");
+            assertThrows(IllegalArgumentException.class, () -> navigator.setErrorPolicy(null),
+                       "Null policy should be rejected");
+        }
+        
+        /**
+         * Tests that skip-and-count keeps notifying every listener of every other node.
+         */
+        @Test
+        @DisplayName("Should skip failed notifications and count them")
+        void testSkipAndCount() {
+            // Arrange
+            final NodeNavigator navigator = new NodeNavigator(numbers);
+            navigator.subscribe(failingListener);
+            navigator.subscribe(testListener);
+            navigator.setErrorPolicy(ErrorPolicy.SKIP_AND_COUNT);
+            
+            // Act
+            assertDoesNotThrow(() -> navigator.navigate(), "Failures should not abort the navigation");
+            final long failuresAfterFirstPass = navigator.getFailureCount();
+            navigator.navigate();
+            
+            // Assert
+            assertEquals(2, failuresAfterFirstPass, "Each failed node should be counted");
+            assertEquals(2 * failuresAfterFirstPass, navigator.getFailureCount(),
+                       "Failing listener should keep receiving nodes");
+            assertEquals(2, navigator.getListenerCount(), "Failing listener should stay subscribed");
+            assertEquals(0, navigator.getIsolatedListenerCount(), "No listener should be isolated");
+            testListener.reset();
+            navigator.navigate();
+            assertArrayEquals(numbers, testListener.getVisitedNodesArray(), "Other listeners should see every node");
+        }
+        
+        /**
+         * Tests that isolation drops a failing listener after its first failure.
+         */
+        @Test
+        @DisplayName("Should isolate a failing listener")
+        void testIsolateFailingListener() {
+            // Arrange
+            final NodeNavigator navigator = new NodeNavigator(numbers);
+            navigator.subscribe(failingListener);
+            navigator.subscribe(testListener);
+            navigator.setErrorPolicy(ErrorPolicy.ISOLATE_FAILING_LISTENER);
+            
+            // Act
+            navigator.navigate();
+            
+            // Assert
+            assertArrayEquals(numbers, testListener.getVisitedNodesArray(), "Other listeners should see every node");
+            assertEquals(1, navigator.getFailureCount(), "Isolated listener should fail only once");
+            assertEquals(1, navigator.getIsolatedListenerCount(), "Failing listener should be isolated");
+            assertEquals(List.of(testListener), navigator.getListeners(), "Failing listener should be unsubscribed");
+        }
+        
+        /**
+         * Tests that chunked navigation contains failures per node and per chunk.
+         */
+        @Test
+        @DisplayName("Should contain failures during chunked delivery")
+        void testSkipAndCountWithChunks() {
+            // Arrange
+            final NodeNavigator navigator = new NodeNavigator(numbers);
+            final TestBatchListener batchListener = new TestBatchListener();
+            final INodeBatchListener failingBatchListener = (values, offset, length) -> {
+                throw new IllegalStateException("Chunk rejected");
+            };
+            navigator.subscribe(failingListener);
+            navigator.subscribe(failingBatchListener);
+            navigator.subscribe(batchListener);
+            navigator.setChunkSize(2);
+            navigator.setErrorPolicy(ErrorPolicy.SKIP_AND_COUNT);
+            
+            // Act
+            navigator.navigate();
+            
+            // Assert
+            assertArrayEquals(numbers, batchListener.getValuesArray(), "Batch listener should see every node");
+            final int chunkCount = (numbers.length + 1) / 2;
+            assertEquals(2 + chunkCount, navigator.getFailureCount(), "Each failed node and chunk should be counted");
+        }
+    }
+    
+    /**
+     * Nested class for testing range, strided and reverse navigation.
+     */
+    @Nested
+    @DisplayName("Range Navigation Tests")
+    class RangeNavigationTests {
+        
+        /** Nodes whose values equal their positions. */
+        private final int[] numbers = {0, 1, 2, 3, 4, 5, 6, 7, 8, 9};
+        
+        /** Step used by the strided tests. */
+        private final int step = 3;
+        
+        /** First position of the window navigated by the range test, inclusive. */
+        private final int windowStart = 2;
+        
+        /** Last position of the window navigated by the range test, exclusive. */
+        private final int windowEnd = 6;
+        
+        /**
+         * Collects the nodes a strided navigation should visit with a plain loop.
+         * 
+         * @param fromIndex the first position of the range, inclusive
+         * @param toIndex the last position of the range, exclusive
+         * @param stride the distance between visited positions; negative to walk backwards
+         * @return the expected node values, in visiting order
+         */
+        private List<Integer> expected(final int fromIndex, final int toIndex, final int stride) {
+            final List<Integer> values = new ArrayList<>();
+            if (stride > 0) {
+                for (int i = fromIndex; i < toIndex; i += stride) {
+                    values.add(numbers[i]);
+                }
+            } else {
+                for (int i = toIndex - 1; i >= fromIndex; i += stride) {
+                    values.add(numbers[i]);
+                }
+            }
+            return values;
+        }
+        
+        /**
+         * Tests navigation of a contiguous window.
+         */
+        @Test
+        @DisplayName("Should notify only the nodes of the window")
+        void testRange() {
+            // Arrange
+            final NodeNavigator navigator = new NodeNavigator(numbers);
+            navigator.subscribe(testListener);
+            
+            // Act
+            navigator.navigate(windowStart, windowEnd);
+            navigator.navigate(numbers.length, numbers.length);
+            
+            // Assert
+            assertArrayEquals(Arrays.copyOfRange(numbers, windowStart, windowEnd),
+                            testListener.getVisitedNodesArray(), "Only the window should be visited");
+        }
+        
+        /**
+         * Tests strided and reverse navigation with per-node listeners.
+         */
+        @Test
+        @DisplayName("Should visit every step-th node forwards and backwards")
+        void testStridedAndReverse() {
+            // Arrange
+            final NodeNavigator navigator = new NodeNavigator(numbers);
+            navigator.subscribe(testListener);
+            
+            // Act and Assert
+            navigator.navigate(1, numbers.length, step);
+            assertEquals(expected(1, numbers.length, step), testListener.getVisitedNodes(),
+                       "Forward stride should skip nodes");
+            
+            testListener.reset();
+            navigator.navigate(1, numbers.length, -step);
+            assertEquals(expected(1, numbers.length, -step), testListener.getVisitedNodes(),
+                       "Backward stride should start at the end");
+            
+            testListener.reset();
+            navigator.navigate(0, numbers.length, -1);
+            final int[] reversed = new int[numbers.length];
+            for (int i = 0; i < numbers.length; i++) {
+                reversed[i] = numbers[numbers.length - 1 - i];
+            }
+            assertArrayEquals(reversed, testListener.getVisitedNodesArray(), "Step -1 should reverse the list");
+            
+            testListener.reset();
+            navigator.navigate(0, numbers.length, Integer.MAX_VALUE);
+            assertEquals(List.of(0), testListener.getVisitedNodes(),
+                       "A huge forward step should visit only the first node without overflowing");
+            
+            testListener.reset();
+            navigator.navigate(0, numbers.length, Integer.MIN_VALUE);
+            assertEquals(List.of(numbers.length - 1), testListener.getVisitedNodes(),
+                       "A huge backward step should visit only the last node without overflowing");
+        }
+        
+        /**
+         * Tests strided navigation with batch listeners, from arrays and buffers.
+         */
+        @Test
+        @DisplayName("Should gather strided nodes into chunks")
+        void testStridedChunks() {
+            // Arrange
+            final NodeNavigator[] navigators = {
+                new NodeNavigator(numbers),
+                NodeNavigator.wrap(IntBuffer.wrap(numbers).asReadOnlyBuffer()),
+            };
+            
+            for (final NodeNavigator navigator : navigators) {
+                final TestBatchListener batchListener = new TestBatchListener();
+                navigator.subscribe(batchListener);
+                navigator.setChunkSize(2);
+                
+                // Act
+                navigator.navigate(0, numbers.length, -step);
+                
+                // Assert
+                assertArrayEquals(expected(0, numbers.length, -step).stream().mapToInt(Integer::intValue).toArray(),
+                                batchListener.getValuesArray(), "Chunks should be in visiting order");
+                assertEquals(List.of(2, 2), batchListener.getChunkLengths(), "Chunks should respect the chunk size");
+            }
+        }
+        
+        /**
+         * Tests argument validation.
+         */
+        @Test
+        @DisplayName("Should reject invalid ranges and a zero step")
+        void testRangeValidation() {
+            final NodeNavigator navigator = new NodeNavigator(numbers);
+            
+            assertThrows(IndexOutOfBoundsException.class, () -> navigator.navigate(-1, 2),
+                       "Negative start should be rejected");
+            assertThrows(IndexOutOfBoundsException.class, () -> navigator.navigate(2, 1),
+                       "Reversed bounds should be rejected");
+            assertThrows(IndexOutOfBoundsException.class, () -> navigator.navigate(0, numbers.length + 1),
+                       "Range past the end should be rejected");
+            assertThrows(IllegalArgumentException.class, () -> navigator.navigate(0, 1, 0),
+                       "Zero step should be rejected");
+        }
+    }
+    
     /**
      * Test helper class that implements INodeNavigationListener for testing purposes.
      */
@@ -473,4 +1181,119 @@ class NodeNavigatorTest {
             this.notificationCount = 0;
         }
     }
+    
+    /**
+     * Test helper class that implements INodeBatchListener for testing purposes.
+     */
+    private static class TestBatchListener implements INodeBatchListener {
+        /** Values received across all chunks, in order. */
+        private final List<Integer> values = new ArrayList<>();
+        
+        /** Length of each chunk received, in order. */
+        private final List<Integer> chunkLengths = new ArrayList<>();
+        
+        @Override
+        public void onNodesVisited(final int[] chunk, final int offset, final int length) {
+            for (int index = offset; index < offset + length; index++) {
+                this.values.add(chunk[index]);
+            }
+            this.chunkLengths.add(length);
+        }
+        
+        /**
+         * Gets the values received across all chunks.
+         * 
+         * @return array of received node values
+         */
+        public int[] getValuesArray() {
+            return this.values.stream().mapToInt(Integer::intValue).toArray();
+        }
+        
+        /**
+         * Gets the length of each chunk received.
+         * 
+         * @return list of chunk lengths
+         */
+        public List<Integer> getChunkLengths() {
+            return new ArrayList<>(this.chunkLengths);
+        }
+    }
+    
+    /**
+     * Test helper class that implements a mergeable aggregate listener.
+     */
+    private static class TestAggregateListener implements IMergeableNodeListener<TestAggregateListener> {
+        /** Values observed by this partial, in order. */
+        private final List<Integer> values = new ArrayList<>();
+        
+        /** Sum of observed values. */
+        private long sum;
+        
+        /** Minimum observed value. */
+        private int min = Integer.MAX_VALUE;
+        
+        /** Maximum observed value. */
+        private int max = Integer.MIN_VALUE;
+        
+        /** Number of partials merged into this one. */
+        private int mergeCount;
+        
+        @Override
+        public void onNodeVisited(final int data) {
+            this.values.add(data);
+            this.sum += data;
+            this.min = Math.min(this.min, data);
+            this.max = Math.max(this.max, data);
+        }
+        
+        @Override
+        public void merge(final TestAggregateListener following) {
+            this.values.addAll(following.values);
+            this.sum += following.sum;
+            this.min = Math.min(this.min, following.min);
+            this.max = Math.max(this.max, following.max);
+            this.mergeCount += following.mergeCount + 1;
+        }
+        
+        /**
+         * Gets the observed values.
+         * 
+         * @return array of observed node values
+         */
+        public int[] getValuesArray() {
+            return this.values.stream().mapToInt(Integer::intValue).toArray();
+        }
+        
+        /**
+         * Gets the number of partials merged into this one.
+         * 
+         * @return merge count
+         */
+        public int getMergeCount() {
+            return this.mergeCount;
+        }
+        
+        @Override
+        public String toString() {
+            return "count=" + this.values.size() + ", sum=" + this.sum + ", min=" + this.min + ", max=" + this.max;
+        }
+    }
+    
+    /**
+     * Test helper class that implements a mergeable aggregate batch listener.
+     */
+    private static class TestBatchAggregateListener extends TestAggregateListener implements INodeBatchListener {
+        
+        @Override
+        public void onNodesVisited(final int[] chunk, final int offset, final int length) {
+            for (int index = offset; index < offset + length; index++) {
+                super.onNodeVisited(chunk[index]);
+            }
+        }
+        
+        @Override
+        public void onNodeVisited(final int data) {
+            super.onNodeVisited(data);
+        }
+    }
 }
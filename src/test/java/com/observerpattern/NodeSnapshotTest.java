@@ -0,0 +1,201 @@
+/**
+ * Unit tests for saving and loading NodeNavigator snapshots.
+ * <p>
+ * This test class validates that snapshots round-trip every node exactly in
+ * both encodings, across I/O block boundaries and from any storage, that the
+ * delta encoding compresses close values, and that corrupt, truncated or
+ * foreign files are rejected.
+ * </p>
+ * 
+ * @author Ramaswamy Krishnan-Chittur
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+
+package com.observerpattern;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.IntBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Unit tests for the NodeSnapshot format.
+ * 
+ * @author Ramaswamy Krishnan-Chittur
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@DisplayName("Snapshot Tests")
+class NodeSnapshotTest {
+    
+    /** Number of nodes, enough to span several I/O blocks in either encoding. */
+    private static final int NODE_COUNT = 700_000;
+    
+    /** Seed of the pseudo-random test values. */
+    private static final int SEED = 0x9E3779B9;
+    
+    /** Directory for the snapshot files, removed after each test. */
+    @TempDir
+    private Path directory;
+    
+    /**
+     * Creates pseudo-random node values that include both extremes of the int range.
+     * 
+     * @param count the number of values
+     * @return the values
+     */
+    private static int[] values(final int count) {
+        final int[] values = new int[count];
+        int state = SEED;
+        for (int i = 0; i < count; i++) {
+            state ^= state << Byte.SIZE;
+            state ^= state >>> Short.SIZE;
+            values[i] = state;
+        }
+        values[0] = Integer.MIN_VALUE;
+        values[count - 1] = Integer.MAX_VALUE;
+        return values;
+    }
+    
+    /**
+     * Collects every node a navigation delivers.
+     * 
+     * @param navigator the navigator to navigate
+     * @return the visited node values
+     */
+    private static int[] navigate(final NodeNavigator navigator) {
+        final List<Integer> visited = new ArrayList<>();
+        navigator.subscribe(visited::add);
+        navigator.navigate();
+        return visited.stream().mapToInt(Integer::intValue).toArray();
+    }
+    
+    /**
+     * Tests that saving and loading keeps every node, including an empty list, in each encoding.
+     * 
+     * @param encoding the payload encoding under test
+     * @throws IOException if a snapshot cannot be written or read
+     */
+    @ParameterizedTest
+    @EnumSource(SnapshotEncoding.class)
+    @DisplayName("Should round-trip every node in each encoding")
+    void testRoundTrip(final SnapshotEncoding encoding) throws IOException {
+        // Arrange
+        final int[] numbers = values(NODE_COUNT);
+        final Path file = this.directory.resolve("nodes.snapshot");
+        final Path empty = this.directory.resolve("empty.snapshot");
+        
+        // Act
+        new NodeNavigator(numbers).save(file, encoding);
+        new NodeNavigator(new int[]{}).save(empty, encoding);
+        final NodeNavigator loaded = NodeNavigator.load(file);
+        
+        // Assert
+        assertEquals(NODE_COUNT, loaded.size(), "Node count should survive the snapshot");
+        assertArrayEquals(numbers, navigate(loaded), "Every node should survive the snapshot");
+        assertTrue(NodeNavigator.load(empty).isEmpty(), "Empty lists should round-trip");
+    }
+    
+    /**
+     * Tests saving from a direct buffer, and that close values pack into far fewer bytes.
+     * 
+     * @throws IOException if a snapshot cannot be written or read
+     */
+    @Test
+    @DisplayName("Should save from buffer storage and compress close values")
+    void testBufferSourceAndCompression() throws IOException {
+        // Arrange
+        final int[] sorted = new int[NODE_COUNT];
+        for (int i = 0; i < sorted.length; i++) {
+            sorted[i] = i * Byte.SIZE;
+        }
+        final IntBuffer direct = ByteBuffer.allocateDirect(NODE_COUNT * Integer.BYTES).asIntBuffer().put(sorted);
+        final NodeNavigator navigator = NodeNavigator.wrap(direct.flip());
+        final Path raw = this.directory.resolve("raw.snapshot");
+        final Path packed = this.directory.resolve("packed.snapshot");
+        
+        // Act
+        navigator.save(raw);
+        navigator.save(packed, SnapshotEncoding.DELTA_VARINT);
+        
+        // Assert
+        assertEquals(NodeSnapshot.HEADER_BYTES + (long) NODE_COUNT * Integer.BYTES, Files.size(raw),
+                   "Raw payload should hold four bytes per node");
+        assertTrue(Files.size(packed) * 2 < Files.size(raw), "Small deltas should need one or two bytes");
+        assertArrayEquals(sorted, navigate(NodeNavigator.load(raw)), "Raw snapshot should load");
+        assertArrayEquals(sorted, navigate(NodeNavigator.load(packed)), "Packed snapshot should load");
+    }
+    
+    /**
+     * Tests that a flipped payload bit and a missing last byte are both detected on load.
+     * 
+     * @param encoding the payload encoding under test
+     * @throws IOException if a snapshot cannot be written or read
+     */
+    @ParameterizedTest
+    @EnumSource(SnapshotEncoding.class)
+    @DisplayName("Should reject corrupt and truncated snapshots")
+    void testCorruption(final SnapshotEncoding encoding) throws IOException {
+        // Arrange
+        final Path file = this.directory.resolve("nodes.snapshot");
+        new NodeNavigator(values(NODE_COUNT)).save(file, encoding);
+        final byte[] bytes = Files.readAllBytes(file);
+        final byte[] flipped = bytes.clone();
+        flipped[flipped.length / 2] ^= 1;
+        final Path corrupt = Files.write(this.directory.resolve("corrupt.snapshot"), flipped);
+        final Path truncated = Files.write(this.directory.resolve("truncated.snapshot"),
+                                           Arrays.copyOf(bytes, bytes.length - 1));
+        
+        // Act
+        final IOException checksum = assertThrows(IOException.class, () -> NodeNavigator.load(corrupt),
+                                                  "Flipped payload bit should be detected");
+        
+        // Assert
+        assertTrue(checksum.getMessage().contains("checksum"), "Corruption should be reported as a checksum error");
+        assertThrows(IOException.class, () -> NodeNavigator.load(truncated), "Truncation should be detected");
+    }
+    
+    /**
+     * Tests that files of another version or format and null arguments are rejected.
+     * 
+     * @throws IOException if a test file cannot be written
+     */
+    @Test
+    @DisplayName("Should reject foreign files and invalid arguments")
+    void testValidation() throws IOException {
+        // Arrange
+        final Path file = this.directory.resolve("nodes.snapshot");
+        final NodeNavigator navigator = new NodeNavigator(values(Byte.SIZE));
+        navigator.save(file);
+        final byte[] otherVersion = Files.readAllBytes(file);
+        otherVersion[Integer.BYTES]++;
+        final Path future = Files.write(this.directory.resolve("future.snapshot"), otherVersion);
+        final Path foreign = Files.write(this.directory.resolve("foreign.bin"), new byte[NodeSnapshot.HEADER_BYTES]);
+        final Path tiny = Files.write(this.directory.resolve("tiny.bin"), new byte[1]);
+        
+        // Act & Assert
+        assertThrows(IOException.class, () -> NodeNavigator.load(future), "Unknown version should be rejected");
+        assertThrows(IOException.class, () -> NodeNavigator.load(foreign), "Missing magic should be rejected");
+        assertThrows(IOException.class, () -> NodeNavigator.load(tiny), "Short file should be rejected");
+        assertThrows(IllegalArgumentException.class, () -> NodeNavigator.load(null), "Null file should be rejected");
+        assertThrows(IllegalArgumentException.class, () -> navigator.save(null), "Null file should be rejected");
+        assertThrows(IllegalArgumentException.class, () -> navigator.save(file, null),
+                   "Null encoding should be rejected");
+    }
+}
@@ -0,0 +1,311 @@
+/**
+ * Unit tests for the overflow-safe sum listener.
+ * <p>
+ * This test class validates that per-node and chunked sums match a plain
+ * long sum, that sums beyond the long range stay exact, that a striped
+ * listener loses no update when many threads add at once, and that partial
+ * sums merge during parallel navigation.
+ * </p>
+ * 
+ * @author Ramaswamy Krishnan-Chittur
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+
+package com.observerpattern;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.math.BigInteger;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Unit tests for the NodeSumListener.
+ * 
+ * @author Ramaswamy Krishnan-Chittur
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@DisplayName("Node Sum Listener Tests")
+class NodeSumListenerTest {
+    
+    /** Number of nodes in the list; spans several chunks. */
+    private static final int NODE_COUNT = 10000;
+    
+    /** Number of threads adding to a striped listener at once. */
+    private static final int THREADS = 8;
+    
+    /** Maximum time to wait for the adding threads in seconds. */
+    private static final long TIMEOUT_SECONDS = 60;
+    
+    /**
+     * Creates large node values of alternating sign.
+     * 
+     * @param count the number of nodes
+     * @return the node values
+     */
+    private static int[] nodes(final int count) {
+        final int[] values = new int[count];
+        for (int index = 0; index < count; index++) {
+            values[index] = Integer.MAX_VALUE - index;
+            if (index % 2 == 1) {
+                values[index] = Integer.MIN_VALUE + index;
+            }
+        }
+        return values;
+    }
+    
+    /**
+     * Sums node values in a long.
+     * 
+     * @param values the node values
+     * @return the sum
+     */
+    private static long sum(final int[] values) {
+        long total = 0;
+        for (final int value : values) {
+            total += value;
+        }
+        return total;
+    }
+    
+    /**
+     * Creates an empty listener.
+     * 
+     * @param striped whether the listener should be striped
+     * @return the listener
+     */
+    private static NodeSumListener listener(final boolean striped) {
+        if (striped) {
+            return NodeSumListener.striped();
+        }
+        return new NodeSumListener();
+    }
+    
+    /**
+     * Starts workers that each run the given task once, all at the same time.
+     * 
+     * @param task the work of each thread
+     * @param start the latch every worker waits on before running the task
+     * @return the latch counted down by each worker when it is done
+     */
+    private static CountDownLatch startWorkers(final Runnable task, final CountDownLatch start) {
+        final CountDownLatch done = new CountDownLatch(THREADS);
+        for (int thread = 0; thread < THREADS; thread++) {
+            final Thread worker = new Thread(() -> {
+                try {
+                    start.await();
+                    task.run();
+                } catch (final InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    done.countDown();
+                }
+            });
+            worker.setDaemon(true);
+            worker.start();
+        }
+        return done;
+    }
+    
+    /**
+     * Tests that chunked and per-node notifications are summed exactly, and that no nodes sum to zero.
+     */
+    @Test
+    @DisplayName("Should sum per-node and chunked notifications like a long")
+    void testSum() {
+        // Arrange
+        final int[] values = nodes(NODE_COUNT);
+        final NodeNavigator navigator = new NodeNavigator(values);
+        final NodeSumListener batch = new NodeSumListener();
+        final NodeSumListener perNode = new NodeSumListener();
+        final NodeSumListener empty = new NodeSumListener();
+        navigator.subscribe(batch);
+        navigator.subscribe((INodeNavigationListener) perNode::onNodeVisited);
+        
+        // Act
+        navigator.navigate();
+        
+        // Assert
+        assertFalse(batch.isStriped(), "The default listener is not striped");
+        assertEquals(sum(values), batch.getLongSum(), "Chunks should be summed exactly");
+        assertEquals(sum(values), perNode.getLongSum(), "Single nodes should be summed exactly");
+        assertEquals(BigInteger.valueOf(sum(values)), batch.getSum(), "Both forms of the sum should agree");
+        assertEquals(0, empty.getLongSum(), "No nodes sum to zero");
+    }
+    
+    /**
+     * Tests that sums beyond the long range are carried exactly, by plain and striped listeners alike.
+     * 
+     * @param striped whether the listener is striped
+     */
+    @ParameterizedTest
+    @ValueSource(booleans = {false, true})
+    @DisplayName("Should stay exact beyond the range of a long")
+    void testOverflow(final boolean striped) {
+        // Arrange
+        final NodeSumListener listener = listener(striped);
+        final BigInteger beyond = BigInteger.valueOf(Long.MAX_VALUE).add(BigInteger.ONE);
+        
+        // Act: overflow once
+        listener.add(Long.MAX_VALUE);
+        listener.onNodeVisited(1);
+        
+        // Assert: overflow once
+        assertEquals(beyond, listener.getSum(), "The sum should not wrap around");
+        assertThrows(ArithmeticException.class, listener::getLongSum, "The sum no longer fits into a long");
+        
+        // Act: overflow repeatedly
+        listener.add(Long.MAX_VALUE);
+        listener.add(Long.MAX_VALUE);
+        
+        // Assert: overflow repeatedly
+        assertEquals(beyond.add(BigInteger.valueOf(Long.MAX_VALUE).shiftLeft(1)), listener.getSum(),
+                     "Repeated overflows should all be carried");
+        
+        // Act: return into range
+        listener.add(Long.MIN_VALUE);
+        listener.add(Long.MIN_VALUE);
+        listener.add(Long.MIN_VALUE);
+        listener.onNodeVisited(1);
+        
+        // Assert: return into range
+        assertEquals(-1, listener.getLongSum(), "Negative values should bring the sum back into range");
+    }
+    
+    /**
+     * Tests that a striped listener keeps every update when many threads add at once.
+     * 
+     * @throws InterruptedException if the test is interrupted
+     */
+    @Test
+    @DisplayName("Should not lose updates from many threads at once")
+    void testStriped() throws InterruptedException {
+        // Arrange
+        final NodeSumListener listener = NodeSumListener.striped();
+        final int[] values = nodes(NODE_COUNT);
+        final CountDownLatch start = new CountDownLatch(1);
+        final CountDownLatch done = startWorkers(() -> {
+            for (final int value : values) {
+                listener.onNodeVisited(value);
+                listener.add(Long.MAX_VALUE);
+            }
+            listener.onNodesVisited(values, 0, values.length);
+        }, start);
+        final BigInteger perThread = BigInteger.valueOf(sum(values)).shiftLeft(1)
+            .add(BigInteger.valueOf(Long.MAX_VALUE).multiply(BigInteger.valueOf(NODE_COUNT)));
+        
+        // Act
+        start.countDown();
+        final boolean finished = done.await(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        
+        // Assert
+        assertTrue(listener.isStriped(), "The listener should be striped");
+        assertTrue(finished, "Worker threads did not finish in time");
+        assertEquals(perThread.multiply(BigInteger.valueOf(THREADS)), listener.getSum(), "Every update should count");
+    }
+    
+    /**
+     * Tests that a reader polling the sum while cells overflow never sees it drop.
+     * 
+     * @throws InterruptedException if the test is interrupted
+     */
+    @Test
+    @DisplayName("Should never let a concurrent reader see a carry half done")
+    void testReadWhileCarrying() throws InterruptedException {
+        // Arrange
+        final NodeSumListener listener = NodeSumListener.striped();
+        final CountDownLatch start = new CountDownLatch(1);
+        final CountDownLatch done = startWorkers(() -> {
+            for (int node = 0; node < NODE_COUNT; node++) {
+                listener.add(Long.MAX_VALUE);
+            }
+        }, start);
+        int drops = 0;
+        
+        // Act
+        start.countDown();
+        // Only positive values are added, so every cell overflow must leave the sum read growing
+        BigInteger previous = BigInteger.ZERO;
+        while (done.getCount() > 0) {
+            final BigInteger current = listener.getSum();
+            if (current.compareTo(previous) < 0) {
+                drops++;
+            }
+            previous = current;
+        }
+        final boolean finished = done.await(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        
+        // Assert
+        assertEquals(0, drops, "The sum read should never drop");
+        assertTrue(finished, "Worker threads did not finish in time");
+        assertEquals(BigInteger.valueOf(Long.MAX_VALUE).multiply(BigInteger.valueOf((long) THREADS * NODE_COUNT)),
+                     listener.getSum(), "Every update should count");
+    }
+    
+    /**
+     * Tests that parallel navigation merges per-worker partials, or shares one striped listener.
+     */
+    @Test
+    @DisplayName("Should merge partial sums of a parallel navigation")
+    void testParallel() {
+        // Arrange
+        final int[] values = nodes(NODE_COUNT);
+        final NodeNavigator navigator = new NodeNavigator(values);
+        navigator.setChunkSize(NODE_COUNT / THREADS);
+        final NodeSumListener shared = NodeSumListener.striped();
+        
+        // Act
+        final long merged = navigator.navigateParallel(NodeSumListener::new).getLongSum();
+        final long sharedSum = navigator.navigateParallel(() -> shared).getLongSum();
+        
+        // Assert
+        assertEquals(sum(values), merged, "Partials should merge into the sequential sum");
+        assertEquals(sum(values), sharedSum, "A striped listener may be shared by every worker");
+    }
+    
+    /**
+     * Tests that partials beyond the long range merge exactly.
+     */
+    @Test
+    @DisplayName("Should merge partials beyond the range of a long")
+    void testMergeOverflow() {
+        // Arrange
+        final NodeSumListener large = new NodeSumListener();
+        large.add(Long.MAX_VALUE);
+        large.onNodeVisited(1);
+        final NodeSumListener total = new NodeSumListener();
+        
+        // Act
+        total.merge(large);
+        total.merge(large);
+        
+        // Assert
+        assertEquals(BigInteger.valueOf(Long.MAX_VALUE).add(BigInteger.ONE).shiftLeft(1), total.getSum(),
+                     "Partials beyond the range of a long should merge exactly");
+    }
+    
+    /**
+     * Tests that the number of cells is a power of two of at least two.
+     */
+    @Test
+    @DisplayName("Should round the stripe count up to a power of two")
+    void testStripeCount() {
+        // Act
+        final int single = NodeSumListener.stripeCount(1);
+        final int rounded = NodeSumListener.stripeCount(THREADS - 1);
+        
+        // Assert
+        assertEquals(2, single, "Even one processor gets two cells");
+        assertEquals(THREADS, rounded, "Cells round up to a power of two");
+    }
+}
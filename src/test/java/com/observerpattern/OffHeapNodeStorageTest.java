@@ -0,0 +1,182 @@
+/**
+ * Unit tests for navigation over off-heap storage.
+ * <p>
+ * This test class validates that a NodeNavigator created with
+ * {@link NodeNavigator#offHeap(int[])} navigates a private copy of the nodes
+ * held in direct memory, reports the memory it reserves, and releases it on
+ * close only once running navigations have finished.
+ * </p>
+ * 
+ * @author Ramaswamy Krishnan-Chittur
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+
+package com.observerpattern;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Unit tests for the OffHeapNodeStorage.
+ * 
+ * @author Ramaswamy Krishnan-Chittur
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@DisplayName("Off-Heap Navigation Tests")
+class OffHeapNodeStorageTest {
+    
+    /** Number of nodes in the test lists. */
+    private static final int NODE_COUNT = 1000;
+    
+    /** Chunk size that does not divide the node count. */
+    private static final int CHUNK_SIZE = 7;
+    
+    /**
+     * Creates the node values {@code 0, -1, 2, -3, ...}.
+     * 
+     * @param count the number of values
+     * @return the values
+     */
+    private static int[] values(final int count) {
+        final int[] values = new int[count];
+        for (int i = 0; i < count; i++) {
+            values[i] = i * (1 - (i & 1) * 2);
+        }
+        return values;
+    }
+    
+    /**
+     * Collects every node a navigation delivers.
+     * 
+     * @param navigator the navigator to navigate
+     * @return the visited node values
+     */
+    private static int[] navigate(final NodeNavigator navigator) {
+        final List<Integer> visited = new ArrayList<>();
+        navigator.subscribe(visited::add);
+        navigator.navigate();
+        navigator.unsubscribe();
+        return visited.stream().mapToInt(Integer::intValue).toArray();
+    }
+    
+    /**
+     * Tests that an off-heap navigator navigates a private copy, per node and in chunks, and reports its size.
+     */
+    @Test
+    @DisplayName("Should navigate a private off-heap copy and report its size")
+    void testCopyAndMetrics() {
+        // Arrange
+        final int[] numbers = values(NODE_COUNT);
+        final List<Integer> chunked = new ArrayList<>();
+        final INodeBatchListener chunkRecorder = (chunk, offset, length) -> {
+            for (int i = offset; i < offset + length; i++) {
+                chunked.add(chunk[i]);
+            }
+        };
+        
+        try (NodeNavigator navigator = NodeNavigator.offHeap(numbers, 1, NODE_COUNT - 1)) {
+            // Act
+            numbers[1] = Integer.MAX_VALUE;
+            final int[] visited = navigate(navigator);
+            navigator.setChunkSize(CHUNK_SIZE);
+            navigator.subscribe(chunkRecorder);
+            navigator.navigate(0, NODE_COUNT - 1, -1);
+            
+            // Assert
+            assertEquals((long) (NODE_COUNT - 1) * Integer.BYTES, navigator.getOffHeapBytes(),
+                         "Four bytes per node should be reserved");
+            assertArrayEquals(Arrays.copyOfRange(values(NODE_COUNT), 1, NODE_COUNT), visited,
+                            "Later changes to the source should not be seen");
+            assertEquals(NODE_COUNT - 1, chunked.size(), "Chunked reverse navigation should visit every node");
+            assertEquals(values(NODE_COUNT)[NODE_COUNT - 1], chunked.get(0), "Reverse walk should start at the end");
+        }
+        assertEquals(0, new NodeNavigator(numbers).getOffHeapBytes(), "Heap navigators reserve no off-heap bytes");
+    }
+    
+    /**
+     * Tests that closing releases the memory once, and that closing a heap navigator does nothing.
+     */
+    @Test
+    @DisplayName("Should release the memory on close and reject later navigation")
+    void testClose() {
+        // Arrange
+        final NodeNavigator navigator = NodeNavigator.offHeap(values(NODE_COUNT));
+        navigator.subscribe(data -> { });
+        final NodeNavigator heap = new NodeNavigator(values(NODE_COUNT));
+        
+        // Act
+        navigator.close();
+        heap.close();
+        
+        // Assert
+        assertTrue(navigator.isClosed(), "Navigator should report that it is closed");
+        assertEquals(0, navigator.getOffHeapBytes(), "Released memory should no longer be reported");
+        assertEquals(NODE_COUNT, navigator.size(), "Size should survive closing");
+        assertThrows(IllegalStateException.class, () -> navigator.navigate(), "Navigation should be rejected");
+        assertTrue(navigator.toString().contains("[closed]"), "toString should not read released memory");
+        assertDoesNotThrow(navigator::close, "Closing twice should have no effect");
+        assertFalse(heap.isClosed(), "Closing a heap navigator should have no effect");
+    }
+    
+    /**
+     * Tests that a listener closing the navigator mid-navigation does not cut the navigation short.
+     */
+    @Test
+    @DisplayName("Should defer the release until a running navigation finishes")
+    void testCloseDuringNavigation() {
+        // Arrange
+        final int[] numbers = values(NODE_COUNT);
+        final NodeNavigator navigator = NodeNavigator.offHeap(numbers);
+        final List<Integer> visited = new ArrayList<>();
+        final List<Long> reservedWhileClosing = new ArrayList<>();
+        navigator.subscribe(data -> {
+            visited.add(data);
+            if (visited.size() == 1) {
+                navigator.close();
+                reservedWhileClosing.add(navigator.getOffHeapBytes());
+            }
+        });
+        
+        // Act
+        navigator.navigate();
+        
+        // Assert
+        assertArrayEquals(numbers, visited.stream().mapToInt(Integer::intValue).toArray(),
+                        "The running navigation should deliver every node");
+        assertEquals((long) NODE_COUNT * Integer.BYTES, reservedWhileClosing.get(0),
+                     "Memory should stay reserved while the navigation runs");
+        assertEquals(0, navigator.getOffHeapBytes(), "Memory should be released when the navigation ends");
+    }
+    
+    /**
+     * Tests that null arrays and out-of-range slices are rejected, and empty arrays accepted.
+     */
+    @Test
+    @DisplayName("Should reject invalid arguments")
+    void testValidation() {
+        // Arrange
+        final int[] numbers = values(CHUNK_SIZE);
+        
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> NodeNavigator.offHeap(null),
+                   "Null array should be rejected");
+        assertThrows(IndexOutOfBoundsException.class, () -> NodeNavigator.offHeap(numbers, 1, CHUNK_SIZE),
+                   "Slice past the end should be rejected");
+        try (NodeNavigator empty = NodeNavigator.offHeap(new int[]{})) {
+            assertTrue(empty.isEmpty(), "Empty arrays should be allowed");
+        }
+    }
+}
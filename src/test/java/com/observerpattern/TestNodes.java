@@ -0,0 +1,41 @@
+/**
+ * Shared node fixtures for the unit tests.
+ * <p>
+ * Many tests only need a list whose node values equal their positions, so
+ * that an out-of-order or missing node is easy to spot; they share it here.
+ * </p>
+ * 
+ * @author Ramaswamy Krishnan-Chittur
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+
+package com.observerpattern;
+
+import java.util.stream.IntStream;
+
+/**
+ * Static factory methods creating node values for tests.
+ * 
+ * @author Ramaswamy Krishnan-Chittur
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+final class TestNodes {
+    
+    /**
+     * Prevents instantiation of this factory.
+     */
+    private TestNodes() {
+    }
+    
+    /**
+     * Creates the node values {@code 0..count-1}.
+     * 
+     * @param count the number of values
+     * @return the values, each equal to its position
+     */
+    static int[] sequence(final int count) {
+        return IntStream.range(0, count).toArray();
+    }
+}
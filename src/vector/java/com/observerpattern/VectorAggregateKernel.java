@@ -0,0 +1,93 @@
+/**
+ * SIMD implementation of the chunk aggregation loop using the Vector API.
+ * <p>
+ * This source root is only compiled by the {@code vector} Maven profile,
+ * because {@code jdk.incubator.vector} must be added explicitly at compile
+ * and run time. Without it the NodeAggregateListener uses the scalar kernel.
+ * </p>
+ * 
+ * @author Ramaswamy Krishnan-Chittur
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+
+package com.observerpattern;
+
+import jdk.incubator.vector.IntVector;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * Kernel that aggregates as many values per instruction as the CPU's widest int vector holds.
+ * <p>
+ * Minimum and maximum are kept lane-wise. The sum must be exact, but widening
+ * every lane to a long halves the lanes per instruction, so each value is
+ * split into its unsigned low and signed high 16 bits, summed in int lanes.
+ * Blocks are short enough that neither lane sum can overflow, and the block
+ * totals are combined in a long.
+ * </p>
+ * 
+ * @author Ramaswamy Krishnan-Chittur
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+final class VectorAggregateKernel extends AggregateKernel {
+    
+    /** The widest int vector shape the CPU supports, for example 8 lanes on AVX2 and 16 on AVX-512. */
+    private static final VectorSpecies<Integer> SPECIES = IntVector.SPECIES_PREFERRED;
+    
+    /** Number of bits in each half of a value. */
+    private static final int HALF_BITS = 16;
+    
+    /** Mask selecting the low half of a value. */
+    private static final int LOW_MASK = (1 << HALF_BITS) - 1;
+    
+    /** Values per block, so a block total of low halves across all lanes fits in an int. */
+    private static final int BLOCK_SIZE = (1 << (HALF_BITS - 1)) / SPECIES.length() * SPECIES.length();
+    
+    @Override
+    void accumulate(final int[] values, final int offset, final int length, final NodeAggregateListener target) {
+        final int end = offset + length;
+        for (int blockStart = offset; blockStart < end; blockStart += BLOCK_SIZE) {
+            accumulateBlock(values, blockStart, Math.min(BLOCK_SIZE, end - blockStart), target);
+        }
+    }
+    
+    /**
+     * Folds at most {@link #BLOCK_SIZE} values into a listener in one flat loop the JIT keeps in registers.
+     * 
+     * @param values the array holding the values
+     * @param offset position of the first value
+     * @param length number of values
+     * @param target the listener to add the block's aggregates to
+     */
+    private static void accumulateBlock(final int[] values, final int offset, final int length,
+                                        final NodeAggregateListener target) {
+        final int vectorEnd = offset + SPECIES.loopBound(length);
+        IntVector lows = IntVector.zero(SPECIES);
+        IntVector highs = IntVector.zero(SPECIES);
+        IntVector mins = IntVector.broadcast(SPECIES, Integer.MAX_VALUE);
+        IntVector maxs = IntVector.broadcast(SPECIES, Integer.MIN_VALUE);
+        int index = offset;
+        for (; index < vectorEnd; index += SPECIES.length()) {
+            final IntVector chunk = IntVector.fromArray(SPECIES, values, index);
+            lows = lows.add(chunk.and(LOW_MASK));
+            highs = highs.add(chunk.lanewise(VectorOperators.ASHR, HALF_BITS));
+            mins = mins.min(chunk);
+            maxs = maxs.max(chunk);
+        }
+        
+        long sum = ((long) highs.reduceLanes(VectorOperators.ADD) << HALF_BITS)
+            + lows.reduceLanes(VectorOperators.ADD);
+        int min = mins.reduceLanes(VectorOperators.MIN);
+        int max = maxs.reduceLanes(VectorOperators.MAX);
+        final int end = offset + length;
+        for (; index < end; index++) {
+            final int value = values[index];
+            sum += value;
+            min = Math.min(min, value);
+            max = Math.max(max, value);
+        }
+        target.add(length, sum, min, max);
+    }
+}